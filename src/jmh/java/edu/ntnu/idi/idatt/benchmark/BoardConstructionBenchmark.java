@@ -0,0 +1,96 @@
+package edu.ntnu.idi.idatt.benchmark;
+
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BoardConstructionBenchmark.
+ *
+ * <p>Measures the creation of the tiles of ladder and Ludo boards at several board sizes, with
+ * {@link LadderGameBoard#createTiles(int, int)} and {@link LudoGameBoard#createTiles(int, int)}.
+ * The Ludo board sizes go far beyond the built-in boards, so the time per tile shows whether the
+ * construction stays linear in the number of tiles.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class BoardConstructionBenchmark {
+
+  /**
+   * A ladder board with the given number of rows and columns.
+   */
+  @State(Scope.Thread)
+  public static class LadderState {
+    @Param({"5", "10", "12", "100", "1000"})
+    public int size;
+
+    public LadderGameBoard board;
+
+    /**
+     * Creates the board.
+     */
+    @Setup
+    public void setUp() {
+      board = new LadderGameBoard("Ladder", "Benchmark board", new int[]{size, size},
+          "background.png", "None");
+    }
+  }
+
+  /**
+   * A Ludo board with the given board size.
+   */
+  @State(Scope.Thread)
+  public static class LudoState {
+    @Param({"11", "21", "41", "101", "201", "401"})
+    public int size;
+
+    public LudoGameBoard board;
+
+    /**
+     * Creates the board.
+     */
+    @Setup
+    public void setUp() {
+      board = new LudoGameBoard("Ludo", "Benchmark board", "background.png", size,
+          new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+    }
+  }
+
+  /**
+   * Creates the tiles of a square ladder board.
+   *
+   * @param state The board to create the tiles of.
+   * @return The board, so the tiles are not eliminated.
+   */
+  @Benchmark
+  public LadderGameBoard ladderCreateTiles(LadderState state) {
+    state.board.createTiles(state.size, state.size);
+    return state.board;
+  }
+
+  /**
+   * Creates the tiles of a Ludo board.
+   *
+   * @param state The board to create the tiles of.
+   * @return The board, so the tiles are not eliminated.
+   */
+  @Benchmark
+  public LudoGameBoard ludoCreateTiles(LudoState state) {
+    state.board.createTiles(state.size, state.size);
+    return state.board;
+  }
+}
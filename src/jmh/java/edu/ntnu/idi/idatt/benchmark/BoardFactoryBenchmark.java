@@ -0,0 +1,85 @@
+package edu.ntnu.idi.idatt.benchmark;
+
+import edu.ntnu.idi.idatt.factory.board.LadderBoardFactory;
+import edu.ntnu.idi.idatt.factory.board.LudoBoardFactory;
+import edu.ntnu.idi.idatt.filehandler.BoardCatalog;
+import edu.ntnu.idi.idatt.filehandler.BoardCatalogEntry;
+import edu.ntnu.idi.idatt.model.board.Board;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BoardFactoryBenchmark.
+ *
+ * <p>Measures creating the built-in boards with {@link LadderBoardFactory} and
+ * {@link LudoBoardFactory}. After the first invocation the board files are cached, so these
+ * benchmarks measure checking the board file and copying the cached board, and can be compared to
+ * the read benchmarks of {@link BoardFileHandlerBenchmark}. Reading the {@link BoardCatalog} of
+ * the built-in boards, which is what a menu does at startup, only reads the catalog index once it
+ * has been written.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class BoardFactoryBenchmark {
+
+  private final LadderBoardFactory ladderBoardFactory = new LadderBoardFactory();
+  private final LudoBoardFactory ludoBoardFactory = new LudoBoardFactory();
+  private final BoardCatalog boardCatalog = new BoardCatalog();
+  private final Path boardsDirectory = Path.of("src/main/resources/boards");
+
+  /**
+   * Creates the classic ladder board.
+   *
+   * @return The board.
+   */
+  @Benchmark
+  public Board createClassicLadderBoard() {
+    return ladderBoardFactory.createBoard("classic");
+  }
+
+  /**
+   * Creates the classic Ludo board.
+   *
+   * @return The board.
+   */
+  @Benchmark
+  public Board createClassicLudoBoard() {
+    return ludoBoardFactory.createBoard("Classic");
+  }
+
+  /**
+   * Creates the XL Ludo board.
+   *
+   * @return The board.
+   */
+  @Benchmark
+  public Board createXlLudoBoard() {
+    return ludoBoardFactory.createBoard("Large");
+  }
+
+  /**
+   * Reads the catalog of the built-in boards.
+   *
+   * @return The catalog entries.
+   * @throws IOException if the directory cannot be listed.
+   */
+  @Benchmark
+  public List<BoardCatalogEntry> readBoardCatalog() throws IOException {
+    return boardCatalog.readCatalog(boardsDirectory);
+  }
+}
@@ -0,0 +1,187 @@
+package edu.ntnu.idi.idatt.benchmark;
+
+import edu.ntnu.idi.idatt.filehandler.BoardFileHandlerBinary;
+import edu.ntnu.idi.idatt.filehandler.LadderGameBoardFileHandlerGson;
+import edu.ntnu.idi.idatt.filehandler.LudoBoardFileHandlerGson;
+import edu.ntnu.idi.idatt.model.board.Board;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * BoardFileHandlerBenchmark.
+ *
+ * <p>Measures reading and writing the classic ladder and Ludo boards with
+ * {@link LadderGameBoardFileHandlerGson} and {@link LudoBoardFileHandlerGson}, and reading the
+ * same boards and the XL Ludo board in the binary format of {@link BoardFileHandlerBinary}. The
+ * board files are written to a temporary directory, and the written file is deleted before every
+ * write because the file handlers do not overwrite files.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class BoardFileHandlerBenchmark {
+  private static final String LADDER_BOARD_PATH = "src/main/resources/boards/"
+      + "ClassicLadderGameBoard.json";
+  private static final String LUDO_BOARD_PATH = "src/main/resources/boards/ClassicLudoBoard.json";
+  private static final String XL_LUDO_BOARD_PATH = "src/main/resources/boards/XlLudoBoard.json";
+
+  private final LadderGameBoardFileHandlerGson ladderFileHandler =
+      new LadderGameBoardFileHandlerGson();
+  private final LudoBoardFileHandlerGson ludoFileHandler = new LudoBoardFileHandlerGson();
+  private final BoardFileHandlerBinary binaryFileHandler = new BoardFileHandlerBinary();
+  private List<Board> ladderBoards;
+  private List<Board> ludoBoards;
+  private Path directory;
+  private Path outputFile;
+  private String binaryLadderBoardPath;
+  private String binaryLudoBoardPath;
+  private String binaryXlLudoBoardPath;
+
+  /**
+   * Reads the boards to write, creates the temporary directory and writes the binary board files.
+   *
+   * @throws IOException if a board file can not be read or the directory can not be created.
+   */
+  @Setup
+  public void setUp() throws IOException {
+    ladderBoards = List.of(ladderFileHandler.readFile(LADDER_BOARD_PATH));
+    ludoBoards = List.of(ludoFileHandler.readFile(LUDO_BOARD_PATH));
+    directory = Files.createTempDirectory("board-benchmark");
+    outputFile = directory.resolve("board.json");
+    binaryLadderBoardPath = directory.resolve("ladder.board").toString();
+    binaryLudoBoardPath = directory.resolve("ludo.board").toString();
+    binaryXlLudoBoardPath = directory.resolve("xl-ludo.board").toString();
+    binaryFileHandler.writeFile(binaryLadderBoardPath, ladderBoards);
+    binaryFileHandler.writeFile(binaryLudoBoardPath, ludoBoards);
+    binaryFileHandler.writeFile(binaryXlLudoBoardPath,
+        List.of(ludoFileHandler.readFile(XL_LUDO_BOARD_PATH)));
+  }
+
+  /**
+   * Deletes the file written by the previous invocation.
+   *
+   * @throws IOException if the file can not be deleted.
+   */
+  @Setup(Level.Invocation)
+  public void deleteOutputFile() throws IOException {
+    Files.deleteIfExists(outputFile);
+  }
+
+  /**
+   * Deletes the temporary directory.
+   *
+   * @throws IOException if the directory can not be deleted.
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(outputFile);
+    Files.deleteIfExists(Path.of(binaryLadderBoardPath));
+    Files.deleteIfExists(Path.of(binaryLudoBoardPath));
+    Files.deleteIfExists(Path.of(binaryXlLudoBoardPath));
+    Files.deleteIfExists(directory);
+  }
+
+  /**
+   * Reads the classic ladder board.
+   *
+   * @return The board.
+   * @throws IOException if the file can not be read.
+   */
+  @Benchmark
+  public Board readLadderBoard() throws IOException {
+    return ladderFileHandler.readFile(LADDER_BOARD_PATH);
+  }
+
+  /**
+   * Reads the classic Ludo board.
+   *
+   * @return The board.
+   * @throws IOException if the file can not be read.
+   */
+  @Benchmark
+  public Board readLudoBoard() throws IOException {
+    return ludoFileHandler.readFile(LUDO_BOARD_PATH);
+  }
+
+  /**
+   * Reads the XL Ludo board.
+   *
+   * @return The board.
+   * @throws IOException if the file can not be read.
+   */
+  @Benchmark
+  public Board readXlLudoBoard() throws IOException {
+    return ludoFileHandler.readFile(XL_LUDO_BOARD_PATH);
+  }
+
+  /**
+   * Reads the classic ladder board from a binary board file.
+   *
+   * @return The board.
+   * @throws IOException if the file can not be read.
+   */
+  @Benchmark
+  public Board readBinaryLadderBoard() throws IOException {
+    return binaryFileHandler.readFile(binaryLadderBoardPath);
+  }
+
+  /**
+   * Reads the classic Ludo board from a binary board file.
+   *
+   * @return The board.
+   * @throws IOException if the file can not be read.
+   */
+  @Benchmark
+  public Board readBinaryLudoBoard() throws IOException {
+    return binaryFileHandler.readFile(binaryLudoBoardPath);
+  }
+
+  /**
+   * Reads the XL Ludo board from a binary board file.
+   *
+   * @return The board.
+   * @throws IOException if the file can not be read.
+   */
+  @Benchmark
+  public Board readBinaryXlLudoBoard() throws IOException {
+    return binaryFileHandler.readFile(binaryXlLudoBoardPath);
+  }
+
+  /**
+   * Writes the classic ladder board.
+   *
+   * @throws IOException if the file can not be written.
+   */
+  @Benchmark
+  public void writeLadderBoard() throws IOException {
+    ladderFileHandler.writeFile(outputFile.toString(), ladderBoards);
+  }
+
+  /**
+   * Writes the classic Ludo board.
+   *
+   * @throws IOException if the file can not be written.
+   */
+  @Benchmark
+  public void writeLudoBoard() throws IOException {
+    ludoFileHandler.writeFile(outputFile.toString(), ludoBoards);
+  }
+}
@@ -0,0 +1,55 @@
+package edu.ntnu.idi.idatt.benchmark;
+
+import edu.ntnu.idi.idatt.model.dice.Dice;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * DiceBenchmark.
+ *
+ * <p>Measures {@link Dice#rollDice()} followed by {@link Dice#getTotalValue()}, for several
+ * numbers of dice.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class DiceBenchmark {
+
+  @Param({"1", "2", "5"})
+  public int diceCount;
+
+  private Dice dice;
+
+  /**
+   * Creates the dice with a seeded random provider.
+   */
+  @Setup
+  public void setUp() {
+    dice = new Dice(diceCount, new RandomProvider(42L));
+  }
+
+  /**
+   * Rolls the dice.
+   *
+   * @return The total value of the roll.
+   */
+  @Benchmark
+  public int rollDice() {
+    dice.rollDice();
+    return dice.getTotalValue();
+  }
+}
@@ -0,0 +1,112 @@
+package edu.ntnu.idi.idatt.benchmark;
+
+import edu.ntnu.idi.idatt.factory.board.LadderBoardFactory;
+import edu.ntnu.idi.idatt.factory.board.LudoBoardFactory;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
+import edu.ntnu.idi.idatt.model.game.BoardGame;
+import edu.ntnu.idi.idatt.model.game.LadderBoardGame;
+import edu.ntnu.idi.idatt.model.game.LudoBoardGame;
+import edu.ntnu.idi.idatt.model.player.LadderGamePlayer;
+import edu.ntnu.idi.idatt.model.player.LudoPlayer;
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.player.PlayerTokenType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GameTurnBenchmark.
+ *
+ * <p>Measures {@link BoardGame#performPlayerTurn(int)} of ladder and Ludo games on the classic
+ * boards. The dice rolls are drawn in advance from a seeded generator, so only the turn itself is
+ * measured. A finished game is restored to its initial state before the next turn.</p>
+ *
+ * @see LadderBoardGame
+ * @see LudoBoardGame
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class GameTurnBenchmark {
+
+  /** The number of dice rolls drawn in advance. Must be a power of two. */
+  private static final int ROLL_COUNT = 4_096;
+
+  private LadderBoardGame ladderGame;
+  private int[] ladderInitialState;
+  private int[] ladderRolls;
+  private LudoBoardGame ludoGame;
+  private int[] ludoInitialState;
+  private int[] ludoRolls;
+  private int rollIndex;
+
+  /**
+   * Creates the games and the dice rolls.
+   */
+  @Setup
+  public void setUp() {
+    final List<Player> ladderPlayers = new ArrayList<>();
+    final List<Player> ludoPlayers = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      ladderPlayers.add(new LadderGamePlayer("Player " + i, "#FF0000", PlayerTokenType.CIRCLE,
+          true));
+      ludoPlayers.add(new LudoPlayer("Player " + i, "#FF0000", PlayerTokenType.CIRCLE, true));
+    }
+    ladderGame = new LadderBoardGame(new LadderBoardFactory().createBoard("classic"),
+        ladderPlayers, 2, 42L);
+    ladderInitialState = ladderGame.getPackedState();
+    ludoGame = new LudoBoardGame(new LudoBoardFactory().createBoard("Classic"), ludoPlayers, 1,
+        42L);
+    ludoInitialState = ludoGame.getPackedState();
+
+    final RandomGenerator random = new RandomProvider(42L).getGenerator();
+    ladderRolls = new int[ROLL_COUNT];
+    ludoRolls = new int[ROLL_COUNT];
+    for (int i = 0; i < ROLL_COUNT; i++) {
+      ladderRolls[i] = random.nextInt(1, 7) + random.nextInt(1, 7);
+      ludoRolls[i] = random.nextInt(1, 7);
+    }
+  }
+
+  /**
+   * Performs one turn of a four-player ladder game with two dice.
+   *
+   * @return The player whose turn is next, so the turn is not eliminated.
+   */
+  @Benchmark
+  public Player ladderPerformPlayerTurn() {
+    if (ladderGame.getWinner() != null) {
+      ladderGame.restorePackedState(ladderInitialState);
+    }
+    ladderGame.performPlayerTurn(ladderRolls[rollIndex++ & (ROLL_COUNT - 1)]);
+    return ladderGame.getCurrentPlayer();
+  }
+
+  /**
+   * Performs one turn of a four-player Ludo game with one die.
+   *
+   * @return The player whose turn is next, so the turn is not eliminated.
+   */
+  @Benchmark
+  public Player ludoPerformPlayerTurn() {
+    if (ludoGame.getWinner() != null) {
+      ludoGame.restorePackedState(ludoInitialState);
+    }
+    ludoGame.performPlayerTurn(ludoRolls[rollIndex++ & (ROLL_COUNT - 1)]);
+    return ludoGame.getCurrentPlayer();
+  }
+}
@@ -0,0 +1,108 @@
+package edu.ntnu.idi.idatt.benchmark;
+
+import edu.ntnu.idi.idatt.factory.board.LadderBoardFactory;
+import edu.ntnu.idi.idatt.factory.board.LudoBoardFactory;
+import edu.ntnu.idi.idatt.model.board.BaseBoard;
+import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.tile.Tile;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * TileAccessBenchmark.
+ *
+ * <p>Measures the tile lookups of {@link BaseBoard}: {@link BaseBoard#getTile(int)} for every tile
+ * id of a board, {@link BaseBoard#getTileAt(int, int)} for every cell of the board, and iterating
+ * over the copied {@link BaseBoard#getTiles()} and the read-only {@link BaseBoard#getTileView()}.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Dlogback.configurationFile=logback-benchmark.xml")
+public class TileAccessBenchmark {
+
+  @Param({"ladder", "ludo"})
+  public String boardType;
+
+  private Board board;
+  private int rows;
+  private int columns;
+
+  /**
+   * Loads the classic board of the board type.
+   */
+  @Setup
+  public void setUp() {
+    board = boardType.equals("ladder") ? new LadderBoardFactory().createBoard("classic")
+        : new LudoBoardFactory().createBoard("Classic");
+    for (Tile tile : board.getTileView()) {
+      rows = Math.max(rows, tile.getCoordinates()[0] + 1);
+      columns = Math.max(columns, tile.getCoordinates()[1] + 1);
+    }
+  }
+
+  /**
+   * Looks up every tile of the board by its id.
+   *
+   * @param blackhole Consumes the tiles.
+   */
+  @Benchmark
+  public void getTile(Blackhole blackhole) {
+    final int tileCount = board.getTileCount();
+    for (int tileId = 1; tileId <= tileCount; tileId++) {
+      blackhole.consume(board.getTile(tileId));
+    }
+  }
+
+  /**
+   * Iterates over the list of all the tiles of the board.
+   *
+   * @param blackhole Consumes the tiles.
+   */
+  @Benchmark
+  public void getTiles(Blackhole blackhole) {
+    for (Tile tile : board.getTiles()) {
+      blackhole.consume(tile);
+    }
+  }
+
+  /**
+   * Iterates over the read-only view of all the tiles of the board.
+   *
+   * @param blackhole Consumes the tiles.
+   */
+  @Benchmark
+  public void getTileView(Blackhole blackhole) {
+    for (Tile tile : board.getTileView()) {
+      blackhole.consume(tile);
+    }
+  }
+
+  /**
+   * Looks up the tile in every cell of the board by its coordinates, as the board views do.
+   *
+   * @param blackhole Consumes the tiles.
+   */
+  @Benchmark
+  public void getTileAt(Blackhole blackhole) {
+    for (int row = 0; row < rows; row++) {
+      for (int column = 0; column < columns; column++) {
+        blackhole.consume(board.getTileAt(row, column));
+      }
+    }
+  }
+}
@@ -19,7 +19,7 @@ import org.slf4j.LoggerFactory;
  * a {@link ViewNavigator} and an {@link AppView} container.</p>
  *
  * <p>Upon starting, it configures the main window, loads the initial game selection screen,
- * and makes the application visible.</p>
+ * makes the application visible, and offers to resume any unfinished games.</p>
  *
  * @see Application
  * @see ViewNavigator
@@ -51,7 +51,8 @@ public class MainApp extends Application {
    *
    * <p>It initializes the {@link AppView} and {@link ViewNavigator}, sets up the root layout
    * (a {@link BorderPane}), shows the initial game selection view, creates the main scene with
-   * global stylesheets, and configures the primary stage (window).</p>
+   * global stylesheets, and configures the primary stage (window). Once the stage is shown, the
+   * user is offered to resume unfinished games.</p>
    *
    * @param primaryStage The primary stage for this application, onto which the application scene
    *                     can be set.
@@ -72,6 +73,7 @@ public class MainApp extends Application {
     primaryStage.setScene(scene);
     primaryStage.show();
     logger.info("{} started successfully", APP_NAME);
+    viewNavigator.offerSavedGames();
   }
 
   /**
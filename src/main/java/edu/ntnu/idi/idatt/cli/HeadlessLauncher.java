@@ -0,0 +1,250 @@
+package edu.ntnu.idi.idatt.cli;
+
+import edu.ntnu.idi.idatt.factory.board.BoardFactory;
+import edu.ntnu.idi.idatt.factory.board.LadderBoardFactory;
+import edu.ntnu.idi.idatt.factory.board.LudoBoardFactory;
+import edu.ntnu.idi.idatt.filehandler.BoardFileConverter;
+import edu.ntnu.idi.idatt.filehandler.BoardFileHandlerBinary;
+import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.dice.Dice;
+import edu.ntnu.idi.idatt.model.strategy.ExpectiminimaxStrategy;
+import edu.ntnu.idi.idatt.model.strategy.FirstTokenStrategy;
+import edu.ntnu.idi.idatt.model.strategy.GreedyMoveStrategy;
+import edu.ntnu.idi.idatt.model.strategy.RandomMoveStrategy;
+import edu.ntnu.idi.idatt.simulation.LadderGameSimulator;
+import edu.ntnu.idi.idatt.simulation.LadderMarkovSolver;
+import edu.ntnu.idi.idatt.simulation.LadderSimulationResult;
+import edu.ntnu.idi.idatt.simulation.LudoTournament;
+import edu.ntnu.idi.idatt.simulation.LudoTournament.Entrant;
+import edu.ntnu.idi.idatt.simulation.LudoTournamentResult;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HeadlessLauncher.
+ *
+ * <p>Command-line entry point of the application, for batch simulations, board analysis and
+ * tournaments on machines without a display. The launcher only uses the model, factory, file
+ * handler and simulation packages, so the JavaFX toolkit is never loaded or initialized.</p>
+ *
+ * <p>Usage: {@code java -cp <classpath> edu.ntnu.idi.idatt.cli.HeadlessLauncher <command> ...}
+ * where the command is one of:</p>
+ * <ul>
+ *   <li>{@code simulate <board> [games] [players] [dice] [seed]} simulates ladder games.</li>
+ *   <li>{@code analyze <board> [dice]} solves the exact finishing time of a ladder board.</li>
+ *   <li>{@code tournament [board] [games] [playersPerMatch] [seed]} plays a Ludo tournament
+ *   between the built-in move strategies.</li>
+ *   <li>{@code convert <source> <target>} converts a board file between the JSON and binary
+ *   formats.</li>
+ * </ul>
+ *
+ * <p>Boards are given as the name of a built-in variant or as the path to a JSON or binary board
+ * file.</p>
+ *
+ * @see LadderGameSimulator
+ * @see LadderMarkovSolver
+ * @see LudoTournament
+ */
+public class HeadlessLauncher {
+
+  /** The largest number of turns in the printed finishing time distribution. */
+  private static final int MAX_CDF_TURNS = 1_000;
+
+  private final PrintStream out;
+  private final PrintStream err;
+
+  /**
+   * Constructs a launcher that writes its results and errors to the given streams.
+   *
+   * @param out The stream to write results to.
+   * @param err The stream to write errors and usage to.
+   */
+  public HeadlessLauncher(PrintStream out, PrintStream err) {
+    this.out = out;
+    this.err = err;
+  }
+
+  /**
+   * Runs the command given by the arguments and exits with its status code.
+   *
+   * @param args The command and its arguments.
+   */
+  public static void main(String[] args) {
+    System.exit(new HeadlessLauncher(System.out, System.err).run(args));
+  }
+
+  /**
+   * Runs the command given by the arguments.
+   *
+   * @param args The command and its arguments.
+   * @return 0 if the command succeeded, 1 if it failed, and 2 if the arguments were invalid.
+   */
+  public int run(String... args) {
+    if (args.length == 0 || args[0].equals("help") || args[0].equals("--help")) {
+      printUsage(args.length == 0 ? err : out);
+      return args.length == 0 ? 2 : 0;
+    }
+    try {
+      switch (args[0]) {
+        case "simulate" -> simulate(args);
+        case "analyze" -> analyze(args);
+        case "tournament" -> tournament(args);
+        case "convert" -> convert(args);
+        default -> throw new IllegalArgumentException("Unknown command: " + args[0]);
+      }
+      return 0;
+    } catch (IllegalArgumentException e) {
+      err.println("Error: " + e.getMessage());
+      printUsage(err);
+      return 2;
+    } catch (IllegalStateException e) {
+      err.println("Error: " + e.getMessage());
+      return 1;
+    }
+  }
+
+  private void simulate(String[] args) {
+    requireArguments(args, 2, 6);
+    final LadderGameBoard board = (LadderGameBoard) loadBoard(new LadderBoardFactory(), args[1]);
+    final long games = parseLong(args, 2, 100_000);
+    final int players = (int) parseLong(args, 3, 2);
+    final int dice = (int) parseLong(args, 4, 2);
+    final long seed = parseLong(args, 5, ThreadLocalRandom.current().nextLong());
+
+    final LadderSimulationResult result = new LadderGameSimulator(board, players, dice,
+        ForkJoinPool.commonPool(), seed).simulate(games);
+    out.printf(Locale.ROOT, "Board: %s (%d tiles), %d players, %d dice, seed %d%n",
+        board.getName(), board.getTileCount(), players, dice, seed);
+    out.printf(Locale.ROOT, "Games: %d (%d unfinished)%n", result.getGamesPlayed(),
+        result.getUnfinishedGames());
+    out.printf(Locale.ROOT, "Rounds: mean %.2f, median %d, 90th percentile %d%n",
+        result.getMeanGameLength(), result.getGameLengthPercentile(0.5),
+        result.getGameLengthPercentile(0.9));
+    for (int seat = 0; seat < players; seat++) {
+      out.printf(Locale.ROOT, "Seat %d: %d wins (%.2f%%)%n", seat + 1, result.getWins(seat),
+          result.getWinRate(seat) * 100);
+    }
+  }
+
+  private void analyze(String[] args) {
+    requireArguments(args, 2, 3);
+    final LadderGameBoard board = (LadderGameBoard) loadBoard(new LadderBoardFactory(), args[1]);
+    final int dice = (int) parseLong(args, 2, 2);
+    if (dice < 1) {
+      throw new IllegalArgumentException("Dice count must be greater than 0");
+    }
+
+    final LadderMarkovSolver solver = new LadderMarkovSolver(board, new Dice(dice));
+    final double[] cdf = solver.getFinishingTimeCdf(MAX_CDF_TURNS);
+    out.printf(Locale.ROOT, "Board: %s (%d tiles), %d dice%n", board.getName(),
+        board.getTileCount(), dice);
+    out.printf(Locale.ROOT, "Expected turns to finish: %.4f%n", solver.getExpectedTurns());
+    for (double fraction : new double[]{0.5, 0.9, 0.99}) {
+      out.printf(Locale.ROOT, "%.0f%% of players finish within %s turns%n", fraction * 100,
+          turnsToReach(cdf, fraction));
+    }
+  }
+
+  private void tournament(String[] args) {
+    requireArguments(args, 1, 5);
+    final String variant = args.length > 1 ? args[1] : "Classic";
+    final LudoGameBoard board = (LudoGameBoard) loadBoard(new LudoBoardFactory(), variant);
+    final long games = parseLong(args, 2, 10_000);
+    final int playersPerMatch = (int) parseLong(args, 3, 4);
+    final long seed = parseLong(args, 4, ThreadLocalRandom.current().nextLong());
+
+    final List<Entrant> entrants = List.of(
+        new Entrant("First", provider -> new FirstTokenStrategy()),
+        new Entrant("Random", provider -> new RandomMoveStrategy(provider.getGenerator())),
+        new Entrant("Greedy", provider -> new GreedyMoveStrategy()),
+        new Entrant("Expectiminimax", provider -> new ExpectiminimaxStrategy(2, 50)));
+    final LudoTournamentResult result = new LudoTournament(board, entrants, playersPerMatch,
+        seed).play(games);
+    out.printf(Locale.ROOT, "Board: %s, %d players per match, seed %d%n", board.getName(),
+        playersPerMatch, seed);
+    out.printf(Locale.ROOT, "Games: %d (%d unfinished), average %.1f rounds%n",
+        result.getGamesPlayed(), result.getUnfinishedGames(), result.getAverageRounds());
+    int rank = 1;
+    for (int entrant : result.getRanking()) {
+      out.printf(Locale.ROOT, "%d. %-15s rating %7.1f +/- %5.1f, win rate %.2f%%%n", rank++,
+          result.getEntrantName(entrant), result.getRating(entrant),
+          result.getRatingMargin(entrant), result.getWinRate(entrant) * 100);
+    }
+  }
+
+  private void convert(String[] args) {
+    requireArguments(args, 3, 3);
+    final Board board;
+    try {
+      board = new BoardFileConverter().convert(args[1], args[2]);
+    } catch (IOException e) {
+      throw new IllegalStateException(e.getMessage(), e);
+    }
+    out.printf(Locale.ROOT, "Converted board %s (%d tiles) from %s to %s%n", board.getName(),
+        board.getTileCount(), args[1], args[2]);
+  }
+
+  /**
+   * Loads a board from a file if the argument ends with ".json" or the binary board file
+   * extension, or as a built-in variant otherwise.
+   */
+  private static Board loadBoard(BoardFactory factory, String boardArgument) {
+    final String lowerCaseArgument = boardArgument.toLowerCase(Locale.ROOT);
+    if (!lowerCaseArgument.endsWith(".json")
+        && !lowerCaseArgument.endsWith(BoardFileHandlerBinary.FILE_EXTENSION)) {
+      return factory.createBoard(boardArgument);
+    }
+    final Board board = factory.createBoardFromFile(boardArgument);
+    if (board == null) {
+      throw new IllegalArgumentException("Could not read board file: " + boardArgument);
+    }
+    return board;
+  }
+
+  private static String turnsToReach(double[] cdf, double fraction) {
+    for (int turn = 1; turn < cdf.length; turn++) {
+      if (cdf[turn] >= fraction) {
+        return String.valueOf(turn);
+      }
+    }
+    return "more than " + (cdf.length - 1);
+  }
+
+  private static void requireArguments(String[] args, int min, int max) {
+    if (args.length < min || args.length > max) {
+      throw new IllegalArgumentException("Wrong number of arguments for " + args[0]);
+    }
+  }
+
+  private static long parseLong(String[] args, int index, long defaultValue) {
+    if (index >= args.length) {
+      return defaultValue;
+    }
+    try {
+      return Long.parseLong(args[index]);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Not a number: " + args[index]);
+    }
+  }
+
+  private static void printUsage(PrintStream stream) {
+    stream.println("Usage: HeadlessLauncher <command> [arguments]");
+    stream.println("  simulate <board> [games] [players] [dice] [seed]");
+    stream.println("      Simulates ladder games and prints game lengths and win rates.");
+    stream.println("  analyze <board> [dice]");
+    stream.println("      Solves the exact finishing time distribution of a ladder board.");
+    stream.println("  tournament [board] [games] [playersPerMatch] [seed]");
+    stream.println("      Plays a Ludo tournament between the built-in move strategies.");
+    stream.println("  convert <source> <target>");
+    stream.println("      Converts a board file between the JSON (.json) and binary ("
+        + BoardFileHandlerBinary.FILE_EXTENSION + ") formats.");
+    stream.println("Boards are built-in variant names (e.g. classic, teleporting, Classic, Small,");
+    stream.println("Large) or paths to JSON or binary board files.");
+  }
+}
@@ -0,0 +1,125 @@
+package edu.ntnu.idi.idatt.controller.common;
+
+import edu.ntnu.idi.idatt.model.board.Board;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * BoardPrefetcher.
+ *
+ * <p>Creates the boards of a menu carousel ahead of time on a background thread, so switching to
+ * the next or previous board does not read its board file on the JavaFX application thread.</p>
+ *
+ * <p>A board is prefetched by its index in the carousel and taken when it is shown. Taking a
+ * board never waits for it to be created: it gives the prefetch itself, which the caller completes
+ * on its own thread. A created board is prepared on the background thread as well, for example by
+ * loading its background image. Prefetches that have not finished are cancelled when their boards are no longer next to
+ * the shown board, so skipping through the carousel does not queue up work for skipped boards.
+ * The prefetches are started, cancelled and taken from a single thread, and the background
+ * thread is a daemon thread that stops when it has been idle for a while.</p>
+ *
+ * @see MenuController
+ */
+final class BoardPrefetcher {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardPrefetcher.class);
+
+  private static final long IDLE_TIMEOUT_SECONDS = 30;
+
+  private final Function<String, Board> boardLoader;
+  private final Consumer<Board> boardPreparer;
+  private final ExecutorService executor;
+  private final Map<Integer, CompletableFuture<Board>> prefetches;
+
+  /**
+   * Constructs a BoardPrefetcher.
+   *
+   * @param boardLoader   Creates a board from the path to its board file.
+   * @param boardPreparer Prepares a created board to be shown.
+   */
+  BoardPrefetcher(Function<String, Board> boardLoader, Consumer<Board> boardPreparer) {
+    this.boardLoader = boardLoader;
+    this.boardPreparer = boardPreparer;
+    final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(1, 1,
+        IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+          Thread thread = new Thread(runnable, "board-prefetch");
+          thread.setDaemon(true);
+          return thread;
+        });
+    threadPoolExecutor.allowCoreThreadTimeOut(true);
+    this.executor = threadPoolExecutor;
+    this.prefetches = new HashMap<>();
+  }
+
+  /**
+   * Starts creating the board with the given index in the background, unless it is already being
+   * prefetched.
+   *
+   * @param boardIndex The index of the board.
+   * @param filePath   The path to the board file.
+   */
+  void prefetch(int boardIndex, String filePath) {
+    prefetches.computeIfAbsent(boardIndex, index -> {
+      logger.debug("Prefetching board {} from file", index);
+      return CompletableFuture.supplyAsync(() -> loadBoard(filePath), executor);
+    });
+  }
+
+  /**
+   * Cancels the prefetches that have not finished of the boards that are not in the given
+   * indexes. Finished prefetches are kept until they are taken.
+   *
+   * @param boardIndexes The indexes of the boards to keep prefetching.
+   */
+  void retain(Set<Integer> boardIndexes) {
+    prefetches.entrySet().removeIf(prefetch -> {
+      if (boardIndexes.contains(prefetch.getKey()) || prefetch.getValue().isDone()) {
+        return false;
+      }
+      logger.debug("Cancelling prefetch of board {}", prefetch.getKey());
+      prefetch.getValue().cancel(false);
+      return true;
+    });
+  }
+
+  /**
+   * Takes the prefetch of the board with the given index, without waiting for it to finish. The
+   * prefetch is no longer cancelled by {@link #retain(Set)} once it is taken.
+   *
+   * @param boardIndex The index of the board.
+   * @return The prefetch, giving the board or null if it could not be created, or null if the
+   *         board is not being prefetched.
+   */
+  CompletableFuture<Board> take(int boardIndex) {
+    return prefetches.remove(boardIndex);
+  }
+
+  /**
+   * Creates and prepares a board on the background thread.
+   *
+   * @param filePath The path to the board file.
+   * @return The board, or null if it could not be created.
+   */
+  private Board loadBoard(String filePath) {
+    try {
+      final Board board = boardLoader.apply(filePath);
+      if (board != null) {
+        boardPreparer.accept(board);
+      }
+      return board;
+    } catch (RuntimeException e) {
+      logger.warn("Could not prefetch board from file {}", filePath, e);
+      return null;
+    }
+  }
+}
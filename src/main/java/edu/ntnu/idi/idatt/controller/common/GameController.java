@@ -1,11 +1,16 @@
 package edu.ntnu.idi.idatt.controller.common;
 
+import edu.ntnu.idi.idatt.journal.GameJournalReader;
+import edu.ntnu.idi.idatt.journal.GameJournalRecorder;
+import edu.ntnu.idi.idatt.journal.SavedGameStore;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.game.BoardGame;
+import edu.ntnu.idi.idatt.model.game.GameHistory;
 import edu.ntnu.idi.idatt.model.player.Player;
 import edu.ntnu.idi.idatt.observer.BoardGameObserver;
 import edu.ntnu.idi.idatt.observer.ButtonClickObserver;
 import edu.ntnu.idi.idatt.view.common.GameView;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,16 +28,32 @@ import org.slf4j.LoggerFactory;
  * <p>It handles game initialization, player turns, and game state updates. It also acts as an
  * observer for both button clicks from the view and game events from the model.</p>
  *
+ * <p>Every game is recorded to a game journal in a {@link SavedGameStore} while it is played, so
+ * an unfinished game can be resumed after the application has stopped. A controller created with
+ * the journal of a saved game restores the game from it before showing it. The saved game is
+ * deleted when the game is finished or quit.</p>
+ *
+ * <p>The turns of the game are also recorded in a {@link GameHistory}, so the player can undo and
+ * redo turns from the game menu. The view is then updated to show the restored state at once, and
+ * the saved game is recorded again from the restored state.</p>
+ *
  * @see GameView
  * @see BoardGame
  * @see ButtonClickObserver
  * @see BoardGameObserver
+ * @see SavedGameStore
+ * @see GameHistory
  */
 public abstract class GameController implements ButtonClickObserver, BoardGameObserver  {
   protected final GameView gameView;
   protected final Logger logger = LoggerFactory.getLogger(GameController.class);
   protected BoardGame boardGame;
   protected Map<String, Object> gameFinishedParams;
+  private final SavedGameStore savedGameStore;
+  private GameJournalReader savedJournal;
+  private GameJournalRecorder journalRecorder;
+  private SavedGameStore.GameType journalGameType;
+  private GameHistory gameHistory;
   /**
    * Runnable action to execute when the game is quit.
    */
@@ -51,11 +72,33 @@ public abstract class GameController implements ButtonClickObserver, BoardGameOb
    * @param players A list of {@link Player}s participating in the game.
    */
   public GameController(GameView gameView, Board board, List<Player> players) {
+    this(gameView, board, players, null);
+  }
+
+  /**
+   * Constructs a GameController resuming a saved game. The game is restored from the journal of
+   * the saved game and the view is updated to show the restored state.
+   *
+   * @param gameView     The {@link GameView} associated with this controller.
+   * @param board        The {@link Board} for the game.
+   * @param players      A list of {@link Player}s participating in the game.
+   * @param savedJournal The {@link GameJournalReader} of the saved game, or null to start a new
+   *                     game.
+   */
+  public GameController(GameView gameView, Board board, List<Player> players,
+      GameJournalReader savedJournal) {
     this.gameView = gameView;
     this.gameFinishedParams = new HashMap<>();
+    this.savedGameStore = new SavedGameStore();
+    this.savedJournal = savedJournal;
     logger.debug("GameController initialized");
     initializeBoardGame(board, players);
     initializeGameView();
+    if (savedJournal != null) {
+      gameView.getGameMenuBox().addGameLogRoundBoxEntry("Resumed game after "
+          + savedJournal.getTurnCount() + " turns");
+      showResolvedState();
+    }
   }
 
   /**
@@ -68,6 +111,76 @@ public abstract class GameController implements ButtonClickObserver, BoardGameOb
    */
   public abstract void initializeBoardGame(Board board, List<Player> players);
 
+  /**
+   * Restores the {@link #boardGame} from the journal of the saved game this controller was
+   * created with, if any, starts recording its undo and redo {@link GameHistory}, and starts
+   * recording the game to the {@link SavedGameStore}, replacing the saved game of the same type.
+   * Subclasses call this from {@link #initializeBoardGame(Board, List)} after creating the game
+   * and before adding observers, so turns replayed from the journal do not update the view. A game
+   * that cannot be restored is started from the beginning, and a game that cannot be recorded is
+   * still played.
+   *
+   * @param gameType The type of the game.
+   */
+  protected void attachJournal(SavedGameStore.GameType gameType) {
+    closeJournal();
+    journalGameType = gameType;
+    if (savedJournal != null) {
+      try {
+        savedJournal.restoreLatest(boardGame);
+        logger.info("Resumed {} game after {} turns", gameType, savedJournal.getTurnCount());
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        logger.error("Could not resume saved {} game", gameType, e);
+      }
+      savedJournal = null;
+    }
+    if (gameHistory != null) {
+      gameHistory.close();
+    }
+    gameHistory = new GameHistory(boardGame);
+    startJournal();
+  }
+
+  /**
+   * Starts recording the game to the {@link SavedGameStore} from its current state, replacing the
+   * saved game of the same type.
+   */
+  private void startJournal() {
+    try {
+      journalRecorder = savedGameStore.startRecording(journalGameType, boardGame);
+    } catch (IOException | IllegalArgumentException e) {
+      logger.error("Could not record {} game", journalGameType, e);
+    }
+  }
+
+  /**
+   * Stops recording the game and deletes its saved game, as it can no longer be resumed. Called
+   * when the game is finished or quit.
+   */
+  protected void discardJournal() {
+    closeJournal();
+    if (journalGameType == null) {
+      return;
+    }
+    try {
+      savedGameStore.delete(journalGameType);
+    } catch (IOException e) {
+      logger.error("Could not delete saved {} game", journalGameType, e);
+    }
+  }
+
+  private void closeJournal() {
+    if (journalRecorder == null) {
+      return;
+    }
+    try {
+      journalRecorder.close();
+    } catch (IOException e) {
+      logger.error("Could not close game journal", e);
+    }
+    journalRecorder = null;
+  }
+
   /**
    * Executes a full turn for all players in the game sequentially.
    * Subclasses must implement the logic for how multiple player turns are handled,
@@ -139,6 +252,7 @@ public abstract class GameController implements ButtonClickObserver, BoardGameOb
    * Executes the quit game action, if one has been set.
    */
   protected void quitGame() {
+    discardJournal();
     if (onQuitGame != null) {
       logger.info("Quitting the game");
       onQuitGame.run();
@@ -175,6 +289,11 @@ public abstract class GameController implements ButtonClickObserver, BoardGameOb
   protected void handleRollDiceButtonAction() {
     logger.debug("Roll dice button clicked");
     gameView.getGameMenuBox().disableRollDiceButton();
+    if (gameView.getGameMenuBox().getRollForAllPlayersSelected()
+        && gameView.getGameMenuBox().isFastForwardSelected()) {
+      fastForwardRounds(gameView.getGameMenuBox().getFastForwardRounds());
+      return;
+    }
     if (gameView.getGameMenuBox().getRollForAllPlayersSelected()) {
       logger.debug("Performing turn for all players");
       performPlayerTurnForAllPlayers();
@@ -185,15 +304,110 @@ public abstract class GameController implements ButtonClickObserver, BoardGameOb
   }
 
   /**
-   * Enables the roll dice button in the game view.
+   * Plays the given number of rounds in the model without updating the view for every turn, and
+   * then shows the resulting state at once: the new round number, a condensed game log and a single
+   * animation of all pieces to their new positions. If a player won during the rounds, the game is
+   * finished once the animation completes. The rounds are played on the JavaFX application thread,
+   * which {@link BoardGame#fastForward(int)} keeps short by resolving the moves of bots without
+   * their search strategies.
+   *
+   * @param rounds The number of rounds to fast-forward.
+   */
+  protected void fastForwardRounds(int rounds) {
+    final int startRound = getRoundNumber();
+    final long startTime = System.nanoTime();
+    final int turns = boardGame.fastForward(rounds);
+    logger.debug("Fast-forwarded {} turns in {} ms", turns,
+        (System.nanoTime() - startTime) / 1_000_000);
+
+    if (getRoundNumber() != startRound) {
+      onRoundNumberIncremented(getRoundNumber());
+    }
+    gameView.getGameMenuBox().addGameLogRoundBoxEntry("Fast-forwarded " + turns
+        + " turns from round " + startRound);
+    showResolvedState();
+  }
+
+  /**
+   * Shows a state the model has reached without updating the view for every turn, after
+   * fast-forwarding or resuming a game. If a player has won, the game is finished once the pieces
+   * have moved, and otherwise the roll dice button is enabled.
+   */
+  private void showResolvedState() {
+    final Player winner = boardGame.getWinner();
+    if (winner != null) {
+      onGameFinished(winner);
+      showFastForwardedState(() -> navigateToGameFinished(gameFinishedParams));
+      return;
+    }
+    showFastForwardedState(this::enableRollDiceButton);
+  }
+
+  /**
+   * Undoes the last turn of the game, if there is one, and shows the restored state.
+   */
+  protected void undoTurn() {
+    logger.debug("Undo turn button clicked");
+    if (gameHistory != null && gameHistory.undo()) {
+      showRestoredTurn("Undid turn " + (gameHistory.getCurrentTurn() + 1));
+    }
+  }
+
+  /**
+   * Redoes the last undone turn of the game, if there is one, and shows the restored state.
+   */
+  protected void redoTurn() {
+    logger.debug("Redo turn button clicked");
+    if (gameHistory != null && gameHistory.redo()) {
+      showRestoredTurn("Redid turn " + gameHistory.getCurrentTurn());
+    }
+  }
+
+  /**
+   * Shows a state restored from the {@link GameHistory}: the round number, the current player and
+   * an entry in the game log, and a single animation of all pieces to their positions. The saved
+   * game is recorded again from the restored state, so a resumed game does not replay undone
+   * turns.
+   *
+   * @param logEntry The entry to add to the game log.
+   */
+  private void showRestoredTurn(String logEntry) {
+    disableRollDiceButton();
+    closeJournal();
+    startJournal();
+    gameView.getPlayersBox().setRoundNumber(getRoundNumber());
+    if (!gameView.getGameMenuBox().getRollForAllPlayersSelected()) {
+      gameView.getPlayersBox().setFocusedPlayer(getPlayers().indexOf(
+          boardGame.getCurrentPlayer()));
+    }
+    gameView.getGameMenuBox().addGameLogRoundBoxEntry(logEntry);
+    showFastForwardedState(this::enableRollDiceButton);
+  }
+
+  /**
+   * Shows the state of the game after {@link #fastForwardRounds(int)}: the position of every
+   * player in the player information panel and the game log, and a single animation of all pieces
+   * from their displayed positions to their positions in the model.
+   *
+   * @param onFinished The action to run when the animation has finished.
+   */
+  protected abstract void showFastForwardedState(Runnable onFinished);
+
+  /**
+   * Enables the roll dice button in the game view, and the undo and redo buttons if there is a
+   * turn to undo or redo.
    */
   protected void enableRollDiceButton() {
     logger.debug("Enabling roll dice button");
     gameView.getGameMenuBox().enableRollDiceButton();
+    if (gameHistory != null) {
+      gameView.getGameMenuBox().setHistoryButtonsEnabled(gameHistory.canUndo(),
+          gameHistory.canRedo());
+    }
   }
 
   /**
-   * Disables the roll dice button in the game view.
+   * Disables the roll dice button in the game view, and the undo and redo buttons.
    */
   protected void disableRollDiceButton() {
     logger.debug("Disabling roll dice button");
@@ -2,18 +2,26 @@ package edu.ntnu.idi.idatt.controller.common;
 
 import edu.ntnu.idi.idatt.factory.board.BoardFactory;
 import edu.ntnu.idi.idatt.factory.player.PlayerFactory;
+import edu.ntnu.idi.idatt.filehandler.BoardCatalog;
+import edu.ntnu.idi.idatt.filehandler.BoardCatalogEntry;
 import edu.ntnu.idi.idatt.filehandler.FileHandler;
 import edu.ntnu.idi.idatt.filehandler.PlayerFileHandlerCsv;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.player.Player;
 import edu.ntnu.idi.idatt.observer.ButtonClickObserver;
+import edu.ntnu.idi.idatt.view.common.BackgroundImageCache;
 import edu.ntnu.idi.idatt.view.common.MenuView;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
+import javafx.application.Platform;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,6 +35,15 @@ import org.slf4j.LoggerFactory;
  * configuration, and navigation to other parts of the application (e.g., starting a game, creating
  * a board).</p>
  *
+ * <p>The boards in the menu carousel are listed as {@link BoardCatalogEntry} summaries from a
+ * {@link BoardCatalog}, and a board is only created in full when it is shown or chosen. The
+ * created boards are kept, so switching back to a board does not create it again. The boards
+ * next to the shown board are created in the background by a {@link BoardPrefetcher}, so
+ * switching to the next or previous board does not wait for its board file to be read. A board
+ * that has not been created yet is created on the same background thread, and the menu keeps
+ * showing the previous board until it is ready, so no board file is read on the JavaFX
+ * application thread.</p>
+ *
  * @see MenuView
  * @see BoardFactory
  * @see PlayerFactory
@@ -39,8 +56,12 @@ public abstract class MenuController implements ButtonClickObserver {
   protected static final int DEFAULT_BOARD_INDEX = 1;
   protected final MenuView menuView;
   protected BoardFactory boardFactory;
+  protected final Map<Integer, BoardCatalogEntry> boardEntries;
   protected final Map<Integer, Board> boardVariants;
   protected int currentBoardIndex;
+  private final BoardCatalog boardCatalog;
+  private final BoardPrefetcher boardPrefetcher;
+  private boolean startingGame;
 
   /**
    * Consumer for handling the start game action, taking a Board and a List of Players.
@@ -63,16 +84,76 @@ public abstract class MenuController implements ButtonClickObserver {
   protected MenuController(MenuView menuView) {
     logger.debug("MenuController initialized with default board index");
     this.menuView = menuView;
+    this.boardEntries = new HashMap<>();
     this.boardVariants = new HashMap<>();
     this.currentBoardIndex = DEFAULT_BOARD_INDEX;
+    this.boardCatalog = new BoardCatalog();
+    this.boardPrefetcher = new BoardPrefetcher(
+        filePath -> boardFactory.createBoardFromFile(filePath), MenuController::prepareBoard);
   }
 
   /**
-   * Loads available board variants using the configured {@link #boardFactory}. Subclasses must
-   * implement this to populate the {@link #boardVariants} map.
+   * Loads the catalog entries of the available board variants of the configured
+   * {@link #boardFactory}. Subclasses must implement this to populate the {@link #boardEntries}
+   * map, typically by calling {@link #loadBoardEntries(List)}.
    */
   protected abstract void loadBoardsFromFactory();
 
+  /**
+   * Adds the catalog entries of board variants to the {@link #boardEntries} map, in the given
+   * order. The board files of the variants are found through the {@link #boardFactory}, and the
+   * catalog of each directory with board files is read once. The boards themselves are not
+   * created.
+   *
+   * @param variants The board variants to add.
+   */
+  protected void loadBoardEntries(List<String> variants) {
+    final Map<Path, BoardCatalogEntry> catalogEntries = new HashMap<>();
+    final Set<Path> catalogDirectories = new HashSet<>();
+    for (String variant : variants) {
+      final Path file = Path.of(boardFactory.getVariantFilePath(variant));
+      final Path directory = file.toAbsolutePath().getParent();
+      if (catalogDirectories.add(directory)) {
+        try {
+          boardCatalog.readCatalog(directory).forEach(entry ->
+              catalogEntries.put(Path.of(entry.path()), entry));
+        } catch (IOException e) {
+          logger.error("Could not read board catalog of {}", directory);
+        }
+      }
+      final BoardCatalogEntry entry = catalogEntries.get(file.toAbsolutePath());
+      if (entry == null) {
+        logger.error("Board variant {} is not in the board catalog", variant);
+        continue;
+      }
+      boardEntries.put(boardEntries.size() + 1, entry);
+    }
+    logger.debug("Loaded {} board catalog entries", boardEntries.size());
+  }
+
+  /**
+   * Gets the board with the given index. A board that has not been created before is taken from
+   * the {@link BoardPrefetcher}, which creates it from its board file in the background if it is
+   * not being prefetched, and is added to {@link #boardVariants} on the JavaFX application thread.
+   *
+   * @param boardIndex The index of the board in {@link #boardEntries}.
+   * @return The board, or null if it could not be created, completed on the JavaFX application
+   *         thread unless the board has been created before.
+   */
+  protected CompletableFuture<Board> getBoard(int boardIndex) {
+    final Board board = boardVariants.get(boardIndex);
+    if (board != null || !boardEntries.containsKey(boardIndex)) {
+      return CompletableFuture.completedFuture(board);
+    }
+    boardPrefetcher.prefetch(boardIndex, boardEntries.get(boardIndex).path());
+    return boardPrefetcher.take(boardIndex).thenApplyAsync(createdBoard -> {
+      if (createdBoard != null) {
+        boardVariants.putIfAbsent(boardIndex, createdBoard);
+      }
+      return boardVariants.get(boardIndex);
+    }, Platform::runLater);
+  }
+
   /**
    * Initializes the menu view. Subclasses should implement this to set up UI elements, display
    * initial data (like boards), and configure event handlers within the {@link #menuView}.
@@ -167,15 +248,26 @@ public abstract class MenuController implements ButtonClickObserver {
   }
 
   /**
-   * Handles the action to start the game. Retrieves the currently selected board and configured
-   * players, then triggers the {@link #onStartGame} action.
+   * Handles the action to start the game. Retrieves the currently selected board, once it has been
+   * created, and the configured players, then triggers the {@link #onStartGame} action. Further
+   * requests to start the game are ignored while the board is being created.
    */
   private void handleStartGame() {
-    logger.debug("start game with board index {}", currentBoardIndex);
-    Board board = boardVariants.get(currentBoardIndex);
-    List<Player> players = getPlayers();
-
-    onStartGame.accept(board, players);
+    if (startingGame) {
+      return;
+    }
+    final int boardIndex = currentBoardIndex;
+    logger.debug("start game with board index {}", boardIndex);
+    startingGame = true;
+    getBoard(boardIndex).thenAccept(board -> {
+      startingGame = false;
+      if (board == null) {
+        logger.error("Could not create board {} to start the game", boardIndex);
+        menuView.showErrorAlert("An error occurred", "Could not load board");
+        return;
+      }
+      onStartGame.accept(board, getPlayers());
+    });
   }
 
   /**
@@ -183,7 +275,7 @@ public abstract class MenuController implements ButtonClickObserver {
    * {@link #currentBoardIndex} and calls {@link #showBoardVariant(int)}.
    */
   public void handleNextBoard() {
-    currentBoardIndex = (currentBoardIndex % boardVariants.size()) + 1;
+    currentBoardIndex = (currentBoardIndex % boardEntries.size()) + 1;
     logger.debug("switched to next board, current board index: {}", currentBoardIndex);
     showBoardVariant(currentBoardIndex);
   }
@@ -193,7 +285,7 @@ public abstract class MenuController implements ButtonClickObserver {
    * {@link #currentBoardIndex} and calls {@link #showBoardVariant(int)}.
    */
   public void handlePreviousBoard() {
-    currentBoardIndex = (currentBoardIndex - 2 + boardVariants.size()) % boardVariants.size() + 1;
+    currentBoardIndex = (currentBoardIndex - 2 + boardEntries.size()) % boardEntries.size() + 1;
     logger.debug("switched to previous board, current board index: {}", currentBoardIndex);
     showBoardVariant(currentBoardIndex);
   }
@@ -265,13 +357,51 @@ public abstract class MenuController implements ButtonClickObserver {
   }
 
   /**
-   * Displays the board variant corresponding to the given index in the {@link #menuView}.
+   * Displays the board variant corresponding to the given index in the {@link #menuView},
+   * creating the board in the background if it has not been created before. The shown board is
+   * kept until the board is created, and the board is not shown if another board has been chosen
+   * in the meantime.
+   *
+   * @param boardIndex The index of the board in {@link #boardEntries} to display.
+   */
+  protected void showBoardVariant(int boardIndex) {
+    getBoard(boardIndex).thenAccept(board -> {
+      if (board == null) {
+        logger.error("Could not create board {} to show", boardIndex);
+      } else if (boardIndex == currentBoardIndex) {
+        menuView.setSelectedBoard(board);
+      }
+    });
+    prefetchAdjacentBoards(boardIndex);
+  }
+
+  /**
+   * Starts prefetching the boards before and after the board with the given index in the
+   * carousel, and cancels the prefetches of boards further away.
+   *
+   * @param boardIndex The index of the shown board in {@link #boardEntries}.
+   */
+  private void prefetchAdjacentBoards(int boardIndex) {
+    final int boardCount = boardEntries.size();
+    final Set<Integer> adjacentIndexes = new HashSet<>(List.of(boardIndex % boardCount + 1,
+        (boardIndex - 2 + boardCount) % boardCount + 1));
+    adjacentIndexes.remove(boardIndex);
+    adjacentIndexes.removeIf(boardVariants::containsKey);
+    boardPrefetcher.retain(adjacentIndexes);
+    adjacentIndexes.forEach(index ->
+        boardPrefetcher.prefetch(index, boardEntries.get(index).path()));
+  }
+
+  /**
+   * Prepares a created board to be shown by loading its background image into the
+   * {@link BackgroundImageCache}. Called on the background thread of the {@link BoardPrefetcher}.
    *
-   * @param boardIndex The index of the board in {@link #boardVariants} to display.
+   * @param board The board to prepare.
    */
-  private void showBoardVariant(int boardIndex) {
-    Board board = boardVariants.get(boardIndex);
-    menuView.setSelectedBoard(board);
+  private static void prepareBoard(Board board) {
+    if (board.getBackground() != null) {
+      BackgroundImageCache.getImage(board.getBackground());
+    }
   }
 
   /**
@@ -311,10 +441,43 @@ public abstract class MenuController implements ButtonClickObserver {
     }
   }
 
+  /**
+   * Finds a board entry with the same file contents as a board file. Only the files of entries
+   * with the same file size as the board file are hashed, and the hashes are kept in
+   * {@link #boardEntries}, so an import usually hashes no file at all.
+   *
+   * @param entry The catalog entry of the board file.
+   * @return The entry with the same file contents, or null if there is none.
+   * @throws IOException if the board file cannot be read.
+   */
+  private BoardCatalogEntry findSameContentEntry(BoardCatalogEntry entry) throws IOException {
+    BoardCatalogEntry hashedEntry = null;
+    for (Map.Entry<Integer, BoardCatalogEntry> boardEntry : boardEntries.entrySet()) {
+      if (boardEntry.getValue().fileSize() != entry.fileSize()) {
+        continue;
+      }
+      if (hashedEntry == null) {
+        hashedEntry = boardCatalog.withContentHash(entry);
+      }
+      try {
+        boardEntry.setValue(boardCatalog.withContentHash(boardEntry.getValue()));
+      } catch (IOException e) {
+        logger.warn("Could not hash board file {}", boardEntry.getValue().path());
+        continue;
+      }
+      if (boardEntry.getValue().contentHash().equals(hashedEntry.contentHash())) {
+        return boardEntry.getValue();
+      }
+    }
+    return null;
+  }
+
   /**
    * Loads a board from a specified file path using the {@link #boardFactory}. Adds the loaded board
-   * to {@link #boardVariants} if a board with the same name doesn't already exist. Updates the view
-   * to show the newly imported board. Shows appropriate alerts on success or failure.
+   * and its catalog entry to {@link #boardVariants} and {@link #boardEntries} if a board with the
+   * same file contents or the same name doesn't already exist, and shows which of the two is the
+   * case otherwise. Updates the view to show the newly imported board. Shows appropriate alerts on
+   * success or failure.
    *
    * @param filePath The path to the file containing board data.
    */
@@ -322,18 +485,30 @@ public abstract class MenuController implements ButtonClickObserver {
     logger.debug("attempting to load board from file: {}", filePath);
     try {
       Board board = boardFactory.createBoardFromFile(filePath);
-      if (boardVariants.values().stream().anyMatch(b -> b.getName().equals(board.getName()))) {
+      if (board == null) {
+        throw new IOException("No board in file: " + filePath);
+      }
+      BoardCatalogEntry entry = boardCatalog.readEntry(Path.of(filePath));
+      final BoardCatalogEntry sameContentEntry = findSameContentEntry(entry);
+      if (sameContentEntry != null) {
+        logger.warn("Attempted to load board from file with duplicate contents: {}", filePath);
+        menuView.showErrorAlert("An error occured",
+            "A board with the same contents already exists: " + sameContentEntry.name());
+        return;
+      }
+      if (boardEntries.values().stream().anyMatch(e -> e.name().equals(board.getName()))) {
         logger.warn("Attempted to load board from file with duplicate name: {}", filePath);
         menuView.showErrorAlert("An error occured",
             "Board with name " + board.getName() + " already exists");
         return;
       }
-      boardVariants.put(boardVariants.size() + 1, board);
-      currentBoardIndex = boardVariants.size();
+      boardEntries.put(boardEntries.size() + 1, entry);
+      boardVariants.put(boardEntries.size(), board);
+      currentBoardIndex = boardEntries.size();
       showBoardVariant(currentBoardIndex);
       menuView.showInfoAlert("Success", "Board imported successfully");
       logger.debug("successfully loaded board");
-    } catch (IllegalArgumentException e) {
+    } catch (IllegalArgumentException | IOException e) {
       logger.error("Failed to load board - invalid file path");
       menuView.showErrorAlert("An error occurred", "Could not load board");
     }
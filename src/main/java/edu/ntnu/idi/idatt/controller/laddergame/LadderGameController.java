@@ -3,12 +3,15 @@ package edu.ntnu.idi.idatt.controller.laddergame;
 import static java.lang.Thread.sleep;
 
 import edu.ntnu.idi.idatt.controller.common.GameController;
+import edu.ntnu.idi.idatt.journal.GameJournalReader;
+import edu.ntnu.idi.idatt.journal.SavedGameStore;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
 import edu.ntnu.idi.idatt.model.game.LadderBoardGame;
 import edu.ntnu.idi.idatt.model.player.LadderGamePlayer;
 import edu.ntnu.idi.idatt.model.player.Player;
 import edu.ntnu.idi.idatt.model.tile.TileAction;
+import edu.ntnu.idi.idatt.observer.LadderGameObserver;
 import edu.ntnu.idi.idatt.view.laddergame.LadderGameStackPane;
 import edu.ntnu.idi.idatt.view.laddergame.LadderGameView;
 import java.util.ArrayList;
@@ -48,7 +51,7 @@ import java.util.Map;
  * @see Player
  * @see TileAction
  */
-public class LadderGameController extends GameController {
+public class LadderGameController extends GameController implements LadderGameObserver {
 
   /**
    * Constructs a new {@code LadderGameController}.
@@ -61,11 +64,25 @@ public class LadderGameController extends GameController {
     super(ladderGameView, board, players);
   }
 
+  /**
+   * Constructs a new {@code LadderGameController} resuming a saved game.
+   *
+   * @param ladderGameView The {@link LadderGameView} associated with this controller.
+   * @param board          The {@link Board} (specifically a {@link LadderGameBoard}) for the game.
+   * @param players        The list of {@link Player}s participating in the game.
+   * @param savedJournal   The {@link GameJournalReader} of the saved game to restore.
+   */
+  public LadderGameController(LadderGameView ladderGameView, Board board, List<Player> players,
+      GameJournalReader savedJournal) {
+    super(ladderGameView, board, players, savedJournal);
+  }
+
   /**
    * Initializes the {@link #boardGame} instance as a {@link LadderBoardGame}. It creates a new game
-   * with the provided board and players, and sets the number of dice to 2. This controller is also
-   * added as an observer to the newly created game model. All players are initially placed on the
-   * starting tile (tile 0).
+   * with the provided board and players, and sets the number of dice to 2. The game is restored
+   * from a saved game and recorded with {@link #attachJournal(SavedGameStore.GameType)}, and this
+   * controller is then added as an observer to the newly created game model. All players are
+   * initially placed on the starting tile (tile 0).
    *
    * @param board   The {@link Board} for the game.
    * @param players The list of {@link Player}s.
@@ -74,6 +91,7 @@ public class LadderGameController extends GameController {
   public void initializeBoardGame(Board board, List<Player> players) {
     try {
       boardGame = new LadderBoardGame(board, players, 2);
+      attachJournal(SavedGameStore.GameType.LADDER);
       boardGame.addObserver(this);
       logger.debug("Game initialized with {} players on board '{}'", players.size(),
           board.getName());
@@ -99,9 +117,7 @@ public class LadderGameController extends GameController {
   protected void performPlayerTurn() {
     disableRollDiceButton();
     int diceRoll = ((LadderBoardGame) boardGame).rollDice();
-    int[] diceValues = (boardGame).getDice().getDiceList().stream()
-        .mapToInt(die -> die.getValue())
-        .toArray();
+    int[] diceValues = boardGame.getDice().getDieValues();
 
     Player currentPlayer = boardGame.getCurrentPlayer();
     logger.debug("{} rolled: {} -> sum: {}", currentPlayer.getName(), diceRoll, diceValues);
@@ -124,6 +140,24 @@ public class LadderGameController extends GameController {
     } while (!boardGame.getCurrentPlayer().equals(boardGame.getPlayers().getFirst()));
   }
 
+  /**
+   * Shows the result of fast-forwarded rounds: updates the displayed tile number of every player,
+   * adds the tile of every player to the game log, and moves all players to their tiles on the
+   * {@link LadderGameStackPane} in a single animation.
+   *
+   * @param onFinished The action to run when the animation has finished.
+   */
+  @Override
+  protected void showFastForwardedState(Runnable onFinished) {
+    getPlayers().forEach(player -> {
+      int tileId = ((LadderGamePlayer) player).getCurrentTile().getTileId();
+      setPlayerTileNumber(player, tileId);
+      gameView.getGameMenuBox().addGameLogRoundBoxEntry(player.getName() + " is on tile "
+          + tileId);
+    });
+    ((LadderGameStackPane) gameView.getGameStackPane()).movePlayersToCurrentTiles(onFinished);
+  }
+
   /**
    * Updates the displayed tile number for a specific player in the player information panel of the
    * {@link LadderGameView}.
@@ -166,6 +200,7 @@ public class LadderGameController extends GameController {
    * @param diceRoll  The result of the dice roll that caused the move.
    * @param newTileId The ID of the tile the player moved to.
    */
+  @Override
   public void onPlayerMoved(Player player, int diceRoll, int newTileId) {
     gameView.getGameMenuBox().addGameLogRoundBoxEntry(
         player.getName() + " rolled " + diceRoll + " and moved to tile " + newTileId);
@@ -229,6 +264,7 @@ public class LadderGameController extends GameController {
    * @param player     The {@link Player} who activated the tile action.
    * @param tileAction The {@link TileAction} that was performed.
    */
+  @Override
   public void onTileActionPerformed(Player player, TileAction tileAction) {
     gameView.getGameMenuBox()
         .addGameLogRoundBoxEntry(player.getName() + " activated " + tileAction.getDescription());
@@ -250,6 +286,7 @@ public class LadderGameController extends GameController {
     logger.info("Game finished. Game winner is: {}", winner.getName());
     gameView.getGameMenuBox().addGameLogRoundBoxEntry("Game finished! Winner: " + winner.getName());
     disableRollDiceButton();
+    discardJournal();
 
     List<Player> rankedPlayers = getPlayers().stream()
         .sorted(Comparator.comparingInt((Player p) -> ((LadderGamePlayer) p).getCurrentTile()
@@ -265,6 +302,8 @@ public class LadderGameController extends GameController {
    *   <li>"roll_dice": Calls {@link #handleRollDiceButtonAction()}.</li>
    *   <li>"restart_game": Calls {@link #restartGame()}.</li>
    *   <li>"quit_game": Calls {@link #quitGame()}.</li>
+   *   <li>"undo_turn": Calls {@link #undoTurn()}.</li>
+   *   <li>"redo_turn": Calls {@link #redoTurn()}.</li>
    * </ul>
    *
    * @param buttonId The ID of the button that was clicked.
@@ -276,6 +315,8 @@ public class LadderGameController extends GameController {
       case "roll_dice" -> handleRollDiceButtonAction();
       case "restart_game" -> restartGame();
       case "quit_game" -> quitGame();
+      case "undo_turn" -> undoTurn();
+      case "redo_turn" -> redoTurn();
       default -> {
         break;
       }
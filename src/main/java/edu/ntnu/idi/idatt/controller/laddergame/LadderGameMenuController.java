@@ -26,8 +26,8 @@ import java.util.List;
  *       information entered in the menu view's player rows.</li>
  *   <li>Initializing the {@link MenuView} with Ladder Game specific title, token types, colors,
  *       and player limits.</li>
- *   <li>Loading predefined/hardcoded ladder board variants (e.g., "Classic", "Teleporting") using
- *       the board factory.</li>
+ *   <li>Listing predefined/hardcoded ladder board variants (e.g., "Classic", "Teleporting") from
+ *       the board catalog, and creating them with the board factory when they are shown.</li>
  * </ul>
  *
  *
@@ -86,23 +86,22 @@ public class LadderGameMenuController extends MenuController {
   @Override
   protected void initializeMenuView() {
     loadBoardsFromFactory();
-    menuView.setSelectedBoard(boardFactory.createBoard("Classic"));
+    showBoardVariant(currentBoardIndex);
     menuView.initialize("Ladder Game Menu", ALLOWED_PLAYER_TOKEN_TYPES, ALLOWED_PLAYER_COLORS,
         MIN_PLAYERS, MAX_PLAYERS);
     logger.debug("Ladder Game Menu initialized with board 'Classic'");
   }
 
   /**
-   * Loads predefined ladder board variants (e.g., "Classic", "Teleporting") using the
-   * {@link #boardFactory} and stores them in the {@link #boardVariants} map. This method is called
-   * during the initialization of the menu view.
+   * Loads the catalog entries of the predefined ladder board variants (e.g., "Classic",
+   * "Teleporting") into the {@link #boardEntries} map. The boards are created when they are shown
+   * or chosen. This method is called during the initialization of the menu view.
    *
-   * @see LadderBoardFactory#createBoard(String)
+   * @see LadderBoardFactory#getVariantFilePath(String)
    */
   @Override
   protected void loadBoardsFromFactory() {
-    super.boardVariants.put(1, boardFactory.createBoard("Classic"));
-    super.boardVariants.put(2, boardFactory.createBoard("Teleporting"));
-    logger.debug("Loaded boards: Classic and Teleporting into boardVariants");
+    loadBoardEntries(List.of("Classic", "Teleporting"));
+    logger.debug("Loaded board catalog entries: Classic and Teleporting");
   }
 }
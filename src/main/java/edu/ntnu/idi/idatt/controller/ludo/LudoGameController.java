@@ -3,12 +3,15 @@ package edu.ntnu.idi.idatt.controller.ludo;
 import static java.lang.Thread.sleep;
 
 import edu.ntnu.idi.idatt.controller.common.GameController;
+import edu.ntnu.idi.idatt.journal.GameJournalReader;
+import edu.ntnu.idi.idatt.journal.SavedGameStore;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
 import edu.ntnu.idi.idatt.model.game.LudoBoardGame;
 import edu.ntnu.idi.idatt.model.player.LudoPlayer;
 import edu.ntnu.idi.idatt.model.player.Player;
 import edu.ntnu.idi.idatt.model.token.LudoToken;
+import edu.ntnu.idi.idatt.observer.LudoGameObserver;
 import edu.ntnu.idi.idatt.view.ludo.LudoGameStackPane;
 import edu.ntnu.idi.idatt.view.ludo.LudoGameView;
 import java.util.ArrayList;
@@ -56,7 +59,7 @@ import java.util.Map;
  * @see LudoToken
  * @see LudoGameStackPane
  */
-public class LudoGameController extends GameController {
+public class LudoGameController extends GameController implements LudoGameObserver {
 
   /**
    * Constructs a new {@code LudoGameController}.
@@ -70,10 +73,26 @@ public class LudoGameController extends GameController {
     super(ludoGameView, board, players);
   }
 
+  /**
+   * Constructs a new {@code LudoGameController} resuming a saved game.
+   *
+   * @param ludoGameView The {@link LudoGameView} associated with this controller.
+   * @param board        The {@link Board} (specifically a {@link LudoGameBoard}) for the game.
+   * @param players      The list of {@link Player}s (expected to be {@link LudoPlayer} instances)
+   *                     participating in the game.
+   * @param savedJournal The {@link GameJournalReader} of the saved game to restore.
+   */
+  public LudoGameController(LudoGameView ludoGameView, Board board, List<Player> players,
+      GameJournalReader savedJournal) {
+    super(ludoGameView, board, players, savedJournal);
+  }
+
   /**
    * Initializes the {@link #boardGame} instance as a {@link LudoBoardGame}. It creates a new game
-   * with the provided board and players, and sets the number of dice to 1 (standard for Ludo). This
-   * controller is also added as an observer to the newly created game model.
+   * with the provided board and players, and sets the number of dice to 1 (standard for Ludo). The
+   * game is restored from a saved game and recorded with
+   * {@link #attachJournal(SavedGameStore.GameType)}, and this controller is then added as an
+   * observer to the newly created game model.
    *
    * @param board   The {@link Board} for the Ludo game.
    * @param players The list of {@link Player}s for the Ludo game.
@@ -82,6 +101,7 @@ public class LudoGameController extends GameController {
   public void initializeBoardGame(Board board, List<Player> players) {
     try {
       boardGame = new LudoBoardGame(board, players, 1);
+      attachJournal(SavedGameStore.GameType.LUDO);
       boardGame.addObserver(this);
     } catch (IllegalArgumentException e) {
       e.printStackTrace();
@@ -120,6 +140,25 @@ public class LudoGameController extends GameController {
     });
   }
 
+  /**
+   * Shows the result of fast-forwarded rounds: updates the displayed number of finished tokens of
+   * every player, adds it to the game log, and moves all tokens to their tiles or start areas on
+   * the {@link LudoGameStackPane} in a single animation.
+   *
+   * @param onFinished The action to run when the animation has finished.
+   */
+  @Override
+  protected void showFastForwardedState(Runnable onFinished) {
+    getPlayers().forEach(player -> {
+      long finishedTokens = ((LudoPlayer) player).getTokens().stream()
+          .filter(t -> t.getStatus() == LudoToken.TokenStatus.FINISHED).count();
+      setPlayerTileNumber(player);
+      gameView.getGameMenuBox().addGameLogRoundBoxEntry(player.getName() + " has "
+          + finishedTokens + " finished tokens");
+    });
+    ((LudoGameStackPane) gameView.getGameStackPane()).moveTokensToCurrentTiles(onFinished);
+  }
+
   /**
    * Updates the displayed information for a specific player in the player information panel of the
    * {@link LudoGameView}. For Ludo, this typically means updating the count of tokens that have
@@ -144,6 +183,7 @@ public class LudoGameController extends GameController {
    * @param tileId  The ID of the tile onto which the token was released.
    * @param tokenId The ID (index) of the released token within the player's list of tokens.
    */
+  @Override
   public void onTokenReleased(Player player, int tileId, int tokenId) {
     gameView.getGameMenuBox().addGameLogRoundBoxEntry(
         player.getName() + " rolled 6 and released token " + (tokenId + 1));
@@ -183,6 +223,7 @@ public class LudoGameController extends GameController {
    * @param oldTileId The ID of the tile the token moved from.
    * @param newTileId The ID of the tile the token moved to.
    */
+  @Override
   public void onTokenMoved(Player player, LudoToken token, int diceRoll, int oldTileId,
       int newTileId) {
     gameView.getGameMenuBox().addGameLogRoundBoxEntry(
@@ -242,6 +283,7 @@ public class LudoGameController extends GameController {
   public void onGameFinished(Player winner) {
     gameView.getGameMenuBox().addGameLogRoundBoxEntry("Game finished! Winner: " + winner.getName());
     disableRollDiceButton();
+    discardJournal();
 
     List<Player> rankedPlayers = getPlayers().stream().sorted(Comparator.comparingInt(
         (Player p) -> (int) ((LudoPlayer) p).getTokens().stream()
@@ -259,6 +301,7 @@ public class LudoGameController extends GameController {
    * @param player The {@link Player} whose token was captured.
    * @param token  The {@link LudoToken} that was captured.
    */
+  @Override
   public void onTokenCaptured(Player player, LudoToken token, int oldTileId) {
     gameView.getGameMenuBox().addGameLogRoundBoxEntry(
         player.getName() + "'s token " + token.getTokenId()
@@ -275,6 +318,7 @@ public class LudoGameController extends GameController {
    * @param player The {@link Player} whose token reached the finish.
    * @param token  The {@link LudoToken} that finished.
    */
+  @Override
   public void onTokenFinished(Player player, LudoToken token) {
     gameView.getGameMenuBox().addGameLogRoundBoxEntry(
         player.getName() + "'s token " + token.getTokenId() + " finished!");
@@ -289,6 +333,7 @@ public class LudoGameController extends GameController {
    * @param player   The {@link Player} whose turn was skipped.
    * @param diceRoll The dice roll that resulted in the skipped turn.
    */
+  @Override
   public void onTurnSkipped(Player player, int diceRoll) {
     gameView.getGameMenuBox().addGameLogRoundBoxEntry(
         player.getName() + " rolled " + diceRoll + " but has no tokens to move. Turn skipped!");
@@ -301,6 +346,8 @@ public class LudoGameController extends GameController {
    *   <li>"roll_dice": Calls {@link #handleRollDiceButtonAction()}.</li>
    *   <li>"restart_game": Calls {@link #restartGame()}.</li>
    *   <li>"quit_game": Calls {@link #quitGame()}.</li>
+   *   <li>"undo_turn": Calls {@link #undoTurn()}.</li>
+   *   <li>"redo_turn": Calls {@link #redoTurn()}.</li>
    * </ul>
    *
    * @param buttonId The ID of the button that was clicked.
@@ -311,6 +358,8 @@ public class LudoGameController extends GameController {
       case "roll_dice" -> handleRollDiceButtonAction();
       case "restart_game" -> restartGame();
       case "quit_game" -> quitGame();
+      case "undo_turn" -> undoTurn();
+      case "redo_turn" -> redoTurn();
       default -> {
         break;
       }
@@ -77,7 +77,7 @@ public class LudoMenuController extends MenuController {
   @Override
   protected void initializeMenuView() {
     loadBoardsFromFactory();
-    menuView.setSelectedBoard(boardFactory.createBoard("Classic"));
+    showBoardVariant(currentBoardIndex);
     menuView.initialize("Ludo Game Menu", ALLOWED_PLAYER_TOKEN_TYPES, ALLOWED_PLAYER_COLORS,
         MIN_PLAYERS, MAX_PLAYERS);
   }
@@ -107,13 +107,12 @@ public class LudoMenuController extends MenuController {
   }
 
   /**
-   * Loads the available Ludo board variants (Classic, Small, Large) using the
-   * {@link LudoBoardFactory} and stores them in the {@code boardVariants} map.
+   * Loads the catalog entries of the available Ludo board variants (Classic, Small, Large) into
+   * the {@code boardEntries} map. The boards are created with the {@link LudoBoardFactory} when
+   * they are shown or chosen.
    */
   @Override
   protected void loadBoardsFromFactory() {
-    super.boardVariants.put(1, super.boardFactory.createBoard("Classic"));
-    super.boardVariants.put(2, super.boardFactory.createBoard("Small"));
-    super.boardVariants.put(3, super.boardFactory.createBoard("Large"));
+    loadBoardEntries(List.of("Classic", "Small", "Large"));
   }
 }
\ No newline at end of file
@@ -20,6 +20,16 @@ public interface BoardFactory {
    */
   Board createBoard(String variant);
 
+  /**
+   * Gets the path to the board file of a specific variant, so the variant can be found in a board
+   * catalog without being created.
+   *
+   * @param variant A string identifier for the board variant.
+   * @return The path to the board file of the variant.
+   * @throws IllegalArgumentException if the variant is not recognized.
+   */
+  String getVariantFilePath(String variant);
+
   /**
    * Creates a game board by loading its configuration from a file.
    *
@@ -0,0 +1,138 @@
+package edu.ntnu.idi.idatt.factory.board;
+
+import edu.ntnu.idi.idatt.model.board.Board;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * BoardTemplateCache.
+ *
+ * <p>Keeps the boards read from board files as templates, by the absolute path of the file, so a
+ * board file is only read and parsed once. A template is never handed out: every request returns
+ * a {@link Board#copy() copy} of it, which the caller can change freely. Only the
+ * {@value #MAX_TEMPLATES} most recently requested templates are kept, so a session that opens
+ * many boards does not keep all of them in memory.</p>
+ *
+ * <p>The last modified time, the size and the file key (such as the inode) of the file are
+ * checked on every request, and a file that has changed since its template was read is read
+ * again. Checking the file attributes instead of hashing the contents keeps a request from
+ * reading the file at all. A file replaced by another file is always detected by its file key,
+ * but a file rewritten in place with contents of the same size within the timestamp granularity
+ * of the file system, such as two seconds on FAT, keeps its stale template until it is changed
+ * again or the cache is cleared. A file whose attributes cannot be read is passed to the reader
+ * without being cached, so the reader reports the error.</p>
+ *
+ * @see LadderBoardFactory
+ * @see LudoBoardFactory
+ */
+final class BoardTemplateCache {
+
+  /** The number of templates kept, evicting the least recently requested template. */
+  static final int MAX_TEMPLATES = 8;
+
+  private final Map<Path, Template> templates = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Path, Template> eldest) {
+      return size() > MAX_TEMPLATES;
+    }
+  };
+
+  /**
+   * Returns a copy of the board in a file, reading the file only if its template is not kept or
+   * the file has changed since it was read.
+   *
+   * @param filePath The path to the board file.
+   * @param reader   The reader to read the board file with.
+   * @return A copy of the board in the file, or null if the reader reads no board.
+   * @throws IOException if the file cannot be read.
+   */
+  Board getBoard(String filePath, BoardReader reader) throws IOException {
+    final Path path = Path.of(filePath).toAbsolutePath().normalize();
+    final BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(path, BasicFileAttributes.class);
+    } catch (IOException e) {
+      removeTemplate(path);
+      return reader.read(filePath);
+    }
+    Template template = getTemplate(path);
+    if (template == null || !template.matches(attributes)) {
+      final Board board = reader.read(filePath);
+      if (board == null) {
+        removeTemplate(path);
+        return null;
+      }
+      template = new Template(attributes.lastModifiedTime(), attributes.size(),
+          attributes.fileKey(), board);
+      putTemplate(path, template);
+    }
+    return template.board().copy();
+  }
+
+  /**
+   * Removes all templates, so every file is read again on its next request.
+   */
+  synchronized void clear() {
+    templates.clear();
+  }
+
+  /**
+   * Returns the number of templates kept.
+   *
+   * @return The number of templates.
+   */
+  synchronized int size() {
+    return templates.size();
+  }
+
+  private synchronized Template getTemplate(Path path) {
+    return templates.get(path);
+  }
+
+  private synchronized void putTemplate(Path path, Template template) {
+    templates.put(path, template);
+  }
+
+  private synchronized void removeTemplate(Path path) {
+    templates.remove(path);
+  }
+
+  /**
+   * Reads the board in a board file.
+   */
+  @FunctionalInterface
+  interface BoardReader {
+
+    /**
+     * Reads the board in a board file.
+     *
+     * @param filePath The path to the board file.
+     * @return The board, or null if the file holds no board.
+     * @throws IOException if the file cannot be read.
+     */
+    Board read(String filePath) throws IOException;
+  }
+
+  /**
+   * A board read from a file, with the last modified time, the size and the file key the file had
+   * before it was read.
+   *
+   * @param lastModifiedTime The last modified time of the file.
+   * @param size             The size of the file.
+   * @param fileKey          The file key of the file, or null if the file system has none.
+   * @param board            The board in the file.
+   */
+  private record Template(FileTime lastModifiedTime, long size, Object fileKey, Board board) {
+
+    private boolean matches(BasicFileAttributes attributes) {
+      return lastModifiedTime.equals(attributes.lastModifiedTime()) && size == attributes.size()
+          && Objects.equals(fileKey, attributes.fileKey());
+    }
+  }
+}
@@ -1,10 +1,12 @@
 package edu.ntnu.idi.idatt.factory.board;
 
+import edu.ntnu.idi.idatt.filehandler.BoardFileHandlerBinary;
 import edu.ntnu.idi.idatt.filehandler.FileHandler;
 import edu.ntnu.idi.idatt.filehandler.LadderGameBoardFileHandlerGson;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
 import java.io.IOException;
+import java.util.Locale;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,6 +18,11 @@ import org.slf4j.LoggerFactory;
  */
 public class LadderBoardFactory implements BoardFactory {
   private static final Logger logger = LoggerFactory.getLogger(LadderBoardFactory.class);
+  private static final BoardTemplateCache templateCache = new BoardTemplateCache();
+  private static final String CLASSIC_BOARD_PATH =
+      "src/main/resources/boards/ClassicLadderGameBoard.json";
+  private static final String PORTAL_BOARD_PATH =
+      "src/main/resources/boards/PortalLadderGameBoard.json";
 
   /**
    * Creates a LadderGameBoard object based on predefined variants stored as json files in the
@@ -38,27 +45,73 @@ public class LadderBoardFactory implements BoardFactory {
     };
   }
 
+  /**
+   * Gets the path to the board file of a predefined variant.
+   *
+   * @param variant A string specifying the board variant.
+   * @return The path to the board file in the "resources/boards" directory.
+   * @throws IllegalArgumentException if the variant is not recognized.
+   */
+  @Override
+  public String getVariantFilePath(String variant) {
+    return switch (variant.toLowerCase()) {
+      case "classic" -> CLASSIC_BOARD_PATH;
+      case "teleporting" -> PORTAL_BOARD_PATH;
+      default -> throw new IllegalArgumentException("Unknown board variant: " + variant);
+    };
+  }
+
   /**
    * Creates a Board object by reading from an external file.
-   * File handling is delegated to the {@link LadderGameBoardFileHandlerGson} class.
+   * File handling is delegated to the {@link BoardFileHandlerBinary} class for binary board files,
+   * and to the {@link LadderGameBoardFileHandlerGson} class for JSON files. A file is only read
+   * again when it has changed, and every call returns a new copy of the board.
    *
    * @see LadderGameBoardFileHandlerGson
-   * @param filePath The path to the JSON file containing board data.
-   * @return A Board object constructed from the file data.
+   * @see BoardFileHandlerBinary
+   * @param filePath The path to the JSON or binary file containing board data.
+   * @return A Board object constructed from the file data, or null if the file could not be read
+   *     or does not hold a ladder board.
    */
   @Override
   public Board createBoardFromFile(String filePath) {
     logger.debug("Attempting to create board variant from file: {}", filePath);
-    FileHandler<Board> boardFileHandler = new LadderGameBoardFileHandlerGson();
     try {
+      Board board = templateCache.getBoard(filePath, LadderBoardFactory::readBoardFile);
+      if (board != null && !(board instanceof LadderGameBoard)) {
+        logger.error("File does not hold a ladder board: {}", filePath);
+        return null;
+      }
       logger.debug("successfully created board from file: {}", filePath);
-      return (Board) boardFileHandler.readFile(filePath);
+      return board;
     } catch (IOException e) {
       logger.error("Could not create board from file: {}", filePath);
       return null;
     }
   }
 
+  /**
+   * Removes the cached boards, so every board file is read again on its next request.
+   */
+  static void clearTemplateCache() {
+    templateCache.clear();
+  }
+
+  /**
+   * Reads the board in a file with the {@link BoardFileHandlerBinary} class for binary board files,
+   * and with the {@link LadderGameBoardFileHandlerGson} class for JSON files.
+   *
+   * @param filePath The path to the board file.
+   * @return The board in the file, or {@code null} if the file is empty.
+   * @throws IOException if the file cannot be read.
+   */
+  private static Board readBoardFile(String filePath) throws IOException {
+    final FileHandler<Board> fileHandler = filePath.toLowerCase(Locale.ROOT).endsWith(
+        BoardFileHandlerBinary.FILE_EXTENSION) ? new BoardFileHandlerBinary()
+        : new LadderGameBoardFileHandlerGson();
+    return (Board) fileHandler.readFile(filePath);
+  }
+
   /**
    * Creates a blank LadderGameBoard object with the given number of rows and columns.
    *
@@ -81,7 +134,7 @@ public class LadderBoardFactory implements BoardFactory {
    * @return A classic Board object.
    */
   private Board createClassicBoard() {
-    Board board = createBoardFromFile("src/main/resources/boards/ClassicLadderGameBoard.json");
+    Board board = createBoardFromFile(CLASSIC_BOARD_PATH);
     if (board == null) {
       logger.error("Could not create classic board from file");
     }
@@ -94,7 +147,7 @@ public class LadderBoardFactory implements BoardFactory {
    * @return A Board object with portals.
    */
   private Board createPortalBoard()  {
-    Board board = createBoardFromFile("src/main/resources/boards/PortalLadderGameBoard.json");
+    Board board = createBoardFromFile(PORTAL_BOARD_PATH);
     if (board == null) {
       logger.error("Could not create portal board from file");
     }
@@ -1,11 +1,12 @@
 package edu.ntnu.idi.idatt.factory.board;
 
+import edu.ntnu.idi.idatt.filehandler.BoardFileHandlerBinary;
 import edu.ntnu.idi.idatt.filehandler.FileHandler;
 import edu.ntnu.idi.idatt.filehandler.LudoBoardFileHandlerGson;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
 import java.io.IOException;
-import javafx.scene.paint.Color;
+import java.util.Locale;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,6 +26,13 @@ import org.slf4j.LoggerFactory;
  */
 public class LudoBoardFactory implements BoardFactory {
   private static final Logger logger = LoggerFactory.getLogger(LudoBoardFactory.class);
+  private static final BoardTemplateCache templateCache = new BoardTemplateCache();
+  private static final String CLASSIC_BOARD_PATH =
+      "src/main/resources/boards/ClassicLudoBoard.json";
+  private static final String SMALL_BOARD_PATH =
+      "src/main/resources/boards/SmallLudoBoard.json";
+  private static final String LARGE_BOARD_PATH =
+      "src/main/resources/boards/XlLudoBoard.json";
 
   /**
    * Constructs a new {@code LudoBoardFactory}.
@@ -56,28 +64,74 @@ public class LudoBoardFactory implements BoardFactory {
     };
   }
 
+  /**
+   * Gets the path to the board file of a predefined variant.
+   *
+   * @param variant A string specifying the board variant.
+   * @return The path to the board file in the "resources/boards" directory.
+   * @throws IllegalArgumentException if the variant is not recognized.
+   */
+  @Override
+  public String getVariantFilePath(String variant) {
+    return switch (variant) {
+      case "Classic" -> CLASSIC_BOARD_PATH;
+      case "Small" -> SMALL_BOARD_PATH;
+      case "Large" -> LARGE_BOARD_PATH;
+      default -> throw new IllegalArgumentException("Unknown board variant: " + variant);
+    };
+  }
+
   /**
    * Creates a {@link LudoGameBoard} object from an external file. File handling is delegated to the
-   * {@link LudoBoardFileHandlerGson} class.
+   * {@link BoardFileHandlerBinary} class for binary board files, and to the
+   * {@link LudoBoardFileHandlerGson} class for JSON files. A file is only read again when it has
+   * changed, and every call returns a new copy of the board.
    *
    * @param filePath The path to the file containing the board data.
    * @return A configured {@link LudoGameBoard} object, or {@code null} if an IOException occurs
-   *         during file reading.
+   *         during file reading or the file does not hold a Ludo board.
    * @see LudoBoardFileHandlerGson
+   * @see BoardFileHandlerBinary
    */
   @Override
   public Board createBoardFromFile(String filePath) {
     logger.debug("attempting to create ludo board from file: {}", filePath);
-    FileHandler<Board> fileHandler = new LudoBoardFileHandlerGson();
     try {
+      Board board = templateCache.getBoard(filePath, LudoBoardFactory::readBoardFile);
+      if (board != null && !(board instanceof LudoGameBoard)) {
+        logger.error("file does not hold a ludo board: {}", filePath);
+        return null;
+      }
       logger.debug("Successfully loaded ludo board from file: {}", filePath);
-      return (Board) fileHandler.readFile(filePath);
+      return board;
     } catch (IOException e) {
       logger.error("failed to load ludo board from file: {}", filePath);
       return null;
     }
   }
 
+  /**
+   * Removes the cached boards, so every board file is read again on its next request.
+   */
+  static void clearTemplateCache() {
+    templateCache.clear();
+  }
+
+  /**
+   * Reads the board in a file with the {@link BoardFileHandlerBinary} class for binary board files,
+   * and with the {@link LudoBoardFileHandlerGson} class for JSON files.
+   *
+   * @param filePath The path to the board file.
+   * @return The board in the file, or {@code null} if the file is empty.
+   * @throws IOException if the file cannot be read.
+   */
+  private static Board readBoardFile(String filePath) throws IOException {
+    final FileHandler<Board> fileHandler = filePath.toLowerCase(Locale.ROOT).endsWith(
+        BoardFileHandlerBinary.FILE_EXTENSION) ? new BoardFileHandlerBinary()
+        : new LudoBoardFileHandlerGson();
+    return (Board) fileHandler.readFile(filePath);
+  }
+
   /**
    * Creates a blank {@link LudoGameBoard} object with the given size and default player colors.
    *
@@ -89,7 +143,7 @@ public class LudoBoardFactory implements BoardFactory {
   public Board createBlankBoard(int rows, int columns) {
     logger.debug("Creating blank board with size: {}x{}", rows, columns);
     return new LudoGameBoard("Blank ludo board", "Blank ludo board", "media/boards/whiteBoard.png",
-        rows, new Color[]{Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW});
+        rows, new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
   }
 
   /**
@@ -100,7 +154,7 @@ public class LudoBoardFactory implements BoardFactory {
    *     fails.
    */
   private Board createClassicBoard() {
-    Board board = createBoardFromFile("src/main/resources/boards/ClassicLudoBoard.json");
+    Board board = createBoardFromFile(CLASSIC_BOARD_PATH);
     if (board == null) {
       logger.error("failed to create classic board from file");
     }
@@ -114,7 +168,7 @@ public class LudoBoardFactory implements BoardFactory {
    * @return A configured Small {@link LudoGameBoard} object, or {@code null} if file reading fails.
    */
   private Board createSmallBoard() {
-    Board board = createBoardFromFile("src/main/resources/boards/SmallLudoBoard.json");
+    Board board = createBoardFromFile(SMALL_BOARD_PATH);
     if (board == null) {
       logger.error("failed to create small board from file");
     }
@@ -128,7 +182,7 @@ public class LudoBoardFactory implements BoardFactory {
    * @return A configured Large {@link LudoGameBoard} object, or {@code null} if file reading fails.
    */
   private Board createLargeBoard() {
-    Board board = createBoardFromFile("src/main/resources/boards/XlLudoBoard.json");
+    Board board = createBoardFromFile(LARGE_BOARD_PATH);
     if (board == null) {
       logger.error("failed to create large board from file");
     }
@@ -0,0 +1,29 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+import java.nio.file.Path;
+
+/**
+ * ApplicationData.
+ *
+ * <p>Locates the directory the application keeps its own files in, such as saved games and
+ * indexes of board files. The directory is {@value #DIRECTORY_NAME} in the home directory of the
+ * user, so the files are kept outside the source tree and the installed application, and it is
+ * created by the classes that write to it.</p>
+ */
+public final class ApplicationData {
+
+  /** The name of the application data directory in the home directory of the user. */
+  public static final String DIRECTORY_NAME = ".boardgame";
+
+  private ApplicationData() {
+  }
+
+  /**
+   * Returns the application data directory.
+   *
+   * @return The path to the directory.
+   */
+  public static Path getDirectory() {
+    return Path.of(System.getProperty("user.home"), DIRECTORY_NAME);
+  }
+}
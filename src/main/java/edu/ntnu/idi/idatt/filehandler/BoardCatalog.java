@@ -0,0 +1,546 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_BOARD_TYPE;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_MAGIC;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_PROPERTIES_LENGTH;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_SIZE;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_VERSION;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.LADDER_BOARD;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.LUDO_BOARD;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.MAGIC;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.VERSION;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import edu.ntnu.idi.idatt.filehandler.BoardCatalogEntry.BoardType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * BoardCatalog.
+ *
+ * <p>Lists the board files in a directory as {@link BoardCatalogEntry} summaries, so a menu can
+ * show the boards without reading their tiles. The entries of each catalogued directory are kept
+ * in an index file in an index directory, by default {@value #INDEX_DIRECTORY_NAME} in the
+ * {@link ApplicationData} directory, so no index is written into the source tree or packaged
+ * with the board files. An entry in the index is used as long as the size and last modified time
+ * of its board file are unchanged, so reading the catalog of an unchanged directory only reads
+ * the index.</p>
+ *
+ * <p>A board file that is new or has changed is summarized from the head of the file: the
+ * properties before the tiles of a JSON file, or the header and board properties of a binary
+ * board file, and the index is then written again. Files that cannot be read as boards are left
+ * out of the catalog, and are recorded in the index by their size and last modified time, so they
+ * are not read again until they change.</p>
+ *
+ * <p>Reading a catalog or an entry never reads a whole board file. The content hash of an entry
+ * is only computed from the whole file when it is asked for with
+ * {@link #withContentHash(BoardCatalogEntry)}, such as when a board is checked for duplicate
+ * contents.</p>
+ *
+ * @see BoardCatalogEntry
+ * @see LadderGameBoardFileHandlerGson
+ * @see LudoBoardFileHandlerGson
+ * @see BoardFileHandlerBinary
+ */
+public class BoardCatalog {
+
+  /** The name of the index directory in the application data directory. */
+  public static final String INDEX_DIRECTORY_NAME = "board-catalogs";
+
+  static final String INDEX_FILE_EXTENSION = ".catalog";
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardCatalog.class);
+
+  private static final int INDEX_VERSION = 2;
+  private static final String JSON_FILE_EXTENSION = ".json";
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final String JSON_INDENT = "  ";
+
+  private static final String VERSION_PROPERTY = "version";
+  private static final String DIRECTORY_PROPERTY = "directory";
+  private static final String BOARDS_PROPERTY = "boards";
+  private static final String REJECTED_FILES_PROPERTY = "rejectedFiles";
+  private static final String FILE_PROPERTY = "file";
+  private static final String TYPE_PROPERTY = "type";
+  private static final String NAME_PROPERTY = "name";
+  private static final String DESCRIPTION_PROPERTY = "description";
+  private static final String BACKGROUND_PROPERTY = "background";
+  private static final String ROWS_PROPERTY = "rows";
+  private static final String COLUMNS_PROPERTY = "columns";
+  private static final String BOARD_SIZE_PROPERTY = "boardSize";
+  private static final String FILE_SIZE_PROPERTY = "fileSize";
+  private static final String LAST_MODIFIED_PROPERTY = "lastModified";
+  private static final String CONTENT_HASH_PROPERTY = "contentHash";
+
+  private final Path indexDirectory;
+
+  /**
+   * The contents of an index file: the entries of the board files and the files that could not be
+   * read as boards, by file name.
+   */
+  private record Index(Map<String, BoardCatalogEntry> entries,
+      Map<String, RejectedFile> rejectedFiles) {
+
+    private Index() {
+      this(new HashMap<>(), new HashMap<>());
+    }
+  }
+
+  /**
+   * A file that could not be read as a board, with the size and last modified time it had then.
+   */
+  private record RejectedFile(long fileSize, long lastModified) {
+
+    private boolean isUnchanged(BasicFileAttributes attributes) {
+      return fileSize == attributes.size()
+          && lastModified == attributes.lastModifiedTime().toMillis();
+    }
+  }
+
+  /**
+   * Constructs a BoardCatalog keeping its index files in the application data directory.
+   *
+   * @see ApplicationData#getDirectory()
+   */
+  public BoardCatalog() {
+    this(ApplicationData.getDirectory().resolve(INDEX_DIRECTORY_NAME));
+  }
+
+  /**
+   * Constructs a BoardCatalog keeping its index files in the given directory.
+   *
+   * @param indexDirectory The directory of the index files, created when an index is first
+   *                       written.
+   */
+  public BoardCatalog(Path indexDirectory) {
+    this.indexDirectory = indexDirectory;
+  }
+
+  /**
+   * Reads the catalog of the board files in a directory, ordered by file name. The index file of
+   * the directory is written again if any board file, or file that is not a board, has been added,
+   * changed or removed since it was written.
+   *
+   * @param directory The directory with the board files.
+   * @return The entries of the board files.
+   * @throws IOException if the directory cannot be listed.
+   */
+  public List<BoardCatalogEntry> readCatalog(Path directory) throws IOException {
+    logger.debug("Reading board catalog of {}", directory);
+    final Path indexFile = getIndexFile(directory);
+    final Index index = readIndex(directory, indexFile);
+    final List<Path> boardFiles;
+    try (Stream<Path> files = Files.list(directory)) {
+      boardFiles = files.filter(BoardCatalog::isBoardFile).sorted().toList();
+    }
+
+    final List<BoardCatalogEntry> entries = new ArrayList<>(boardFiles.size());
+    final Map<String, RejectedFile> rejectedFiles = new TreeMap<>();
+    boolean changed = false;
+    for (Path file : boardFiles) {
+      final String fileName = file.getFileName().toString();
+      final BasicFileAttributes attributes = Files.readAttributes(file,
+          BasicFileAttributes.class);
+      final RejectedFile rejectedFile = index.rejectedFiles().get(fileName);
+      if (rejectedFile != null && rejectedFile.isUnchanged(attributes)) {
+        rejectedFiles.put(fileName, rejectedFile);
+        continue;
+      }
+      BoardCatalogEntry entry = index.entries().get(fileName);
+      if (entry == null || entry.fileSize() != attributes.size()
+          || entry.lastModified() != attributes.lastModifiedTime().toMillis()) {
+        changed = true;
+        try {
+          entry = readEntry(file, attributes);
+        } catch (IOException e) {
+          logger.warn("Leaving board file {} out of the catalog: {}", file, e.getMessage());
+          rejectedFiles.put(fileName, new RejectedFile(attributes.size(),
+              attributes.lastModifiedTime().toMillis()));
+          continue;
+        }
+      }
+      entries.add(entry);
+    }
+
+    if (changed || entries.size() != index.entries().size()
+        || rejectedFiles.size() != index.rejectedFiles().size()) {
+      writeIndex(directory, indexFile, entries, rejectedFiles);
+    }
+    logger.debug("Read {} boards into the board catalog of {}", entries.size(), directory);
+    return entries;
+  }
+
+  /**
+   * Reads the catalog entry of a single board file, from the head of the file, without using an
+   * index.
+   *
+   * @param file The board file.
+   * @return The entry of the board file.
+   * @throws IOException if the file cannot be read or does not hold a board.
+   */
+  public BoardCatalogEntry readEntry(Path file) throws IOException {
+    return readEntry(file, Files.readAttributes(file, BasicFileAttributes.class));
+  }
+
+  /**
+   * Returns a catalog entry with its content hash, hashing the whole board file if the entry does
+   * not have a content hash yet.
+   *
+   * @param entry The catalog entry.
+   * @return The entry with its content hash.
+   * @throws IOException if the board file cannot be read.
+   */
+  public BoardCatalogEntry withContentHash(BoardCatalogEntry entry) throws IOException {
+    if (entry.contentHash() != null) {
+      return entry;
+    }
+    logger.debug("Hashing board file {}", entry.path());
+    return entry.withContentHash(hashFile(Path.of(entry.path())));
+  }
+
+  private BoardCatalogEntry readEntry(Path file, BasicFileAttributes attributes)
+      throws IOException {
+    return isBinaryFile(file) ? readBinaryHead(file, attributes) : readJsonHead(file, attributes);
+  }
+
+  private static boolean isBoardFile(Path file) {
+    final String fileName = file.getFileName().toString().toLowerCase(Locale.ROOT);
+    return (fileName.endsWith(JSON_FILE_EXTENSION)
+        || fileName.endsWith(BoardFileHandlerBinary.FILE_EXTENSION)) && Files.isRegularFile(file);
+  }
+
+  private static boolean isBinaryFile(Path file) {
+    return file.getFileName().toString().toLowerCase(Locale.ROOT)
+        .endsWith(BoardFileHandlerBinary.FILE_EXTENSION);
+  }
+
+  /**
+   * Reads the board properties of a JSON board file, and stops reading when all of them have been
+   * read, before the tiles of the file.
+   */
+  private static BoardCatalogEntry readJsonHead(Path file, BasicFileAttributes attributes)
+      throws IOException {
+    BoardType type = null;
+    String name = null;
+    String description = null;
+    String background = null;
+    int rows = -1;
+    int columns = -1;
+    try (JsonReader reader = new JsonReader(Files.newBufferedReader(file,
+        StandardCharsets.UTF_8))) {
+      reader.beginObject();
+      while (reader.hasNext() && (type == null || name == null || description == null
+          || background == null || rows < 0 || columns < 0)) {
+        switch (reader.nextName()) {
+          case NAME_PROPERTY -> name = reader.nextString();
+          case DESCRIPTION_PROPERTY -> description = reader.nextString();
+          case BACKGROUND_PROPERTY -> background = reader.nextString();
+          case ROWS_PROPERTY -> {
+            type = BoardType.LADDER;
+            rows = reader.nextInt();
+          }
+          case COLUMNS_PROPERTY -> columns = reader.nextInt();
+          case BOARD_SIZE_PROPERTY -> {
+            type = BoardType.LUDO;
+            rows = reader.nextInt();
+            columns = rows;
+          }
+          default -> reader.skipValue();
+        }
+      }
+    } catch (IllegalStateException | NumberFormatException e) {
+      throw new IOException("Could not read board from file: " + file, e);
+    }
+    if (type == null || name == null || description == null || background == null || rows < 0
+        || columns < 0) {
+      throw new IOException("Missing board properties in file: " + file);
+    }
+    return new BoardCatalogEntry(file.toString(), type, name, description, background, rows,
+        columns, attributes.size(), attributes.lastModifiedTime().toMillis(), null);
+  }
+
+  /**
+   * Reads the header and the board properties of a binary board file, without reading its tile
+   * columns.
+   */
+  private static BoardCatalogEntry readBinaryHead(Path file, BasicFileAttributes attributes)
+      throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final ByteBuffer header = readBytes(channel, HEADER_SIZE, file);
+      if (header.getInt(HEADER_MAGIC) != MAGIC) {
+        throw new IOException("File is not a board file: " + file);
+      }
+      if (header.getInt(HEADER_VERSION) != VERSION) {
+        throw new IOException("Unsupported board file version " + header.getInt(HEADER_VERSION)
+            + ": " + file);
+      }
+      final int propertiesLength = header.getInt(HEADER_PROPERTIES_LENGTH);
+      if (propertiesLength < 0 || propertiesLength > channel.size() - HEADER_SIZE) {
+        throw new IOException("Board file is truncated: " + file);
+      }
+      final ByteBuffer properties = readBytes(channel, propertiesLength, file);
+      final String name = BoardFileHandlerBinary.readString(properties);
+      final String description = BoardFileHandlerBinary.readString(properties);
+      final String background = BoardFileHandlerBinary.readString(properties);
+      final int boardType = header.getInt(HEADER_BOARD_TYPE);
+      final int rows;
+      final int columns;
+      if (boardType == LADDER_BOARD) {
+        BoardFileHandlerBinary.readString(properties);
+        rows = properties.getInt();
+        columns = properties.getInt();
+      } else if (boardType == LUDO_BOARD) {
+        rows = properties.getInt();
+        columns = rows;
+      } else {
+        throw new IOException("Unknown board type in board file: " + file);
+      }
+      return new BoardCatalogEntry(file.toString(),
+          boardType == LADDER_BOARD ? BoardType.LADDER : BoardType.LUDO, name, description,
+          background, rows, columns, attributes.size(), attributes.lastModifiedTime().toMillis(),
+          null);
+    } catch (BufferUnderflowException e) {
+      throw new IOException("Board file is truncated: " + file, e);
+    }
+  }
+
+  private static ByteBuffer readBytes(FileChannel channel, int length, Path file)
+      throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer) < 0) {
+        throw new IOException("Board file is truncated: " + file);
+      }
+    }
+    return buffer.flip();
+  }
+
+  /**
+   * Returns the index file of a catalogued directory, named by the hash of the absolute path of
+   * the directory.
+   *
+   * @param directory The catalogued directory.
+   * @return The path to the index file in the index directory.
+   */
+  Path getIndexFile(Path directory) {
+    final byte[] directoryHash = createDigest().digest(getDirectoryName(directory)
+        .getBytes(StandardCharsets.UTF_8));
+    return indexDirectory.resolve(HexFormat.of().formatHex(directoryHash)
+        + INDEX_FILE_EXTENSION);
+  }
+
+  private static String getDirectoryName(Path directory) {
+    return directory.toAbsolutePath().normalize().toString();
+  }
+
+  private static MessageDigest createDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(HASH_ALGORITHM + " is not available", e);
+    }
+  }
+
+  private static String hashFile(Path file) throws IOException {
+    final MessageDigest digest = createDigest();
+    try (InputStream in = Files.newInputStream(file)) {
+      final byte[] buffer = new byte[8192];
+      int length;
+      while ((length = in.read(buffer)) > 0) {
+        digest.update(buffer, 0, length);
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * Reads the index file of a directory. A missing, unreadable or outdated index, or an index of
+   * another directory, gives an empty index, so all files are read again.
+   *
+   * @return The index.
+   */
+  private static Index readIndex(Path directory, Path indexFile) {
+    final Index index = new Index();
+    if (!Files.isRegularFile(indexFile)) {
+      return index;
+    }
+    try (JsonReader reader = new JsonReader(Files.newBufferedReader(indexFile,
+        StandardCharsets.UTF_8))) {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case VERSION_PROPERTY -> {
+            if (reader.nextInt() != INDEX_VERSION) {
+              logger.info("Board catalog index {} has another version", indexFile);
+              return new Index();
+            }
+          }
+          case DIRECTORY_PROPERTY -> {
+            if (!reader.nextString().equals(getDirectoryName(directory))) {
+              logger.info("Board catalog index {} is of another directory", indexFile);
+              return new Index();
+            }
+          }
+          case BOARDS_PROPERTY -> {
+            reader.beginArray();
+            while (reader.hasNext()) {
+              final BoardCatalogEntry entry = readIndexEntry(reader, directory);
+              index.entries().put(Path.of(entry.path()).getFileName().toString(), entry);
+            }
+            reader.endArray();
+          }
+          case REJECTED_FILES_PROPERTY -> {
+            reader.beginArray();
+            while (reader.hasNext()) {
+              readRejectedFile(reader, index.rejectedFiles());
+            }
+            reader.endArray();
+          }
+          default -> reader.skipValue();
+        }
+      }
+      return index;
+    } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+      logger.warn("Could not read board catalog index {}: {}", indexFile, e.getMessage());
+      return new Index();
+    }
+  }
+
+  private static void readRejectedFile(JsonReader reader, Map<String, RejectedFile> rejectedFiles)
+      throws IOException {
+    String file = null;
+    long fileSize = -1;
+    long lastModified = -1;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case FILE_PROPERTY -> file = reader.nextString();
+        case FILE_SIZE_PROPERTY -> fileSize = reader.nextLong();
+        case LAST_MODIFIED_PROPERTY -> lastModified = reader.nextLong();
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (file == null || fileSize < 0) {
+      throw new IOException("Missing property in board catalog index rejected file");
+    }
+    rejectedFiles.put(file, new RejectedFile(fileSize, lastModified));
+  }
+
+  private static BoardCatalogEntry readIndexEntry(JsonReader reader, Path directory)
+      throws IOException {
+    String file = null;
+    BoardType type = null;
+    String name = null;
+    String description = null;
+    String background = null;
+    int rows = -1;
+    int columns = -1;
+    long fileSize = -1;
+    long lastModified = -1;
+    String contentHash = null;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case FILE_PROPERTY -> file = reader.nextString();
+        case TYPE_PROPERTY -> type = BoardType.valueOf(reader.nextString());
+        case NAME_PROPERTY -> name = reader.nextString();
+        case DESCRIPTION_PROPERTY -> description = reader.nextString();
+        case BACKGROUND_PROPERTY -> background = reader.nextString();
+        case ROWS_PROPERTY -> rows = reader.nextInt();
+        case COLUMNS_PROPERTY -> columns = reader.nextInt();
+        case FILE_SIZE_PROPERTY -> fileSize = reader.nextLong();
+        case LAST_MODIFIED_PROPERTY -> lastModified = reader.nextLong();
+        case CONTENT_HASH_PROPERTY -> contentHash = reader.nextString();
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+    if (file == null || type == null || name == null || description == null
+        || background == null || rows < 0 || columns < 0 || fileSize < 0) {
+      throw new IOException("Missing property in board catalog index entry");
+    }
+    return new BoardCatalogEntry(directory.resolve(file).toString(), type, name, description,
+        background, rows, columns, fileSize, lastModified, contentHash);
+  }
+
+  /**
+   * Writes the index file of a directory, by writing a temporary file and moving it over the
+   * index file, so the index file is never left half written. If the index directory cannot be
+   * written to, the old index is kept, and changed board files are read again next time.
+   */
+  private static void writeIndex(Path directory, Path indexFile,
+      List<BoardCatalogEntry> entries, Map<String, RejectedFile> rejectedFiles) {
+    final Path temporaryFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+    try {
+      Files.createDirectories(indexFile.getParent());
+      try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(temporaryFile,
+          StandardCharsets.UTF_8))) {
+        writer.setIndent(JSON_INDENT);
+        writer.beginObject();
+        writer.name(VERSION_PROPERTY).value(INDEX_VERSION);
+        writer.name(DIRECTORY_PROPERTY).value(getDirectoryName(directory));
+        writer.name(BOARDS_PROPERTY).beginArray();
+        for (BoardCatalogEntry entry : entries) {
+          writer.beginObject();
+          writer.name(FILE_PROPERTY).value(Path.of(entry.path()).getFileName().toString());
+          writer.name(TYPE_PROPERTY).value(entry.type().name());
+          writer.name(NAME_PROPERTY).value(entry.name());
+          writer.name(DESCRIPTION_PROPERTY).value(entry.description());
+          writer.name(BACKGROUND_PROPERTY).value(entry.background());
+          writer.name(ROWS_PROPERTY).value(entry.rows());
+          writer.name(COLUMNS_PROPERTY).value(entry.columns());
+          writer.name(FILE_SIZE_PROPERTY).value(entry.fileSize());
+          writer.name(LAST_MODIFIED_PROPERTY).value(entry.lastModified());
+          if (entry.contentHash() != null) {
+            writer.name(CONTENT_HASH_PROPERTY).value(entry.contentHash());
+          }
+          writer.endObject();
+        }
+        writer.endArray();
+        writer.name(REJECTED_FILES_PROPERTY).beginArray();
+        for (Map.Entry<String, RejectedFile> rejectedFile : rejectedFiles.entrySet()) {
+          writer.beginObject();
+          writer.name(FILE_PROPERTY).value(rejectedFile.getKey());
+          writer.name(FILE_SIZE_PROPERTY).value(rejectedFile.getValue().fileSize());
+          writer.name(LAST_MODIFIED_PROPERTY).value(rejectedFile.getValue().lastModified());
+          writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+      }
+      Files.move(temporaryFile, indexFile, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      logger.debug("Wrote board catalog index {}", indexFile);
+    } catch (IOException e) {
+      logger.warn("Could not write board catalog index {}: {}", indexFile, e.getMessage());
+      try {
+        Files.deleteIfExists(temporaryFile);
+      } catch (IOException deleteException) {
+        logger.warn("Could not delete {}", temporaryFile);
+      }
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+/**
+ * BoardCatalogEntry.
+ *
+ * <p>A summary of a board file in a {@link BoardCatalog}: the properties a menu shows for a board,
+ * without its tiles. The size of the board is its number of rows and columns, which are both the
+ * board size for a Ludo board. The file size and last modified time tell whether the entry is
+ * still up to date, and the content hash identifies the contents of the file. The content hash is
+ * only computed when it is needed, and is null until then.</p>
+ *
+ * @param path         The path to the board file.
+ * @param type         The type of the board.
+ * @param name         The name of the board.
+ * @param description  The description of the board.
+ * @param background   The background of the board.
+ * @param rows         The number of rows of the board.
+ * @param columns      The number of columns of the board.
+ * @param fileSize     The size of the board file in bytes.
+ * @param lastModified The last modified time of the board file, in milliseconds since the epoch.
+ * @param contentHash  The SHA-256 hash of the board file, as a hexadecimal string, or null if it
+ *                     has not been computed.
+ * @see BoardCatalog
+ */
+public record BoardCatalogEntry(String path, BoardType type, String name, String description,
+    String background, int rows, int columns, long fileSize, long lastModified,
+    String contentHash) {
+
+  /**
+   * Returns a copy of this entry with the given content hash.
+   *
+   * @param contentHash The SHA-256 hash of the board file, as a hexadecimal string.
+   * @return The entry with the content hash.
+   */
+  public BoardCatalogEntry withContentHash(String contentHash) {
+    return new BoardCatalogEntry(path, type, name, description, background, rows, columns,
+        fileSize, lastModified, contentHash);
+  }
+
+  /**
+   * The types of boards in a board catalog.
+   */
+  public enum BoardType {
+    LADDER,
+    LUDO
+  }
+}
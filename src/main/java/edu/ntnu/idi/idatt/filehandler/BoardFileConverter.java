@@ -0,0 +1,99 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+import com.google.gson.stream.JsonReader;
+import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * BoardFileConverter.
+ *
+ * <p>Converts board files between the JSON formats of {@link LadderGameBoardFileHandlerGson} and
+ * {@link LudoBoardFileHandlerGson} and the binary format of {@link BoardFileHandlerBinary}. The
+ * format of a file is given by its file name extension, and the type of the board in a JSON file
+ * is recognized by its properties.</p>
+ *
+ * @see BoardFileHandlerBinary
+ */
+public class BoardFileConverter {
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardFileConverter.class);
+
+  private static final String JSON_FILE_EXTENSION = ".json";
+  private static final String LADDER_BOARD_PROPERTY = "rows";
+  private static final String LUDO_BOARD_PROPERTY = "boardSize";
+
+  /**
+   * Reads the board in the source file and writes it to the target file, in the formats given by
+   * the file name extensions.
+   *
+   * @param sourcePath The path to the board file to read.
+   * @param targetPath The path to the board file to write, which must not exist.
+   * @return The converted board.
+   * @throws IOException              if the source file cannot be read or the target file cannot
+   *                                  be written.
+   * @throws IllegalArgumentException if a file name extension is not a board file extension.
+   */
+  public Board convert(String sourcePath, String targetPath) throws IOException {
+    logger.debug("Converting board file {} to {}", sourcePath, targetPath);
+    final boolean binarySource = isBinaryFile(sourcePath);
+    final boolean binaryTarget = isBinaryFile(targetPath);
+    final FileHandler<Board> sourceHandler = binarySource ? new BoardFileHandlerBinary()
+        : getJsonFileHandler(isJsonLadderBoard(sourcePath));
+    final Board board = (Board) sourceHandler.readFile(sourcePath);
+    if (board == null) {
+      throw new IOException("Board file is empty: " + sourcePath);
+    }
+    final FileHandler<Board> targetHandler = binaryTarget ? new BoardFileHandlerBinary()
+        : getJsonFileHandler(board instanceof LadderGameBoard);
+    targetHandler.writeFile(targetPath, List.of(board));
+    return board;
+  }
+
+  private static boolean isBinaryFile(String path) {
+    final String lowerCasePath = path.toLowerCase(Locale.ROOT);
+    if (lowerCasePath.endsWith(BoardFileHandlerBinary.FILE_EXTENSION)) {
+      return true;
+    }
+    if (lowerCasePath.endsWith(JSON_FILE_EXTENSION)) {
+      return false;
+    }
+    throw new IllegalArgumentException("Not a board file extension: " + path);
+  }
+
+  private static FileHandler<Board> getJsonFileHandler(boolean ladderBoard) {
+    return ladderBoard ? new LadderGameBoardFileHandlerGson() : new LudoBoardFileHandlerGson();
+  }
+
+  /**
+   * Checks if a JSON board file holds a ladder board, by reading the top level property names up
+   * to the first property that only one of the board types has.
+   */
+  private static boolean isJsonLadderBoard(String path) throws IOException {
+    try (JsonReader reader = new JsonReader(Files.newBufferedReader(Path.of(path),
+        StandardCharsets.UTF_8))) {
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case LADDER_BOARD_PROPERTY -> {
+            return true;
+          }
+          case LUDO_BOARD_PROPERTY -> {
+            return false;
+          }
+          default -> reader.skipValue();
+        }
+      }
+    } catch (IOException | IllegalStateException e) {
+      throw new IOException("Could not read board from file: " + path, e);
+    }
+    throw new IOException("Unknown board type in file: " + path);
+  }
+}
@@ -0,0 +1,55 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+/**
+ * BoardFileFormat.
+ *
+ * <p>Constants describing the binary layout of a board file. The file starts with a
+ * {@value #HEADER_SIZE} byte header, followed by the board properties, the tile columns and the
+ * tile action texts. All values are written in the big-endian byte order of
+ * {@link java.nio.ByteBuffer}, and texts are written as their length in bytes followed by their
+ * UTF-8 bytes.</p>
+ *
+ * <p>The header holds the magic number, the format version, the board type, the number of tiles,
+ * the number of tiles with a tile action and the length of the board properties. The tile columns
+ * follow the board properties, with one {@code int} per tile in every column: the tile ids, the
+ * next tile ids, the rows, the columns and a kind column. On a ladder board the kind is the type
+ * of the tile action, and a {@value #LADDER_TILE_COLUMNS}th column holds the destination tile
+ * ids. On a Ludo board the kind is the index of the tile type in a table of the distinct tile
+ * types, which is the last of the board properties.</p>
+ *
+ * @see BoardFileHandlerBinary
+ */
+final class BoardFileFormat {
+  static final int MAGIC = 0x42474231;
+  static final int VERSION = 1;
+
+  static final int HEADER_SIZE = 32;
+  static final int HEADER_MAGIC = 0;
+  static final int HEADER_VERSION = 4;
+  static final int HEADER_BOARD_TYPE = 8;
+  static final int HEADER_TILE_COUNT = 12;
+  static final int HEADER_ACTION_COUNT = 16;
+  static final int HEADER_PROPERTIES_LENGTH = 20;
+
+  static final int LADDER_BOARD = 1;
+  static final int LUDO_BOARD = 2;
+
+  static final int LADDER_TILE_COLUMNS = 6;
+  static final int LUDO_TILE_COLUMNS = 5;
+
+  static final int COLUMN_TILE_ID = 0;
+  static final int COLUMN_NEXT_TILE_ID = 1;
+  static final int COLUMN_ROW = 2;
+  static final int COLUMN_COLUMN = 3;
+  static final int COLUMN_KIND = 4;
+  static final int COLUMN_DESTINATION_TILE_ID = 5;
+
+  static final int NO_ACTION = 0;
+  static final int LADDER_ACTION = 1;
+  static final int SLIDE_ACTION = 2;
+  static final int PORTAL_ACTION = 3;
+  static final int WORMHOLE_ACTION = 4;
+
+  private BoardFileFormat() {
+  }
+}
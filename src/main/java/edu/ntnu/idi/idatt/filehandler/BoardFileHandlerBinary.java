@@ -0,0 +1,438 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.COLUMN_COLUMN;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.COLUMN_DESTINATION_TILE_ID;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.COLUMN_KIND;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.COLUMN_NEXT_TILE_ID;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.COLUMN_ROW;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.COLUMN_TILE_ID;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_ACTION_COUNT;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_BOARD_TYPE;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_MAGIC;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_PROPERTIES_LENGTH;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_SIZE;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_TILE_COUNT;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.HEADER_VERSION;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.LADDER_ACTION;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.LADDER_BOARD;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.LADDER_TILE_COLUMNS;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.LUDO_BOARD;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.LUDO_TILE_COLUMNS;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.MAGIC;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.NO_ACTION;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.PORTAL_ACTION;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.SLIDE_ACTION;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.VERSION;
+import static edu.ntnu.idi.idatt.filehandler.BoardFileFormat.WORMHOLE_ACTION;
+
+import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.tile.LadderAction;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import edu.ntnu.idi.idatt.model.tile.LudoTile;
+import edu.ntnu.idi.idatt.model.tile.PortalAction;
+import edu.ntnu.idi.idatt.model.tile.SlideAction;
+import edu.ntnu.idi.idatt.model.tile.Tile;
+import edu.ntnu.idi.idatt.model.tile.TileAction;
+import edu.ntnu.idi.idatt.model.tile.WormholeAction;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * BoardFileHandlerBinary.
+ *
+ * <p>This class implements the {@link FileHandler} interface for {@link Board} objects, and reads
+ * and writes both {@link LadderGameBoard} and {@link LudoGameBoard} instances in the binary board
+ * format described by {@link BoardFileFormat}. The type of the board is stored in the file.</p>
+ *
+ * <p>The tiles are stored as fixed-width columns of integers, and a file is read through a
+ * {@link MappedByteBuffer}, so reading a tile only reads integers at computed positions. Texts are
+ * only decoded for the board properties and the tile actions. Tiles that are identical to the
+ * tiles the board creates itself are not added again, so a large board without many tile actions
+ * is read in a few milliseconds.</p>
+ *
+ * @see BoardFileFormat
+ * @see BoardFileConverter
+ * @see LadderGameBoardFileHandlerGson
+ * @see LudoBoardFileHandlerGson
+ */
+public class BoardFileHandlerBinary implements FileHandler<Board> {
+
+  /** The file name extension of binary board files. */
+  public static final String FILE_EXTENSION = ".board";
+
+  private static final Logger logger = LoggerFactory.getLogger(BoardFileHandlerBinary.class);
+
+  /**
+   * Reads a board from the binary board file at the given path.
+   *
+   * @param path The path to the file.
+   * @return The {@link LadderGameBoard} or {@link LudoGameBoard} read from the file.
+   * @throws IOException if the file cannot be read, is not a binary board file of a supported
+   *                     version, is truncated, or contains a board the model rejects, such as a
+   *                     ladder board with too many tiles.
+   */
+  @Override
+  public Board readFile(String path) throws IOException {
+    logger.debug("Reading binary board file {}", path);
+    try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_SIZE) {
+        throw new IOException("File is too short to be a board file: " + path);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt(HEADER_MAGIC) != MAGIC) {
+        throw new IOException("File is not a board file: " + path);
+      }
+      if (buffer.getInt(HEADER_VERSION) != VERSION) {
+        throw new IOException("Unsupported board file version " + buffer.getInt(HEADER_VERSION)
+            + ": " + path);
+      }
+      Board board = switch (buffer.getInt(HEADER_BOARD_TYPE)) {
+        case LADDER_BOARD -> readLadderBoard(buffer);
+        case LUDO_BOARD -> readLudoBoard(buffer);
+        default -> throw new IOException("Unknown board type in board file: " + path);
+      };
+      logger.debug("Successfully read binary board file {}", path);
+      return board;
+    } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+      logger.error("Board file {} is truncated", path);
+      throw new IOException("Board file is truncated: " + path, e);
+    } catch (IllegalArgumentException e) {
+      logger.error("Board file {} contains an invalid board", path);
+      throw new IOException("Board file contains an invalid board: " + path, e);
+    }
+  }
+
+  /**
+   * Writes the first board of the list to a binary board file at the given path.
+   *
+   * @param path   The path to the file.
+   * @param boards The list of boards, where the first is a {@link LadderGameBoard} or a
+   *               {@link LudoGameBoard}.
+   * @throws IOException              if a file with the same name already exists, a tile action
+   *                                  has no binary representation, or the file cannot be written.
+   * @throws IllegalArgumentException if the list of boards is null or empty, or the board is of
+   *                                  an unsupported type.
+   */
+  @Override
+  public void writeFile(String path, List<Board> boards) throws IOException {
+    if (boards == null || boards.isEmpty()) {
+      logger.error("Attempted to write empty board list");
+      throw new IllegalArgumentException("Board list is null or empty.");
+    }
+    final Board board = boards.getFirst();
+    if (!(board instanceof LadderGameBoard) && !(board instanceof LudoGameBoard)) {
+      throw new IllegalArgumentException("Unsupported board type: " + board);
+    }
+    File file = new File(path);
+    if (!file.createNewFile()) {
+      logger.error("File with the same name already exists: {}", path);
+      throw new IOException("A file with the same name already exists");
+    }
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+        Files.newOutputStream(file.toPath())))) {
+      if (board instanceof LadderGameBoard ladderGameBoard) {
+        writeLadderBoard(ladderGameBoard, out);
+      } else {
+        writeLudoBoard((LudoGameBoard) board, out);
+      }
+    } catch (IOException e) {
+      Files.deleteIfExists(file.toPath());
+      throw e;
+    }
+    logger.debug("Binary board saved successfully to {}", path);
+  }
+
+  private void writeLadderBoard(LadderGameBoard board, DataOutputStream out) throws IOException {
+    final int tileCount = board.getTileView().size();
+    final int[][] columns = new int[LADDER_TILE_COLUMNS][tileCount];
+    final List<TileAction> actions = new ArrayList<>();
+    int index = 0;
+    for (Tile tile : board.getTileView()) {
+      final TileAction action = ((LadderGameTile) tile).getLandAction();
+      putTile(columns, index, tile);
+      columns[COLUMN_KIND][index] = getActionKind(action);
+      if (action != null) {
+        columns[COLUMN_DESTINATION_TILE_ID][index] = action.getDestinationTileId();
+        actions.add(action);
+      }
+      index++;
+    }
+
+    final ByteArrayOutputStream properties = new ByteArrayOutputStream();
+    final DataOutputStream propertiesOut = new DataOutputStream(properties);
+    writeBoardProperties(board, propertiesOut);
+    writeString(propertiesOut, board.getPattern());
+    propertiesOut.writeInt(board.getRowsAndColumns()[0]);
+    propertiesOut.writeInt(board.getRowsAndColumns()[1]);
+
+    writeHeader(out, LADDER_BOARD, tileCount, actions.size(), properties);
+    writeColumns(out, columns);
+    for (TileAction action : actions) {
+      writeString(out, action.getIdentifier());
+      writeString(out, action.getDescription());
+    }
+  }
+
+  private void writeLudoBoard(LudoGameBoard board, DataOutputStream out) throws IOException {
+    final int tileCount = board.getTileView().size();
+    final int[][] columns = new int[LUDO_TILE_COLUMNS][tileCount];
+    final Map<String, Integer> typeIndexes = new LinkedHashMap<>();
+    int index = 0;
+    for (Tile tile : board.getTileView()) {
+      putTile(columns, index, tile);
+      columns[COLUMN_KIND][index] = typeIndexes.computeIfAbsent(((LudoTile) tile).getType(),
+          type -> typeIndexes.size());
+      index++;
+    }
+
+    final ByteArrayOutputStream properties = new ByteArrayOutputStream();
+    final DataOutputStream propertiesOut = new DataOutputStream(properties);
+    writeBoardProperties(board, propertiesOut);
+    propertiesOut.writeInt(board.getBoardSize());
+    final String[] colors = board.getColors() != null ? board.getColors() : new String[0];
+    propertiesOut.writeInt(colors.length);
+    for (String color : colors) {
+      writeString(propertiesOut, color != null ? color : "");
+    }
+    writeIntArray(propertiesOut, board.getPlayerStartIndexes());
+    writeIntArray(propertiesOut, board.getPlayerTrackStartIndexes());
+    writeIntArray(propertiesOut, board.getPlayerFinishStartIndexes());
+    writeIntArray(propertiesOut, board.getPlayerFinishIndexes());
+    propertiesOut.writeInt(board.getStartAreaSize());
+    propertiesOut.writeInt(board.getTotalTrackTileCount());
+    propertiesOut.writeInt(typeIndexes.size());
+    for (String type : typeIndexes.keySet()) {
+      writeString(propertiesOut, type);
+    }
+
+    writeHeader(out, LUDO_BOARD, tileCount, 0, properties);
+    writeColumns(out, columns);
+  }
+
+  private static void putTile(int[][] columns, int index, Tile tile) {
+    columns[COLUMN_TILE_ID][index] = tile.getTileId();
+    columns[COLUMN_NEXT_TILE_ID][index] = tile.getNextTileId();
+    columns[COLUMN_ROW][index] = tile.getCoordinates()[0];
+    columns[COLUMN_COLUMN][index] = tile.getCoordinates()[1];
+  }
+
+  private static int getActionKind(TileAction action) throws IOException {
+    return switch (action) {
+      case null -> NO_ACTION;
+      case LadderAction ladderAction -> LADDER_ACTION;
+      case SlideAction slideAction -> SLIDE_ACTION;
+      case PortalAction portalAction -> PORTAL_ACTION;
+      case WormholeAction wormholeAction -> WORMHOLE_ACTION;
+      default -> throw new IOException("Tile action cannot be written to a board file: "
+          + action.getClass().getSimpleName());
+    };
+  }
+
+  private static void writeBoardProperties(Board board, DataOutputStream out) throws IOException {
+    writeString(out, board.getName());
+    writeString(out, board.getDescription());
+    writeString(out, board.getBackground());
+  }
+
+  private static void writeHeader(DataOutputStream out, int boardType, int tileCount,
+      int actionCount, ByteArrayOutputStream properties) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeInt(boardType);
+    out.writeInt(tileCount);
+    out.writeInt(actionCount);
+    out.writeInt(properties.size());
+    out.write(new byte[HEADER_SIZE - HEADER_PROPERTIES_LENGTH - Integer.BYTES]);
+    properties.writeTo(out);
+  }
+
+  private static void writeColumns(DataOutputStream out, int[][] columns) throws IOException {
+    for (int[] column : columns) {
+      for (int value : column) {
+        out.writeInt(value);
+      }
+    }
+  }
+
+  private static void writeIntArray(DataOutputStream out, int[] values) throws IOException {
+    final int[] array = values != null ? values : new int[0];
+    out.writeInt(array.length);
+    for (int value : array) {
+      out.writeInt(value);
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private Board readLadderBoard(MappedByteBuffer buffer) throws IOException {
+    buffer.position(HEADER_SIZE);
+    final String name = readString(buffer);
+    final String description = readString(buffer);
+    final String background = readString(buffer);
+    final String pattern = readString(buffer);
+    final int[] rowsAndColumns = {buffer.getInt(), buffer.getInt()};
+    final LadderGameBoard board = new LadderGameBoard(name, description, rowsAndColumns,
+        background, pattern);
+
+    final int tileCount = buffer.getInt(HEADER_TILE_COUNT);
+    final int columnsStart = getColumnsStart(buffer, LADDER_TILE_COLUMNS);
+    buffer.position(columnsStart + LADDER_TILE_COLUMNS * tileCount * Integer.BYTES);
+    for (int index = 0; index < tileCount; index++) {
+      final int tileId = getColumnValue(buffer, columnsStart, tileCount, COLUMN_TILE_ID, index);
+      final int nextTileId = getColumnValue(buffer, columnsStart, tileCount, COLUMN_NEXT_TILE_ID,
+          index);
+      final int row = getColumnValue(buffer, columnsStart, tileCount, COLUMN_ROW, index);
+      final int column = getColumnValue(buffer, columnsStart, tileCount, COLUMN_COLUMN, index);
+      final int actionKind = getColumnValue(buffer, columnsStart, tileCount, COLUMN_KIND, index);
+      if (actionKind == NO_ACTION) {
+        if (!board.isComputedTile(tileId, row, column, nextTileId)) {
+          board.addTile(new LadderGameTile(tileId, new int[]{row, column}, nextTileId));
+        }
+        continue;
+      }
+      final int destinationTileId = getColumnValue(buffer, columnsStart, tileCount,
+          COLUMN_DESTINATION_TILE_ID, index);
+      final TileAction action = createTileAction(actionKind, readString(buffer),
+          destinationTileId, readString(buffer));
+      board.addTile(new LadderGameTile(tileId, new int[]{row, column}, nextTileId, action));
+    }
+    return board;
+  }
+
+  private Board readLudoBoard(MappedByteBuffer buffer) throws IOException {
+    buffer.position(HEADER_SIZE);
+    final String name = readString(buffer);
+    final String description = readString(buffer);
+    final String background = readString(buffer);
+    final int boardSize = buffer.getInt();
+    final String[] colors = new String[buffer.getInt()];
+    for (int i = 0; i < colors.length; i++) {
+      final String color = readString(buffer);
+      colors[i] = color.isEmpty() ? null : color;
+    }
+    final int[] playerStartIndexes = readIntArray(buffer);
+    final int[] playerTrackStartIndexes = readIntArray(buffer);
+    final int[] playerFinishStartIndexes = readIntArray(buffer);
+    final int[] playerFinishIndexes = readIntArray(buffer);
+    final int startAreaSize = buffer.getInt();
+    final int totalTrackTileCount = buffer.getInt();
+    final String[] types = new String[buffer.getInt()];
+    for (int i = 0; i < types.length; i++) {
+      types[i] = readString(buffer);
+    }
+    final LudoGameBoard board = new LudoGameBoard(name, description, background, boardSize,
+        colors);
+
+    final int tileCount = buffer.getInt(HEADER_TILE_COUNT);
+    final int columnsStart = getColumnsStart(buffer, LUDO_TILE_COLUMNS);
+    for (int index = 0; index < tileCount; index++) {
+      final int tileId = getColumnValue(buffer, columnsStart, tileCount, COLUMN_TILE_ID, index);
+      final int nextTileId = getColumnValue(buffer, columnsStart, tileCount, COLUMN_NEXT_TILE_ID,
+          index);
+      final int row = getColumnValue(buffer, columnsStart, tileCount, COLUMN_ROW, index);
+      final int column = getColumnValue(buffer, columnsStart, tileCount, COLUMN_COLUMN, index);
+      final int typeIndex = getColumnValue(buffer, columnsStart, tileCount, COLUMN_KIND, index);
+      if (typeIndex < 0 || typeIndex >= types.length) {
+        throw new IOException("Unknown tile type index " + typeIndex + " of tile " + tileId);
+      }
+      final Tile existingTile = board.getTileAt(row, column);
+      if (existingTile == null || existingTile.getTileId() != tileId
+          || existingTile.getNextTileId() != nextTileId
+          || !((LudoTile) existingTile).getType().equals(types[typeIndex])) {
+        board.addTile(new LudoTile(tileId, new int[]{row, column}, nextTileId, types[typeIndex]));
+      }
+    }
+    board.setPlayerStartIndexes(playerStartIndexes);
+    board.setPlayerTrackStartIndexes(playerTrackStartIndexes);
+    board.setPlayerFinishStartIndexes(playerFinishStartIndexes);
+    board.setPlayerFinishIndexes(playerFinishIndexes);
+    board.setStartAreaSize(startAreaSize);
+    board.setTotalTrackTileCount(totalTrackTileCount);
+    return board;
+  }
+
+  /**
+   * Returns the position of the first tile column, after checking that all the columns are in the
+   * file.
+   */
+  private static int getColumnsStart(MappedByteBuffer buffer, int columnCount)
+      throws IOException {
+    final long columnsStart = HEADER_SIZE + (long) buffer.getInt(HEADER_PROPERTIES_LENGTH);
+    final long columnsEnd = columnsStart
+        + (long) columnCount * buffer.getInt(HEADER_TILE_COUNT) * Integer.BYTES;
+    if (buffer.getInt(HEADER_PROPERTIES_LENGTH) < 0 || buffer.getInt(HEADER_TILE_COUNT) < 0
+        || buffer.getInt(HEADER_ACTION_COUNT) < 0 || columnsEnd > buffer.limit()) {
+      throw new IOException("Board file is truncated");
+    }
+    return (int) columnsStart;
+  }
+
+  private static int getColumnValue(MappedByteBuffer buffer, int columnsStart, int tileCount,
+      int column, int index) {
+    return buffer.getInt(columnsStart + (column * tileCount + index) * Integer.BYTES);
+  }
+
+  private static int[] readIntArray(MappedByteBuffer buffer) throws IOException {
+    final int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining() / Integer.BYTES) {
+      throw new IOException("Board file is truncated");
+    }
+    final int[] values = new int[length];
+    for (int i = 0; i < length; i++) {
+      values[i] = buffer.getInt();
+    }
+    return values;
+  }
+
+  /**
+   * Reads a text written by {@link #writeString(DataOutputStream, String)} from the position of
+   * a buffer.
+   *
+   * @param buffer The buffer to read from.
+   * @return The text.
+   * @throws IOException if the length of the text is past the end of the buffer.
+   */
+  static String readString(ByteBuffer buffer) throws IOException {
+    final int length = buffer.getInt();
+    if (length < 0 || length > buffer.remaining()) {
+      throw new IOException("Board file is truncated");
+    }
+    final byte[] bytes = new byte[length];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static TileAction createTileAction(int actionKind, String identifier,
+      int destinationTileId, String description) throws IOException {
+    return switch (actionKind) {
+      case LADDER_ACTION -> new LadderAction(identifier, destinationTileId, description);
+      case SLIDE_ACTION -> new SlideAction(identifier, destinationTileId, description);
+      case PORTAL_ACTION -> new PortalAction(identifier, destinationTileId, description);
+      case WORMHOLE_ACTION -> new WormholeAction(identifier, destinationTileId, description);
+      default -> throw new IOException("Unknown tile action type: " + actionKind);
+    };
+  }
+}
@@ -1,23 +1,23 @@
 package edu.ntnu.idi.idatt.filehandler;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
 import edu.ntnu.idi.idatt.model.tile.LadderAction;
 import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
 import edu.ntnu.idi.idatt.model.tile.PortalAction;
 import edu.ntnu.idi.idatt.model.tile.SlideAction;
+import edu.ntnu.idi.idatt.model.tile.Tile;
 import edu.ntnu.idi.idatt.model.tile.TileAction;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,7 +25,13 @@ import org.slf4j.LoggerFactory;
  * FileHandler implementation for Board objects.
  *
  * <p>This class provides methods for reading and writing Board objects to and from JSON files.
- * It uses the Gson library for serialization and deserialization.
+ * It uses the streaming API of the Gson library, so a board is read and written one token at a
+ * time, without holding the whole file or a tree of JSON objects in memory.</p>
+ *
+ * <p>The tiles are added to the board as they are read. Only if the tiles come before the rows
+ * and columns of the board in the file, they are kept until the board can be created. Plain tiles
+ * that the board computes itself are skipped, so reading a large board only stores its tiles with
+ * tile actions.</p>
  */
 public class LadderGameBoardFileHandlerGson implements FileHandler<Board> {
 
@@ -46,31 +52,38 @@ public class LadderGameBoardFileHandlerGson implements FileHandler<Board> {
   private static final String TILE_ACTION_IDENTIFIER_PROPERTY = "identifier";
   private static final String TILE_ACTION_DESTINATION_TILE_ID_PROPERTY = "destinationTileId";
   private static final String TILE_ACTION_DESCRIPTION_PROPERTY = "description";
+  private static final String JSON_INDENT = "  ";
 
   /**
-   * Reads a file at the given path and returns a list of Board objects. If there is only one board
-   * in the file, it will be returned as a list with one element. If the file does not exist or
-   * cannot be read, an empty list will be returned.
+   * Reads a file at the given path and returns the board in it.
    *
    * @param path The path to the file.
-   * @return A list of Board objects or null if the file does not exist or cannot be read.
-   * @throws IOException if an error occurs while reading the file.
+   * @return The Board object, or null if the file is empty.
+   * @throws IOException if the file does not exist, cannot be read, or is not a valid board file,
+   *                     including a board the model rejects.
    */
   @Override
   public Board readFile(String path) throws IOException {
     logger.debug("Reading board file {}", path);
-    try {
-      String jsonString = FileUtils.readFileToString(new File(path), StandardCharsets.UTF_8);
-      logger.debug("Successfully read JSON string from file {}", path);
-      return deserializeBoard(jsonString);
-    } catch (IOException e) {
-      logger.error("Could not read board file {}", path);
-      throw new IOException("Could not read board from file: " + path);
+    final File file = new File(path);
+    if (file.isFile() && file.length() == 0) {
+      logger.error("Cannot deserialize an empty board file {}", path);
+      return null;
+    }
+    try (JsonReader reader = new JsonReader(Files.newBufferedReader(file.toPath(),
+        StandardCharsets.UTF_8))) {
+      Board board = deserializeBoard(reader);
+      logger.debug("Successfully read board from file {}", path);
+      return board;
+    } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+      logger.error("Could not read board file {}: {}", path, e.getMessage());
+      throw new IOException("Could not read board from file: " + path, e);
     }
   }
 
   /**
-   * Writes a list of Board objects to a JSON file at the given path.
+   * Writes a list of Board objects to a JSON file at the given path. Only the first board in the
+   * list is written.
    *
    * @param path   The path to the file.
    * @param boards The list of Board objects to write.
@@ -82,145 +95,240 @@ public class LadderGameBoardFileHandlerGson implements FileHandler<Board> {
       logger.error("Attempted to write empty board list");
       throw new IllegalArgumentException("Board list is null or empty.");
     }
-    JsonObject boardJson = serializeBoard((LadderGameBoard) boards.getFirst());
-    if (boardJson == null) {
-      logger.error("Failed to serialize board. Board JSON was null");
-      // Todo: Handle null boardJson, perhaps by throwing a ( custom ? ) exception
+    final LadderGameBoard board = (LadderGameBoard) boards.getFirst();
+    if (board == null) {
+      logger.error("Failed to serialize board. Board was null");
       return;
     }
 
-    Gson gson = new GsonBuilder().setPrettyPrinting().create();
-    String prettyJson = gson.toJson(boardJson);
-
     File file = new File(path);
 
     if (!file.createNewFile()) {
       logger.error("File with the same name already exists: {}", path);
       throw new IOException("A file with the same name already exists");
     }
-    FileUtils.writeStringToFile(file, prettyJson, StandardCharsets.UTF_8, false);
+    try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(file.toPath(),
+        StandardCharsets.UTF_8))) {
+      writer.setIndent(JSON_INDENT);
+      serializeBoard(board, writer);
+    } catch (IOException e) {
+      Files.deleteIfExists(file.toPath());
+      throw e;
+    }
     logger.debug("Board saved successfully");
   }
 
   /**
-   * Serializes a Board object to a JSON string.
+   * Serializes a Board object as JSON to the given writer.
    *
-   * @param board The Board object to serialize.
-   * @return A JSON string representation of the Board object or null if the given Board object is
-   *     null.
+   * @param board  The Board object to serialize.
+   * @param writer The writer to write the JSON to.
+   * @throws IOException if an error occurs while writing.
    */
-  private JsonObject serializeBoard(LadderGameBoard board) {
+  private void serializeBoard(LadderGameBoard board, JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name(NAME_PROPERTY).value(board.getName());
+    writer.name(DESCRIPTION_PROPERTY).value(board.getDescription());
+    writer.name(ROWS_PROPERTY).value(board.getRowsAndColumns()[0]);
+    writer.name(COLUMNS_PROPERTY).value(board.getRowsAndColumns()[1]);
+    writer.name(BACKGROUND_PROPERTY).value(board.getBackground());
+    writer.name(PATTERN_PROPERTY).value(board.getPattern());
+    writer.name(TILES_PROPERTY).beginArray();
+    for (Tile tile : board.getTileView()) {
+      final TileAction landAction = ((LadderGameTile) tile).getLandAction();
+      writer.beginObject();
+      writer.name(TILE_ID_PROPERTY).value(tile.getTileId());
+      writer.name(TILE_COORDINATES_PROPERTY).beginArray()
+          .value(tile.getCoordinates()[0])
+          .value(tile.getCoordinates()[1])
+          .endArray();
+      writer.name(TILE_NEXT_TILE_ID_PROPERTY).value(tile.getNextTileId());
+      if (landAction != null) {
+        writer.name(TILE_ACTION_PROPERTY).beginObject();
+        writer.name(TILE_ACTION_IDENTIFIER_PROPERTY).value(landAction.getIdentifier());
+        writer.name(TILE_ACTION_DESTINATION_TILE_ID_PROPERTY)
+            .value(landAction.getDestinationTileId());
+        writer.name(TILE_ACTION_DESCRIPTION_PROPERTY).value(landAction.getDescription());
+        writer.endObject();
+      }
+      writer.endObject();
+    }
+    writer.endArray();
+    writer.endObject();
+  }
+
+  /**
+   * Deserializes a Board object from the given reader.
+   *
+   * @param reader The reader to read the JSON from.
+   * @return The Board object read.
+   * @throws IOException if the JSON is malformed or a board property is missing.
+   */
+  private Board deserializeBoard(JsonReader reader) throws IOException {
+    logger.debug("Deserializing board from JSON");
+    String boardName = null;
+    String boardDescription = null;
+    Integer rows = null;
+    Integer columns = null;
+    String boardBackground = null;
+    String boardPattern = null;
+    LadderGameBoard board = null;
+    List<LadderGameTile> pendingTiles = new ArrayList<>();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case NAME_PROPERTY -> boardName = reader.nextString();
+        case DESCRIPTION_PROPERTY -> boardDescription = reader.nextString();
+        case ROWS_PROPERTY -> rows = reader.nextInt();
+        case COLUMNS_PROPERTY -> columns = reader.nextInt();
+        case BACKGROUND_PROPERTY -> boardBackground = reader.nextString();
+        case PATTERN_PROPERTY -> boardPattern = reader.nextString();
+        case TILES_PROPERTY -> {
+          if (boardName != null && boardDescription != null && rows != null && columns != null
+              && boardBackground != null && boardPattern != null) {
+            board = createBoard(boardName, boardDescription, rows, columns, boardBackground,
+                boardPattern);
+          }
+          reader.beginArray();
+          while (reader.hasNext()) {
+            LadderGameTile tile = readTile(reader);
+            if (board != null) {
+              addTile(board, tile);
+            } else {
+              pendingTiles.add(tile);
+            }
+          }
+          reader.endArray();
+        }
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+
     if (board == null) {
-      return null;
+      board = createBoard(boardName, boardDescription, rows, columns, boardBackground,
+          boardPattern);
+      for (LadderGameTile tile : pendingTiles) {
+        addTile(board, tile);
+      }
     }
+    return board;
+  }
 
-    JsonArray tilesJsonArray = new JsonArray();
-
-    board.getTiles().forEach(tile -> {
-      final LadderGameTile ladderGameTile = (LadderGameTile) tile;
-      final JsonObject tileJson = new JsonObject();
-      final JsonObject actionJson = new JsonObject();
-
-      tileJson.addProperty(TILE_ID_PROPERTY, tile.getTileId());
-      JsonArray coordinatesArray = new JsonArray();
-      coordinatesArray.add(tile.getCoordinates()[0]);
-      coordinatesArray.add(tile.getCoordinates()[1]);
-      tileJson.add(TILE_COORDINATES_PROPERTY, coordinatesArray);
-      tileJson.addProperty(TILE_NEXT_TILE_ID_PROPERTY, tile.getNextTileId());
-
-      if (ladderGameTile.getLandAction() != null) {
-        actionJson.addProperty(TILE_ACTION_IDENTIFIER_PROPERTY, ladderGameTile.getLandAction()
-            .getIdentifier());
-        actionJson.addProperty(TILE_ACTION_DESTINATION_TILE_ID_PROPERTY,
-            ladderGameTile.getLandAction()
-                .getDestinationTileId());
-        actionJson.addProperty(TILE_ACTION_DESCRIPTION_PROPERTY, ladderGameTile.getLandAction()
-            .getDescription());
-        tileJson.add(TILE_ACTION_PROPERTY, actionJson);
+  /**
+   * Adds a tile read from the file to the board, unless it is a plain tile the board computes
+   * itself, so reading a board does not store its plain tiles.
+   */
+  private static void addTile(LadderGameBoard board, LadderGameTile tile) {
+    if (tile.getLandAction() == null && board.isComputedTile(tile.getTileId(),
+        tile.getCoordinates()[0], tile.getCoordinates()[1], tile.getNextTileId())) {
+      return;
+    }
+    board.addTile(tile);
+  }
+
+  private static LadderGameBoard createBoard(String boardName, String boardDescription, Integer rows,
+      Integer columns, String boardBackground, String boardPattern) throws IOException {
+    requireProperty(boardName, NAME_PROPERTY);
+    requireProperty(boardDescription, DESCRIPTION_PROPERTY);
+    requireProperty(rows, ROWS_PROPERTY);
+    requireProperty(columns, COLUMNS_PROPERTY);
+    requireProperty(boardBackground, BACKGROUND_PROPERTY);
+    requireProperty(boardPattern, PATTERN_PROPERTY);
+    return new LadderGameBoard(boardName, boardDescription, new int[]{rows, columns},
+        boardBackground, boardPattern);
+  }
+
+  /**
+   * Reads a tile object, with its tile action if it has one.
+   */
+  private static LadderGameTile readTile(JsonReader reader) throws IOException {
+    Integer tileId = null;
+    int[] coordinates = null;
+    Integer nextTileId = null;
+    TileAction tileAction = null;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case TILE_ID_PROPERTY -> tileId = reader.nextInt();
+        case TILE_COORDINATES_PROPERTY -> coordinates = readIntArray(reader);
+        case TILE_NEXT_TILE_ID_PROPERTY -> nextTileId = reader.nextInt();
+        case TILE_ACTION_PROPERTY -> tileAction = readTileAction(reader);
+        default -> reader.skipValue();
       }
-      tilesJsonArray.add(tileJson);
-    });
-
-    JsonObject boardJson = new JsonObject();
-    boardJson.add(NAME_PROPERTY, new JsonPrimitive(board.getName()));
-    boardJson.add(DESCRIPTION_PROPERTY, new JsonPrimitive(board.getDescription()));
-    boardJson.add(ROWS_PROPERTY, new JsonPrimitive(board.getRowsAndColumns()[0]));
-    boardJson.add(COLUMNS_PROPERTY, new JsonPrimitive(board.getRowsAndColumns()[1]));
-    boardJson.add(BACKGROUND_PROPERTY, new JsonPrimitive(board.getBackground()));
-    boardJson.add(PATTERN_PROPERTY, new JsonPrimitive(board.getPattern()));
-    boardJson.add(TILES_PROPERTY, tilesJsonArray);
-    return boardJson;
+    }
+    reader.endObject();
+
+    requireProperty(tileId, TILE_ID_PROPERTY);
+    requireProperty(coordinates, TILE_COORDINATES_PROPERTY);
+    requireProperty(nextTileId, TILE_NEXT_TILE_ID_PROPERTY);
+    if (tileAction != null) {
+      return new LadderGameTile(tileId, coordinates, nextTileId, tileAction);
+    }
+    return new LadderGameTile(tileId, coordinates, nextTileId);
   }
 
   /**
-   * Deserializes a JSON string to a Board object.
-   *
-   * @param jsonString The JSON string to deserialize.
-   * @return A Board object representing the deserialized JSON string.
+   * Reads a tile action object. A null action, or an action without all its properties, is read
+   * as no action.
    */
-  private Board deserializeBoard(String jsonString) {
-    if (jsonString == null || jsonString.isEmpty()) {
-      logger.error("Cannot deserialize a null or empty JSON string");
+  private static TileAction readTileAction(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonToken.NULL) {
+      reader.nextNull();
       return null;
     }
+    String actionIdentifier = null;
+    Integer destinationTileId = null;
+    String actionDescription = null;
 
-    JsonObject jsonObject = JsonParser.parseString(jsonString).getAsJsonObject();
-    String boardName = jsonObject.get(NAME_PROPERTY).getAsString();
-    String boardDescription = jsonObject.get(DESCRIPTION_PROPERTY).getAsString();
-    int[] rowsAndColumns = new int[2];
-    rowsAndColumns[0] = jsonObject.get(ROWS_PROPERTY).getAsInt();
-    rowsAndColumns[1] = jsonObject.get(COLUMNS_PROPERTY).getAsInt();
-    String boardBackground = jsonObject.get(BACKGROUND_PROPERTY).getAsString();
-    String boardPattern = jsonObject.get(PATTERN_PROPERTY).getAsString();
-    Board board = new LadderGameBoard(boardName, boardDescription, rowsAndColumns, boardBackground,
-        boardPattern);
-
-    JsonArray tilesJsonArray = jsonObject.getAsJsonArray(TILES_PROPERTY);
-    tilesJsonArray.forEach(tileJson -> {
-      JsonObject tileJsonObject = tileJson.getAsJsonObject();
-      int tileId = 0;
-      int[] coordinates = null;
-      int nextTileId = 0;
-      TileAction tileAction = null;
-
-      try {
-        tileId = tileJsonObject.get(TILE_ID_PROPERTY).getAsInt();
-        JsonArray coordinatesArray = tileJsonObject.get(TILE_COORDINATES_PROPERTY).getAsJsonArray();
-        coordinates = new int[coordinatesArray.size()];
-        for (int i = 0; i < coordinatesArray.size(); i++) {
-          coordinates[i] = coordinatesArray.get(i).getAsInt();
-        }
-        nextTileId = tileJsonObject.get(TILE_NEXT_TILE_ID_PROPERTY).getAsInt();
-        JsonObject actionJsonObject = tileJsonObject.getAsJsonObject(TILE_ACTION_PROPERTY);
-
-        String actionIdentifier = actionJsonObject.get(TILE_ACTION_IDENTIFIER_PROPERTY)
-            .getAsString();
-        int destinationTileId = actionJsonObject.get(TILE_ACTION_DESTINATION_TILE_ID_PROPERTY)
-            .getAsInt();
-        String actionDescription = actionJsonObject.get(TILE_ACTION_DESCRIPTION_PROPERTY)
-            .getAsString();
-
-        tileAction = createTileAction(actionIdentifier, destinationTileId, actionDescription);
-      } catch (NullPointerException e) {
-        // This just needs to be caught, as it's not a critical error. It happens when a tile
-        // doesn't have a tile action, which is fine.
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case TILE_ACTION_IDENTIFIER_PROPERTY -> actionIdentifier = reader.nextString();
+        case TILE_ACTION_DESTINATION_TILE_ID_PROPERTY -> destinationTileId = reader.nextInt();
+        case TILE_ACTION_DESCRIPTION_PROPERTY -> actionDescription = reader.nextString();
+        default -> reader.skipValue();
       }
+    }
+    reader.endObject();
 
-      if (tileAction != null) {
-        board.addTile(new LadderGameTile(tileId, coordinates, nextTileId, tileAction));
-        return;
+    if (actionIdentifier == null || destinationTileId == null || actionDescription == null) {
+      return null;
+    }
+    return createTileAction(actionIdentifier, destinationTileId, actionDescription);
+  }
+
+  private static int[] readIntArray(JsonReader reader) throws IOException {
+    int[] values = new int[2];
+    int count = 0;
+    reader.beginArray();
+    while (reader.hasNext()) {
+      if (count == values.length) {
+        values = Arrays.copyOf(values, count * 2);
       }
-      board.addTile(new LadderGameTile(tileId, coordinates, nextTileId));
-    });
-    logger.debug("Deserializing board from JSON");
-    return board;
+      values[count++] = reader.nextInt();
+    }
+    reader.endArray();
+    return count == values.length ? values : Arrays.copyOf(values, count);
+  }
+
+  private static void requireProperty(Object value, String property) throws IOException {
+    if (value == null) {
+      throw new IOException("Missing property: " + property);
+    }
   }
 
   private static TileAction createTileAction(String actionIdentifier, int destinationTileId,
-      String actionDescription) {
+      String actionDescription) throws IOException {
     logger.debug("Creating tile action with identifier: {}", actionIdentifier);
+    final String[] identifierParts = actionIdentifier.split("_");
+    if (identifierParts.length < 3) {
+      throw new IOException("Invalid tile action identifier: " + actionIdentifier);
+    }
     TileAction tileAction;
-    switch (actionIdentifier.split("_")[2]) {
+    switch (identifierParts[2]) {
       case "ladder" ->
           tileAction = new LadderAction(actionIdentifier, destinationTileId, actionDescription);
       case "slide" ->
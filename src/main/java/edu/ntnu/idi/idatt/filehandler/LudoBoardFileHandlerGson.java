@@ -1,20 +1,18 @@
 package edu.ntnu.idi.idatt.filehandler;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
-import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
 import edu.ntnu.idi.idatt.model.tile.LudoTile;
+import edu.ntnu.idi.idatt.model.tile.Tile;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import javafx.scene.paint.Color;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -22,23 +20,25 @@ import org.slf4j.LoggerFactory;
  * LudoBoardFileHandlerGson.
  *
  * <p>This class implements the {@link FileHandler} interface for {@link Board} objects,
- * specifically tailored for {@link LudoGameBoard} instances. It uses the Gson library to serialize
- * Ludo game boards to JSON format and deserialize them from JSON files.</p>
+ * specifically tailored for {@link LudoGameBoard} instances. It uses the streaming API of the Gson
+ * library to write Ludo game boards as JSON and read them from JSON files one token at a time,
+ * without holding the whole file or a tree of JSON objects in memory.</p>
  *
  * <p>The JSON structure includes properties for the board's name, description, size,
  * background image, player colors, various tile index arrays (start, track start, finish start,
  * finish), start area size, total track tile count, and a list of tiles with their respective IDs,
  * coordinates, next tile IDs, and types.</p>
  *
- * <p>Reflection is used internally to set certain fields (like index arrays and integer
- * properties) on the {@code LudoGameBoard} object during deserialization to avoid overly complex
- * constructor logic or numerous setter methods for these internal state details.</p>
+ * <p>The tiles are added to the board as they are read. Only if the tiles come before the
+ * properties needed to create the board in the file, they are kept until the board can be
+ * created. The index arrays and integer properties are set on the board after all tiles are
+ * read.</p>
  *
  * @see FileHandler
  * @see LudoGameBoard
  * @see Board
  * @see LudoTile
- * @see com.google.gson.Gson
+ * @see com.google.gson.stream.JsonReader
  */
 public class LudoBoardFileHandlerGson implements FileHandler<Board> {
 
@@ -60,24 +60,31 @@ public class LudoBoardFileHandlerGson implements FileHandler<Board> {
   private static final String PLAYER_FINISH_INDEXES_PROPERTY = "playerFinishIndexes";
   private static final String START_AREA_SIZE_PROPERTY = "startAreaSize";
   private static final String TOTAL_TRACK_TILE_COUNT_PROPERTY = "totalTrackTileCount";
+  private static final String JSON_INDENT = "  ";
 
   /**
    * Reads a Ludo game board configuration from a JSON file at the specified path.
    *
    * @param path The path to the JSON file.
    * @return A {@link Board} (specifically a {@link LudoGameBoard}) object deserialized from the
-   *     file.
-   * @throws IOException if an error occurs during file reading or parsing.
+   *     file, or {@code null} if the file is empty.
+   * @throws IOException if an error occurs during file reading or parsing, or the file contains a
+   *     board the model rejects.
    */
   @Override
   public Board readFile(String path) throws IOException {
     logger.debug("Reading ludo board from file {}", path);
-    try {
-      String jsonString = FileUtils.readFileToString(new File(path), StandardCharsets.UTF_8);
-      return deserializeBoard(jsonString);
-    } catch (IOException e) {
-      logger.error("Failed to read ludo board.");
-      throw new IOException("Could not read board from file: " + path);
+    final File file = new File(path);
+    if (file.isFile() && file.length() == 0) {
+      logger.debug("Failed to deserialize. Board file {} is empty", path);
+      return null;
+    }
+    try (JsonReader reader = new JsonReader(Files.newBufferedReader(file.toPath(),
+        StandardCharsets.UTF_8))) {
+      return deserializeBoard(reader);
+    } catch (IOException | IllegalStateException | IllegalArgumentException e) {
+      logger.error("Failed to read ludo board: {}", e.getMessage());
+      throw new IOException("Could not read board from file: " + path, e);
     }
   }
 
@@ -98,167 +105,249 @@ public class LudoBoardFileHandlerGson implements FileHandler<Board> {
       logger.error("Boards parameter is null or empty");
       throw new IllegalArgumentException("Board list is null or empty.");
     }
-    JsonObject boardJson = serializeBoard((LudoGameBoard) boards.getFirst());
-    if (boardJson == null) {
-      logger.debug("Could not serialize board. BoardJson is null");
+    final LudoGameBoard board = (LudoGameBoard) boards.getFirst();
+    if (board == null) {
+      logger.debug("Could not serialize board. Board is null");
       return;
     }
-    Gson gson = new GsonBuilder().setPrettyPrinting().create();
-    String prettyJson = gson.toJson(boardJson);
     File file = new File(path);
     if (!file.createNewFile()) {
       logger.error("Could not create file {}, a file with the same name already exists", path);
       throw new IOException("A file with the same name already exists");
     }
-    FileUtils.writeStringToFile(file, prettyJson, StandardCharsets.UTF_8, false);
+    try (JsonWriter writer = new JsonWriter(Files.newBufferedWriter(file.toPath(),
+        StandardCharsets.UTF_8))) {
+      writer.setIndent(JSON_INDENT);
+      serializeBoard(board, writer);
+    } catch (IOException e) {
+      Files.deleteIfExists(file.toPath());
+      throw e;
+    }
     logger.debug("Successfully saved ludo board to {}", path);
   }
 
   /**
-   * Serializes a Ludo game board to a JSON object.
+   * Serializes a Ludo game board as JSON to the given writer.
    *
-   * @param board The {@link LudoGameBoard} to serialize.
-   * @return A {@link JsonObject} representing the serialized board, or {@code null} if the input
-   *     board is {@code null}.
+   * @param board  The {@link LudoGameBoard} to serialize.
+   * @param writer The {@link JsonWriter} to write the JSON to.
+   * @throws IOException if an error occurs while writing.
    */
-  private JsonObject serializeBoard(LudoGameBoard board) {
-    if (board == null) {
-      return null;
-    }
-    JsonArray tilesJsonArray = new JsonArray();
-    board.getTiles().forEach(tile -> {
-      LudoTile ludoTile = (LudoTile) tile;
-      JsonObject tileJson = new JsonObject();
-      tileJson.addProperty(TILE_ID_PROPERTY, ludoTile.getTileId());
-      JsonArray coordinatesArray = new JsonArray();
-      coordinatesArray.add(ludoTile.getCoordinates()[0]);
-      coordinatesArray.add(ludoTile.getCoordinates()[1]);
-      tileJson.add(TILE_COORDINATES_PROPERTY, coordinatesArray);
-      tileJson.addProperty(TILE_NEXT_TILE_ID_PROPERTY, ludoTile.getNextTileId());
-      tileJson.addProperty(TILE_TYPE_PROPERTY, ludoTile.getType());
-      tilesJsonArray.add(tileJson);
-    });
-    JsonArray colorsArray = new JsonArray();
+  private void serializeBoard(LudoGameBoard board, JsonWriter writer) throws IOException {
+    writer.beginObject();
+    writer.name(NAME_PROPERTY).value(board.getName());
+    writer.name(DESCRIPTION_PROPERTY).value(board.getDescription());
+    writer.name(BOARD_SIZE_PROPERTY).value(board.getBoardSize());
+    writer.name(BACKGROUND_PROPERTY).value(board.getBackground());
+    writer.name(COLORS_PROPERTY).beginArray();
     if (board.getColors() != null) {
-      for (Color color : board.getColors()) {
-        colorsArray.add(color != null ? color.toString() : "");
+      for (String color : board.getColors()) {
+        writer.value(color != null ? color : "");
       }
     }
-    JsonArray playerStartIndexesArray = intArrayToJson(board.getPlayerStartIndexes());
-    JsonArray playerTrackStartIndexesArray = intArrayToJson(board.getPlayerTrackStartIndexes());
-    JsonArray playerFinishStartIndexesArray = intArrayToJson(board.getPlayerFinishStartIndexes());
-    JsonArray playerFinishIndexesArray = intArrayToJson(board.getPlayerFinishIndexes());
-    JsonObject boardJson = new JsonObject();
-    boardJson.add(NAME_PROPERTY, new JsonPrimitive(board.getName()));
-    boardJson.add(DESCRIPTION_PROPERTY, new JsonPrimitive(board.getDescription()));
-    boardJson.add(BOARD_SIZE_PROPERTY, new JsonPrimitive(board.getBoardSize()));
-    boardJson.add(BACKGROUND_PROPERTY, new JsonPrimitive(board.getBackground()));
-    boardJson.add(COLORS_PROPERTY, colorsArray);
-    boardJson.add(PLAYER_START_INDEXES_PROPERTY, playerStartIndexesArray);
-    boardJson.add(PLAYER_TRACK_START_INDEXES_PROPERTY, playerTrackStartIndexesArray);
-    boardJson.add(PLAYER_FINISH_START_INDEXES_PROPERTY, playerFinishStartIndexesArray);
-    boardJson.add(PLAYER_FINISH_INDEXES_PROPERTY, playerFinishIndexesArray);
-    boardJson.add(START_AREA_SIZE_PROPERTY, new JsonPrimitive(board.getStartAreaSize()));
-    boardJson.add(TOTAL_TRACK_TILE_COUNT_PROPERTY,
-        new JsonPrimitive(board.getTotalTrackTileCount()));
-    boardJson.add(TILES_PROPERTY, tilesJsonArray);
-    return boardJson;
+    writer.endArray();
+    writeIntArray(writer.name(PLAYER_START_INDEXES_PROPERTY), board.getPlayerStartIndexes());
+    writeIntArray(writer.name(PLAYER_TRACK_START_INDEXES_PROPERTY),
+        board.getPlayerTrackStartIndexes());
+    writeIntArray(writer.name(PLAYER_FINISH_START_INDEXES_PROPERTY),
+        board.getPlayerFinishStartIndexes());
+    writeIntArray(writer.name(PLAYER_FINISH_INDEXES_PROPERTY), board.getPlayerFinishIndexes());
+    writer.name(START_AREA_SIZE_PROPERTY).value(board.getStartAreaSize());
+    writer.name(TOTAL_TRACK_TILE_COUNT_PROPERTY).value(board.getTotalTrackTileCount());
+    writer.name(TILES_PROPERTY).beginArray();
+    for (Tile tile : board.getTileView()) {
+      writer.beginObject();
+      writer.name(TILE_ID_PROPERTY).value(tile.getTileId());
+      writer.name(TILE_COORDINATES_PROPERTY).beginArray()
+          .value(tile.getCoordinates()[0])
+          .value(tile.getCoordinates()[1])
+          .endArray();
+      writer.name(TILE_NEXT_TILE_ID_PROPERTY).value(tile.getNextTileId());
+      writer.name(TILE_TYPE_PROPERTY).value(((LudoTile) tile).getType());
+      writer.endObject();
+    }
+    writer.endArray();
+    writer.endObject();
   }
 
   /**
-   * Converts an integer array to a JSON array.
+   * Writes an integer array as a JSON array.
    *
-   * @param arr The integer array to convert.
-   * @return A {@link JsonArray} containing the elements of the input array.
+   * @param writer The {@link JsonWriter} to write the array to.
+   * @param arr    The integer array to write. A null array is written as an empty array.
+   * @throws IOException if an error occurs while writing.
    */
-  private JsonArray intArrayToJson(int[] arr) {
-    JsonArray array = new JsonArray();
+  private void writeIntArray(JsonWriter writer, int[] arr) throws IOException {
+    writer.beginArray();
     if (arr != null) {
       for (int v : arr) {
-        array.add(v);
+        writer.value(v);
       }
     }
-    return array;
+    writer.endArray();
   }
 
   /**
-   * Converts a JSON array to an integer array.
+   * Reads a JSON array of integers.
    *
-   * @param arr The {@link JsonArray} to convert.
-   * @return An integer array containing the elements from the input JSON array.
+   * @param reader The {@link JsonReader} positioned at the array.
+   * @return An integer array containing the elements of the JSON array.
+   * @throws IOException if the JSON is malformed.
    */
-  private int[] jsonToIntArray(JsonArray arr) {
-    int[] result = new int[arr.size()];
-    for (int i = 0; i < arr.size(); i++) {
-      result[i] = arr.get(i).getAsInt();
+  private int[] readIntArray(JsonReader reader) throws IOException {
+    int[] result = new int[4];
+    int count = 0;
+    reader.beginArray();
+    while (reader.hasNext()) {
+      if (count == result.length) {
+        result = Arrays.copyOf(result, count * 2);
+      }
+      result[count++] = reader.nextInt();
     }
-    return result;
+    reader.endArray();
+    return count == result.length ? result : Arrays.copyOf(result, count);
   }
 
   /**
-   * Deserializes a Ludo game board from a JSON string.
+   * Deserializes a Ludo game board from a JSON reader.
    *
-   * @param jsonString The JSON string representing the Ludo game board.
-   * @return A {@link Board} (specifically a {@link LudoGameBoard}) deserialized from the JSON
-   *     string, or {@code null} if the string is null or empty.
+   * @param reader The {@link JsonReader} to read the Ludo game board from.
+   * @return A {@link Board} (specifically a {@link LudoGameBoard}) deserialized from the JSON.
+   * @throws IOException if the JSON is malformed or a board property is missing.
    */
-  private Board deserializeBoard(String jsonString) {
-    if (jsonString == null || jsonString.isEmpty()) {
-      logger.debug("Failed to deserialize. JSON string is null or empty");
-      return null;
-    }
-    JsonObject jsonObject = JsonParser.parseString(jsonString).getAsJsonObject();
-    String boardName = jsonObject.get(NAME_PROPERTY).getAsString();
-    String boardDescription = jsonObject.get(DESCRIPTION_PROPERTY).getAsString();
-    int boardSize = jsonObject.get(BOARD_SIZE_PROPERTY).getAsInt();
-    String boardBackground = jsonObject.get(BACKGROUND_PROPERTY).getAsString();
-    Color[] colors = null;
-    if (jsonObject.has(COLORS_PROPERTY)) {
-      JsonArray colorsArray = jsonObject.getAsJsonArray(COLORS_PROPERTY);
-      colors = new Color[colorsArray.size()];
-      for (int i = 0; i < colorsArray.size(); i++) {
-        String colorStr = colorsArray.get(i).getAsString();
-        colors[i] = colorStr.isEmpty() ? null : Color.web(colorStr);
+  private Board deserializeBoard(JsonReader reader) throws IOException {
+    String boardName = null;
+    String boardDescription = null;
+    Integer boardSize = null;
+    String boardBackground = null;
+    String[] colors = null;
+    int[] playerStartIndexes = null;
+    int[] playerTrackStartIndexes = null;
+    int[] playerFinishStartIndexes = null;
+    int[] playerFinishIndexes = null;
+    Integer startAreaSize = null;
+    Integer totalTrackTileCount = null;
+    LudoGameBoard board = null;
+    List<LudoTile> pendingTiles = new ArrayList<>();
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case NAME_PROPERTY -> boardName = reader.nextString();
+        case DESCRIPTION_PROPERTY -> boardDescription = reader.nextString();
+        case BOARD_SIZE_PROPERTY -> boardSize = reader.nextInt();
+        case BACKGROUND_PROPERTY -> boardBackground = reader.nextString();
+        case COLORS_PROPERTY -> colors = readColors(reader);
+        case PLAYER_START_INDEXES_PROPERTY -> playerStartIndexes = readIntArray(reader);
+        case PLAYER_TRACK_START_INDEXES_PROPERTY -> playerTrackStartIndexes = readIntArray(reader);
+        case PLAYER_FINISH_START_INDEXES_PROPERTY ->
+            playerFinishStartIndexes = readIntArray(reader);
+        case PLAYER_FINISH_INDEXES_PROPERTY -> playerFinishIndexes = readIntArray(reader);
+        case START_AREA_SIZE_PROPERTY -> startAreaSize = reader.nextInt();
+        case TOTAL_TRACK_TILE_COUNT_PROPERTY -> totalTrackTileCount = reader.nextInt();
+        case TILES_PROPERTY -> {
+          if (boardName != null && boardDescription != null && boardSize != null
+              && boardBackground != null && colors != null) {
+            board = createBoard(boardName, boardDescription, boardSize, boardBackground, colors);
+          }
+          reader.beginArray();
+          while (reader.hasNext()) {
+            LudoTile tile = readTile(reader);
+            if (board != null) {
+              board.addTile(tile);
+            } else {
+              pendingTiles.add(tile);
+            }
+          }
+          reader.endArray();
+        }
+        default -> reader.skipValue();
       }
     }
-    LudoGameBoard board = new LudoGameBoard(boardName, boardDescription, boardBackground, boardSize,
-        colors);
-    if (jsonObject.has(PLAYER_START_INDEXES_PROPERTY)) {
-      board.setPlayerStartIndexes(
-          jsonToIntArray(jsonObject.getAsJsonArray(PLAYER_START_INDEXES_PROPERTY)));
+    reader.endObject();
+
+    if (board == null) {
+      board = createBoard(boardName, boardDescription, boardSize, boardBackground, colors);
+      pendingTiles.forEach(board::addTile);
     }
-    if (jsonObject.has(PLAYER_TRACK_START_INDEXES_PROPERTY)) {
-      board.setPlayerTrackStartIndexes(
-          jsonToIntArray(jsonObject.getAsJsonArray(PLAYER_TRACK_START_INDEXES_PROPERTY)));
+    if (playerStartIndexes != null) {
+      board.setPlayerStartIndexes(playerStartIndexes);
     }
-    if (jsonObject.has(PLAYER_FINISH_START_INDEXES_PROPERTY)) {
-      board.setPlayerFinishStartIndexes(
-          jsonToIntArray(jsonObject.getAsJsonArray(PLAYER_FINISH_START_INDEXES_PROPERTY)));
+    if (playerTrackStartIndexes != null) {
+      board.setPlayerTrackStartIndexes(playerTrackStartIndexes);
     }
-    if (jsonObject.has(PLAYER_FINISH_INDEXES_PROPERTY)) {
-      board.setPlayerFinishIndexes(
-          jsonToIntArray(jsonObject.getAsJsonArray(PLAYER_FINISH_INDEXES_PROPERTY)));
+    if (playerFinishStartIndexes != null) {
+      board.setPlayerFinishStartIndexes(playerFinishStartIndexes);
     }
-    if (jsonObject.has(START_AREA_SIZE_PROPERTY)) {
-      board.setStartAreaSize(jsonObject.get(START_AREA_SIZE_PROPERTY).getAsInt());
+    if (playerFinishIndexes != null) {
+      board.setPlayerFinishIndexes(playerFinishIndexes);
     }
-    if (jsonObject.has(TOTAL_TRACK_TILE_COUNT_PROPERTY)) {
-      board.setTotalTrackTileCount(
-          jsonObject.get(TOTAL_TRACK_TILE_COUNT_PROPERTY).getAsInt());
+    if (startAreaSize != null) {
+      board.setStartAreaSize(startAreaSize);
     }
-    JsonArray tilesJsonArray = jsonObject.getAsJsonArray(TILES_PROPERTY);
-    for (int i = 0; i < tilesJsonArray.size(); i++) {
-      JsonObject tileJsonObject = tilesJsonArray.get(i).getAsJsonObject();
-      int tileId = tileJsonObject.get(TILE_ID_PROPERTY).getAsInt();
-      JsonArray coordinatesArray = tileJsonObject.get(TILE_COORDINATES_PROPERTY).getAsJsonArray();
-      int[] coordinates = new int[coordinatesArray.size()];
-      for (int j = 0; j < coordinatesArray.size(); j++) {
-        coordinates[j] = coordinatesArray.get(j).getAsInt();
-      }
-      int nextTileId = tileJsonObject.get(TILE_NEXT_TILE_ID_PROPERTY).getAsInt();
-      String type = tileJsonObject.get(TILE_TYPE_PROPERTY).getAsString();
-      board.addTile(new LudoTile(tileId, coordinates, nextTileId, type));
+    if (totalTrackTileCount != null) {
+      board.setTotalTrackTileCount(totalTrackTileCount);
     }
     return board;
   }
-} 
\ No newline at end of file
+
+  /**
+   * Creates the board from its properties, after checking that the required ones were read.
+   */
+  private LudoGameBoard createBoard(String boardName, String boardDescription, Integer boardSize,
+      String boardBackground, String[] colors) throws IOException {
+    requireProperty(boardName, NAME_PROPERTY);
+    requireProperty(boardDescription, DESCRIPTION_PROPERTY);
+    requireProperty(boardSize, BOARD_SIZE_PROPERTY);
+    requireProperty(boardBackground, BACKGROUND_PROPERTY);
+    return new LudoGameBoard(boardName, boardDescription, boardBackground, boardSize, colors);
+  }
+
+  /**
+   * Reads the colors of the players. An empty color is read as null.
+   */
+  private String[] readColors(JsonReader reader) throws IOException {
+    final List<String> colors = new ArrayList<>(4);
+    reader.beginArray();
+    while (reader.hasNext()) {
+      String colorStr = reader.nextString();
+      colors.add(colorStr.isEmpty() ? null : colorStr);
+    }
+    reader.endArray();
+    return colors.toArray(String[]::new);
+  }
+
+  /**
+   * Reads a tile object.
+   */
+  private LudoTile readTile(JsonReader reader) throws IOException {
+    Integer tileId = null;
+    int[] coordinates = null;
+    Integer nextTileId = null;
+    String type = null;
+
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case TILE_ID_PROPERTY -> tileId = reader.nextInt();
+        case TILE_COORDINATES_PROPERTY -> coordinates = readIntArray(reader);
+        case TILE_NEXT_TILE_ID_PROPERTY -> nextTileId = reader.nextInt();
+        case TILE_TYPE_PROPERTY -> type = reader.nextString();
+        default -> reader.skipValue();
+      }
+    }
+    reader.endObject();
+
+    requireProperty(tileId, TILE_ID_PROPERTY);
+    requireProperty(coordinates, TILE_COORDINATES_PROPERTY);
+    requireProperty(nextTileId, TILE_NEXT_TILE_ID_PROPERTY);
+    requireProperty(type, TILE_TYPE_PROPERTY);
+    return new LudoTile(tileId, coordinates, nextTileId, type);
+  }
+
+  private static void requireProperty(Object value, String property) throws IOException {
+    if (value == null) {
+      throw new IOException("Missing property: " + property);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package edu.ntnu.idi.idatt.journal;
+
+/**
+ * GameJournalFormat.
+ *
+ * <p>Constants describing the binary layout of a game journal file. The file starts with a
+ * {@value #HEADER_SIZE} byte header, followed by turn and checkpoint records. All values are
+ * written in the big-endian byte order of {@link java.nio.ByteBuffer}.</p>
+ *
+ * <p>The header holds the magic number, the format version, the checkpoint interval, the number of
+ * turns and the position of the end of the last complete record. A turn record is
+ * {@value #TURN_RECORD_SIZE} bytes, and a checkpoint record is {@value #CHECKPOINT_HEADER_SIZE}
+ * bytes followed by the packed state of the game.</p>
+ *
+ * @see GameJournalWriter
+ * @see GameJournalReader
+ */
+final class GameJournalFormat {
+  static final int MAGIC = 0x4C474A31;
+  static final int VERSION = 1;
+
+  static final int HEADER_SIZE = 32;
+  static final int HEADER_MAGIC = 0;
+  static final int HEADER_VERSION = 4;
+  static final int HEADER_CHECKPOINT_INTERVAL = 8;
+  static final int HEADER_TURN_COUNT = 12;
+  static final int HEADER_END_POSITION = 16;
+
+  static final byte TURN_RECORD = 1;
+  static final byte CHECKPOINT_RECORD = 2;
+
+  static final int TURN_RECORD_SIZE = 32;
+  static final int CHECKPOINT_HEADER_SIZE = 12;
+
+  static final int FLAG_TILE_ACTION = 1;
+  static final int FLAG_TOKEN_RELEASED = 1 << 1;
+  static final int FLAG_TURN_SKIPPED = 1 << 2;
+
+  static final int MAX_DICE_VALUES = 16;
+  static final int DIE_VALUE_BITS = 4;
+
+  private GameJournalFormat() {
+  }
+}
@@ -0,0 +1,174 @@
+package edu.ntnu.idi.idatt.journal;
+
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.CHECKPOINT_HEADER_SIZE;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.CHECKPOINT_RECORD;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.DIE_VALUE_BITS;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.FLAG_TILE_ACTION;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.FLAG_TOKEN_RELEASED;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.FLAG_TURN_SKIPPED;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_CHECKPOINT_INTERVAL;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_END_POSITION;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_MAGIC;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_SIZE;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_VERSION;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.MAGIC;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.TURN_RECORD;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.TURN_RECORD_SIZE;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.VERSION;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.gameJournalReaderRestoreValidator;
+
+import edu.ntnu.idi.idatt.model.game.BoardGame;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * GameJournalReader.
+ *
+ * <p>Reads a game journal written by {@link GameJournalWriter}. The records are read up to the
+ * end position in the header, so a journal left behind by a crashed process is read up to its last
+ * complete record.</p>
+ *
+ * <p>A game can be restored to the state after any turn of the journal with
+ * {@link #restore(BoardGame, int)}, which restores the latest checkpoint at or before the turn and
+ * replays only the turns after it.</p>
+ *
+ * @see GameJournalFormat
+ * @see GameJournalWriter
+ */
+public final class GameJournalReader {
+  private final int checkpointInterval;
+  private final List<TurnRecord> turns;
+  private final TreeMap<Integer, int[]> checkpoints;
+
+  /**
+   * Reads the journal at the given path.
+   *
+   * @param path The path of the journal file.
+   * @throws IOException if the file cannot be read or is not a game journal.
+   */
+  public GameJournalReader(Path path) throws IOException {
+    this.turns = new ArrayList<>();
+    this.checkpoints = new TreeMap<>();
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() < HEADER_SIZE) {
+        throw new IOException("File is too short to be a game journal: " + path);
+      }
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      if (buffer.getInt(HEADER_MAGIC) != MAGIC || buffer.getInt(HEADER_VERSION) != VERSION) {
+        throw new IOException("File is not a game journal: " + path);
+      }
+      this.checkpointInterval = buffer.getInt(HEADER_CHECKPOINT_INTERVAL);
+      readRecords(buffer, (int) Math.min(buffer.getLong(HEADER_END_POSITION), channel.size()));
+    }
+  }
+
+  /**
+   * Returns the number of turns between state checkpoints.
+   *
+   * @return The checkpoint interval.
+   */
+  public int getCheckpointInterval() {
+    return checkpointInterval;
+  }
+
+  /**
+   * Returns the number of turns in the journal.
+   *
+   * @return The turn count.
+   */
+  public int getTurnCount() {
+    return turns.size();
+  }
+
+  /**
+   * Returns the turns in the journal, in order.
+   *
+   * @return An unmodifiable list of the {@link TurnRecord}s.
+   */
+  public List<TurnRecord> getTurns() {
+    return Collections.unmodifiableList(turns);
+  }
+
+  /**
+   * Restores a game to the state after the given number of turns of the journal. The latest
+   * checkpoint at or before the turn is restored with {@link BoardGame#restorePackedState(int[])},
+   * and the turns after it are replayed with the recorded dice rolls and tokens, so they are
+   * replayed as they were played even if the moves were chosen within a time budget. The game must have the same
+   * board and players as the journaled game, and replayed turns notify the observers of the game.
+   *
+   * @param game The {@link BoardGame} to restore.
+   * @param turn The number of turns to restore the game to.
+   * @throws IllegalArgumentException if the turn is negative or after the last turn.
+   * @throws IllegalStateException    if the journal has no checkpoint at or before the turn.
+   */
+  public void restore(BoardGame game, int turn) {
+    gameJournalReaderRestoreValidator(turn, turns.size());
+
+    Map.Entry<Integer, int[]> checkpoint = checkpoints.floorEntry(turn);
+    if (checkpoint == null) {
+      throw new IllegalStateException("The journal has no checkpoint at or before turn " + turn);
+    }
+    game.restorePackedState(checkpoint.getValue());
+    for (int i = checkpoint.getKey(); i < turn; i++) {
+      game.replayTurn(turns.get(i).diceRoll(), turns.get(i).tokenIndex());
+    }
+  }
+
+  /**
+   * Restores a game to the state after the last turn of the journal.
+   *
+   * @param game The {@link BoardGame} to restore.
+   * @see #restore(BoardGame, int)
+   */
+  public void restoreLatest(BoardGame game) {
+    restore(game, turns.size());
+  }
+
+  private void readRecords(MappedByteBuffer buffer, int end) {
+    int position = HEADER_SIZE;
+    while (position < end) {
+      byte recordType = buffer.get(position);
+      if (recordType == TURN_RECORD && position + TURN_RECORD_SIZE <= end) {
+        turns.add(readTurn(buffer, position));
+        position += TURN_RECORD_SIZE;
+      } else if (recordType == CHECKPOINT_RECORD && position + CHECKPOINT_HEADER_SIZE <= end) {
+        int turn = buffer.getInt(position + 4);
+        int length = buffer.getInt(position + 8);
+        int recordEnd = position + CHECKPOINT_HEADER_SIZE + length * Integer.BYTES;
+        if (length < 0 || recordEnd > end) {
+          return;
+        }
+        int[] state = new int[length];
+        for (int i = 0; i < length; i++) {
+          state[i] = buffer.getInt(position + CHECKPOINT_HEADER_SIZE + i * Integer.BYTES);
+        }
+        checkpoints.put(turn, state);
+        position = recordEnd;
+      } else {
+        return;
+      }
+    }
+  }
+
+  private static TurnRecord readTurn(MappedByteBuffer buffer, int position) {
+    final int flags = buffer.get(position + 3);
+    final long packedDiceValues = buffer.getLong(position + 8);
+    final int[] diceValues = new int[buffer.get(position + 28)];
+    for (int i = 0; i < diceValues.length; i++) {
+      diceValues[i] = (int) (packedDiceValues >>> (i * DIE_VALUE_BITS)) & 0xF;
+    }
+    return new TurnRecord(buffer.get(position + 1), buffer.getInt(position + 4), diceValues,
+        buffer.get(position + 2), buffer.getInt(position + 16), buffer.getInt(position + 20),
+        buffer.getInt(position + 24), (flags & FLAG_TILE_ACTION) != 0,
+        (flags & FLAG_TOKEN_RELEASED) != 0, (flags & FLAG_TURN_SKIPPED) != 0);
+  }
+}
@@ -0,0 +1,128 @@
+package edu.ntnu.idi.idatt.journal;
+
+import edu.ntnu.idi.idatt.model.dice.Dice;
+import edu.ntnu.idi.idatt.model.game.BoardGame;
+import edu.ntnu.idi.idatt.model.player.LudoPlayer;
+import edu.ntnu.idi.idatt.model.state.LudoOccupancyIndex;
+import edu.ntnu.idi.idatt.observer.GameEvent;
+import edu.ntnu.idi.idatt.observer.GameEventBus;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameJournalRecorder.
+ *
+ * <p>Records every turn of a {@link BoardGame} to a {@link GameJournalWriter}. The recorder
+ * subscribes to the {@link GameEventBus} of the game, collects the moves, captures and tile actions
+ * of the current turn, and appends a {@link TurnRecord} when the turn is completed. A checkpoint
+ * with the packed state of the game is appended when the recorder is created and after every
+ * checkpoint interval of turns, and the journal is then flushed to disk in the background.</p>
+ *
+ * @see GameJournalWriter
+ * @see GameJournalReader
+ */
+public final class GameJournalRecorder implements AutoCloseable {
+  private final BoardGame game;
+  private final GameJournalWriter writer;
+  private final List<GameEventBus.Subscription> subscriptions;
+
+  private int tokenIndex;
+  private int captureMask;
+  private int landingTileId;
+  private int destinationTileId;
+  private boolean tileActionPerformed;
+  private boolean tokenReleased;
+  private boolean turnSkipped;
+
+  /**
+   * Starts recording a game, appending a checkpoint with the current state of the game.
+   *
+   * @param game   The {@link BoardGame} to record.
+   * @param writer The {@link GameJournalWriter} to append the turns to.
+   * @throws IOException if the checkpoint cannot be appended.
+   */
+  public GameJournalRecorder(BoardGame game, GameJournalWriter writer) throws IOException {
+    this.game = game;
+    this.writer = writer;
+    this.subscriptions = new ArrayList<>();
+    resetTurn();
+
+    writer.appendCheckpoint(game.getPackedState());
+    GameEventBus eventBus = game.getEventBus();
+    subscriptions.add(eventBus.subscribe(GameEvent.PlayerMoved.class, event -> {
+      landingTileId = event.newTileId();
+      destinationTileId = event.newTileId();
+    }));
+    subscriptions.add(eventBus.subscribe(GameEvent.TileActionPerformed.class, event -> {
+      tileActionPerformed = true;
+      destinationTileId = event.tileAction().getDestinationTileId();
+    }));
+    subscriptions.add(eventBus.subscribe(GameEvent.TokenReleased.class, event -> {
+      tokenReleased = true;
+      tokenIndex = event.tokenId();
+      landingTileId = event.tileId();
+      destinationTileId = event.tileId();
+    }));
+    subscriptions.add(eventBus.subscribe(GameEvent.TokenMoved.class, event -> {
+      tokenIndex = ((LudoPlayer) event.player()).getTokens().indexOf(event.token());
+      landingTileId = event.newTileId();
+      destinationTileId = event.newTileId();
+    }));
+    subscriptions.add(eventBus.subscribe(GameEvent.TokenCaptured.class, event ->
+        captureMask |= LudoOccupancyIndex.tokenBit(game.getPlayers().indexOf(event.player()),
+            ((LudoPlayer) event.player()).getTokens().indexOf(event.token()))));
+    subscriptions.add(eventBus.subscribe(GameEvent.TurnSkipped.class,
+        event -> turnSkipped = true));
+    subscriptions.add(eventBus.subscribe(GameEvent.TurnCompleted.class, this::recordTurn));
+  }
+
+  /**
+   * Stops recording and closes the writer.
+   *
+   * @throws IOException if the writer cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    subscriptions.forEach(GameEventBus.Subscription::cancel);
+    writer.close();
+  }
+
+  private void recordTurn(GameEvent.TurnCompleted event) {
+    try {
+      writer.appendTurn(new TurnRecord(game.getPlayers().indexOf(event.player()),
+          event.diceRoll(), getDiceValues(event.diceRoll()), tokenIndex, captureMask,
+          landingTileId, destinationTileId, tileActionPerformed, tokenReleased, turnSkipped));
+      if (writer.isCheckpointDue()) {
+        writer.appendCheckpoint(game.getPackedState());
+        writer.flushAsync();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Could not append turn to the game journal", e);
+    }
+    resetTurn();
+  }
+
+  /**
+   * Returns the values of the dice of the game if they add up to the dice roll of the turn, and
+   * an empty array otherwise, such as when the turn was played with a roll from elsewhere.
+   */
+  private int[] getDiceValues(int diceRoll) {
+    final Dice dice = game.getDice();
+    if (dice == null || dice.getTotalValue() != diceRoll) {
+      return new int[0];
+    }
+    return dice.getDieValues();
+  }
+
+  private void resetTurn() {
+    tokenIndex = -1;
+    captureMask = 0;
+    landingTileId = -1;
+    destinationTileId = -1;
+    tileActionPerformed = false;
+    tokenReleased = false;
+    turnSkipped = false;
+  }
+}
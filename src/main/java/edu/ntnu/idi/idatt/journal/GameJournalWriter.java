@@ -0,0 +1,220 @@
+package edu.ntnu.idi.idatt.journal;
+
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.CHECKPOINT_HEADER_SIZE;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.CHECKPOINT_RECORD;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.DIE_VALUE_BITS;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.FLAG_TILE_ACTION;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.FLAG_TOKEN_RELEASED;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.FLAG_TURN_SKIPPED;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_CHECKPOINT_INTERVAL;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_END_POSITION;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_MAGIC;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_SIZE;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_TURN_COUNT;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.HEADER_VERSION;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.MAGIC;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.MAX_DICE_VALUES;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.TURN_RECORD;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.TURN_RECORD_SIZE;
+import static edu.ntnu.idi.idatt.journal.GameJournalFormat.VERSION;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.gameJournalWriterValidator;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * GameJournalWriter.
+ *
+ * <p>Appends turn and checkpoint records to an append-only game journal file. The file is
+ * memory-mapped, so appending a record is a few writes to memory and never a system call on the
+ * calling thread. The header is updated after every record, so a journal left behind by a crashed
+ * process can be read up to its last complete record. When the mapped region is full, it is
+ * remapped with twice the size. The file keeps the size of the mapped region when it is closed, as
+ * a mapped region can not be released before the file is truncated, and the records end at the
+ * end position in the header. For the same reason, an existing file is reused without truncating
+ * it, and the records left in it are ignored once the header has been rewritten.</p>
+ *
+ * <p>Flushing the mapped region to disk is the only blocking operation, and is done on a
+ * background thread by {@link #flushAsync()}. The writer must only be used from one thread.</p>
+ *
+ * @see GameJournalFormat
+ * @see GameJournalReader
+ * @see GameJournalRecorder
+ */
+public final class GameJournalWriter implements AutoCloseable {
+  private static final Logger logger = LoggerFactory.getLogger(GameJournalWriter.class);
+  private static final int INITIAL_MAP_SIZE = 64 * 1024;
+
+  private final FileChannel channel;
+  private final ExecutorService flushExecutor;
+  private final int checkpointInterval;
+  private MappedByteBuffer buffer;
+  private int position;
+  private int turnCount;
+
+  /**
+   * Creates a new journal file, replacing the records of any existing file at the path.
+   *
+   * @param path               The path of the journal file.
+   * @param checkpointInterval The number of turns between state checkpoints.
+   * @throws IOException              if the file cannot be created or mapped.
+   * @throws IllegalArgumentException if the checkpoint interval is less than 1.
+   */
+  public GameJournalWriter(Path path, int checkpointInterval) throws IOException {
+    gameJournalWriterValidator(checkpointInterval);
+
+    this.checkpointInterval = checkpointInterval;
+    this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, INITIAL_MAP_SIZE);
+    this.flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "game-journal-flush");
+      thread.setDaemon(true);
+      return thread;
+    });
+
+    buffer.putInt(HEADER_MAGIC, MAGIC);
+    buffer.putInt(HEADER_VERSION, VERSION);
+    buffer.putInt(HEADER_CHECKPOINT_INTERVAL, checkpointInterval);
+    this.position = HEADER_SIZE;
+    updateHeader();
+  }
+
+  /**
+   * Returns the number of turns between state checkpoints.
+   *
+   * @return The checkpoint interval.
+   */
+  public int getCheckpointInterval() {
+    return checkpointInterval;
+  }
+
+  /**
+   * Returns the number of turns appended to the journal.
+   *
+   * @return The turn count.
+   */
+  public int getTurnCount() {
+    return turnCount;
+  }
+
+  /**
+   * Returns whether a checkpoint is due after the turns appended so far.
+   *
+   * @return {@code true} if the turn count is a multiple of the checkpoint interval.
+   */
+  public boolean isCheckpointDue() {
+    return turnCount % checkpointInterval == 0;
+  }
+
+  /**
+   * Appends a turn record.
+   *
+   * @param turn The {@link TurnRecord} to append.
+   * @throws IOException if the mapped region cannot be grown.
+   */
+  public void appendTurn(TurnRecord turn) throws IOException {
+    ensureCapacity(TURN_RECORD_SIZE);
+
+    final int[] diceValues = turn.diceValues();
+    final int diceCount = diceValues.length <= MAX_DICE_VALUES ? diceValues.length : 0;
+    long packedDiceValues = 0;
+    for (int i = 0; i < diceCount; i++) {
+      packedDiceValues |= (long) diceValues[i] << (i * DIE_VALUE_BITS);
+    }
+    int flags = 0;
+    flags |= turn.tileActionPerformed() ? FLAG_TILE_ACTION : 0;
+    flags |= turn.tokenReleased() ? FLAG_TOKEN_RELEASED : 0;
+    flags |= turn.turnSkipped() ? FLAG_TURN_SKIPPED : 0;
+
+    buffer.put(position, TURN_RECORD);
+    buffer.put(position + 1, (byte) turn.seat());
+    buffer.put(position + 2, (byte) turn.tokenIndex());
+    buffer.put(position + 3, (byte) flags);
+    buffer.putInt(position + 4, turn.diceRoll());
+    buffer.putLong(position + 8, packedDiceValues);
+    buffer.putInt(position + 16, turn.captureMask());
+    buffer.putInt(position + 20, turn.landingTileId());
+    buffer.putInt(position + 24, turn.destinationTileId());
+    buffer.put(position + 28, (byte) diceCount);
+    position += TURN_RECORD_SIZE;
+    turnCount++;
+    updateHeader();
+  }
+
+  /**
+   * Appends a checkpoint with the packed state of the game after the turns appended so far.
+   *
+   * @param state The packed state of the game.
+   * @throws IOException if the mapped region cannot be grown.
+   */
+  public void appendCheckpoint(int[] state) throws IOException {
+    ensureCapacity(CHECKPOINT_HEADER_SIZE + state.length * Integer.BYTES);
+
+    buffer.put(position, CHECKPOINT_RECORD);
+    buffer.putInt(position + 4, turnCount);
+    buffer.putInt(position + 8, state.length);
+    int offset = position + CHECKPOINT_HEADER_SIZE;
+    for (int value : state) {
+      buffer.putInt(offset, value);
+      offset += Integer.BYTES;
+    }
+    position = offset;
+    updateHeader();
+  }
+
+  /**
+   * Flushes the journal to disk on a background thread.
+   */
+  public void flushAsync() {
+    final MappedByteBuffer mappedBuffer = buffer;
+    flushExecutor.execute(mappedBuffer::force);
+  }
+
+  /**
+   * Flushes the journal to disk and closes it. The file is not truncated to the end of the last
+   * record, since the mapped region may stay mapped until it is garbage collected, and truncating
+   * a mapped file fails on some platforms and makes the region beyond the end invalid on others.
+   *
+   * @throws IOException if the file cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    flushExecutor.shutdown();
+    try {
+      flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    buffer.force();
+    channel.close();
+    logger.debug("Closed game journal with {} turns", turnCount);
+  }
+
+  private void updateHeader() {
+    buffer.putInt(HEADER_TURN_COUNT, turnCount);
+    buffer.putLong(HEADER_END_POSITION, position);
+  }
+
+  private void ensureCapacity(int recordSize) throws IOException {
+    if (position + recordSize <= buffer.capacity()) {
+      return;
+    }
+    long size = buffer.capacity();
+    while (position + recordSize > size) {
+      size *= 2;
+    }
+    if (size > Integer.MAX_VALUE) {
+      throw new IOException("Game journal is too large");
+    }
+    buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+  }
+}
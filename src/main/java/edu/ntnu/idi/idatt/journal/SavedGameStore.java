@@ -0,0 +1,162 @@
+package edu.ntnu.idi.idatt.journal;
+
+import edu.ntnu.idi.idatt.filehandler.ApplicationData;
+import edu.ntnu.idi.idatt.filehandler.BoardFileHandlerBinary;
+import edu.ntnu.idi.idatt.filehandler.PlayerFileHandlerCsv;
+import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.game.BoardGame;
+import edu.ntnu.idi.idatt.model.player.Player;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * SavedGameStore.
+ *
+ * <p>Keeps the unfinished game of each {@link GameType} in a directory, so a game can be resumed
+ * after the application has stopped. A saved game is the board, written with
+ * {@link BoardFileHandlerBinary}, the players, written with {@link PlayerFileHandlerCsv}, and a
+ * game journal recorded by a {@link GameJournalRecorder}.</p>
+ *
+ * <p>The journal is checkpointed every {@value #CHECKPOINT_INTERVAL} turns, and a game is resumed
+ * from its last checkpoint by replaying the recorded turns after it. A game is only saved while it
+ * is recorded, and is deleted when it is finished or quit.</p>
+ *
+ * @see GameJournalRecorder
+ * @see GameJournalReader
+ */
+public final class SavedGameStore {
+
+  /** The name of the directory of saved games in the application data directory. */
+  public static final String DIRECTORY_NAME = "saved-games";
+
+  static final String BOARD_FILE_NAME = "board" + BoardFileHandlerBinary.FILE_EXTENSION;
+  static final String PLAYERS_FILE_NAME = "players.csv";
+  static final String JOURNAL_FILE_NAME = "game.journal";
+
+  private static final int CHECKPOINT_INTERVAL = 16;
+  private static final Logger logger = LoggerFactory.getLogger(SavedGameStore.class);
+
+  private final Path directory;
+
+  /**
+   * The types of games that can be saved. Each type has at most one saved game.
+   */
+  public enum GameType {
+    LADDER,
+    LUDO
+  }
+
+  /**
+   * A saved game: the board and players to create the game with, and the journal to restore its
+   * state from.
+   *
+   * @param type    The type of the game.
+   * @param board   The board of the game.
+   * @param players The players of the game, in their initial state.
+   * @param journal The journal of the game.
+   */
+  public record SavedGame(GameType type, Board board, List<Player> players,
+      GameJournalReader journal) {
+  }
+
+  /**
+   * Constructs a SavedGameStore keeping the saved games in the application data directory.
+   *
+   * @see ApplicationData#getDirectory()
+   */
+  public SavedGameStore() {
+    this(ApplicationData.getDirectory().resolve(DIRECTORY_NAME));
+  }
+
+  /**
+   * Constructs a SavedGameStore keeping the saved games in the given directory.
+   *
+   * @param directory The directory of the saved games.
+   */
+  public SavedGameStore(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Saves the board and players of a game, replacing the saved game of the same type, and starts
+   * recording the game to its journal. The journal is created first, so a crash while saving
+   * leaves an empty journal, which is not loaded.
+   *
+   * @param type The type of the game.
+   * @param game The {@link BoardGame} to record, in the state it is resumed from if no turns are
+   *             recorded.
+   * @return The {@link GameJournalRecorder} recording the game, to be closed when the game is no
+   *         longer played.
+   * @throws IOException if the game cannot be saved.
+   */
+  public GameJournalRecorder startRecording(GameType type, BoardGame game) throws IOException {
+    final Path gameDirectory = getGameDirectory(type);
+    Files.createDirectories(gameDirectory);
+    final GameJournalWriter writer = new GameJournalWriter(
+        gameDirectory.resolve(JOURNAL_FILE_NAME), CHECKPOINT_INTERVAL);
+    try {
+      final Path boardFile = gameDirectory.resolve(BOARD_FILE_NAME);
+      Files.deleteIfExists(boardFile);
+      new BoardFileHandlerBinary().writeFile(boardFile.toString(), List.of(game.getBoard()));
+      new PlayerFileHandlerCsv().writeFile(gameDirectory.resolve(PLAYERS_FILE_NAME).toString(),
+          game.getPlayers());
+      logger.debug("Recording {} game to {}", type, gameDirectory);
+      return new GameJournalRecorder(game, writer);
+    } catch (IOException | RuntimeException e) {
+      writer.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Loads the saved game of the given type.
+   *
+   * @param type The type of the game.
+   * @return The saved game, or null if there is no saved game of the type or no turns of it were
+   *         recorded.
+   * @throws IOException if the saved game cannot be read.
+   */
+  public SavedGame load(GameType type) throws IOException {
+    final Path gameDirectory = getGameDirectory(type);
+    final Path journalFile = gameDirectory.resolve(JOURNAL_FILE_NAME);
+    if (!Files.exists(journalFile)) {
+      return null;
+    }
+    final GameJournalReader journal = new GameJournalReader(journalFile);
+    if (journal.getTurnCount() == 0) {
+      return null;
+    }
+    final Board board = new BoardFileHandlerBinary().readFile(
+        gameDirectory.resolve(BOARD_FILE_NAME).toString());
+    final List<Player> players = new PlayerFileHandlerCsv().readFile(
+        gameDirectory.resolve(PLAYERS_FILE_NAME).toString());
+    if (players.isEmpty()) {
+      throw new IOException("No players in saved game: " + gameDirectory);
+    }
+    return new SavedGame(type, board, players, journal);
+  }
+
+  /**
+   * Deletes the saved game of the given type, if there is one.
+   *
+   * @param type The type of the game.
+   * @throws IOException if the files of the saved game cannot be deleted.
+   */
+  public void delete(GameType type) throws IOException {
+    final Path gameDirectory = getGameDirectory(type);
+    Files.deleteIfExists(gameDirectory.resolve(JOURNAL_FILE_NAME));
+    Files.deleteIfExists(gameDirectory.resolve(BOARD_FILE_NAME));
+    Files.deleteIfExists(gameDirectory.resolve(PLAYERS_FILE_NAME));
+    Files.deleteIfExists(gameDirectory);
+    logger.debug("Deleted saved {} game", type);
+  }
+
+  private Path getGameDirectory(GameType type) {
+    return directory.resolve(type.name().toLowerCase(Locale.ROOT));
+  }
+}
@@ -0,0 +1,46 @@
+package edu.ntnu.idi.idatt.journal;
+
+/**
+ * TurnRecord.
+ *
+ * <p>One turn of a board game as stored in a game journal.</p>
+ *
+ * @param seat                The index of the player who played the turn.
+ * @param diceRoll            The total dice roll of the turn.
+ * @param diceValues          The values of the individual dice, or an empty array if they are not
+ *                            known.
+ * @param tokenIndex          The index of the Ludo token moved or released, or -1 if no token was
+ *                            moved.
+ * @param captureMask         The bits of the Ludo tokens captured during the turn, as returned by
+ *                            {@link edu.ntnu.idi.idatt.model.state.LudoOccupancyIndex#tokenBit}.
+ * @param landingTileId       The id of the tile the player or token landed on, or -1 if nothing
+ *                            moved.
+ * @param destinationTileId   The id of the tile the player or token ended the turn on, after any
+ *                            tile action, or -1 if nothing moved.
+ * @param tileActionPerformed Whether a tile action was performed.
+ * @param tokenReleased       Whether a Ludo token was released from its start area.
+ * @param turnSkipped         Whether the turn was skipped.
+ * @see GameJournalWriter
+ * @see GameJournalReader
+ */
+public record TurnRecord(int seat, int diceRoll, int[] diceValues, int tokenIndex,
+                         int captureMask, int landingTileId, int destinationTileId,
+                         boolean tileActionPerformed, boolean tokenReleased, boolean turnSkipped) {
+
+  /**
+   * Constructs a turn record, copying the dice values.
+   */
+  public TurnRecord {
+    diceValues = diceValues == null ? new int[0] : diceValues.clone();
+  }
+
+  /**
+   * Returns a copy of the values of the individual dice.
+   *
+   * @return The dice values.
+   */
+  @Override
+  public int[] diceValues() {
+    return diceValues.clone();
+  }
+}
@@ -8,6 +8,8 @@ import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardSetnameV
 
 import edu.ntnu.idi.idatt.model.tile.Tile;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,6 +19,10 @@ import java.util.Map;
  *
  * <p>Abstract class implementing common functionality for board game boards.
  * This class provides the base implementation for both Chutes and Ladders and Ludo boards.
+ *
+ * <p>Besides the tiles by id, the board keeps an index of the tiles by their coordinates, which is
+ * updated when tiles are added or replaced with {@link #addTile(Tile)} and
+ * {@link #setTiles(Map)}.
  */
 public abstract class BaseBoard implements Board {
 
@@ -24,6 +30,7 @@ public abstract class BaseBoard implements Board {
   protected String description;
   protected Map<Integer, Tile> tiles;
   protected String background;
+  private Map<Long, Tile> coordinateIndex;
 
   /**
    * Constructor for BaseBoard.
@@ -34,6 +41,7 @@ public abstract class BaseBoard implements Board {
    */
   protected BaseBoard(String name, String description, String background) {
     this.tiles = new HashMap<>();
+    this.coordinateIndex = new HashMap<>();
     setName(name);
     setDescription(description);
     setBackground(background);
@@ -91,6 +99,28 @@ public abstract class BaseBoard implements Board {
     return new ArrayList<>(tiles.values());
   }
 
+  /**
+   * Gets a read-only view of all tiles on the board, without copying them.
+   *
+   * @return an unmodifiable view of all tiles
+   */
+  @Override
+  public Collection<Tile> getTileView() {
+    return Collections.unmodifiableCollection(tiles.values());
+  }
+
+  /**
+   * Gets the tile at the given coordinates, using the coordinate index of the board.
+   *
+   * @param row the row of the tile
+   * @param column the column of the tile
+   * @return the tile at the coordinates, or null if there is no tile there
+   */
+  @Override
+  public Tile getTileAt(int row, int column) {
+    return coordinateIndex.get(coordinateKey(row, column));
+  }
+
   /**
    * Gets the total number of tiles on the board excluding the starting tile, which normally is
    * outside of the board, with the id 0.
@@ -143,6 +173,54 @@ public abstract class BaseBoard implements Board {
   @Override
   public void addTile(Tile tile) {
     boardAddTileValidator(tile);
-    this.tiles.put(tile.getTileId(), tile);
+    Tile replacedTile = this.tiles.put(tile.getTileId(), tile);
+    if (replacedTile != null) {
+      coordinateIndex.remove(coordinateKey(replacedTile.getCoordinates()), replacedTile);
+    }
+    coordinateIndex.put(coordinateKey(tile.getCoordinates()), tile);
+  }
+
+  /**
+   * Replaces all tiles on the board, and rebuilds the coordinate index.
+   *
+   * @param tiles the new tiles, by tile id
+   */
+  protected void setTiles(Map<Integer, Tile> tiles) {
+    final Map<Long, Tile> newCoordinateIndex = HashMap.newHashMap(tiles.size());
+    tiles.values().forEach(tile -> newCoordinateIndex.putIfAbsent(
+        coordinateKey(tile.getCoordinates()), tile));
+    this.tiles = tiles;
+    this.coordinateIndex = newCoordinateIndex;
+  }
+
+  /**
+   * Replaces all tiles on the board with copies of the tiles of another board, and indexes the
+   * copies by the same coordinates as the tiles of the other board.
+   *
+   * @param board the board to copy the tiles from
+   */
+  protected void copyTiles(BaseBoard board) {
+    final Map<Integer, Tile> newTiles = HashMap.newHashMap(board.tiles.size());
+    board.tiles.forEach((tileId, tile) -> newTiles.put(tileId, tile.copy()));
+    final Map<Long, Tile> newCoordinateIndex = HashMap.newHashMap(board.coordinateIndex.size());
+    board.coordinateIndex.forEach((key, tile) -> newCoordinateIndex.put(key,
+        newTiles.get(tile.getTileId())));
+    this.tiles = newTiles;
+    this.coordinateIndex = newCoordinateIndex;
+  }
+
+  /**
+   * Packs a pair of coordinates into a single key.
+   *
+   * @param row the row
+   * @param column the column
+   * @return the key of the coordinates
+   */
+  static long coordinateKey(int row, int column) {
+    return ((long) row << 32) | (column & 0xffffffffL);
+  }
+
+  private static long coordinateKey(int[] coordinates) {
+    return coordinateKey(coordinates[0], coordinates[1]);
   }
 } 
\ No newline at end of file
@@ -1,6 +1,7 @@
 package edu.ntnu.idi.idatt.model.board;
 
 import edu.ntnu.idi.idatt.model.tile.Tile;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -45,6 +46,23 @@ public interface Board {
    */
   List<Tile> getTiles();
 
+  /**
+   * Gets a read-only view of all tiles on the board. Unlike {@link #getTiles()}, the tiles are not
+   * copied, and the view reflects later changes to the board.
+   *
+   * @return an unmodifiable view of all tiles
+   */
+  Collection<Tile> getTileView();
+
+  /**
+   * Gets the tile at the given coordinates, in constant time.
+   *
+   * @param row the row of the tile
+   * @param column the column of the tile
+   * @return the tile at the coordinates, or null if there is no tile there
+   */
+  Tile getTileAt(int row, int column);
+
   /**
    * Gets the total number of tiles on the board.
    *
@@ -80,6 +98,14 @@ public interface Board {
    */
   void addTile(Tile tile);
 
+  /**
+   * Creates a copy of the board, with copies of its tiles and tile actions, which can be changed
+   * without changing this board.
+   *
+   * @return the copy of the board
+   */
+  Board copy();
+
   /**
    * Creates the tiles for the board.
    *
@@ -0,0 +1,96 @@
+package edu.ntnu.idi.idatt.model.board;
+
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardGetTileValidator;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.compiledLadderBoardSumValidator;
+
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import edu.ntnu.idi.idatt.model.tile.TileAction;
+
+/**
+ * CompiledLadderBoard class
+ *
+ * <p>Read-only snapshot of a {@link LadderGameBoard}, resolved into flat arrays for playing. The
+ * jump table maps the sum of a tile id and a dice roll to the id of the tile the player ends the
+ * turn on. It includes both the bounce from the last tile and the destination of the
+ * {@link TileAction} on the tile the player lands on, so resolving a turn is a single array read.
+ * The tiles are looked up in the array-backed {@link LadderTileStore} of the board without
+ * boxing, and compiling a board does not materialize its plain tiles.</p>
+ *
+ * <p>The jump table is not updated when the board or its tiles are changed afterwards, and must
+ * be created again with {@link LadderGameBoard#compile()}.</p>
+ *
+ * @see LadderGameBoard
+ */
+public final class CompiledLadderBoard {
+  private final int tileCount;
+  private final int[] jumpTable;
+  private final LadderTileStore tileStore;
+
+  /**
+   * Constructor for CompiledLadderBoard.
+   *
+   * @param board The {@link LadderGameBoard} to compile.
+   */
+  CompiledLadderBoard(LadderGameBoard board) {
+    this.tileCount = board.getTileCount();
+    this.tileStore = board.getTileStore();
+
+    this.jumpTable = new int[2 * tileCount + 1];
+    for (int sum = 0; sum < jumpTable.length; sum++) {
+      int landingTileId = getLandingTileId(sum);
+      TileAction landAction = tileStore.getLandAction(landingTileId);
+      jumpTable[sum] = landAction == null ? landingTileId : landAction.getDestinationTileId();
+    }
+  }
+
+  /**
+   * Returns the number of tiles on the board, not counting the start tile.
+   *
+   * @return The id of the last tile.
+   */
+  public int getTileCount() {
+    return tileCount;
+  }
+
+  /**
+   * Returns the tile with the given id.
+   *
+   * @param tileId The id of the tile, from 0 to the tile count.
+   * @return The {@link LadderGameTile} with the given id.
+   * @throws IllegalArgumentException if the tile id is outside the board.
+   */
+  public LadderGameTile getTile(int tileId) {
+    boardGetTileValidator(tileId, tileCount);
+
+    return tileStore.getTile(tileId);
+  }
+
+  /**
+   * Returns the id of the tile a player lands on before any tile action is performed. Sums above
+   * the tile count are bounced back from the last tile.
+   *
+   * @param sum The sum of the player's current tile id and the dice roll.
+   * @return The id of the landing tile.
+   * @throws IllegalArgumentException if the sum is negative or above twice the tile count.
+   */
+  public int getLandingTileId(int sum) {
+    compiledLadderBoardSumValidator(sum, tileCount);
+
+    return sum <= tileCount ? sum : 2 * tileCount - sum;
+  }
+
+  /**
+   * Returns the id of the tile a player ends the turn on, after bouncing back from the last tile
+   * and performing the tile action of the landing tile.
+   *
+   * @param sum The sum of the player's current tile id and the dice roll, at most twice the tile
+   *            count.
+   * @return The id of the tile the player ends the turn on.
+   * @throws IllegalArgumentException if the sum is negative or above twice the tile count.
+   */
+  public int getDestinationTileId(int sum) {
+    compiledLadderBoardSumValidator(sum, tileCount);
+
+    return jumpTable[sum];
+  }
+}
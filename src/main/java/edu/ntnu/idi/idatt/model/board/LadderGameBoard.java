@@ -1,13 +1,16 @@
 package edu.ntnu.idi.idatt.model.board;
 
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardAddTileValidator;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardGetTileValidator;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ladderGameBoardAddTileValidator;
 import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ladderGameBoardCreateTilesValidator;
 import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ladderGameBoardSetPatternValidator;
 import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ladderGameBoardSetRowsAndColumnsValidator;
 
 import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
 import edu.ntnu.idi.idatt.model.tile.Tile;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * LadderGameBoard class
@@ -15,6 +18,11 @@ import java.util.Map;
  * <p>Concrete implementation of the Board interface for the Chutes and Ladders game.
  * This class extends BaseBoard and implements game-specific board functionality.
  *
+ * <p>The tiles are kept in a {@link LadderTileStore} instead of the tile map of the base board.
+ * Plain tiles are computed from the number of rows and columns when they are requested, and only
+ * stored when they are added or given a tile action, so very large boards are cheap to create,
+ * read and store.
+ *
  * @see BaseBoard
  * @see Board
  * @see Tile
@@ -24,6 +32,7 @@ public class LadderGameBoard extends BaseBoard {
   protected int[] rowsAndColumns;
   protected String background;
   protected String pattern;
+  private LadderTileStore tileStore;
 
   /**
    * Constructor for LadderGameBoard.
@@ -65,6 +74,8 @@ public class LadderGameBoard extends BaseBoard {
    * the rows and columns by calling the appropriate method.
    *
    * @param rowsAndColumns an array containing [rows, columns]
+   * @throws IllegalArgumentException if the board is smaller than 5x5 or has more than a million
+   *                                  tiles
    * @see #createTiles(int, int)
    */
   public void setRowsAndColumns(int[] rowsAndColumns) {
@@ -88,49 +99,141 @@ public class LadderGameBoard extends BaseBoard {
    */
   @Override
   public int getTileCount() {
-    return tiles.size() - 1;
+    return tileStore.getTileCount();
+  }
+
+  /**
+   * Gets a tile by its ID. A plain tile is computed for every request, so only the tiles that were
+   * added or given a tile action are the same object for later requests.
+   *
+   * @param tileId the ID of the tile to get
+   * @return the tile with the given ID, or null if the ID is one past the last tile
+   */
+  @Override
+  public Tile getTile(int tileId) {
+    boardGetTileValidator(tileId, getTileCount() + 1);
+    return tileId > getTileCount() ? null : tileStore.getTile(tileId);
   }
 
   /**
-   * Creates a list of Tile objects that are arranged in a grid pattern with alternating directions
-   * in each row. The first tile is in the lower left corner of the grid, and the direction of the
-   * first row is left to right. This is the standard way to create a board for the Chutes and
-   * Ladders game.
+   * Gets all tiles on the board, including the starting tile 0, ordered by tile ID. The plain tiles
+   * are computed and not stored.
+   *
+   * @return a list of all tiles
+   */
+  @Override
+  public List<Tile> getTiles() {
+    return tileStore.getTiles();
+  }
+
+  /**
+   * Gets a read-only view of all tiles on the board, ordered by tile ID, without copying them.
+   * Reading a plain tile from the view does not store it.
+   *
+   * @return an unmodifiable view of all tiles
+   */
+  @Override
+  public Collection<Tile> getTileView() {
+    return tileStore.getTileView();
+  }
+
+  /**
+   * Gets the tile at the given coordinates. The ID of the tile is computed from the coordinates,
+   * so no tiles are searched.
+   *
+   * @param row the row of the tile
+   * @param column the column of the tile
+   * @return the tile at the coordinates, or null if there is no tile there
+   */
+  @Override
+  public Tile getTileAt(int row, int column) {
+    return tileStore.getTileAt(row, column);
+  }
+
+  /**
+   * Checks if a tile without a tile action, with the given properties, is the tile the board
+   * computes for the tile ID. Adding such a tile would not change the board, so file readers can
+   * skip it instead of storing it.
+   *
+   * @param tileId the ID of the tile
+   * @param row the row of the tile
+   * @param column the column of the tile
+   * @param nextTileId the ID of the next tile
+   * @return true if the tile is the computed tile for the tile ID
+   */
+  public boolean isComputedTile(int tileId, int row, int column, int nextTileId) {
+    return tileStore.isComputedTile(tileId, row, column, nextTileId);
+  }
+
+  /**
+   * Adds a tile to the board, replacing the tile with the same ID.
+   *
+   * @param tile the tile to add
+   * @throws IllegalArgumentException if the tile is not a {@link LadderGameTile}, or its ID is
+   *                                  not on the board.
+   */
+  @Override
+  public void addTile(Tile tile) {
+    boardAddTileValidator(tile);
+    ladderGameBoardAddTileValidator(tile, getTileCount());
+    tileStore.putTile((LadderGameTile) tile);
+  }
+
+  /**
+   * Gets the tile store of the board.
+   *
+   * @return the {@link LadderTileStore} of the board
+   */
+  LadderTileStore getTileStore() {
+    return tileStore;
+  }
+
+  /**
+   * Creates a copy of the board. Only the tiles that differ from the computed tiles, such as the
+   * tiles with a tile action, are copied, so copying a board costs little more than creating it.
+   *
+   * @return the copy of the board
+   */
+  @Override
+  public LadderGameBoard copy() {
+    final LadderGameBoard board = new LadderGameBoard(getName(), getDescription(),
+        rowsAndColumns.clone(), getBackground(), pattern);
+    board.tileStore.copyTiles(tileStore);
+    return board;
+  }
+
+  /**
+   * Compiles the board into a {@link CompiledLadderBoard}, a read-only snapshot of the tiles and
+   * their tile actions that resolves a turn with a single array read.
+   *
+   * @return the compiled board
+   */
+  public CompiledLadderBoard compile() {
+    return new CompiledLadderBoard(this);
+  }
+
+  /**
+   * Creates the tiles of a grid with alternating directions in each row. The first tile is in the
+   * lower left corner of the grid, and the direction of the first row is left to right. This is
+   * the standard way to create a board for the Chutes and Ladders game. The tiles are computed
+   * when they are requested, so no tiles are allocated here.
    *
    * <p>If the board already contains tiles, and they have any tile actions, these will be added to
    * the new tiles if they are within the new board dimensions.
    *
    * @param rows    The number of rows in the grid
    * @param columns The number of columns in the grid
+   * @throws IllegalArgumentException if the grid is smaller than 5x5 or has more than a million
+   *                                  tiles
    */
   @Override
   public void createTiles(int rows, int columns) {
     ladderGameBoardCreateTilesValidator(rows, columns);
-    
-    Map<Integer, Tile> newTiles = new HashMap<>();
-    // Add 0th tile outside of board
-    newTiles.put(0, new LadderGameTile(0, new int[]{0, -2}, 1));
-
-    for (int i = 0; i < rows; i++) {
-      for (int j = 0; j < columns; j++) {
-        int baseId = i * columns;
-        int tileId;
-        int[] coordinates = new int[]{i, j};
-
-        if (i % 2 == 0) { // Even numbered rows (left to right)
-          tileId = baseId + j + 1;
-        } else { // Odd numbered rows (right to left)
-          tileId = baseId + (columns - j);
-        }
-        newTiles.put(tileId, new LadderGameTile(tileId, coordinates, tileId + 1));
-        try {
-          ((LadderGameTile) newTiles.get(tileId)).setLandAction(((LadderGameTile) tiles.get(tileId))
-              .getLandAction());
-        } catch (NullPointerException | IllegalArgumentException e) {
-          // Do nothing if the tile doesn't have an action
-        }
-      }
+
+    final LadderTileStore newTileStore = new LadderTileStore(rows, columns);
+    if (tileStore != null) {
+      newTileStore.copyLandActions(tileStore);
     }
-    this.tiles = newTiles;
+    this.tileStore = newTileStore;
   }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,298 @@
+package edu.ntnu.idi.idatt.model.board;
+
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import edu.ntnu.idi.idatt.model.tile.Tile;
+import edu.ntnu.idi.idatt.model.tile.TileAction;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * LadderTileStore class
+ *
+ * <p>Array-backed tile storage of a {@link LadderGameBoard}. The id, coordinates and next tile id
+ * of every tile follow from the number of rows and columns alone, so plain tiles are not stored.
+ * A tile is only kept in the array indexed by tile id when it is added, or when a tile action is
+ * set on it. Reading a plain tile returns a new, short-lived tile computed from its id, so walking
+ * all tiles, writing the board to a file or rendering it stores nothing. A board with a million
+ * tiles therefore only costs the array, and creating or reading it keeps no tiles at all.</p>
+ *
+ * <p>The tile at a pair of coordinates is found by computing its id. Tiles that were added with
+ * other coordinates than the computed ones are kept in a separate index by coordinates.</p>
+ *
+ * @see LadderGameBoard
+ * @see CompiledLadderBoard
+ */
+final class LadderTileStore {
+
+  /** The coordinates of tile 0, the starting tile outside the board. */
+  private static final int[] START_TILE_COORDINATES = {0, -2};
+
+  private final int rows;
+  private final int columns;
+  private final LadderGameTile[] tiles;
+  private final List<Tile> tileView;
+  private Map<Long, LadderGameTile> displacedTiles;
+
+  /**
+   * Constructor for LadderTileStore.
+   *
+   * @param rows    The number of rows in the grid.
+   * @param columns The number of columns in the grid.
+   */
+  LadderTileStore(int rows, int columns) {
+    this.rows = rows;
+    this.columns = columns;
+    this.tiles = new LadderGameTile[rows * columns + 1];
+    this.tileView = new TileView();
+  }
+
+  /**
+   * Returns the number of tiles on the board, excluding the starting tile 0.
+   *
+   * @return The number of tiles.
+   */
+  int getTileCount() {
+    return rows * columns;
+  }
+
+  /**
+   * Returns the tile with the given id. A tile that is not stored is computed, and is only stored
+   * if a tile action is set on it.
+   *
+   * @param tileId The id of the tile, from 0 to the tile count.
+   * @return The tile.
+   */
+  LadderGameTile getTile(int tileId) {
+    final LadderGameTile tile = tiles[tileId];
+    return tile == null ? new ComputedTile(tileId) : tile;
+  }
+
+  /**
+   * Returns the number of tiles kept by the store, which are the tiles that were added or given
+   * a tile action.
+   *
+   * @return The number of stored tiles.
+   */
+  int getStoredTileCount() {
+    int storedTileCount = 0;
+    for (LadderGameTile tile : tiles) {
+      if (tile != null) {
+        storedTileCount++;
+      }
+    }
+    return storedTileCount;
+  }
+
+  /**
+   * Returns the tile action of the tile with the given id, without materializing the tile.
+   *
+   * @param tileId The id of the tile, from 0 to the tile count.
+   * @return The tile action, or null if the tile has none.
+   */
+  TileAction getLandAction(int tileId) {
+    final LadderGameTile tile = tiles[tileId];
+    return tile == null ? null : tile.getLandAction();
+  }
+
+  /**
+   * Stores a tile, replacing the tile with the same id.
+   *
+   * @param tile The tile to store.
+   */
+  void putTile(LadderGameTile tile) {
+    final int tileId = tile.getTileId();
+    final LadderGameTile replacedTile = tiles[tileId];
+    if (displacedTiles != null && replacedTile != null) {
+      displacedTiles.remove(BaseBoard.coordinateKey(replacedTile.getCoordinates()[0],
+          replacedTile.getCoordinates()[1]), replacedTile);
+    }
+    tiles[tileId] = tile;
+    if (!isAtComputedCoordinates(tile)) {
+      if (displacedTiles == null) {
+        displacedTiles = new HashMap<>();
+      }
+      displacedTiles.putIfAbsent(BaseBoard.coordinateKey(tile.getCoordinates()[0],
+          tile.getCoordinates()[1]), tile);
+    }
+  }
+
+  /**
+   * Returns the tile at the given coordinates.
+   *
+   * @param row    The row of the tile.
+   * @param column The column of the tile.
+   * @return The tile, or null if there is no tile at the coordinates.
+   */
+  LadderGameTile getTileAt(int row, int column) {
+    if (displacedTiles != null) {
+      LadderGameTile tile = displacedTiles.get(BaseBoard.coordinateKey(row, column));
+      if (tile != null) {
+        return tile;
+      }
+    }
+    final int tileId = getTileId(row, column);
+    if (tileId < 0 || (tiles[tileId] != null && !isAtComputedCoordinates(tiles[tileId]))) {
+      return null;
+    }
+    return getTile(tileId);
+  }
+
+  /**
+   * Checks if a tile without a tile action, with the given properties, is the tile the store
+   * computes for the tile id, and the store holds no other tile for the id.
+   *
+   * @param tileId     The id of the tile.
+   * @param row        The row of the tile.
+   * @param column     The column of the tile.
+   * @param nextTileId The id of the next tile.
+   * @return True if storing the tile would not change the tiles of the store.
+   */
+  boolean isComputedTile(int tileId, int row, int column, int nextTileId) {
+    if (tileId < 0 || tileId >= tiles.length || nextTileId != tileId + 1
+        || getTileId(row, column) != tileId) {
+      return false;
+    }
+    final LadderGameTile tile = tiles[tileId];
+    return tile == null || (tile.getLandAction() == null && tile.getNextTileId() == nextTileId
+        && isAtComputedCoordinates(tile));
+  }
+
+  /**
+   * Returns a read-only view of all the tiles, ordered by tile id. Reading a plain tile from the
+   * view does not store it.
+   *
+   * @return The view of the tiles.
+   */
+  List<Tile> getTileView() {
+    return tileView;
+  }
+
+  /**
+   * Returns all the tiles, ordered by tile id. The plain tiles in the list are computed and not
+   * stored.
+   *
+   * @return A new list of the tiles.
+   */
+  List<Tile> getTiles() {
+    final List<Tile> tileList = new ArrayList<>(tiles.length);
+    for (int tileId = 0; tileId < tiles.length; tileId++) {
+      tileList.add(getTile(tileId));
+    }
+    return tileList;
+  }
+
+  /**
+   * Copies the tile actions of the stored tiles of another store to new tiles in this
+   * store, for the tile ids that exist in both.
+   *
+   * @param store The store to copy the tile actions from.
+   */
+  void copyLandActions(LadderTileStore store) {
+    final int lastTileId = Math.min(tiles.length, store.tiles.length);
+    for (int tileId = 0; tileId < lastTileId; tileId++) {
+      TileAction landAction = store.getLandAction(tileId);
+      if (landAction != null) {
+        tiles[tileId] = new LadderGameTile(tileId, computeCoordinates(tileId), tileId + 1, landAction);
+      }
+    }
+  }
+
+  /**
+   * Copies the stored tiles of another store with the same number of rows and columns,
+   * except the plain tiles that this store computes, and the index of the tiles that are not at
+   * their computed coordinates.
+   *
+   * @param store The store to copy the tiles from.
+   */
+  void copyTiles(LadderTileStore store) {
+    for (int tileId = 0; tileId < tiles.length; tileId++) {
+      final LadderGameTile tile = store.tiles[tileId];
+      if (tile != null && (tile.getLandAction() != null || tile.getNextTileId() != tileId + 1
+          || !isAtComputedCoordinates(tile))) {
+        tiles[tileId] = tile.copy();
+      }
+    }
+    if (store.displacedTiles != null) {
+      displacedTiles = HashMap.newHashMap(store.displacedTiles.size());
+      store.displacedTiles.forEach((key, tile) -> displacedTiles.put(key,
+          tiles[tile.getTileId()]));
+    }
+  }
+
+  /**
+   * Computes the id of the tile at the given coordinates, the inverse of
+   * {@link #computeCoordinates(int)}.
+   *
+   * @param row    The row of the tile.
+   * @param column The column of the tile.
+   * @return The id of the tile, or -1 if the coordinates are outside the board.
+   */
+  private int getTileId(int row, int column) {
+    if (row == START_TILE_COORDINATES[0] && column == START_TILE_COORDINATES[1]) {
+      return 0;
+    }
+    if (row < 0 || row >= rows || column < 0 || column >= columns) {
+      return -1;
+    }
+    return row * columns + (row % 2 == 0 ? column + 1 : columns - column);
+  }
+
+  private boolean isAtComputedCoordinates(Tile tile) {
+    return getTileId(tile.getCoordinates()[0], tile.getCoordinates()[1]) == tile.getTileId();
+  }
+
+  /**
+   * Computes the coordinates of a tile. The first tile is in the lower left corner of the grid,
+   * and the direction of the rows alternates, starting from left to right.
+   *
+   * @param tileId The id of the tile.
+   * @return A new array with the row and column of the tile.
+   */
+  private int[] computeCoordinates(int tileId) {
+    if (tileId == 0) {
+      return START_TILE_COORDINATES.clone();
+    }
+    final int row = (tileId - 1) / columns;
+    final int position = (tileId - 1) % columns;
+    return new int[]{row, row % 2 == 0 ? position : columns - 1 - position};
+  }
+
+  /**
+   * Plain tile computed from its id, returned for a tile id the store holds no tile for. Setting a
+   * tile action on it stores it, unless another tile has been stored for the id since it was
+   * computed.
+   */
+  private final class ComputedTile extends LadderGameTile {
+    ComputedTile(int tileId) {
+      super(tileId, computeCoordinates(tileId), tileId + 1);
+    }
+
+    @Override
+    public void setLandAction(TileAction landAction) {
+      super.setLandAction(landAction);
+      final LadderGameTile storedTile = tiles[getTileId()];
+      if (storedTile == null || storedTile instanceof ComputedTile) {
+        tiles[getTileId()] = this;
+      }
+    }
+  }
+
+  /**
+   * Read-only list view of the tiles of the store, indexed by tile id.
+   */
+  private final class TileView extends AbstractList<Tile> implements RandomAccess {
+    @Override
+    public Tile get(int index) {
+      return getTile(index);
+    }
+
+    @Override
+    public int size() {
+      return tiles.length;
+    }
+  }
+}
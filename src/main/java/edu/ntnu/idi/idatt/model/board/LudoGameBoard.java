@@ -11,7 +11,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javafx.scene.paint.Color;
 
 /**
  * LudoGameBoard.
@@ -24,7 +23,9 @@ import javafx.scene.paint.Color;
  * <ul>
  *   <li>{@code boardSize}: An integer (typically odd, e.g., 9, 11, ..., 21) that determines the
  *       overall dimensions of the board and the length of player tracks and home areas.</li>
- *   <li>Player colors: An array of {@link Color} objects for the four players.</li>
+ *   <li>Player colors: An array of color hex strings for the four players, such as
+ *       {@code "#FF0000"} or {@code "0xff0000ff"}, so the board does not depend on the user
+ *       interface toolkit.</li>
  *   <li>Indexes for critical tile locations for each player:
  *     <ul>
  *       <li>{@code playerStartIndexes}: The starting tile ID for each player's tokens in their home
@@ -44,23 +45,28 @@ import javafx.scene.paint.Color;
  *       "finish-blank") and {@code nextTileId} connections based on the {@code boardSize}.
  *       This involves complex calculations and rotations to form the characteristic cross shape of
  *       a Ludo board.</li>
+ *   <li>Per-player routes ({@link #getPlayerRoute(int)}): the tile ids a player's token passes
+ *       from the track start to the finish tile, so that a move is an offset into an array. The
+ *       routes are created when first requested, and recreated after the tiles or indexes
+ *       change.</li>
  * </ul>
  *
  *
  * @see BaseBoard
  * @see LudoTile
- * @see Color
  */
 public class LudoGameBoard extends BaseBoard {
 
   protected int boardSize;
-  private Color[] colors;
+  private String[] colors;
   private int[] playerStartIndexes;
   private int[] playerTrackStartIndexes;
   private int[] playerFinishStartIndexes;
   private int[] playerFinishIndexes;
   private int startAreaSize;
   private int totalTrackTileCount;
+  private int[][] playerRoutes;
+  private int[][] playerRoutePositions;
 
   /**
    * Constructs a new {@code LudoGameBoard}.
@@ -70,11 +76,11 @@ public class LudoGameBoard extends BaseBoard {
    * @param background  The path to the background image for the board.
    * @param boardSize   The size of the board (e.g., 15), which dictates the track lengths. Must be
    *                    an odd integer between 9 and 21, inclusive.
-   * @param colors      An array of {@link Color} objects representing the four player colors. Must
-   *                    not be null and must contain exactly 4 non-null colors.
+   * @param colors      An array of color hex strings representing the four player colors. Must
+   *                    not be null and must contain exactly 4 valid color hex strings.
    */
   public LudoGameBoard(String name, String description, String background, int boardSize,
-      Color[] colors) {
+      String[] colors) {
     super(name, description, background);
 
     playerStartIndexes = new int[4];
@@ -87,11 +93,32 @@ public class LudoGameBoard extends BaseBoard {
   }
 
   /**
-   * Returns the array of {@link Color}s assigned to the players on this Ludo board.
+   * Constructs a copy of another {@code LudoGameBoard}, with copies of its tiles and indexes. The
+   * tiles are copied instead of created, and the player routes are recreated when they are next
+   * requested.
    *
-   * @return The array of player colors.
+   * @param board The board to copy.
    */
-  public Color[] getColors() {
+  private LudoGameBoard(LudoGameBoard board) {
+    super(board.name, board.description, board.background);
+
+    this.boardSize = board.boardSize;
+    this.colors = board.colors.clone();
+    this.playerStartIndexes = copyIndexes(board.playerStartIndexes);
+    this.playerTrackStartIndexes = copyIndexes(board.playerTrackStartIndexes);
+    this.playerFinishStartIndexes = copyIndexes(board.playerFinishStartIndexes);
+    this.playerFinishIndexes = copyIndexes(board.playerFinishIndexes);
+    this.startAreaSize = board.startAreaSize;
+    this.totalTrackTileCount = board.totalTrackTileCount;
+    copyTiles(board);
+  }
+
+  /**
+   * Returns the color hex strings assigned to the players on this Ludo board.
+   *
+   * @return The array of player color hex strings.
+   */
+  public String[] getColors() {
     return colors;
   }
 
@@ -168,12 +195,12 @@ public class LudoGameBoard extends BaseBoard {
 
   /**
    * Sets the player colors for this Ludo board. Input is validated to ensure it is not null and
-   * contains exactly four non-null colors.
+   * contains exactly four valid color hex strings.
    *
-   * @param colors An array of four {@link Color} objects.
+   * @param colors An array of four color hex strings.
    * @throws IllegalArgumentException if the colors array is invalid.
    */
-  public void setColors(Color[] colors) {
+  public void setColors(String[] colors) {
     ludoGameBoardSetColorsValidator(colors);
     this.colors = colors;
   }
@@ -185,6 +212,7 @@ public class LudoGameBoard extends BaseBoard {
    */
   public void setPlayerStartIndexes(int[] playerStartIndexes) {
     this.playerStartIndexes = playerStartIndexes;
+    clearPlayerRoutes();
   }
 
   /**
@@ -194,6 +222,7 @@ public class LudoGameBoard extends BaseBoard {
    */
   public void setPlayerTrackStartIndexes(int[] playerTrackStartIndexes) {
     this.playerTrackStartIndexes = playerTrackStartIndexes;
+    clearPlayerRoutes();
   }
 
   /**
@@ -203,6 +232,7 @@ public class LudoGameBoard extends BaseBoard {
    */
   public void setPlayerFinishStartIndexes(int[] playerFinishStartIndexes) {
     this.playerFinishStartIndexes = playerFinishStartIndexes;
+    clearPlayerRoutes();
   }
 
   /**
@@ -212,6 +242,7 @@ public class LudoGameBoard extends BaseBoard {
    */
   public void setPlayerFinishIndexes(int[] playerFinishIndexes) {
     this.playerFinishIndexes = playerFinishIndexes;
+    clearPlayerRoutes();
   }
 
   /**
@@ -259,11 +290,13 @@ public class LudoGameBoard extends BaseBoard {
    *   <li>Calling helper methods {@link #createFinishSection(int)} and
    *       {@link #createTrackSection(int, int, int[], int, int)} to generate conceptual tile lists
    *       for these parts.</li>
-   *   <li>Iterating through a grid representing the board and placing tiles from the generated
-   *       sections into their correct (row, column) positions, instantiating them as
-   *       {@link LudoTile} objects with appropriate types.</li>
+   *   <li>Indexing the tiles of each section by their coordinates within the section, and
+   *       iterating through a grid representing the board, placing tiles from the indexed sections
+   *       into their correct (row, column) positions, instantiating them as {@link LudoTile}
+   *       objects with appropriate types.</li>
    * </ol>
-   * The method ensures that the {@code rows} and {@code columns} arguments match the current
+   * Every tile is looked up in constant time, so the construction time is linear in the number of
+   * tiles. The method ensures that the {@code rows} and {@code columns} arguments match the current
    * {@code boardSize}.
    *
    * @param rows    The number of rows for the board, must match {@code boardSize}.
@@ -274,7 +307,7 @@ public class LudoGameBoard extends BaseBoard {
   @Override
   public void createTiles(int rows, int columns) {
     ludoGameBoardCreateTilesValidator(rows, columns);
-    final Map<Integer, Tile> newTiles = new HashMap<>();
+    final Map<Integer, Tile> newTiles = HashMap.newHashMap(rows * columns);
 
     this.startAreaSize = (boardSize - 3) / 2;
 
@@ -296,15 +329,20 @@ public class LudoGameBoard extends BaseBoard {
     this.playerTrackStartIndexes = new int[]{1, 1 + (trackTileCount * 1), 1 + (trackTileCount * 2),
         1 + (trackTileCount * 3)};
 
-    final List<Tile> finishSection = createFinishSection(middleTilesStartIndex);
-    final List<Tile> trackSection1 = createTrackSection(playerTrackStartIndexes[0],
-        totalTrackTileCount, playerFinishStartIndexes, startAreaSize, 1);
-    final List<Tile> trackSection2 = createTrackSection(playerTrackStartIndexes[1],
-        (trackTileCount * 1), playerFinishStartIndexes, startAreaSize, 2);
-    final List<Tile> trackSection3 = createTrackSection(playerTrackStartIndexes[2],
-        (trackTileCount * 2), playerFinishStartIndexes, startAreaSize, 3);
-    final List<Tile> trackSection4 = createTrackSection(playerTrackStartIndexes[3],
-        (trackTileCount * 3), playerFinishStartIndexes, startAreaSize, 4);
+    final Tile[][] finishSection = indexByCoordinates(createFinishSection(middleTilesStartIndex),
+        3, 3);
+    final Tile[][] trackSection1 = indexByCoordinates(createTrackSection(
+        playerTrackStartIndexes[0], totalTrackTileCount, playerFinishStartIndexes, startAreaSize,
+        1), 3, startAreaSize);
+    final Tile[][] trackSection2 = indexByCoordinates(createTrackSection(
+        playerTrackStartIndexes[1], (trackTileCount * 1), playerFinishStartIndexes, startAreaSize,
+        2), startAreaSize, 3);
+    final Tile[][] trackSection3 = indexByCoordinates(createTrackSection(
+        playerTrackStartIndexes[2], (trackTileCount * 2), playerFinishStartIndexes, startAreaSize,
+        3), 3, startAreaSize);
+    final Tile[][] trackSection4 = indexByCoordinates(createTrackSection(
+        playerTrackStartIndexes[3], (trackTileCount * 3), playerFinishStartIndexes, startAreaSize,
+        4), startAreaSize, 3);
 
     // For each row in upper start areas
     for (int row = 0; row < startAreaSize; row++) {
@@ -319,10 +357,7 @@ public class LudoGameBoard extends BaseBoard {
       // For each column in the top center track area
       for (int column = startAreaSize; column < boardSize - startAreaSize; column++) {
         final int columnZeroIndex = column - startAreaSize;
-        Tile tile = trackSection2.stream().filter(
-                t -> t.getCoordinates()[0] == rowZeroIndex
-                    && t.getCoordinates()[1] == columnZeroIndex)
-            .findFirst().orElse(null);
+        Tile tile = getSectionTile(trackSection2, rowZeroIndex, columnZeroIndex);
         newTiles.put(tile.getTileId(),
             new LudoTile(tile.getTileId(), new int[]{row, column}, tile.getNextTileId(),
                 ((LudoTile) tile).getType()));
@@ -343,11 +378,7 @@ public class LudoGameBoard extends BaseBoard {
       // For each column in the left track area (between start areas 1 and 4)
       for (int column = 0; column < startAreaSize; column++) {
         final int columnZeroIndex = column;
-        Tile tile = trackSection1.stream().filter(
-                t -> t.getCoordinates()[0] == rowZeroIndex
-                    && t.getCoordinates()[1] == columnZeroIndex)
-            .findFirst().orElseThrow(() -> new IllegalStateException(
-                "No tile found at coordinates [" + rowZeroIndex + ", " + columnZeroIndex + "]"));
+        Tile tile = getSectionTile(trackSection1, rowZeroIndex, columnZeroIndex);
         newTiles.put(tile.getTileId(),
             new LudoTile(tile.getTileId(), new int[]{row, column}, tile.getNextTileId(),
                 ((LudoTile) tile).getType()));
@@ -355,11 +386,7 @@ public class LudoGameBoard extends BaseBoard {
       // For each column in middle finish area (center of the board)
       for (int column = startAreaSize; column < boardSize - startAreaSize; column++) {
         final int columnZeroIndex = column - startAreaSize;
-        Tile tile = finishSection.stream().filter(
-                t -> t.getCoordinates()[0] == rowZeroIndex
-                    && t.getCoordinates()[1] == columnZeroIndex)
-            .findFirst().orElseThrow(() -> new IllegalStateException(
-                "No tile found at coordinates [" + rowZeroIndex + ", " + columnZeroIndex + "]"));
+        Tile tile = getSectionTile(finishSection, rowZeroIndex, columnZeroIndex);
         newTiles.put(tile.getTileId(),
             new LudoTile(tile.getTileId(), new int[]{row, column}, tile.getNextTileId(),
                 ((LudoTile) tile).getType()));
@@ -368,11 +395,7 @@ public class LudoGameBoard extends BaseBoard {
       // For each column in the right track area (between start areas 2 and 3)
       for (int column = boardSize - startAreaSize; column < boardSize; column++) {
         final int columnZeroIndex = column - boardSize + startAreaSize;
-        Tile tile = trackSection3.stream().filter(
-                t -> t.getCoordinates()[0] == rowZeroIndex
-                    && t.getCoordinates()[1] == columnZeroIndex)
-            .findFirst().orElseThrow(() -> new IllegalStateException(
-                "No tile found at coordinates [" + rowZeroIndex + ", " + columnZeroIndex + "]"));
+        Tile tile = getSectionTile(trackSection3, rowZeroIndex, columnZeroIndex);
         newTiles.put(tile.getTileId(),
             new LudoTile(tile.getTileId(), new int[]{row, column}, tile.getNextTileId(),
                 ((LudoTile) tile).getType()));
@@ -392,11 +415,7 @@ public class LudoGameBoard extends BaseBoard {
       // For each column in the bottom center track area
       for (int column = startAreaSize; column < boardSize - startAreaSize; column++) {
         final int columnZeroIndex = column - startAreaSize;
-        Tile tile = trackSection4.stream().filter(
-                t -> t.getCoordinates()[0] == rowZeroIndex
-                    && t.getCoordinates()[1] == columnZeroIndex)
-            .findFirst().orElseThrow(() -> new IllegalStateException(
-                "No tile found at coordinates [" + rowZeroIndex + ", " + columnZeroIndex + "]"));
+        Tile tile = getSectionTile(trackSection4, rowZeroIndex, columnZeroIndex);
         newTiles.put(tile.getTileId(),
             new LudoTile(tile.getTileId(), new int[]{row, column}, tile.getNextTileId(),
                 ((LudoTile) tile).getType()));
@@ -411,7 +430,125 @@ public class LudoGameBoard extends BaseBoard {
       }
     }
 
-    this.tiles = newTiles;
+    setTiles(newTiles);
+    clearPlayerRoutes();
+  }
+
+  /**
+   * Adds a tile to the board, and clears the player routes so that they are recreated with the
+   * new tile.
+   *
+   * @param tile The {@link Tile} to add.
+   */
+  @Override
+  public void addTile(Tile tile) {
+    super.addTile(tile);
+    clearPlayerRoutes();
+  }
+
+  /**
+   * Creates a copy of the board, without creating its tiles again.
+   *
+   * @return The copy of the board.
+   */
+  @Override
+  public LudoGameBoard copy() {
+    return new LudoGameBoard(this);
+  }
+
+  /**
+   * Returns the route of a player's tokens, as the ids of the tiles a token passes from the
+   * player's track start tile to the player's finish tile. The route follows the main track for
+   * one lap, and turns into the player's finish track instead of passing the player's track start
+   * tile again. Moving a token by a dice roll is the same as moving it the same number of steps
+   * along the route, stopping at the last tile.
+   *
+   * <p>The returned array is shared, and must not be modified.</p>
+   *
+   * @param seat The index of the player, from 0 to 3.
+   * @return The tile ids of the player's route.
+   */
+  public int[] getPlayerRoute(int seat) {
+    if (playerRoutes == null) {
+      createPlayerRoutes();
+    }
+    return playerRoutes[seat];
+  }
+
+  /**
+   * Returns the position of a tile on a player's route.
+   *
+   * @param seat   The index of the player, from 0 to 3.
+   * @param tileId The id of the tile.
+   * @return The index of the tile in the player's route, or -1 if the tile is not on the route.
+   * @see #getPlayerRoute(int)
+   */
+  public int getPlayerRoutePosition(int seat, int tileId) {
+    if (playerRoutePositions == null) {
+      createPlayerRoutes();
+    }
+    int[] positions = playerRoutePositions[seat];
+    return tileId >= 0 && tileId < positions.length ? positions[tileId] : -1;
+  }
+
+  /**
+   * Copies an array of player indexes.
+   *
+   * @param indexes The indexes to copy, or null.
+   * @return A copy of the indexes, or null if the indexes are null.
+   */
+  private static int[] copyIndexes(int[] indexes) {
+    return indexes == null ? null : indexes.clone();
+  }
+
+  /**
+   * Clears the player routes, so that they are recreated when they are next requested.
+   */
+  private void clearPlayerRoutes() {
+    this.playerRoutes = null;
+    this.playerRoutePositions = null;
+  }
+
+  /**
+   * Creates the route of each player by following the {@code nextTileId} of the tiles from the
+   * player's track start tile. When the tile after the next tile is the player's track start tile,
+   * the route turns into the player's finish track instead, and it ends at the player's finish
+   * tile. Also creates the inverse lookup from tile id to route position.
+   */
+  private void createPlayerRoutes() {
+    int maxTileId = 0;
+    for (int tileId : tiles.keySet()) {
+      maxTileId = Math.max(maxTileId, tileId);
+    }
+
+    final int[][] routes = new int[playerTrackStartIndexes.length][];
+    final int[][] routePositions = new int[playerTrackStartIndexes.length][];
+    for (int seat = 0; seat < routes.length; seat++) {
+      int[] route = new int[tiles.size()];
+      int length = 0;
+      int tileId = playerTrackStartIndexes[seat];
+      route[length++] = tileId;
+      while (tileId != playerFinishIndexes[seat] && length < route.length
+          && tiles.containsKey(tileId)) {
+        tileId = tiles.get(tileId).getNextTileId();
+        Tile nextTile = tiles.get(tileId);
+        if (nextTile != null && nextTile.getNextTileId() == playerTrackStartIndexes[seat]) {
+          tileId = playerFinishStartIndexes[seat];
+        }
+        route[length++] = tileId;
+      }
+      routes[seat] = Arrays.copyOf(route, length);
+
+      routePositions[seat] = new int[maxTileId + 1];
+      Arrays.fill(routePositions[seat], -1);
+      for (int position = length - 1; position >= 0; position--) {
+        if (routes[seat][position] >= 0 && routes[seat][position] <= maxTileId) {
+          routePositions[seat][routes[seat][position]] = position;
+        }
+      }
+    }
+    this.playerRoutes = routes;
+    this.playerRoutePositions = routePositions;
   }
 
   /**
@@ -510,6 +647,42 @@ public class LudoGameBoard extends BaseBoard {
     return rotatedTiles;
   }
 
+  /**
+   * Indexes the tiles of a board section by their coordinates within the section, so that the
+   * tile at any position of the section is found in constant time while the board is filled.
+   *
+   * @param section The tiles of the section.
+   * @param rows    The number of rows in the section.
+   * @param columns The number of columns in the section.
+   * @return The tiles of the section, indexed by {@code [row][column]}.
+   */
+  private static Tile[][] indexByCoordinates(List<Tile> section, int rows, int columns) {
+    final Tile[][] grid = new Tile[rows][columns];
+    for (Tile tile : section) {
+      grid[tile.getCoordinates()[0]][tile.getCoordinates()[1]] = tile;
+    }
+    return grid;
+  }
+
+  /**
+   * Returns the tile at the given coordinates within a board section indexed by
+   * {@link #indexByCoordinates(List, int, int)}.
+   *
+   * @param section The tiles of the section, indexed by {@code [row][column]}.
+   * @param row     The row within the section.
+   * @param column  The column within the section.
+   * @return The tile at the coordinates.
+   * @throws IllegalStateException if the section has no tile at the coordinates.
+   */
+  private static Tile getSectionTile(Tile[][] section, int row, int column) {
+    final Tile tile = section[row][column];
+    if (tile == null) {
+      throw new IllegalStateException("No tile found at coordinates [" + row + ", " + column
+          + "]");
+    }
+    return tile;
+  }
+
   /**
    * Rotates a given set of 2D coordinates by 90 degrees clockwise within a bounding box defined by
    * {@code rows} and {@code columns}. This is a utility method used during Ludo board tile
@@ -12,10 +12,13 @@ import java.util.List;
  * Dice class
  *
  * <p>This class represents a collection of dice. It contains a list of Die objects, which are
- * rolled when the dice are rolled.
+ * rolled when the dice are rolled. All the dice draw from the generator of the same
+ * {@link RandomProvider}, so the rolls of a game can be reproduced from the seed of the provider.
  */
 public class Dice {
   private final List<Die> diceList;
+  private final RandomProvider randomProvider;
+  private DiceRoller diceRoller;
 
   /**
    * Constructor for Dice class.
@@ -23,10 +26,30 @@ public class Dice {
    * @param numberOfDice The number of dice to create.
    */
   public Dice(int numberOfDice) {
+    this(numberOfDice, new RandomProvider());
+  }
+
+  /**
+   * Constructor for Dice class, drawing the rolls from the given random provider.
+   *
+   * @param numberOfDice   The number of dice to create.
+   * @param randomProvider The {@link RandomProvider} to draw the rolls from.
+   */
+  public Dice(int numberOfDice, RandomProvider randomProvider) {
     diceList = new ArrayList<>();
+    this.randomProvider = randomProvider;
     addDice(numberOfDice);
   }
 
+  /**
+   * Returns the random provider the dice draw their rolls from.
+   *
+   * @return The {@link RandomProvider} of the dice.
+   */
+  public RandomProvider getRandomProvider() {
+    return randomProvider;
+  }
+
   /**
    * Returns the list of dice.
    *
@@ -61,6 +84,84 @@ public class Dice {
     return totalValue;
   }
 
+  /**
+   * Returns the probability distribution of the total value of all the dice. The value at index
+   * {@code n} is the probability that a roll of all the dice adds up to {@code n}.
+   *
+   * @return The probabilities of each total value, from 0 up to six times the number of dice.
+   */
+  public double[] getTotalValueDistribution() {
+    double[] distribution = {1.0};
+    for (int i = 0; i < diceList.size(); i++) {
+      double[] nextDistribution = new double[distribution.length + 6];
+      for (int total = 0; total < distribution.length; total++) {
+        for (int face = 1; face <= 6; face++) {
+          nextDistribution[total + face] += distribution[total] / 6;
+        }
+      }
+      distribution = nextDistribution;
+    }
+    return distribution;
+  }
+
+  /**
+   * Returns the values of all the dice, without copying the list of dice.
+   *
+   * @return A new array with the value of each die.
+   */
+  public int[] getDieValues() {
+    final int[] values = new int[diceList.size()];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = diceList.get(i).getValue();
+    }
+    return values;
+  }
+
+  /**
+   * Fills an array with the totals of many rolls of all the dice, drawn from the same
+   * {@link RandomProvider} as the dice. The values of the dice themselves are not changed.
+   *
+   * @param totals The array to fill.
+   * @see DiceRoller#rollTotals(int, int[])
+   */
+  public void rollTotals(int[] totals) {
+    getDiceRoller().rollTotals(diceList.size(), totals);
+  }
+
+  /**
+   * Fills a range of an array with the totals of many rolls of all the dice.
+   *
+   * @param totals The array to fill.
+   * @param offset The index of the first total to fill.
+   * @param length The number of totals to fill.
+   * @see DiceRoller#rollTotals(int, int[], int, int)
+   */
+  public void rollTotals(int[] totals, int offset, int length) {
+    getDiceRoller().rollTotals(diceList.size(), totals, offset, length);
+  }
+
+  /**
+   * Fills an array with the faces of many rolls of a single die.
+   *
+   * @param faces The array to fill with values from 1 to 6.
+   * @see DiceRoller#rollFaces(int[])
+   */
+  public void rollFaces(int[] faces) {
+    getDiceRoller().rollFaces(faces);
+  }
+
+  /**
+   * Returns the bulk roller of the dice, creating it on first use.
+   *
+   * @return The {@link DiceRoller} of the dice.
+   */
+  private DiceRoller getDiceRoller() {
+    if (diceRoller == null) {
+      diceRoller = new DiceRoller(randomProvider.getGenerator());
+    }
+    return diceRoller;
+  }
+
   /**
    * Returns the number of dice.
    *
@@ -79,7 +180,7 @@ public class Dice {
     diceAddDiceValidator(numberOfDice);
 
     for (int i = 0; i < numberOfDice; i++) {
-      diceList.add(new Die());
+      diceList.add(new Die(randomProvider.getGenerator()));
     }
   }
 
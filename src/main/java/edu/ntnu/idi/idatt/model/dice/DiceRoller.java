@@ -0,0 +1,116 @@
+package edu.ntnu.idi.idatt.model.dice;
+
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.diceRollerFillValidator;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * DiceRoller class
+ *
+ * <p>This class rolls dice in bulk, filling arrays given by the caller with dice totals or single
+ * faces. It is meant for simulations, which need far more rolls than a game, and does not create
+ * any objects or validate anything per roll. The arguments are validated once per call.</p>
+ *
+ * <p>Several faces are drawn from each random number: a 63-bit random number below the largest
+ * multiple of 6<sup>{@value #FACES_PER_DRAW}</sup> is taken as {@value #FACES_PER_DRAW} base-6
+ * digits, which are used one at a time as faces. Random numbers above the limit are rejected, so
+ * every face is exactly uniform. Faces left over at the end of a call are used by the next call.
+ * A roller is not thread-safe, and every simulation worker should have its own, drawing from its
+ * own {@link RandomProvider#derive(long) derived} provider.</p>
+ */
+public final class DiceRoller {
+  private static final int FACES_PER_DRAW = 23;
+  private static final long FACE_COMBINATIONS = 789_730_223_053_602_816L;
+  private static final long DRAW_LIMIT =
+      FACE_COMBINATIONS * (Long.MAX_VALUE / FACE_COMBINATIONS);
+
+  private final RandomGenerator random;
+  private long faceBits;
+  private int remainingFaces;
+
+  /**
+   * Constructor for DiceRoller class.
+   *
+   * @param random The {@link RandomGenerator} to draw the faces from.
+   */
+  public DiceRoller(RandomGenerator random) {
+    this.random = random;
+  }
+
+  /**
+   * Fills an array with the totals of rolling the given number of dice.
+   *
+   * @param diceCount The number of dice rolled for each total.
+   * @param totals    The array to fill.
+   */
+  public void rollTotals(int diceCount, int[] totals) {
+    rollTotals(diceCount, totals, 0, totals == null ? 0 : totals.length);
+  }
+
+  /**
+   * Fills a range of an array with the totals of rolling the given number of dice.
+   *
+   * @param diceCount The number of dice rolled for each total.
+   * @param totals    The array to fill.
+   * @param offset    The index of the first total to fill.
+   * @param length    The number of totals to fill.
+   * @throws IllegalArgumentException if the dice count is less than 1 or the range is not within
+   *                                  the array.
+   */
+  public void rollTotals(int diceCount, int[] totals, int offset, int length) {
+    diceRollerFillValidator(diceCount, totals, offset, length);
+
+    long bits = faceBits;
+    int remaining = remainingFaces;
+    for (int i = offset; i < offset + length; i++) {
+      int total = diceCount;
+      for (int die = 0; die < diceCount; die++) {
+        if (remaining == 0) {
+          bits = drawFaceBits();
+          remaining = FACES_PER_DRAW;
+        }
+        total += (int) (bits % 6);
+        bits /= 6;
+        remaining--;
+      }
+      totals[i] = total;
+    }
+    faceBits = bits;
+    remainingFaces = remaining;
+  }
+
+  /**
+   * Fills an array with the faces of single dice.
+   *
+   * @param faces The array to fill with values from 1 to 6.
+   */
+  public void rollFaces(int[] faces) {
+    rollTotals(1, faces);
+  }
+
+  /**
+   * Fills a range of an array with the faces of single dice.
+   *
+   * @param faces  The array to fill with values from 1 to 6.
+   * @param offset The index of the first face to fill.
+   * @param length The number of faces to fill.
+   * @throws IllegalArgumentException if the range is not within the array.
+   */
+  public void rollFaces(int[] faces, int offset, int length) {
+    rollTotals(1, faces, offset, length);
+  }
+
+  /**
+   * Draws a random number that is uniform over the combinations of {@value #FACES_PER_DRAW}
+   * faces.
+   *
+   * @return A random number from 0 up to 6<sup>{@value #FACES_PER_DRAW}</sup>.
+   */
+  private long drawFaceBits() {
+    long bits;
+    do {
+      bits = random.nextLong() >>> 1;
+    } while (bits >= DRAW_LIMIT);
+    return bits % FACE_COMBINATIONS;
+  }
+}
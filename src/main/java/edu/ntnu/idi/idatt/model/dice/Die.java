@@ -2,22 +2,33 @@ package edu.ntnu.idi.idatt.model.dice;
 
 import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.dieSetValueValidator;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Die class
  *
  * <p>This class represents a single die. It has a value and can be rolled to get a new value.
+ * The value is drawn from a {@link RandomGenerator}, which the dice of a {@link Dice} share.
  */
 public class Die {
-  private final Random random;
+  private final RandomGenerator random;
   private int lastRolledValue;
 
   /**
    * Constructor for Die class.
    */
   public Die() {
-    random = new Random();
+    this(new SplittableRandom());
+  }
+
+  /**
+   * Constructor for Die class, drawing its values from the given random number generator.
+   *
+   * @param random The {@link RandomGenerator} to draw values from.
+   */
+  public Die(RandomGenerator random) {
+    this.random = random;
   }
 
   /**
@@ -33,7 +44,7 @@ public class Die {
    * Rolls the die.
    */
   public void roll() {
-    setValue(random.nextInt(6) + 1);
+    setValue(random.nextInt(1, 7));
   }
 
   /**
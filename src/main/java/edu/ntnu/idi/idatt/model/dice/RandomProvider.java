@@ -0,0 +1,82 @@
+package edu.ntnu.idi.idatt.model.dice;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * RandomProvider class
+ *
+ * <p>This class provides the random numbers for the dice of a game or a simulation. It is created
+ * from a seed, so a game or simulation can be reproduced, and holds a single
+ * {@link SplittableRandom} that is shared by all the dice drawing from it.</p>
+ *
+ * <p>Parallel workers must not share a provider. Instead, every worker gets its own provider from
+ * {@link #derive(long)}, which depends only on the seed and the index of the worker. A parallel
+ * run is therefore reproducible from a single seed, whatever the number of threads and the order
+ * they run in, and the workers never contend on a shared random number generator.</p>
+ */
+public final class RandomProvider {
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private final long seed;
+  private final SplittableRandom random;
+
+  /**
+   * Constructor for RandomProvider class, with a random seed.
+   */
+  public RandomProvider() {
+    this(new SplittableRandom().nextLong());
+  }
+
+  /**
+   * Constructor for RandomProvider class.
+   *
+   * @param seed The seed of the random numbers.
+   */
+  public RandomProvider(long seed) {
+    this.seed = seed;
+    this.random = new SplittableRandom(seed);
+  }
+
+  /**
+   * Returns the seed of the provider.
+   *
+   * @return The seed.
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the random number generator of the provider. The generator is not thread-safe.
+   *
+   * @return The random number generator.
+   */
+  public RandomGenerator getGenerator() {
+    return random;
+  }
+
+  /**
+   * Returns a new provider for the worker with the given index. The seed of the new provider
+   * depends only on the seed of this provider and the index, and not on the random numbers drawn
+   * so far.
+   *
+   * @param index The index of the worker.
+   * @return A new, independent provider.
+   */
+  public RandomProvider derive(long index) {
+    return new RandomProvider(mix64(seed + (index + 1) * GOLDEN_GAMMA));
+  }
+
+  /**
+   * Mixes the bits of a value with the finalizer of the SplitMix64 generator.
+   *
+   * @param value The value to mix.
+   * @return The mixed value.
+   */
+  private static long mix64(long value) {
+    long mixed = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+    mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+    return mixed ^ (mixed >>> 31);
+  }
+}
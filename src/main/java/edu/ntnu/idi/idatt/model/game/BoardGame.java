@@ -1,16 +1,22 @@
 package edu.ntnu.idi.idatt.model.game;
 
 import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardGameCreateDiceValidator;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardGameFastForwardValidator;
 import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardGameSetCurrentPlayerValidator;
 import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardGameSetPlayersValidator;
 
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.dice.Dice;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
 import edu.ntnu.idi.idatt.model.player.Player;
 import edu.ntnu.idi.idatt.observer.BoardGameObserver;
 import edu.ntnu.idi.idatt.observer.BoardGameSubject;
+import edu.ntnu.idi.idatt.observer.GameEvent;
+import edu.ntnu.idi.idatt.observer.GameEventBus;
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -19,15 +25,23 @@ import org.slf4j.LoggerFactory;
  *
  * <p>Abstract class implementing common functionality for board games.
  * This class provides the base implementation for both Chutes and Ladders and Ludo games.
+ *
+ * <p>Game events are published as {@link GameEvent}s on a {@link GameEventBus}. Observers added
+ * with {@link #addObserver(BoardGameObserver)} are subscribed to the events they implement, and
+ * other subscribers, such as metrics or journals, can subscribe directly through
+ * {@link #getEventBus()}. Events are only created when their type has subscribers.</p>
  */
 public abstract class BoardGame implements Game, BoardGameSubject {
   protected static final Logger logger = LoggerFactory.getLogger(BoardGame.class);
-  protected final List<BoardGameObserver> observers;
+  protected final GameEventBus eventBus;
+  private final Map<BoardGameObserver, List<GameEventBus.Subscription>> observerSubscriptions;
   protected Board board;
   protected List<Player> players;
   protected Player currentPlayer;
   protected Dice dice;
   protected int roundNumber;
+  private final RandomProvider randomProvider;
+  private boolean fastForwarding;
 
   /**
    * Constructor for BoardGame.
@@ -37,7 +51,22 @@ public abstract class BoardGame implements Game, BoardGameSubject {
    * @param diceCount The number of dice to use
    */
   protected BoardGame(Board board, List<Player> players, int diceCount) {
-    this.observers = new ArrayList<>();
+    this(board, players, diceCount, new RandomProvider());
+  }
+
+  /**
+   * Constructor for BoardGame, with dice drawing from the given random provider.
+   *
+   * @param board The game board
+   * @param players The list of players
+   * @param diceCount The number of dice to use
+   * @param randomProvider The {@link RandomProvider} the dice draw their rolls from
+   */
+  protected BoardGame(Board board, List<Player> players, int diceCount,
+      RandomProvider randomProvider) {
+    this.eventBus = new GameEventBus();
+    this.randomProvider = randomProvider;
+    this.observerSubscriptions = new IdentityHashMap<>();
 
     this.roundNumber = 1;
     setBoard(board);
@@ -55,6 +84,86 @@ public abstract class BoardGame implements Game, BoardGameSubject {
    */
   public abstract void initializeGame();
 
+  /**
+   * Performs a complete turn for the current player with the given dice roll.
+   *
+   * @param diceRoll The total value rolled on the dice.
+   */
+  public abstract void performPlayerTurn(int diceRoll);
+
+  /**
+   * Performs a turn for the current player as it was recorded, with the given dice roll and the
+   * index of the token that was moved or released. Games without a choice of tokens play the turn
+   * with {@link #performPlayerTurn(int)}.
+   *
+   * @param diceRoll   The total value rolled on the dice.
+   * @param tokenIndex The index of the token moved or released in the turn, or -1 if no token was.
+   */
+  public void replayTurn(int diceRoll, int tokenIndex) {
+    performPlayerTurn(diceRoll);
+  }
+
+  /**
+   * Returns the state of the game packed into an array of {@code int}s, which can be restored
+   * with {@link #restorePackedState(int[])}.
+   *
+   * @return A new array with the packed state of the game.
+   */
+  public abstract int[] getPackedState();
+
+  /**
+   * Restores the state of the game from a packed state returned by {@link #getPackedState()} of a
+   * game with the same board and players. Observers are not notified.
+   *
+   * @param state The packed state to restore.
+   * @throws IllegalArgumentException if the state does not have the length of the packed states
+   *                                  of the game.
+   */
+  public abstract void restorePackedState(int[] state);
+
+  /**
+   * Plays turns with rolls of the dice of the game until the given number of rounds have been
+   * completed or a player has won. Observers added with {@link #addObserver(BoardGameObserver)}
+   * are not notified of the turns, so a user interface can resolve many rounds at once and then
+   * show only the resulting state. The subscriptions of the observers are suspended rather than
+   * cancelled, so they keep their order on the event bus. Other subscribers of the event bus, such
+   * as journals and histories, still receive every event.
+   *
+   * @param rounds The number of rounds to play.
+   * @return The number of turns played.
+   * @throws IllegalArgumentException if the number of rounds is less than 1.
+   */
+  public int fastForward(int rounds) {
+    boardGameFastForwardValidator(rounds);
+
+    observerSubscriptions.values().forEach(
+        subscriptions -> subscriptions.forEach(GameEventBus.Subscription::suspend));
+    fastForwarding = true;
+    final int lastRound = roundNumber + rounds;
+    int turns = 0;
+    try {
+      while (roundNumber < lastRound && getWinner() == null) {
+        dice.rollDice();
+        performPlayerTurn(dice.getTotalValue());
+        turns++;
+      }
+    } finally {
+      fastForwarding = false;
+      observerSubscriptions.values().forEach(
+          subscriptions -> subscriptions.forEach(GameEventBus.Subscription::resume));
+    }
+    return turns;
+  }
+
+  /**
+   * Returns whether the game is playing turns in {@link #fastForward(int)}.
+   *
+   * @return {@code true} while the game is fast-forwarding.
+   */
+  protected boolean isFastForwarding() {
+    return fastForwarding;
+  }
+
   @Override
   public Board getBoard() {
     return board;
@@ -81,6 +190,15 @@ public abstract class BoardGame implements Game, BoardGameSubject {
     return roundNumber;
   }
 
+  /**
+   * Returns the event bus the game publishes its events on.
+   *
+   * @return The {@link GameEventBus} of the game.
+   */
+  public GameEventBus getEventBus() {
+    return eventBus;
+  }
+
   /**
    * Sets the game board.
    *
@@ -123,7 +241,27 @@ public abstract class BoardGame implements Game, BoardGameSubject {
    */
   @Override
   public void addObserver(BoardGameObserver observer) {
-    observers.add(observer);
+    List<GameEventBus.Subscription> subscriptions = new ArrayList<>();
+    subscriptions.add(eventBus.subscribe(GameEvent.RoundNumberIncremented.class,
+        event -> observer.onRoundNumberIncremented(event.roundNumber())));
+    subscriptions.add(eventBus.subscribe(GameEvent.CurrentPlayerChanged.class,
+        event -> observer.onCurrentPlayerChanged(event.player())));
+    subscriptions.add(eventBus.subscribe(GameEvent.GameFinished.class,
+        event -> observer.onGameFinished(event.winner())));
+    subscribeObserver(observer, subscriptions);
+    observerSubscriptions.computeIfAbsent(observer, key -> new ArrayList<>())
+        .addAll(subscriptions);
+  }
+
+  /**
+   * Subscribes an observer to the game-specific events it implements. Called when an observer is
+   * added, after it has been subscribed to the events of {@link BoardGameObserver}.
+   *
+   * @param observer      The {@link BoardGameObserver} being added.
+   * @param subscriptions The list to add the new subscriptions to.
+   */
+  protected void subscribeObserver(BoardGameObserver observer,
+      List<GameEventBus.Subscription> subscriptions) {
   }
 
   /**
@@ -133,7 +271,10 @@ public abstract class BoardGame implements Game, BoardGameSubject {
    */
   @Override
   public void removeObserver(BoardGameObserver observer) {
-    observers.remove(observer);
+    List<GameEventBus.Subscription> subscriptions = observerSubscriptions.remove(observer);
+    if (subscriptions != null) {
+      subscriptions.forEach(GameEventBus.Subscription::cancel);
+    }
   }
 
   /**
@@ -164,7 +305,7 @@ public abstract class BoardGame implements Game, BoardGameSubject {
   protected void createDice(int diceCount) {
     boardGameCreateDiceValidator(diceCount);
 
-    this.dice = new Dice(diceCount);
+    this.dice = new Dice(diceCount, randomProvider);
   }
 
   /**
@@ -197,7 +338,9 @@ public abstract class BoardGame implements Game, BoardGameSubject {
    */
   @Override
   public void notifyRoundNumberIncremented(int roundNumber) {
-    observers.forEach(observer -> observer.onRoundNumberIncremented(roundNumber));
+    if (eventBus.hasSubscribers(GameEvent.Type.ROUND_NUMBER_INCREMENTED)) {
+      eventBus.publish(new GameEvent.RoundNumberIncremented(roundNumber));
+    }
   }
 
   /**
@@ -207,7 +350,22 @@ public abstract class BoardGame implements Game, BoardGameSubject {
    */
   @Override
   public void notifyCurrentPlayerChanged(Player player) {
-    observers.forEach(observer -> observer.onCurrentPlayerChanged(player));
+    if (eventBus.hasSubscribers(GameEvent.Type.CURRENT_PLAYER_CHANGED)) {
+      eventBus.publish(new GameEvent.CurrentPlayerChanged(player));
+    }
+  }
+
+  /**
+   * Notifies all registered observers that a turn has been completed. Called at the end of every
+   * turn, after the current player and round number have been updated.
+   *
+   * @param player   The {@link Player} whose turn was completed.
+   * @param diceRoll The dice roll of the turn.
+   */
+  protected void notifyTurnCompleted(Player player, int diceRoll) {
+    if (eventBus.hasSubscribers(GameEvent.Type.TURN_COMPLETED)) {
+      eventBus.publish(new GameEvent.TurnCompleted(player, diceRoll));
+    }
   }
 
   /**
@@ -217,6 +375,8 @@ public abstract class BoardGame implements Game, BoardGameSubject {
    */
   @Override
   public void notifyGameFinished(Player winner) {
-    observers.forEach(observer -> observer.onGameFinished(winner));
+    if (eventBus.hasSubscribers(GameEvent.Type.GAME_FINISHED)) {
+      eventBus.publish(new GameEvent.GameFinished(winner));
+    }
   }
 } 
\ No newline at end of file
@@ -0,0 +1,250 @@
+package edu.ntnu.idi.idatt.model.game;
+
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.gameHistoryGoToTurnValidator;
+
+import edu.ntnu.idi.idatt.observer.GameEvent;
+import edu.ntnu.idi.idatt.observer.GameEventBus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * GameHistory.
+ *
+ * <p>Undo and redo history of a {@link BoardGame}. The history subscribes to the
+ * {@link GameEventBus} of the game and records the packed state of the game after every
+ * completed turn. Only the entries of the packed state that changed during a turn are stored, as
+ * (index, before, after) triples appended to a single delta log, and a full keyframe of the state
+ * is kept every {@value #KEYFRAME_INTERVAL} turns. A turn therefore costs a few integers, and no
+ * player or token objects are copied.</p>
+ *
+ * <p>Undoing or redoing a turn applies the entries of its delta to the current state and restores
+ * it into the game with {@link BoardGame#restorePackedState(int[])}, whose cost does not depend on
+ * the length of the history. Playing a new turn after an undo discards the undone turns. The
+ * {@link GameSnapshot} of any recorded turn is rebuilt from the nearest keyframe, so search bots
+ * and what-if analysis can branch from any turn without touching the game.</p>
+ *
+ * @see GameSnapshot
+ * @see BoardGame#getPackedState()
+ */
+public final class GameHistory implements AutoCloseable {
+
+  /** The number of turns between full keyframes of the state. */
+  private static final int KEYFRAME_INTERVAL = 32;
+
+  /** The number of integers of every changed entry in the delta log. */
+  private static final int ENTRY_SIZE = 3;
+
+  private final BoardGame game;
+  private final GameEventBus.Subscription subscription;
+  private final List<int[]> keyframes;
+  private int[] current;
+  private int[] deltaLog;
+  private int deltaLogLength;
+  private int[] turnOffsets;
+  private int turnCount;
+  private int currentTurn;
+
+  /**
+   * Starts recording the history of a game, from its current state.
+   *
+   * @param game The {@link BoardGame} to record.
+   */
+  public GameHistory(BoardGame game) {
+    this.game = game;
+    this.current = game.getPackedState();
+    this.keyframes = new ArrayList<>();
+    this.keyframes.add(current.clone());
+    this.deltaLog = new int[ENTRY_SIZE * 64];
+    this.turnOffsets = new int[64];
+    this.subscription = game.getEventBus().subscribe(GameEvent.TurnCompleted.class,
+        event -> recordTurn());
+  }
+
+  /**
+   * Stops recording the history. The recorded turns can still be undone and redone.
+   */
+  @Override
+  public void close() {
+    subscription.cancel();
+  }
+
+  /**
+   * Returns the number of recorded turns, including undone turns that can be redone.
+   *
+   * @return The number of recorded turns.
+   */
+  public int getTurnCount() {
+    return turnCount;
+  }
+
+  /**
+   * Returns the number of turns played to reach the current state of the game.
+   *
+   * @return The current turn.
+   */
+  public int getCurrentTurn() {
+    return currentTurn;
+  }
+
+  /**
+   * Checks if there is a turn to undo.
+   *
+   * @return True if a turn can be undone, false otherwise.
+   */
+  public boolean canUndo() {
+    return currentTurn > 0;
+  }
+
+  /**
+   * Checks if there is an undone turn to redo.
+   *
+   * @return True if a turn can be redone, false otherwise.
+   */
+  public boolean canRedo() {
+    return currentTurn < turnCount;
+  }
+
+  /**
+   * Restores the game to the state before the last turn. Observers are not notified.
+   *
+   * @return True if a turn was undone, false if there was no turn to undo.
+   */
+  public boolean undo() {
+    if (!canUndo()) {
+      return false;
+    }
+    currentTurn--;
+    applyDelta(current, currentTurn, false);
+    game.restorePackedState(current);
+    return true;
+  }
+
+  /**
+   * Restores the game to the state after the last undone turn. Observers are not notified.
+   *
+   * @return True if a turn was redone, false if there was no turn to redo.
+   */
+  public boolean redo() {
+    if (!canRedo()) {
+      return false;
+    }
+    applyDelta(current, currentTurn, true);
+    currentTurn++;
+    game.restorePackedState(current);
+    return true;
+  }
+
+  /**
+   * Restores the game to the state after the given number of turns. The later turns can be
+   * redone. Observers are not notified.
+   *
+   * @param turn The number of turns to restore the game to.
+   * @throws IllegalArgumentException if the turn is negative or greater than the turn count.
+   */
+  public void goToTurn(int turn) {
+    gameHistoryGoToTurnValidator(turn, turnCount);
+
+    current = getState(turn);
+    currentTurn = turn;
+    game.restorePackedState(current);
+  }
+
+  /**
+   * Returns a snapshot of the state of the game after the given number of turns.
+   *
+   * @param turn The number of turns played before the snapshot.
+   * @return The {@link GameSnapshot} of the turn.
+   * @throws IllegalArgumentException if the turn is negative or greater than the turn count.
+   */
+  public GameSnapshot getSnapshot(int turn) {
+    gameHistoryGoToTurnValidator(turn, turnCount);
+
+    return new GameSnapshot(turn, getState(turn));
+  }
+
+  /**
+   * Returns a snapshot of the current state of the game.
+   *
+   * @return The {@link GameSnapshot} of the current turn.
+   */
+  public GameSnapshot getCurrentSnapshot() {
+    return new GameSnapshot(currentTurn, current);
+  }
+
+  /**
+   * Rebuilds the state after a turn, from the current state if it is closer than the nearest
+   * keyframe.
+   *
+   * @param turn The number of turns played.
+   * @return A new array with the packed state after the turn.
+   */
+  private int[] getState(int turn) {
+    final int keyframeTurn = turn / KEYFRAME_INTERVAL * KEYFRAME_INTERVAL;
+    final int[] state;
+    int fromTurn;
+    if (currentTurn <= turn && currentTurn >= keyframeTurn) {
+      state = current.clone();
+      fromTurn = currentTurn;
+    } else {
+      state = keyframes.get(turn / KEYFRAME_INTERVAL).clone();
+      fromTurn = keyframeTurn;
+    }
+    for (; fromTurn < turn; fromTurn++) {
+      applyDelta(state, fromTurn, true);
+    }
+    return state;
+  }
+
+  /**
+   * Records the state of the game after a completed turn, discarding any undone turns.
+   */
+  private void recordTurn() {
+    final int[] state = game.getPackedState();
+    turnCount = currentTurn;
+    deltaLogLength = turnOffsets[currentTurn];
+    while (keyframes.size() > currentTurn / KEYFRAME_INTERVAL + 1) {
+      keyframes.removeLast();
+    }
+
+    for (int i = 0; i < state.length; i++) {
+      if (state[i] != current[i]) {
+        appendEntry(i, current[i], state[i]);
+      }
+    }
+    current = state;
+    currentTurn++;
+    turnCount = currentTurn;
+    if (turnCount == turnOffsets.length) {
+      turnOffsets = Arrays.copyOf(turnOffsets, turnOffsets.length * 2);
+    }
+    turnOffsets[turnCount] = deltaLogLength;
+    if (turnCount % KEYFRAME_INTERVAL == 0) {
+      keyframes.add(state.clone());
+    }
+  }
+
+  private void appendEntry(int index, int before, int after) {
+    if (deltaLogLength + ENTRY_SIZE > deltaLog.length) {
+      deltaLog = Arrays.copyOf(deltaLog, deltaLog.length * 2);
+    }
+    deltaLog[deltaLogLength++] = index;
+    deltaLog[deltaLogLength++] = before;
+    deltaLog[deltaLogLength++] = after;
+  }
+
+  /**
+   * Applies the changes of a turn to a state, forwards to the state after the turn or backwards to
+   * the state before it.
+   *
+   * @param state   The packed state to change.
+   * @param turn    The zero-based index of the turn.
+   * @param forward True to apply the turn, false to revert it.
+   */
+  private void applyDelta(int[] state, int turn, boolean forward) {
+    final int valueOffset = forward ? 2 : 1;
+    for (int entry = turnOffsets[turn]; entry < turnOffsets[turn + 1]; entry += ENTRY_SIZE) {
+      state[deltaLog[entry]] = deltaLog[entry + valueOffset];
+    }
+  }
+}
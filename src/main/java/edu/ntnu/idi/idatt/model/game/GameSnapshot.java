@@ -0,0 +1,68 @@
+package edu.ntnu.idi.idatt.model.game;
+
+import java.util.Arrays;
+
+/**
+ * GameSnapshot.
+ *
+ * <p>Immutable snapshot of the packed state of a {@link BoardGame} after a number of turns, as
+ * returned by {@link GameHistory}. The state can be restored into the game with
+ * {@link BoardGame#restorePackedState(int[])}, or advanced without the game, such as with a
+ * {@link edu.ntnu.idi.idatt.model.state.LudoTransition} to explore what-if lines from the
+ * turn. Snapshots are equal if they have the same turn and the same contents of the state.</p>
+ *
+ * @param turn  The number of turns played before the snapshot was taken.
+ * @param state The packed state of the game.
+ * @see GameHistory
+ */
+public record GameSnapshot(int turn, int[] state) {
+
+  /**
+   * Constructs a snapshot, copying the state.
+   */
+  public GameSnapshot {
+    state = state.clone();
+  }
+
+  /**
+   * Returns a copy of the packed state of the snapshot.
+   *
+   * @return The packed state.
+   */
+  @Override
+  public int[] state() {
+    return state.clone();
+  }
+
+  /**
+   * Checks if another object is a snapshot of the same turn with the same contents of the state.
+   *
+   * @param o The object to compare with.
+   * @return True if the snapshots are equal, false otherwise.
+   */
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof GameSnapshot other && turn == other.turn
+        && Arrays.equals(state, other.state);
+  }
+
+  /**
+   * Returns a hash code of the turn and the contents of the state.
+   *
+   * @return The hash code of the snapshot.
+   */
+  @Override
+  public int hashCode() {
+    return 31 * Integer.hashCode(turn) + Arrays.hashCode(state);
+  }
+
+  /**
+   * Returns a string with the turn and the contents of the state.
+   *
+   * @return The string representation of the snapshot.
+   */
+  @Override
+  public String toString() {
+    return "GameSnapshot[turn=" + turn + ", state=" + Arrays.toString(state) + "]";
+  }
+}
@@ -1,12 +1,20 @@
 package edu.ntnu.idi.idatt.model.game;
 
-import edu.ntnu.idi.idatt.controller.laddergame.LadderGameController;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardGameRestorePackedStateValidator;
+
 import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.board.CompiledLadderBoard;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
 import edu.ntnu.idi.idatt.model.player.LadderGamePlayer;
 import edu.ntnu.idi.idatt.model.player.Player;
 import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
 import edu.ntnu.idi.idatt.model.tile.Tile;
 import edu.ntnu.idi.idatt.model.tile.TileAction;
+import edu.ntnu.idi.idatt.observer.BoardGameObserver;
+import edu.ntnu.idi.idatt.observer.GameEvent;
+import edu.ntnu.idi.idatt.observer.GameEventBus;
+import edu.ntnu.idi.idatt.observer.LadderGameObserver;
 import java.util.List;
 
 /**
@@ -16,12 +24,17 @@ import java.util.List;
  * This class extends {@link BoardGame} and implements game-specific rules for player movement,
  * tile actions (ladders/slides), and win conditions.</p>
  *
+ * <p>When the game is played on a {@link LadderGameBoard}, the board is compiled into a
+ * {@link CompiledLadderBoard} when it is set, and turns are resolved with the compiled jump table
+ * instead of looking up tiles and performing tile actions through the board.</p>
+ *
  * @see BoardGame
  * @see LadderGamePlayer
  * @see LadderGameTile
- * @see LadderGameController
+ * @see LadderGameObserver
  */
 public class LadderBoardGame extends BoardGame {
+  private CompiledLadderBoard compiledBoard;
 
   /**
    * Constructs a LadderBoardGame.
@@ -34,6 +47,30 @@ public class LadderBoardGame extends BoardGame {
     super(board, players, diceCount);
   }
 
+  /**
+   * Constructs a new LadderBoardGame whose dice rolls are reproducible from the given seed.
+   *
+   * @param board The game board.
+   * @param players The list of players.
+   * @param diceCount The number of dice to use.
+   * @param seed The seed of the dice rolls.
+   */
+  public LadderBoardGame(Board board, List<Player> players, int diceCount, long seed) {
+    super(board, players, diceCount, new RandomProvider(seed));
+  }
+
+  /**
+   * Sets the game board, and compiles it if it is a {@link LadderGameBoard}.
+   *
+   * @param board The {@link Board} to be used for the game.
+   */
+  @Override
+  public void setBoard(Board board) {
+    super.setBoard(board);
+    this.compiledBoard = board instanceof LadderGameBoard ladderGameBoard
+        ? ladderGameBoard.compile() : null;
+  }
+
   /**
    * Initializes the game state. Places all players on the starting tile (tile 0)
    * and sets the first player in the list as the current player.
@@ -62,6 +99,40 @@ public class LadderBoardGame extends BoardGame {
     return null;
   }
 
+  /**
+   * Returns the state of the game packed into an array of {@code int}s: the tile id of every
+   * player in turn order, followed by the index of the current player and the round number.
+   *
+   * @return A new array with the packed state of the game.
+   */
+  @Override
+  public int[] getPackedState() {
+    final int[] state = new int[players.size() + 2];
+    for (int i = 0; i < players.size(); i++) {
+      state[i] = ((LadderGamePlayer) players.get(i)).getCurrentTile().getTileId();
+    }
+    state[players.size()] = players.indexOf(currentPlayer);
+    state[players.size() + 1] = roundNumber;
+    return state;
+  }
+
+  /**
+   * Restores the tiles of the players, the current player and the round number from a packed
+   * state returned by {@link #getPackedState()}.
+   *
+   * @param state The packed state to restore.
+   */
+  @Override
+  public void restorePackedState(int[] state) {
+    boardGameRestorePackedStateValidator(state, players.size() + 2);
+
+    for (int i = 0; i < players.size(); i++) {
+      ((LadderGamePlayer) players.get(i)).placeOnTile(board.getTile(state[i]));
+    }
+    setCurrentPlayer(players.get(state[players.size()]));
+    roundNumber = state[players.size() + 1];
+  }
+
   /**
    * Rolls all dice in the game and returns their total value.
    *
@@ -79,12 +150,43 @@ public class LadderBoardGame extends BoardGame {
    *
    * @param diceRoll The total value rolled on the dice.
    */
+  @Override
   public void performPlayerTurn(int diceRoll) {
-    movePlayer(diceRoll);
-    handleTileAction();
+    final Player player = currentPlayer;
+    if (compiledBoard == null) {
+      movePlayer(diceRoll);
+      handleTileAction();
+    } else {
+      moveCompiledPlayer(diceRoll);
+    }
     checkWinCondition();
     updateCurrentPlayer();
     handleRoundNumber();
+    notifyTurnCompleted(player, diceRoll);
+  }
+
+  /**
+   * Moves the current player and performs the tile action of the landing tile using the
+   * {@link CompiledLadderBoard}. Observers are notified of the movement and the tile action in the
+   * same order as with {@link #movePlayer(int)} and {@link #handleTileAction()}.
+   *
+   * @param diceRoll The total value rolled on the dice.
+   */
+  private void moveCompiledPlayer(int diceRoll) {
+    LadderGamePlayer player = (LadderGamePlayer) currentPlayer;
+    int sum = player.getCurrentTile().getTileId() + diceRoll;
+    int landingTileId = compiledBoard.getLandingTileId(sum);
+    LadderGameTile landingTile = compiledBoard.getTile(landingTileId);
+    player.placeOnTile(landingTile);
+    notifyPlayerMoved(player, diceRoll, landingTileId);
+
+    TileAction landAction = landingTile.getLandAction();
+    if (landAction == null) {
+      return;
+    }
+    player.placeOnTile(compiledBoard.getTile(compiledBoard.getDestinationTileId(sum)));
+    notifyTileActionPerformed(player, landAction);
+    logger.info("{} performed tile action: {}", player.getName(), landAction.getDescription());
   }
 
   /**
@@ -138,19 +240,37 @@ public class LadderBoardGame extends BoardGame {
   }
 
   /**
-   * Notifies registered observers (specifically {@link LadderGameController} instances)
+   * Subscribes {@link LadderGameObserver}s to the player moved and tile action events.
+   *
+   * @param observer      The {@link BoardGameObserver} being added.
+   * @param subscriptions The list to add the new subscriptions to.
+   */
+  @Override
+  protected void subscribeObserver(BoardGameObserver observer,
+      List<GameEventBus.Subscription> subscriptions) {
+    if (observer instanceof LadderGameObserver ladderObserver) {
+      subscriptions.add(eventBus.subscribe(GameEvent.PlayerMoved.class, event -> ladderObserver
+          .onPlayerMoved(event.player(), event.diceRoll(), event.newTileId())));
+      subscriptions.add(eventBus.subscribe(GameEvent.TileActionPerformed.class, event ->
+          ladderObserver.onTileActionPerformed(event.player(), event.tileAction())));
+    }
+  }
+
+  /**
+   * Notifies registered observers (such as {@link LadderGameObserver}s)
    * that a tile action has been performed.
    *
    * @param player The {@link Player} who triggered the action.
    * @param tileAction The {@link TileAction} that was performed.
    */
   public void notifyTileActionPerformed(Player player, TileAction tileAction) {
-    observers.forEach(observer -> ((LadderGameController) observer)
-        .onTileActionPerformed(player, tileAction));
+    if (eventBus.hasSubscribers(GameEvent.Type.TILE_ACTION_PERFORMED)) {
+      eventBus.publish(new GameEvent.TileActionPerformed(player, tileAction));
+    }
   }
 
   /**
-   * Notifies registered observers (specifically {@link LadderGameController} instances)
+   * Notifies registered observers (such as {@link LadderGameObserver}s)
    * that a player has moved.
    *
    * @param player The {@link Player} who moved.
@@ -158,7 +278,8 @@ public class LadderBoardGame extends BoardGame {
    * @param newTileId The ID of the tile the player moved to.
    */
   private void notifyPlayerMoved(Player player, int diceRoll, int newTileId) {
-    observers.forEach(observer -> ((LadderGameController) observer)
-        .onPlayerMoved(player, diceRoll, newTileId));
+    if (eventBus.hasSubscribers(GameEvent.Type.PLAYER_MOVED)) {
+      eventBus.publish(new GameEvent.PlayerMoved(player, diceRoll, newTileId));
+    }
   }
 } 
\ No newline at end of file
@@ -1,12 +1,24 @@
 package edu.ntnu.idi.idatt.model.game;
 
-import edu.ntnu.idi.idatt.controller.ludo.LudoGameController;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.boardGameRestorePackedStateValidator;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ludoBoardGameChosenMoveValidator;
+
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
 import edu.ntnu.idi.idatt.model.player.LudoPlayer;
 import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoOccupancyIndex;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+import edu.ntnu.idi.idatt.model.strategy.GreedyMoveStrategy;
+import edu.ntnu.idi.idatt.model.strategy.LudoMoveStrategy;
 import edu.ntnu.idi.idatt.model.tile.Tile;
 import edu.ntnu.idi.idatt.model.token.LudoToken;
+import edu.ntnu.idi.idatt.observer.BoardGameObserver;
+import edu.ntnu.idi.idatt.observer.GameEvent;
+import edu.ntnu.idi.idatt.observer.GameEventBus;
+import edu.ntnu.idi.idatt.observer.LudoGameObserver;
 import java.util.List;
 
 /**
@@ -28,18 +40,38 @@ import java.util.List;
  *   <li>Moving tokens along the track and into their respective finish areas.</li>
  *   <li>Handling token captures: sending an opponent's token back to its start area if landed
  *   upon.</li>
- *   <li>Notifying observers (like {@link LudoGameController}) of game events such as token
+ *   <li>Notifying observers (like {@link LudoGameObserver}s) of game events such as token
  *   release, movement, capture, finish, and turn skips.</li>
  * </ul>
  *
+ * <p>The tokens are indexed in a {@link LudoOccupancyIndex}, which every token updates when it
+ * changes tile or status. Captures, finished tokens and the winner are found through the index
+ * instead of by scanning every token.</p>
+ *
+ * <p>The state of the game can be exported as a packed {@link LudoGameState} with
+ * {@link #getPackedState()}, which {@link LudoTransition} can advance without the object model.</p>
+ *
+ * <p>Every turn moves one of the legal moves of {@link LudoTransition}: any released token can be
+ * moved, and on a roll of 6 the first token in the start area can be released. Players without a
+ * {@link LudoMoveStrategy} make the first legal move, and players with one choose the move when
+ * their turn has more than one. The strategy is given the packed state of the game and the
+ * game's {@link LudoTransition}, created the first time a strategy is consulted and recreated
+ * when the board or players change. While the game is
+ * fast-forwarded, the moves of these players are chosen by a {@link GreedyMoveStrategy} instead,
+ * so many rounds are resolved without running a search for every turn.</p>
  *
  * @see BoardGame
  * @see LudoGameBoard
  * @see LudoPlayer
  * @see LudoToken
- * @see LudoGameController
+ * @see LudoGameObserver
  */
 public class LudoBoardGame extends BoardGame {
+  private final int[] legalMoves = new int[LudoGameState.TOKENS_PER_PLAYER];
+  private LudoOccupancyIndex occupancyIndex;
+  private LudoTransition transition;
+  private LudoMoveStrategy fastForwardStrategy;
+  private int replayedMove = -1;
 
   /**
    * Constructs a new {@code LudoBoardGame}.
@@ -53,6 +85,42 @@ public class LudoBoardGame extends BoardGame {
     super(board, players, diceCount);
   }
 
+  /**
+   * Constructs a new {@code LudoBoardGame} whose dice rolls are reproducible from the given seed.
+   *
+   * @param board     The {@link Board} (expected to be a {@link LudoGameBoard}) for the game.
+   * @param players   The list of {@link Player}s (expected to be {@link LudoPlayer} instances)
+   *                  participating in the game.
+   * @param diceCount The number of dice to use in the game (typically 1 for Ludo).
+   * @param seed      The seed of the dice rolls.
+   */
+  public LudoBoardGame(Board board, List<Player> players, int diceCount, long seed) {
+    super(board, players, diceCount, new RandomProvider(seed));
+  }
+
+  /**
+   * Sets the game board, and discards the {@link LudoTransition} created for the previous board.
+   *
+   * @param board The {@link Board} to be used for the game.
+   */
+  @Override
+  public void setBoard(Board board) {
+    super.setBoard(board);
+    this.transition = null;
+  }
+
+  /**
+   * Sets the list of players for the game, and discards the {@link LudoTransition} created for the
+   * previous players.
+   *
+   * @param players A list of {@link Player} objects participating in the game.
+   */
+  @Override
+  public void setPlayers(List<Player> players) {
+    super.setPlayers(players);
+    this.transition = null;
+  }
+
   /**
    * Initializes the Ludo game. This involves placing all tokens of each {@link LudoPlayer} onto
    * their respective starting tiles on the {@link LudoGameBoard}. The first player in the list is
@@ -68,9 +136,94 @@ public class LudoBoardGame extends BoardGame {
         token.setCurrentTile(board.getTile(startIndex));
       });
     });
+    indexTokens();
     setCurrentPlayer(players.getFirst());
   }
 
+  /**
+   * Creates the {@link LudoOccupancyIndex} from the current tiles and statuses of all tokens, and
+   * makes every token update the index when it changes.
+   */
+  private void indexTokens() {
+    occupancyIndex = new LudoOccupancyIndex(players.size());
+    for (int seat = 0; seat < players.size(); seat++) {
+      List<LudoToken> tokens = ((LudoPlayer) players.get(seat)).getTokens();
+      for (int tokenIndex = 0; tokenIndex < tokens.size(); tokenIndex++) {
+        final int tokenSeat = seat;
+        final int tokenBit = LudoOccupancyIndex.tokenBit(seat, tokenIndex);
+        LudoToken token = tokens.get(tokenIndex);
+        occupancyIndex.moveToken(tokenBit, -1, getTileId(token.getCurrentTile()));
+        if (token.getStatus() == LudoToken.TokenStatus.FINISHED) {
+          occupancyIndex.updateFinishedCount(seat, true);
+        }
+        token.setObserver((changedToken, previousTile, previousStatus) -> {
+          int previousTileId = getTileId(previousTile);
+          int tileId = getTileId(changedToken.getCurrentTile());
+          if (previousTileId != tileId) {
+            occupancyIndex.moveToken(tokenBit, previousTileId, tileId);
+          }
+          boolean finished = changedToken.getStatus() == LudoToken.TokenStatus.FINISHED;
+          if (finished != (previousStatus == LudoToken.TokenStatus.FINISHED)) {
+            occupancyIndex.updateFinishedCount(tokenSeat, finished);
+          }
+        });
+      }
+    }
+  }
+
+  /**
+   * Returns the id of a tile, or -1 if there is no tile.
+   *
+   * @param tile The {@link Tile}, or {@code null}.
+   * @return The id of the tile, or -1.
+   */
+  private static int getTileId(Tile tile) {
+    return tile == null ? -1 : tile.getTileId();
+  }
+
+  /**
+   * Returns the current state of the game as a packed {@link LudoGameState}, with the tokens of
+   * each player at the player's index in the player list.
+   *
+   * @return A new packed state of the game.
+   */
+  @Override
+  public int[] getPackedState() {
+    final int[] state = LudoGameState.create();
+    for (int seat = 0; seat < players.size(); seat++) {
+      List<LudoToken> tokens = ((LudoPlayer) players.get(seat)).getTokens();
+      for (int token = 0; token < tokens.size(); token++) {
+        LudoGameState.setToken(state, seat, token,
+            tokens.get(token).getCurrentTile().getTileId(), tokens.get(token).getStatus());
+      }
+    }
+    LudoGameState.setCurrentSeat(state, players.indexOf(currentPlayer));
+    LudoGameState.setRoundNumber(state, roundNumber);
+    return state;
+  }
+
+  /**
+   * Restores the tiles and statuses of all tokens, the current player and the round number from a
+   * packed state returned by {@link #getPackedState()}.
+   *
+   * @param state The packed {@link LudoGameState} to restore.
+   */
+  @Override
+  public void restorePackedState(int[] state) {
+    boardGameRestorePackedStateValidator(state, LudoGameState.SIZE);
+
+    for (int seat = 0; seat < players.size(); seat++) {
+      List<LudoToken> tokens = ((LudoPlayer) players.get(seat)).getTokens();
+      for (int token = 0; token < tokens.size(); token++) {
+        tokens.get(token).setCurrentTile(
+            board.getTile(LudoGameState.getTileId(state, seat, token)));
+        tokens.get(token).setStatus(LudoGameState.getStatus(state, seat, token));
+      }
+    }
+    setCurrentPlayer(players.get(LudoGameState.getCurrentSeat(state)));
+    roundNumber = LudoGameState.getRoundNumber(state);
+  }
+
   /**
    * Determines if there is a winner in the Ludo game. A player wins if all of their
    * {@link LudoToken}s have reached the {@link LudoToken.TokenStatus#FINISHED} state.
@@ -79,10 +232,10 @@ public class LudoBoardGame extends BoardGame {
    */
   @Override
   public Player getWinner() {
-    for (Player player : players) {
-      if (((LudoPlayer) player).getTokens().stream()
-          .allMatch(token -> token.getStatus() == LudoToken.TokenStatus.FINISHED)) {
-        return player;
+    for (int seat = 0; seat < players.size(); seat++) {
+      if (occupancyIndex.getFinishedCount(seat)
+          == ((LudoPlayer) players.get(seat)).getTokens().size()) {
+        return players.get(seat);
       }
     }
     return null;
@@ -94,23 +247,12 @@ public class LudoBoardGame extends BoardGame {
    */
   @Override
   protected void checkWinCondition() {
-    if (getWinner() != null) {
-      notifyGameFinished(getWinner());
+    Player winner = getWinner();
+    if (winner != null) {
+      notifyGameFinished(winner);
     }
   }
 
-  /**
-   * Checks if the current {@link LudoPlayer} has any tokens that are currently released (i.e., on
-   * the main track or finish path) and can therefore be moved.
-   *
-   * @return {@code true} if the current player has at least one released token, {@code false}
-   *     otherwise.
-   */
-  private boolean checkCurrentPlayerCanMove() {
-    return ((LudoPlayer) currentPlayer).getTokens().stream()
-        .anyMatch(token -> token.getStatus() == LudoToken.TokenStatus.RELEASED);
-  }
-
   /**
    * Checks if any of the current player's released tokens have reached their designated finish
    * tile. If a token reaches its finish tile, its status is set to
@@ -118,14 +260,19 @@ public class LudoBoardGame extends BoardGame {
    * {@link #notifyTokenFinished(Player, LudoToken)}.
    */
   private void checkTokenFinished() {
-    ((LudoPlayer) currentPlayer).getTokens().stream()
-        .filter(token -> token.getStatus() == LudoToken.TokenStatus.RELEASED).forEach(token -> {
-          if (token.getCurrentTile().getTileId()
-              == ((LudoGameBoard) board).getPlayerFinishIndexes()[players.indexOf(currentPlayer)]) {
-            token.setStatus(LudoToken.TokenStatus.FINISHED);
-            notifyTokenFinished(currentPlayer, token);
-          }
-        });
+    final int seat = players.indexOf(currentPlayer);
+    final int finishTileId = ((LudoGameBoard) board).getPlayerFinishIndexes()[seat];
+    final List<LudoToken> tokens = ((LudoPlayer) currentPlayer).getTokens();
+    int tokenMask = occupancyIndex.getTokenMask(finishTileId) & LudoOccupancyIndex.playerMask(seat);
+    while (tokenMask != 0) {
+      LudoToken token = tokens.get(Integer.numberOfTrailingZeros(tokenMask)
+          - seat * LudoGameState.TOKENS_PER_PLAYER);
+      tokenMask &= tokenMask - 1;
+      if (token.getStatus() == LudoToken.TokenStatus.RELEASED) {
+        token.setStatus(LudoToken.TokenStatus.FINISHED);
+        notifyTokenFinished(currentPlayer, token);
+      }
+    }
   }
 
   /**
@@ -143,53 +290,159 @@ public class LudoBoardGame extends BoardGame {
   /**
    * Performs a turn for the current player based on the given dice roll. The logic is as follows:
    * <ol>
-   *   <li>If the player can move a token (i.e., has released tokens), {@link #moveToken(int)} is
-   *       called.</li>
-   *   <li>If the player cannot move but rolled a 6, {@link #releaseToken()} is called.</li>
-   *   <li>Otherwise (cannot move and did not roll a 6), the turn is skipped, and observers are
-   *       notified.</li>
+   *   <li>The token to move or release is chosen among the legal moves with
+   *       {@link #chooseToken(int)}. Without a {@link LudoMoveStrategy}, this is the first
+   *       released token, or the first token in the start area if no token is released and the
+   *       player rolled a 6.</li>
+   *   <li>A released token is moved, and a token in the start area is released.</li>
+   *   <li>If there is no legal move (no released tokens and did not roll a 6), the turn is
+   *       skipped, and observers are notified.</li>
    * </ol>
    * After the action, it checks for finished tokens, checks the win condition, updates the current
    * player, and handles round number incrementation.
    *
    * @param diceRoll The result of the dice roll for this turn.
    */
+  @Override
   public void performPlayerTurn(int diceRoll) {
-    if (checkCurrentPlayerCanMove()) {
-      moveToken(diceRoll);
-      checkTokenFinished();
-    } else if (diceRoll == 6) {
-      releaseToken();
+    final Player player = currentPlayer;
+    final int chosenToken = chooseToken(diceRoll);
+    if (chosenToken >= 0) {
+      LudoToken token = ((LudoPlayer) currentPlayer).getTokens().get(chosenToken);
+      if (token.getStatus() == LudoToken.TokenStatus.RELEASED) {
+        moveToken(token, diceRoll);
+        checkTokenFinished();
+      } else {
+        releaseToken(token);
+      }
     } else {
       notifyTurnSkipped(currentPlayer, diceRoll);
     }
     checkWinCondition();
     updateCurrentPlayer();
     handleRoundNumber();
+    notifyTurnCompleted(player, diceRoll);
+  }
+
+  /**
+   * Performs a turn for the current player as it was recorded, moving or releasing the recorded
+   * token instead of asking the {@link LudoMoveStrategy} of the player to choose one.
+   *
+   * @param diceRoll   The total value rolled on the dice.
+   * @param tokenIndex The index of the token moved or released in the turn, or -1 if no token was.
+   * @throws IllegalArgumentException if the token can not be moved or released with the roll.
+   */
+  @Override
+  public void replayTurn(int diceRoll, int tokenIndex) {
+    replayedMove = tokenIndex;
+    try {
+      performPlayerTurn(diceRoll);
+    } finally {
+      replayedMove = -1;
+    }
+  }
+
+  /**
+   * Chooses the token to move or release among the legal moves for the dice roll. Players without
+   * a {@link LudoMoveStrategy} make the first legal move, and the strategy of other players is
+   * asked to choose when there is more than one. While the game is fast-forwarded, a
+   * {@link GreedyMoveStrategy} chooses the token instead, and while a turn is replayed, the
+   * recorded token is chosen.
+   *
+   * @param diceRoll The result of the dice roll for this turn.
+   * @return The index of the chosen token in the player's token list, or -1 if there is no legal
+   *     move.
+   * @throws IllegalArgumentException if the strategy or the replayed turn chooses a move that is
+   *     not legal.
+   */
+  private int chooseToken(int diceRoll) {
+    final int legalMoveCount = findLegalMoves(diceRoll);
+    if (replayedMove >= 0) {
+      ludoBoardGameChosenMoveValidator(replayedMove, legalMoves, legalMoveCount);
+      return replayedMove;
+    }
+    if (legalMoveCount == 0) {
+      return -1;
+    }
+    LudoMoveStrategy strategy = ((LudoPlayer) currentPlayer).getMoveStrategy();
+    if (strategy == null || legalMoveCount == 1) {
+      return legalMoves[0];
+    }
+    if (isFastForwarding()) {
+      if (fastForwardStrategy == null) {
+        fastForwardStrategy = new GreedyMoveStrategy();
+      }
+      strategy = fastForwardStrategy;
+    }
+    if (transition == null) {
+      transition = new LudoTransition((LudoGameBoard) board, players.size());
+    }
+    int move = strategy.chooseMove(transition, getPackedState(), diceRoll, legalMoves,
+        legalMoveCount);
+    ludoBoardGameChosenMoveValidator(move, legalMoves, legalMoveCount);
+    return move;
+  }
+
+  /**
+   * Writes the legal moves of the current player for the dice roll to {@link #legalMoves}, with
+   * the same rules as {@link LudoTransition#getLegalMoves(int[], int, int[])}: the released tokens
+   * in order, followed by the first token in the start area if the dice roll is 6.
+   *
+   * @param diceRoll The result of the dice roll for this turn.
+   * @return The number of legal moves.
+   */
+  private int findLegalMoves(int diceRoll) {
+    final List<LudoToken> tokens = ((LudoPlayer) currentPlayer).getTokens();
+    int legalMoveCount = 0;
+    for (int token = 0; token < tokens.size(); token++) {
+      if (tokens.get(token).getStatus() == LudoToken.TokenStatus.RELEASED) {
+        legalMoves[legalMoveCount++] = token;
+      }
+    }
+    if (diceRoll == 6) {
+      for (int token = 0; token < tokens.size(); token++) {
+        if (tokens.get(token).getStatus() == LudoToken.TokenStatus.NOT_RELEASED) {
+          legalMoves[legalMoveCount++] = token;
+          break;
+        }
+      }
+    }
+    return legalMoveCount;
   }
 
   /**
    * Finds the destination {@link Tile} for a given {@link LudoToken} after moving by
-   * {@code diceRoll} steps. This method traces the path from the token's current tile, moving
-   * {@code diceRoll} times to the {@code nextTileId} of each tile. It correctly handles transitions
-   * from the main track to the player's specific finish track. If the token reaches its final
-   * finish tile during the move, the tracing stops there.
+   * {@code diceRoll} steps. If the token is on the current player's route
+   * ({@link LudoGameBoard#getPlayerRoute(int)}), the destination is looked up in the route,
+   * stopping at the finish tile. Otherwise, this method traces the path from the token's current
+   * tile, moving {@code diceRoll} times to the {@code nextTileId} of each tile. It correctly
+   * handles transitions from the main track to the player's specific finish track. If the token
+   * reaches its final finish tile during the move, the tracing stops there.
    *
    * @param token    The {@link LudoToken} to be moved.
    * @param diceRoll The number of steps to move the token.
    * @return The destination {@link Tile} after the move.
    */
   private Tile findNextTile(LudoToken token, int diceRoll) {
+    final LudoGameBoard ludoBoard = (LudoGameBoard) board;
+    final int seat = players.indexOf(currentPlayer);
     int nextTileId = token.getCurrentTile().getTileId();
+
+    int[] route = ludoBoard.getPlayerRoute(seat);
+    if (route != null) {
+      int position = ludoBoard.getPlayerRoutePosition(seat, nextTileId);
+      if (position >= 0) {
+        return board.getTile(route[Math.min(position + diceRoll, route.length - 1)]);
+      }
+    }
+
     for (int i = 0; i < diceRoll; i++) {
       nextTileId = board.getTile(nextTileId).getNextTileId();
       if (board.getTile(nextTileId).getNextTileId()
-          == ((LudoGameBoard) board).getPlayerTrackStartIndexes()[players.indexOf(currentPlayer)]) {
-        nextTileId = ((LudoGameBoard) board).getPlayerFinishStartIndexes()[players.indexOf(
-            currentPlayer)];
+          == ludoBoard.getPlayerTrackStartIndexes()[seat]) {
+        nextTileId = ludoBoard.getPlayerFinishStartIndexes()[seat];
       }
-      if (nextTileId == ((LudoGameBoard) board).getPlayerFinishIndexes()[players.indexOf(
-          currentPlayer)]) {
+      if (nextTileId == ludoBoard.getPlayerFinishIndexes()[seat]) {
         break; // If the player has reached the finish line, break the loop
       }
     }
@@ -197,21 +450,16 @@ public class LudoBoardGame extends BoardGame {
   }
 
   /**
-   * Releases a {@link LudoToken} of the current player from their start area onto the main track.
-   * This action is typically performed when a player rolls a 6 and has tokens in their start area.
-   * It finds the first available token with status {@link LudoToken.TokenStatus#NOT_RELEASED},
-   * moves it to the player's track start tile, updates its status to
-   * {@link LudoToken.TokenStatus#RELEASED}, and notifies observers. It then checks for and handles
-   * any token captures at the destination tile.
+   * Releases the given {@link LudoToken} of the current player from their start area onto the
+   * player's track start tile. This action is performed when a player rolls a 6 and has tokens in
+   * their start area. The token's status is updated to {@link LudoToken.TokenStatus#RELEASED},
+   * observers are notified, and any token captures at the track start tile are handled.
+   *
+   * @param token The {@link LudoToken} to release.
    */
-  private void releaseToken() {
+  private void releaseToken(LudoToken token) {
     int tileId = ((LudoGameBoard) board).getPlayerTrackStartIndexes()[players.indexOf(
         currentPlayer)];
-    LudoToken token = ((LudoPlayer) currentPlayer).getTokens().stream()
-        .filter(t -> t.getStatus() == LudoToken.TokenStatus.NOT_RELEASED).findFirst().orElse(null);
-    if (token == null) {
-      return;
-    }
     token.setCurrentTile(board.getTile(tileId));
     token.setStatus(LudoToken.TokenStatus.RELEASED);
     notifyTokenReleased(currentPlayer, tileId,
@@ -231,9 +479,19 @@ public class LudoBoardGame extends BoardGame {
   public void moveToken(int diceRoll) {
     LudoToken token = ((LudoPlayer) currentPlayer).getTokens().stream()
         .filter(t -> t.getStatus() == LudoToken.TokenStatus.RELEASED).findFirst().orElse(null);
-    if (token == null) {
-      return;
+    if (token != null) {
+      moveToken(token, diceRoll);
     }
+  }
+
+  /**
+   * Moves the given released {@link LudoToken} of the current player by the dice roll, and handles
+   * any token captures at the new tile.
+   *
+   * @param token    The {@link LudoToken} to move.
+   * @param diceRoll The number of steps to move the token.
+   */
+  private void moveToken(LudoToken token, int diceRoll) {
     int oldTileId = token.getCurrentTile().getTileId();
     Tile nextTile = findNextTile(token, diceRoll);
     token.setCurrentTile(nextTile);
@@ -252,28 +510,53 @@ public class LudoBoardGame extends BoardGame {
    * @param destinationTile The {@link Tile} where the current player's token has landed.
    */
   private void handleTokenCapture(Tile destinationTile) {
-    // Check all players except current player for tokens on the destination tile
-    for (Player player : players) {
-      if (player == currentPlayer) {
-        continue; // Skip current player's tokens
-      }
+    // Find the tokens of all players except the current player on the destination tile
+    final int seat = players.indexOf(currentPlayer);
+    int tokenMask = occupancyIndex.getTokenMask(destinationTile.getTileId())
+        & ~LudoOccupancyIndex.playerMask(seat);
+    while (tokenMask != 0) {
+      int tokenBitIndex = Integer.numberOfTrailingZeros(tokenMask);
+      tokenMask &= tokenMask - 1;
+      int opponentSeat = tokenBitIndex / LudoGameState.TOKENS_PER_PLAYER;
+      Player player = players.get(opponentSeat);
+      LudoToken token = ((LudoPlayer) player).getTokens()
+          .get(tokenBitIndex % LudoGameState.TOKENS_PER_PLAYER);
 
-      ((LudoPlayer) player).getTokens().stream()
-          .filter(token -> token.getCurrentTile().getTileId() == destinationTile.getTileId())
-          .forEach(token -> {
-            // Send token back to its starting position
-            int startIndex = ((LudoGameBoard) board).getPlayerStartIndexes()[players.indexOf(
-                player)];
-            int oldTileId = token.getCurrentTile().getTileId();
-            token.setCurrentTile(board.getTile(startIndex));
-            token.setStatus(LudoToken.TokenStatus.NOT_RELEASED);
-            notifyTokenCaptured(player, token, oldTileId);
-          });
+      // Send token back to its starting position
+      int startIndex = ((LudoGameBoard) board).getPlayerStartIndexes()[opponentSeat];
+      int oldTileId = token.getCurrentTile().getTileId();
+      token.setCurrentTile(board.getTile(startIndex));
+      token.setStatus(LudoToken.TokenStatus.NOT_RELEASED);
+      notifyTokenCaptured(player, token, oldTileId);
     }
   }
 
   /**
-   * Notifies all registered observers (typically a {@link LudoGameController}) that a player's
+   * Subscribes {@link LudoGameObserver}s to the token and turn skipped events.
+   *
+   * @param observer      The {@link BoardGameObserver} being added.
+   * @param subscriptions The list to add the new subscriptions to.
+   */
+  @Override
+  protected void subscribeObserver(BoardGameObserver observer,
+      List<GameEventBus.Subscription> subscriptions) {
+    if (observer instanceof LudoGameObserver ludoObserver) {
+      subscriptions.add(eventBus.subscribe(GameEvent.TokenReleased.class, event -> ludoObserver
+          .onTokenReleased(event.player(), event.tileId(), event.tokenId())));
+      subscriptions.add(eventBus.subscribe(GameEvent.TokenMoved.class, event -> ludoObserver
+          .onTokenMoved(event.player(), event.token(), event.diceRoll(), event.oldTileId(),
+              event.newTileId())));
+      subscriptions.add(eventBus.subscribe(GameEvent.TokenCaptured.class, event -> ludoObserver
+          .onTokenCaptured(event.player(), event.token(), event.oldTileId())));
+      subscriptions.add(eventBus.subscribe(GameEvent.TokenFinished.class, event -> ludoObserver
+          .onTokenFinished(event.player(), event.token())));
+      subscriptions.add(eventBus.subscribe(GameEvent.TurnSkipped.class, event -> ludoObserver
+          .onTurnSkipped(event.player(), event.diceRoll())));
+    }
+  }
+
+  /**
+   * Notifies all registered observers (typically a {@link LudoGameObserver}) that a player's
    * token has been released from their start area.
    *
    * @param player  The {@link Player} whose token was released.
@@ -281,8 +564,9 @@ public class LudoBoardGame extends BoardGame {
    * @param tokenId The ID (index) of the released token within the player's token list.
    */
   private void notifyTokenReleased(Player player, int tileId, int tokenId) {
-    observers.forEach(
-        observer -> ((LudoGameController) observer).onTokenReleased(player, tileId, tokenId));
+    if (eventBus.hasSubscribers(GameEvent.Type.TOKEN_RELEASED)) {
+      eventBus.publish(new GameEvent.TokenReleased(player, tileId, tokenId));
+    }
   }
 
   /**
@@ -296,9 +580,9 @@ public class LudoBoardGame extends BoardGame {
    */
   private void notifyTokenMoved(Player player, LudoToken token, int diceRoll, int oldTileId,
       int newTileId) {
-    observers.forEach(
-        observer -> ((LudoGameController) observer).onTokenMoved(player, token, diceRoll, oldTileId,
-            newTileId));
+    if (eventBus.hasSubscribers(GameEvent.Type.TOKEN_MOVED)) {
+      eventBus.publish(new GameEvent.TokenMoved(player, token, diceRoll, oldTileId, newTileId));
+    }
   }
 
   /**
@@ -309,8 +593,9 @@ public class LudoBoardGame extends BoardGame {
    * @param oldTileId The ID of the tile the token was on before being captured.
    */
   private void notifyTokenCaptured(Player player, LudoToken token, int oldTileId) {
-    observers.forEach(
-        observer -> ((LudoGameController) observer).onTokenCaptured(player, token, oldTileId));
+    if (eventBus.hasSubscribers(GameEvent.Type.TOKEN_CAPTURED)) {
+      eventBus.publish(new GameEvent.TokenCaptured(player, token, oldTileId));
+    }
   }
 
   /**
@@ -320,7 +605,9 @@ public class LudoBoardGame extends BoardGame {
    * @param token  The {@link LudoToken} that reached the finish.
    */
   private void notifyTokenFinished(Player player, LudoToken token) {
-    observers.forEach(observer -> ((LudoGameController) observer).onTokenFinished(player, token));
+    if (eventBus.hasSubscribers(GameEvent.Type.TOKEN_FINISHED)) {
+      eventBus.publish(new GameEvent.TokenFinished(player, token));
+    }
   }
 
   /**
@@ -331,6 +618,8 @@ public class LudoBoardGame extends BoardGame {
    * @param diceRoll The dice roll that led to the turn being skipped.
    */
   private void notifyTurnSkipped(Player player, int diceRoll) {
-    observers.forEach(observer -> ((LudoGameController) observer).onTurnSkipped(player, diceRoll));
+    if (eventBus.hasSubscribers(GameEvent.Type.TURN_SKIPPED)) {
+      eventBus.publish(new GameEvent.TurnSkipped(player, diceRoll));
+    }
   }
 }
@@ -1,8 +1,8 @@
 package edu.ntnu.idi.idatt.model.player;
 
-import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ludoPlayerMoveTokenValidator;
 import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ludoPlayerMoveTokenValidator;
 
+import edu.ntnu.idi.idatt.model.strategy.LudoMoveStrategy;
 import edu.ntnu.idi.idatt.model.tile.Tile;
 import edu.ntnu.idi.idatt.model.token.LudoToken;
 import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
@@ -17,6 +17,10 @@ import java.util.List;
  * methods to access these tokens and to move them on the game board, updating
  * their status accordingly.</p>
  *
+ * <p>A player can be given a {@link LudoMoveStrategy} to choose which token to move or release
+ * when a turn has more than one legal move. Without a strategy the first released token is moved,
+ * and a token is only released when no token can be moved.</p>
+ *
  * @see Player
  * @see LudoToken
  * @see Tile
@@ -25,6 +29,7 @@ import java.util.List;
 public class LudoPlayer extends Player {
 
   private final List<LudoToken> tokens;
+  private LudoMoveStrategy moveStrategy;
 
   /**
    * Constructs a {@code LudoPlayer} with the specified name, color, token type, and bot status.
@@ -52,6 +57,26 @@ public class LudoPlayer extends Player {
     return tokens;
   }
 
+  /**
+   * Returns the strategy choosing the player's moves.
+   *
+   * @return The {@link LudoMoveStrategy} of the player, or {@code null} if the player makes the
+   *     default moves.
+   */
+  public LudoMoveStrategy getMoveStrategy() {
+    return moveStrategy;
+  }
+
+  /**
+   * Sets the strategy choosing the player's moves.
+   *
+   * @param moveStrategy The {@link LudoMoveStrategy} of the player, or {@code null} to make the
+   *                     default moves.
+   */
+  public void setMoveStrategy(LudoMoveStrategy moveStrategy) {
+    this.moveStrategy = moveStrategy;
+  }
+
   /**
    * Retrieves a specific {@link LudoToken} by its ID.
    *
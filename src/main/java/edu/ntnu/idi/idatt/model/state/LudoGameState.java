@@ -0,0 +1,199 @@
+package edu.ntnu.idi.idatt.model.state;
+
+import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
+
+/**
+ * LudoGameState.
+ *
+ * <p>Static helpers for a packed, primitive representation of the state of a Ludo game. The state
+ * is a plain {@code int[]} of length {@link #SIZE}, so it can be copied with
+ * {@link System#arraycopy(Object, int, Object, int, int)} and evaluated without creating any
+ * objects. The first 16 entries hold the four tokens of each of the four seats, each packed as the
+ * id of the tile the token is on, shifted left by two bits, with the ordinal of its
+ * {@link TokenStatus} in the lower two bits. The last two entries hold the seat of the current
+ * player and the round number.</p>
+ *
+ * @see LudoTransition
+ */
+public final class LudoGameState {
+
+  /** The largest number of seats on a Ludo board. */
+  public static final int MAX_PLAYERS = 4;
+
+  /** The number of tokens each player has. */
+  public static final int TOKENS_PER_PLAYER = 4;
+
+  /** The index of the seat of the current player. */
+  public static final int CURRENT_SEAT = MAX_PLAYERS * TOKENS_PER_PLAYER;
+
+  /** The index of the round number. */
+  public static final int ROUND_NUMBER = CURRENT_SEAT + 1;
+
+  /** The length of a packed state. */
+  public static final int SIZE = ROUND_NUMBER + 1;
+
+  static final int NOT_RELEASED = TokenStatus.NOT_RELEASED.ordinal();
+  static final int RELEASED = TokenStatus.RELEASED.ordinal();
+  static final int FINISHED = TokenStatus.FINISHED.ordinal();
+
+  static final int STATUS_BITS = 2;
+  private static final int STATUS_MASK = (1 << STATUS_BITS) - 1;
+
+  /** Private constructor to prevent instantiation. */
+  private LudoGameState() {
+  }
+
+  /**
+   * Creates an empty packed state, where every token is on tile 0 and not released, the first
+   * seat is the current seat, and the round number is 1.
+   *
+   * @return A new packed state.
+   */
+  public static int[] create() {
+    final int[] state = new int[SIZE];
+    state[ROUND_NUMBER] = 1;
+    return state;
+  }
+
+  /**
+   * Returns a copy of a packed state.
+   *
+   * @param state The packed state to copy.
+   * @return A new packed state with the same content.
+   */
+  public static int[] copy(int[] state) {
+    return state.clone();
+  }
+
+  /**
+   * Copies a packed state into another packed state, without creating any objects.
+   *
+   * @param source      The packed state to copy from.
+   * @param destination The packed state to copy to.
+   */
+  public static void copy(int[] source, int[] destination) {
+    System.arraycopy(source, 0, destination, 0, SIZE);
+  }
+
+  /**
+   * Returns the index of a token in a packed state.
+   *
+   * @param seat  The seat of the player owning the token, from 0.
+   * @param token The index of the token in the player's token list, from 0.
+   * @return The index of the token.
+   */
+  public static int tokenIndex(int seat, int token) {
+    return seat * TOKENS_PER_PLAYER + token;
+  }
+
+  /**
+   * Returns the id of the tile a token is on.
+   *
+   * @param state The packed state.
+   * @param seat  The seat of the player owning the token.
+   * @param token The index of the token in the player's token list.
+   * @return The tile id of the token.
+   */
+  public static int getTileId(int[] state, int seat, int token) {
+    return state[tokenIndex(seat, token)] >>> STATUS_BITS;
+  }
+
+  /**
+   * Returns the status of a token.
+   *
+   * @param state The packed state.
+   * @param seat  The seat of the player owning the token.
+   * @param token The index of the token in the player's token list.
+   * @return The {@link TokenStatus} of the token.
+   */
+  public static TokenStatus getStatus(int[] state, int seat, int token) {
+    return TokenStatus.values()[getStatusOrdinal(state, tokenIndex(seat, token))];
+  }
+
+  /**
+   * Sets the tile id and status of a token.
+   *
+   * @param state  The packed state.
+   * @param seat   The seat of the player owning the token.
+   * @param token  The index of the token in the player's token list.
+   * @param tileId The id of the tile the token is on.
+   * @param status The {@link TokenStatus} of the token.
+   */
+  public static void setToken(int[] state, int seat, int token, int tileId, TokenStatus status) {
+    setToken(state, tokenIndex(seat, token), tileId, status.ordinal());
+  }
+
+  /**
+   * Returns the seat of the current player.
+   *
+   * @param state The packed state.
+   * @return The current seat, from 0.
+   */
+  public static int getCurrentSeat(int[] state) {
+    return state[CURRENT_SEAT];
+  }
+
+  /**
+   * Sets the seat of the current player.
+   *
+   * @param state The packed state.
+   * @param seat  The current seat, from 0.
+   */
+  public static void setCurrentSeat(int[] state, int seat) {
+    state[CURRENT_SEAT] = seat;
+  }
+
+  /**
+   * Returns the round number.
+   *
+   * @param state The packed state.
+   * @return The round number.
+   */
+  public static int getRoundNumber(int[] state) {
+    return state[ROUND_NUMBER];
+  }
+
+  /**
+   * Sets the round number.
+   *
+   * @param state       The packed state.
+   * @param roundNumber The round number.
+   */
+  public static void setRoundNumber(int[] state, int roundNumber) {
+    state[ROUND_NUMBER] = roundNumber;
+  }
+
+  /**
+   * Returns the tile id of the token at the given index.
+   *
+   * @param state The packed state.
+   * @param index The index of the token.
+   * @return The tile id of the token.
+   */
+  static int getTileIdAt(int[] state, int index) {
+    return state[index] >>> STATUS_BITS;
+  }
+
+  /**
+   * Returns the ordinal of the status of the token at the given index.
+   *
+   * @param state The packed state.
+   * @param index The index of the token.
+   * @return The ordinal of the {@link TokenStatus} of the token.
+   */
+  static int getStatusOrdinal(int[] state, int index) {
+    return state[index] & STATUS_MASK;
+  }
+
+  /**
+   * Sets the tile id and status ordinal of the token at the given index.
+   *
+   * @param state         The packed state.
+   * @param index         The index of the token.
+   * @param tileId        The id of the tile the token is on.
+   * @param statusOrdinal The ordinal of the {@link TokenStatus} of the token.
+   */
+  static void setToken(int[] state, int index, int tileId, int statusOrdinal) {
+    state[index] = tileId << STATUS_BITS | statusOrdinal;
+  }
+}
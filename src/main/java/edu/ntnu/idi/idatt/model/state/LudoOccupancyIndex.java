@@ -0,0 +1,116 @@
+package edu.ntnu.idi.idatt.model.state;
+
+import static edu.ntnu.idi.idatt.model.state.LudoGameState.TOKENS_PER_PLAYER;
+
+import java.util.Arrays;
+
+/**
+ * LudoOccupancyIndex.
+ *
+ * <p>Incrementally maintained index over the tokens of a Ludo game. For every tile id it keeps a
+ * bitset of the tokens on the tile, where the token with index {@code i} of the player in seat
+ * {@code s} is bit {@code s * 4 + i}, and for every seat it keeps the number of finished tokens.
+ * Finding the tokens on a tile, or the opponent tokens to capture, is then a single array read
+ * and a mask, instead of a scan over every token of every player.</p>
+ *
+ * <p>The index does not observe the tokens itself. It is updated by the game whenever a token
+ * changes tile or status.</p>
+ *
+ * @see LudoGameState
+ */
+public final class LudoOccupancyIndex {
+  private static final int INITIAL_TILE_CAPACITY = 64;
+
+  private final int[] finishedCounts;
+  private int[] tileTokenMasks;
+
+  /**
+   * Constructs an empty index for the given number of players.
+   *
+   * @param playerCount The number of players in the game.
+   */
+  public LudoOccupancyIndex(int playerCount) {
+    this.finishedCounts = new int[playerCount];
+    this.tileTokenMasks = new int[INITIAL_TILE_CAPACITY];
+  }
+
+  /**
+   * Returns the bit of a token.
+   *
+   * @param seat  The seat of the player owning the token, from 0.
+   * @param token The index of the token in the player's token list, from 0.
+   * @return A mask with only the token's bit set.
+   */
+  public static int tokenBit(int seat, int token) {
+    return 1 << (seat * TOKENS_PER_PLAYER + token);
+  }
+
+  /**
+   * Returns the bits of all the tokens of a player.
+   *
+   * @param seat The seat of the player, from 0.
+   * @return A mask with the bits of the player's tokens set.
+   */
+  public static int playerMask(int seat) {
+    return ((1 << TOKENS_PER_PLAYER) - 1) << (seat * TOKENS_PER_PLAYER);
+  }
+
+  /**
+   * Removes every token from the index and resets the finished counters.
+   */
+  public void clear() {
+    Arrays.fill(tileTokenMasks, 0);
+    Arrays.fill(finishedCounts, 0);
+  }
+
+  /**
+   * Moves a token from one tile to another.
+   *
+   * @param tokenBit   The bit of the token, as returned by {@link #tokenBit(int, int)}.
+   * @param fromTileId The id of the tile the token leaves, or -1 if it was not on a tile.
+   * @param toTileId   The id of the tile the token enters, or -1 if it is not on a tile.
+   */
+  public void moveToken(int tokenBit, int fromTileId, int toTileId) {
+    if (fromTileId >= 0 && fromTileId < tileTokenMasks.length) {
+      tileTokenMasks[fromTileId] &= ~tokenBit;
+    }
+    if (toTileId >= 0) {
+      if (toTileId >= tileTokenMasks.length) {
+        tileTokenMasks = Arrays.copyOf(tileTokenMasks,
+            Math.max(toTileId + 1, tileTokenMasks.length * 2));
+      }
+      tileTokenMasks[toTileId] |= tokenBit;
+    }
+  }
+
+  /**
+   * Returns the bits of the tokens on a tile.
+   *
+   * @param tileId The id of the tile.
+   * @return A mask with the bits of the tokens on the tile set.
+   */
+  public int getTokenMask(int tileId) {
+    return tileId >= 0 && tileId < tileTokenMasks.length ? tileTokenMasks[tileId] : 0;
+  }
+
+  /**
+   * Updates the number of finished tokens of a player when one of the player's tokens becomes
+   * finished or stops being finished.
+   *
+   * @param seat     The seat of the player.
+   * @param finished Whether the token became finished.
+   */
+  public void updateFinishedCount(int seat, boolean finished) {
+    finishedCounts[seat] += finished ? 1 : -1;
+  }
+
+  /**
+   * Returns the number of finished tokens of a player.
+   *
+   * @param seat The seat of the player.
+   * @return The number of finished tokens.
+   */
+  public int getFinishedCount(int seat) {
+    return finishedCounts[seat];
+  }
+}
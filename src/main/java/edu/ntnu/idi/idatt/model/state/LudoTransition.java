@@ -0,0 +1,331 @@
+package edu.ntnu.idi.idatt.model.state;
+
+import static edu.ntnu.idi.idatt.model.state.LudoGameState.FINISHED;
+import static edu.ntnu.idi.idatt.model.state.LudoGameState.NOT_RELEASED;
+import static edu.ntnu.idi.idatt.model.state.LudoGameState.RELEASED;
+import static edu.ntnu.idi.idatt.model.state.LudoGameState.TOKENS_PER_PLAYER;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ludoTransitionValidator;
+
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.game.LudoBoardGame;
+import edu.ntnu.idi.idatt.model.tile.Tile;
+
+/**
+ * LudoTransition.
+ *
+ * <p>Pure transition function over the packed states of {@link LudoGameState}, with the same
+ * rules as {@link LudoBoardGame#performPlayerTurn(int)}: the first released token of the current
+ * player is moved, and if there is none, the first token in the start area is released on a roll
+ * of 6. Opponent tokens on the destination tile are sent back to their start area, tokens on the
+ * finish tile are finished, and the turn passes to the next seat, incrementing the round number
+ * when it gets back to the first seat.</p>
+ *
+ * <p>Strategies can choose which token to move with {@link #getLegalMoves(int[], int, int[])} and
+ * {@link #apply(int[], int, int)}: any released token can be moved, and on a roll of 6 the first
+ * token in the start area can be released. The first legal move is the move the game makes.</p>
+ *
+ * <p>The player routes and indexes of the board are copied into primitive arrays when the
+ * transition is created, so a move is an offset into the moving player's route, and applying a
+ * turn only reads and writes {@code int}s and never creates any objects. No observers are
+ * notified.</p>
+ *
+ * @see LudoGameState
+ * @see LudoBoardGame
+ */
+public final class LudoTransition {
+  private final int playerCount;
+  private final int[][] routes;
+  private final int[][] routePositions;
+  private final int[] startIndexes;
+  private final int[] trackStartIndexes;
+
+  /**
+   * Constructs a transition for the given board and number of players.
+   *
+   * @param board       The {@link LudoGameBoard} the game is played on.
+   * @param playerCount The number of players in the game.
+   * @throws IllegalArgumentException if the player count is not between 2 and 4.
+   */
+  public LudoTransition(LudoGameBoard board, int playerCount) {
+    ludoTransitionValidator(playerCount);
+
+    this.playerCount = playerCount;
+    this.startIndexes = board.getPlayerStartIndexes().clone();
+    this.trackStartIndexes = board.getPlayerTrackStartIndexes().clone();
+
+    this.routes = new int[playerCount][];
+    this.routePositions = new int[playerCount][];
+    int maxTileId = 0;
+    for (Tile tile : board.getTileView()) {
+      maxTileId = Math.max(maxTileId, tile.getTileId());
+    }
+    for (int seat = 0; seat < playerCount; seat++) {
+      routes[seat] = board.getPlayerRoute(seat).clone();
+      routePositions[seat] = new int[maxTileId + 1];
+      for (int tileId = 0; tileId <= maxTileId; tileId++) {
+        routePositions[seat][tileId] = board.getPlayerRoutePosition(seat, tileId);
+      }
+    }
+  }
+
+  /**
+   * Returns the number of players in the game.
+   *
+   * @return The player count.
+   */
+  public int getPlayerCount() {
+    return playerCount;
+  }
+
+  /**
+   * Creates the packed state of a new game, where every token is in its player's start area, the
+   * first seat is the current seat, and the round number is 1.
+   *
+   * @return A new packed state.
+   */
+  public int[] createInitialState() {
+    final int[] state = LudoGameState.create();
+    for (int seat = 0; seat < playerCount; seat++) {
+      for (int token = 0; token < TOKENS_PER_PLAYER; token++) {
+        LudoGameState.setToken(state, LudoGameState.tokenIndex(seat, token), startIndexes[seat],
+            NOT_RELEASED);
+      }
+    }
+    return state;
+  }
+
+  /**
+   * Applies a turn with the given dice roll to a copy of a packed state.
+   *
+   * @param source      The packed state before the turn, which is left unchanged.
+   * @param destination The packed state to write the state after the turn to.
+   * @param diceRoll    The result of the dice roll for the turn.
+   */
+  public void apply(int[] source, int[] destination, int diceRoll) {
+    LudoGameState.copy(source, destination);
+    apply(destination, diceRoll);
+  }
+
+  /**
+   * Applies a turn with the given dice roll to a packed state, in place.
+   *
+   * @param state    The packed state to update.
+   * @param diceRoll The result of the dice roll for the turn.
+   */
+  public void apply(int[] state, int diceRoll) {
+    final int seat = LudoGameState.getCurrentSeat(state);
+    int token = findToken(state, seat, RELEASED);
+    if (token < 0 && diceRoll == 6) {
+      token = findToken(state, seat, NOT_RELEASED);
+    }
+    apply(state, diceRoll, token < 0 ? -1 : token - LudoGameState.tokenIndex(seat, 0));
+  }
+
+  /**
+   * Applies a turn with the given dice roll and choice of token to a packed state, in place. A
+   * released token is moved, and a token in the start area is released.
+   *
+   * @param state    The packed state to update.
+   * @param diceRoll The result of the dice roll for the turn.
+   * @param token    The index of the current seat's token to move or release, as returned by
+   *                 {@link #getLegalMoves(int[], int, int[])}, or -1 to pass the turn when there is
+   *                 no legal move.
+   * @throws IllegalArgumentException if the token can not be moved or released with the roll.
+   */
+  public void apply(int[] state, int diceRoll, int token) {
+    final int seat = LudoGameState.getCurrentSeat(state);
+    if (token >= 0) {
+      final int index = LudoGameState.tokenIndex(seat, token);
+      final int statusOrdinal = LudoGameState.getStatusOrdinal(state, index);
+      if (statusOrdinal == RELEASED) {
+        int tileId = findNextTileId(LudoGameState.getTileIdAt(state, index), seat, diceRoll);
+        LudoGameState.setToken(state, index, tileId, RELEASED);
+        captureTokens(state, seat, tileId);
+        finishTokens(state, seat);
+      } else if (statusOrdinal == NOT_RELEASED && diceRoll == 6) {
+        LudoGameState.setToken(state, index, trackStartIndexes[seat], RELEASED);
+        captureTokens(state, seat, trackStartIndexes[seat]);
+      } else {
+        throw new IllegalArgumentException("Token " + token + " can not move with a roll of "
+            + diceRoll);
+      }
+    }
+
+    final int nextSeat = (seat + 1) % playerCount;
+    LudoGameState.setCurrentSeat(state, nextSeat);
+    if (nextSeat == 0) {
+      LudoGameState.setRoundNumber(state, LudoGameState.getRoundNumber(state) + 1);
+    }
+  }
+
+  /**
+   * Writes the legal moves of the current seat for a dice roll: every released token, followed by
+   * the first token in the start area if the roll is 6. The first legal move is the move made by
+   * {@link #apply(int[], int)}.
+   *
+   * @param state    The packed state.
+   * @param diceRoll The result of the dice roll.
+   * @param moves    The array to write the token indexes to, with room for
+   *                 {@link LudoGameState#TOKENS_PER_PLAYER} moves.
+   * @return The number of legal moves, which is 0 if the turn must be passed.
+   */
+  public int getLegalMoves(int[] state, int diceRoll, int[] moves) {
+    final int seat = LudoGameState.getCurrentSeat(state);
+    final int firstToken = LudoGameState.tokenIndex(seat, 0);
+    int count = 0;
+    int releasableToken = -1;
+    for (int token = 0; token < TOKENS_PER_PLAYER; token++) {
+      int statusOrdinal = LudoGameState.getStatusOrdinal(state, firstToken + token);
+      if (statusOrdinal == RELEASED) {
+        moves[count++] = token;
+      } else if (statusOrdinal == NOT_RELEASED && releasableToken < 0) {
+        releasableToken = token;
+      }
+    }
+    if (diceRoll == 6 && releasableToken >= 0) {
+      moves[count++] = releasableToken;
+    }
+    return count;
+  }
+
+  /**
+   * Returns how far a token has advanced along its seat's route: 0 in the start area, the position
+   * on the route plus one when released, and the length of the route when finished.
+   *
+   * @param state The packed state.
+   * @param seat  The seat of the player owning the token.
+   * @param token The index of the token.
+   * @return The progress of the token, from 0 to {@link #getRouteLength(int)}.
+   */
+  public int getTokenProgress(int[] state, int seat, int token) {
+    final int index = LudoGameState.tokenIndex(seat, token);
+    final int statusOrdinal = LudoGameState.getStatusOrdinal(state, index);
+    if (statusOrdinal == RELEASED) {
+      return routePositions[seat][LudoGameState.getTileIdAt(state, index)] + 1;
+    }
+    return statusOrdinal == FINISHED ? routes[seat].length : 0;
+  }
+
+  /**
+   * Returns the number of tiles on a seat's route, from its track start to its finish tile.
+   *
+   * @param seat The seat of the player.
+   * @return The length of the route.
+   */
+  public int getRouteLength(int seat) {
+    return routes[seat].length;
+  }
+
+  /**
+   * Returns one more than the largest tile id on the board.
+   *
+   * @return The number of tile ids a token can be on.
+   */
+  int getTileIdLimit() {
+    return routePositions[0].length;
+  }
+
+  /**
+   * Returns the seat of the winner, which is the first seat where every token is finished.
+   *
+   * @param state The packed state.
+   * @return The seat of the winner, or -1 if no player has won yet.
+   */
+  public int getWinner(int[] state) {
+    for (int seat = 0; seat < playerCount; seat++) {
+      if (countTokens(state, seat, FINISHED) == TOKENS_PER_PLAYER) {
+        return seat;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the number of tokens of a seat with the given status.
+   *
+   * @param state         The packed state.
+   * @param seat          The seat of the player.
+   * @param statusOrdinal The ordinal of the status to count.
+   * @return The number of tokens with the status.
+   */
+  private static int countTokens(int[] state, int seat, int statusOrdinal) {
+    int count = 0;
+    final int firstToken = LudoGameState.tokenIndex(seat, 0);
+    for (int index = firstToken; index < firstToken + TOKENS_PER_PLAYER; index++) {
+      if (LudoGameState.getStatusOrdinal(state, index) == statusOrdinal) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Returns the index of the first token of a seat with the given status.
+   *
+   * @param state         The packed state.
+   * @param seat          The seat of the player.
+   * @param statusOrdinal The ordinal of the status to look for.
+   * @return The index of the token in the packed state, or -1 if there is none.
+   */
+  private static int findToken(int[] state, int seat, int statusOrdinal) {
+    final int firstToken = LudoGameState.tokenIndex(seat, 0);
+    for (int index = firstToken; index < firstToken + TOKENS_PER_PLAYER; index++) {
+      if (LudoGameState.getStatusOrdinal(state, index) == statusOrdinal) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Moves along a seat's route from a tile for the given number of steps, stopping at the finish
+   * tile at the end of the route.
+   *
+   * @param tileId   The id of the tile to move from, which must be on the seat's route.
+   * @param seat     The seat of the player moving.
+   * @param diceRoll The number of steps.
+   * @return The id of the destination tile.
+   */
+  private int findNextTileId(int tileId, int seat, int diceRoll) {
+    final int[] route = routes[seat];
+    return route[Math.min(routePositions[seat][tileId] + diceRoll, route.length - 1)];
+  }
+
+  /**
+   * Sends every opponent token on the given tile back to its start area.
+   *
+   * @param state  The packed state.
+   * @param seat   The seat of the player who moved.
+   * @param tileId The id of the destination tile.
+   */
+  private void captureTokens(int[] state, int seat, int tileId) {
+    for (int opponent = 0; opponent < playerCount; opponent++) {
+      if (opponent == seat) {
+        continue;
+      }
+      final int firstToken = LudoGameState.tokenIndex(opponent, 0);
+      for (int index = firstToken; index < firstToken + TOKENS_PER_PLAYER; index++) {
+        if (LudoGameState.getTileIdAt(state, index) == tileId) {
+          LudoGameState.setToken(state, index, startIndexes[opponent], NOT_RELEASED);
+        }
+      }
+    }
+  }
+
+  /**
+   * Marks every released token of a seat on its finish tile as finished.
+   *
+   * @param state The packed state.
+   * @param seat  The seat of the player who moved.
+   */
+  private void finishTokens(int[] state, int seat) {
+    final int finishTileId = routes[seat][routes[seat].length - 1];
+    final int firstToken = LudoGameState.tokenIndex(seat, 0);
+    for (int index = firstToken; index < firstToken + TOKENS_PER_PLAYER; index++) {
+      if (LudoGameState.getStatusOrdinal(state, index) == RELEASED
+          && LudoGameState.getTileIdAt(state, index) == finishTileId) {
+        LudoGameState.setToken(state, index, finishTileId, FINISHED);
+      }
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package edu.ntnu.idi.idatt.model.state;
+
+import java.util.SplittableRandom;
+
+/**
+ * LudoZobristHash.
+ *
+ * <p>Zobrist hashing of packed {@link LudoGameState}s, for transposition tables of search-based
+ * strategies. Every combination of token, tile and status has a random 64-bit key, and every seat
+ * has a key for being the current seat. The hash of a state is the exclusive or of the keys of its
+ * tokens and current seat, so equal positions hash equally whatever the moves that led to them.
+ * The round number is not part of the hash.</p>
+ *
+ * @see LudoTransition
+ */
+public final class LudoZobristHash {
+  private final int playerCount;
+  private final int tokenStride;
+  private final long[] tokenKeys;
+  private final long[] seatKeys;
+
+  /**
+   * Constructs the keys for the board and players of a transition.
+   *
+   * @param transition The {@link LudoTransition} of the game.
+   * @param seed       The seed of the random keys.
+   */
+  public LudoZobristHash(LudoTransition transition, long seed) {
+    final SplittableRandom random = new SplittableRandom(seed);
+    this.playerCount = transition.getPlayerCount();
+    this.tokenStride = transition.getTileIdLimit() << LudoGameState.STATUS_BITS;
+    this.tokenKeys = new long[playerCount * LudoGameState.TOKENS_PER_PLAYER * tokenStride];
+    this.seatKeys = new long[playerCount];
+    for (int i = 0; i < tokenKeys.length; i++) {
+      tokenKeys[i] = random.nextLong();
+    }
+    for (int i = 0; i < seatKeys.length; i++) {
+      seatKeys[i] = random.nextLong();
+    }
+  }
+
+  /**
+   * Returns the hash of the tokens and current seat of a packed state.
+   *
+   * @param state The packed state.
+   * @return The 64-bit hash of the state.
+   */
+  public long hash(int[] state) {
+    long hash = seatKeys[LudoGameState.getCurrentSeat(state)];
+    final int tokenCount = playerCount * LudoGameState.TOKENS_PER_PLAYER;
+    for (int index = 0; index < tokenCount; index++) {
+      hash ^= tokenKeys[index * tokenStride + state[index]];
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,207 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.expectiminimaxStrategyValidator;
+
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+import edu.ntnu.idi.idatt.model.state.LudoZobristHash;
+import java.util.Arrays;
+
+/**
+ * ExpectiminimaxStrategy.
+ *
+ * <p>Searches the game tree with expectiminimax: the strategy's own turns are max nodes, the
+ * opponents' turns are min nodes, as if the opponents played together against it, and every turn
+ * starts with a chance node averaging over the six faces of the die. The leaves are evaluated
+ * with {@link LudoHeuristic#evaluate(LudoTransition, int[], int)}.</p>
+ *
+ * <p>The search deepens iteratively, one turn at a time, until it reaches the maximum depth or
+ * runs out of its time budget, and the move of the deepest completed search is chosen. The values
+ * of chance nodes are kept in a transposition table keyed by the {@link LudoZobristHash} of their
+ * state, which is kept between moves, so positions reached by different move orders, or already
+ * searched at the previous move, are only searched once. The search reuses preallocated states
+ * and creates no objects.</p>
+ *
+ * @see LudoMoveStrategy
+ * @see LudoHeuristic
+ */
+public final class ExpectiminimaxStrategy implements LudoMoveStrategy {
+
+  /** The default maximum search depth, in turns. */
+  public static final int DEFAULT_MAX_DEPTH = 8;
+
+  /** The default time budget of a move, in milliseconds. */
+  public static final long DEFAULT_TIME_BUDGET_MILLIS = 40;
+
+  private static final int TABLE_BITS = 16;
+  private static final int TABLE_MASK = (1 << TABLE_BITS) - 1;
+  private static final int NODES_PER_CLOCK_CHECK = 256;
+  private static final long ZOBRIST_SEED = 0x4C55444FL;
+  private static final double FACE_PROBABILITY = 1.0 / 6;
+
+  private final int maxDepth;
+  private final long timeBudgetNanos;
+  private final int[][] states;
+  private final int[][] moves;
+  private final long[] tableKeys;
+  private final double[] tableValues;
+  private final int[] tableDepths;
+  private LudoTransition transition;
+  private LudoZobristHash zobristHash;
+  private int rootSeat;
+  private long deadline;
+  private int nodeCount;
+  private boolean timedOut;
+  private int lastSearchDepth;
+
+  /**
+   * Constructs a strategy with the default maximum depth and time budget.
+   */
+  public ExpectiminimaxStrategy() {
+    this(DEFAULT_MAX_DEPTH, DEFAULT_TIME_BUDGET_MILLIS);
+  }
+
+  /**
+   * Constructs a strategy with the given maximum depth and time budget.
+   *
+   * @param maxDepth          The maximum search depth, in turns.
+   * @param timeBudgetMillis  The time budget of a move, in milliseconds. The first turn of the
+   *                          search is always completed.
+   * @throws IllegalArgumentException if the depth or time budget is less than 1.
+   */
+  public ExpectiminimaxStrategy(int maxDepth, long timeBudgetMillis) {
+    expectiminimaxStrategyValidator(maxDepth, timeBudgetMillis);
+
+    this.maxDepth = maxDepth;
+    this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+    this.states = new int[maxDepth + 1][LudoGameState.SIZE];
+    this.moves = new int[maxDepth + 1][LudoGameState.TOKENS_PER_PLAYER];
+    this.tableKeys = new long[1 << TABLE_BITS];
+    this.tableValues = new double[1 << TABLE_BITS];
+    this.tableDepths = new int[1 << TABLE_BITS];
+  }
+
+  /**
+   * Returns the depth of the deepest search completed for the last move.
+   *
+   * @return The depth in turns, or 0 if no move has been chosen yet.
+   */
+  public int getLastSearchDepth() {
+    return lastSearchDepth;
+  }
+
+  @Override
+  public int chooseMove(LudoTransition transition, int[] state, int diceRoll, int[] legalMoves,
+      int legalMoveCount) {
+    prepare(transition, LudoGameState.getCurrentSeat(state));
+    deadline = System.nanoTime() + timeBudgetNanos;
+    timedOut = false;
+    nodeCount = 0;
+    lastSearchDepth = 0;
+
+    int bestMove = legalMoves[0];
+    for (int depth = 1; depth <= maxDepth; depth++) {
+      int bestDepthMove = legalMoves[0];
+      double bestValue = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < legalMoveCount && !timedOut; i++) {
+        LudoGameState.copy(state, states[0]);
+        transition.apply(states[0], diceRoll, legalMoves[i]);
+        double value = expectation(0, depth - 1);
+        if (value > bestValue) {
+          bestValue = value;
+          bestDepthMove = legalMoves[i];
+        }
+      }
+      if (timedOut) {
+        break;
+      }
+      bestMove = bestDepthMove;
+      lastSearchDepth = depth;
+    }
+    return bestMove;
+  }
+
+  /**
+   * Resets the transposition table when the strategy is used for a new game or seat.
+   *
+   * @param transition The {@link LudoTransition} of the game.
+   * @param seat       The seat the strategy plays for.
+   */
+  private void prepare(LudoTransition transition, int seat) {
+    if (transition != this.transition || seat != rootSeat) {
+      this.transition = transition;
+      this.zobristHash = new LudoZobristHash(transition, ZOBRIST_SEED);
+      this.rootSeat = seat;
+      Arrays.fill(tableDepths, 0);
+    }
+  }
+
+  /**
+   * Returns the value of the chance node of the state at a level: the average over the faces of
+   * the die of the value of the best move of the current seat.
+   *
+   * @param level The level of the state in {@link #states}.
+   * @param depth The number of turns left to search.
+   * @return The value of the state for the root seat.
+   */
+  private double expectation(int level, int depth) {
+    final int[] state = states[level];
+    if (depth == 0 || transition.getWinner(state) >= 0) {
+      return LudoHeuristic.evaluate(transition, state, rootSeat);
+    }
+    if (++nodeCount % NODES_PER_CLOCK_CHECK == 0 && System.nanoTime() > deadline) {
+      timedOut = true;
+    }
+    if (timedOut) {
+      return 0;
+    }
+
+    final long key = zobristHash.hash(state);
+    final int slot = (int) (key ^ (key >>> 32)) & TABLE_MASK;
+    if (tableKeys[slot] == key && tableDepths[slot] >= depth) {
+      return tableValues[slot];
+    }
+
+    double value = 0;
+    for (int diceRoll = 1; diceRoll <= 6; diceRoll++) {
+      value += FACE_PROBABILITY * decision(level, diceRoll, depth);
+    }
+    if (!timedOut) {
+      tableKeys[slot] = key;
+      tableValues[slot] = value;
+      tableDepths[slot] = depth;
+    }
+    return value;
+  }
+
+  /**
+   * Returns the value of the decision of the current seat of the state at a level for a dice
+   * roll: the best value for the root seat if it is the current seat, and the worst otherwise.
+   *
+   * @param level    The level of the state in {@link #states}.
+   * @param diceRoll The result of the dice roll.
+   * @param depth    The number of turns left to search, including this one.
+   * @return The value of the decision for the root seat.
+   */
+  private double decision(int level, int diceRoll, int depth) {
+    final int[] state = states[level];
+    final int[] child = states[level + 1];
+    final int[] legalMoves = moves[level];
+    final int legalMoveCount = transition.getLegalMoves(state, diceRoll, legalMoves);
+    if (legalMoveCount == 0) {
+      LudoGameState.copy(state, child);
+      transition.apply(child, diceRoll, -1);
+      return expectation(level + 1, depth - 1);
+    }
+
+    final boolean maximizing = LudoGameState.getCurrentSeat(state) == rootSeat;
+    double bestValue = maximizing ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    for (int i = 0; i < legalMoveCount; i++) {
+      LudoGameState.copy(state, child);
+      transition.apply(child, diceRoll, legalMoves[i]);
+      double value = expectation(level + 1, depth - 1);
+      bestValue = maximizing ? Math.max(bestValue, value) : Math.min(bestValue, value);
+    }
+    return bestValue;
+  }
+}
@@ -0,0 +1,21 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+
+/**
+ * FirstTokenStrategy.
+ *
+ * <p>Always makes the first legal move: the first released token is moved, and if there is none,
+ * a token is released on a roll of 6. These are the moves made by
+ * {@link LudoTransition#apply(int[], int)}, and the default moves of the game.</p>
+ *
+ * @see LudoMoveStrategy
+ */
+public final class FirstTokenStrategy implements LudoMoveStrategy {
+
+  @Override
+  public int chooseMove(LudoTransition transition, int[] state, int diceRoll, int[] legalMoves,
+      int legalMoveCount) {
+    return legalMoves[0];
+  }
+}
@@ -0,0 +1,36 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+
+/**
+ * GreedyMoveStrategy.
+ *
+ * <p>Looks one move ahead: every legal move is applied to a scratch copy of the state, and the
+ * move leading to the best {@link LudoHeuristic#evaluate(LudoTransition, int[], int) evaluation}
+ * for the moving seat is chosen, preferring the earlier move on ties.</p>
+ *
+ * @see LudoMoveStrategy
+ * @see LudoHeuristic
+ */
+public final class GreedyMoveStrategy implements LudoMoveStrategy {
+  private final int[] scratchState = LudoGameState.create();
+
+  @Override
+  public int chooseMove(LudoTransition transition, int[] state, int diceRoll, int[] legalMoves,
+      int legalMoveCount) {
+    final int seat = LudoGameState.getCurrentSeat(state);
+    int bestMove = legalMoves[0];
+    double bestValue = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < legalMoveCount; i++) {
+      LudoGameState.copy(state, scratchState);
+      transition.apply(scratchState, diceRoll, legalMoves[i]);
+      double value = LudoHeuristic.evaluate(transition, scratchState, seat);
+      if (value > bestValue) {
+        bestValue = value;
+        bestMove = legalMoves[i];
+      }
+    }
+    return bestMove;
+  }
+}
@@ -0,0 +1,73 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import static edu.ntnu.idi.idatt.model.state.LudoGameState.TOKENS_PER_PLAYER;
+
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+
+/**
+ * LudoHeuristic.
+ *
+ * <p>Static evaluation of Ludo states for the search-based strategies. The score of a seat is the
+ * progress of its tokens along its route, as a fraction of the route so that boards of different
+ * sizes score alike, with a bonus for every finished token. The evaluation of a state for a seat
+ * is its score minus the best score of its opponents, so captures, which send opponent tokens back
+ * to their start area, are rewarded.</p>
+ *
+ * @see LudoTransition#getTokenProgress(int[], int, int)
+ */
+public final class LudoHeuristic {
+
+  /** The score of a won game, higher than the score of any unfinished game. */
+  public static final double WIN_SCORE = 1_000.0;
+
+  private static final double FINISHED_TOKEN_BONUS = 0.5;
+
+  private LudoHeuristic() {
+  }
+
+  /**
+   * Returns the score of a seat: the sum of the progress of its tokens as a fraction of its route,
+   * plus a bonus for every finished token.
+   *
+   * @param transition The {@link LudoTransition} of the game.
+   * @param state      The packed state.
+   * @param seat       The seat to score.
+   * @return The score of the seat.
+   */
+  public static double score(LudoTransition transition, int[] state, int seat) {
+    final int routeLength = transition.getRouteLength(seat);
+    double score = 0;
+    for (int token = 0; token < TOKENS_PER_PLAYER; token++) {
+      int progress = transition.getTokenProgress(state, seat, token);
+      score += (double) progress / routeLength;
+      if (progress == routeLength) {
+        score += FINISHED_TOKEN_BONUS;
+      }
+    }
+    return score;
+  }
+
+  /**
+   * Evaluates a state from the point of view of a seat: {@link #WIN_SCORE} if the seat has won,
+   * minus {@link #WIN_SCORE} if an opponent has won, and otherwise the seat's score minus the best
+   * score of its opponents.
+   *
+   * @param transition The {@link LudoTransition} of the game.
+   * @param state      The packed state.
+   * @param seat       The seat to evaluate the state for.
+   * @return The evaluation of the state for the seat.
+   */
+  public static double evaluate(LudoTransition transition, int[] state, int seat) {
+    final int winner = transition.getWinner(state);
+    if (winner >= 0) {
+      return winner == seat ? WIN_SCORE : -WIN_SCORE;
+    }
+    double bestOpponentScore = Double.NEGATIVE_INFINITY;
+    for (int opponent = 0; opponent < transition.getPlayerCount(); opponent++) {
+      if (opponent != seat) {
+        bestOpponentScore = Math.max(bestOpponentScore, score(transition, state, opponent));
+      }
+    }
+    return score(transition, state, seat) - bestOpponentScore;
+  }
+}
@@ -0,0 +1,35 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+
+/**
+ * LudoMoveStrategy.
+ *
+ * <p>Decides which token a Ludo player moves or releases when a turn has more than one legal move.
+ * Strategies work on the packed states of {@link LudoGameState}, so they can look ahead with a
+ * {@link LudoTransition} without touching the game or notifying its observers.</p>
+ *
+ * <p>A strategy may keep state between turns, such as search tables, so an instance should only be
+ * used by one game at a time.</p>
+ *
+ * @see LudoTransition#getLegalMoves(int[], int, int[])
+ * @see FirstTokenStrategy
+ */
+@FunctionalInterface
+public interface LudoMoveStrategy {
+
+  /**
+   * Chooses the move of the current seat of a state.
+   *
+   * @param transition     The {@link LudoTransition} of the game's board and players.
+   * @param state          The packed state before the move, which must not be changed.
+   * @param diceRoll       The result of the dice roll for the turn.
+   * @param legalMoves     The token indexes of the legal moves, in the order returned by
+   *                       {@link LudoTransition#getLegalMoves(int[], int, int[])}.
+   * @param legalMoveCount The number of legal moves, which is at least 1.
+   * @return The token index of the chosen move, which must be one of the legal moves.
+   */
+  int chooseMove(LudoTransition transition, int[] state, int diceRoll, int[] legalMoves,
+      int legalMoveCount);
+}
@@ -0,0 +1,434 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.monteCarloTreeSearchStrategyValidator;
+
+import edu.ntnu.idi.idatt.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * MonteCarloTreeSearchStrategy.
+ *
+ * <p>Chooses moves with root-parallel Monte Carlo Tree Search. Every worker grows its own tree
+ * from a copy of the packed state, on its own thread of a {@link ForkJoinPool}, so the workers
+ * share nothing while searching. A tree alternates chance nodes, where a die face is sampled, and
+ * decisions of the current seat, where the move is selected with UCT from the win rates of the
+ * moving seat. A new node is evaluated with a playout to the end of the game, where every player
+ * makes the moves of a configurable playout policy. When the budget of the move is spent, the
+ * visits of the root moves of all workers are added up and the most visited move is chosen.</p>
+ *
+ * <p>A move is limited by a wall-clock budget, and optionally by a number of playouts per worker.
+ * After a move, every worker keeps the subtree below the chosen move, and the next move continues
+ * from the node of the new state if the tree reached it. The playout and reuse counts of the last
+ * move are kept, so the playout throughput of a worker can be measured.</p>
+ *
+ * @see LudoMoveStrategy
+ * @see LudoTransition
+ */
+public final class MonteCarloTreeSearchStrategy implements LudoMoveStrategy {
+
+  /** The default time budget of a move, in milliseconds. */
+  public static final long DEFAULT_TIME_BUDGET_MILLIS = 100;
+
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final int MAX_PLAYOUT_TURNS = 4_000;
+  private static final int ROLL_BUFFER_SIZE = 1_024;
+
+  private final ForkJoinPool pool;
+  private final long timeBudgetNanos;
+  private final long maxPlayoutsPerWorker;
+  private final Worker[] workers;
+  private LudoTransition transition;
+  private long lastPlayoutCount;
+  private long lastReusedPlayoutCount;
+  private long lastElapsedNanos;
+
+  /**
+   * Constructs a strategy with one worker per thread of the common fork-join pool, the default
+   * time budget, and random playouts.
+   */
+  public MonteCarloTreeSearchStrategy() {
+    this(ForkJoinPool.commonPool().getParallelism(), DEFAULT_TIME_BUDGET_MILLIS, Long.MAX_VALUE,
+        RandomMoveStrategy::new, new RandomProvider());
+  }
+
+  /**
+   * Constructs a strategy that searches on the common fork-join pool.
+   *
+   * @param workerCount          The number of workers searching in parallel.
+   * @param timeBudgetMillis     The wall-clock budget of a move, in milliseconds.
+   * @param maxPlayoutsPerWorker The largest number of playouts of a worker in a move.
+   * @param playoutPolicy        Creates the playout policy of a worker from its random
+   *                             generator.
+   * @param randomProvider       The {@link RandomProvider} the workers derive their randomness
+   *                             from.
+   * @throws IllegalArgumentException if the worker count, time budget or playout limit is less
+   *                                  than 1.
+   */
+  public MonteCarloTreeSearchStrategy(int workerCount, long timeBudgetMillis,
+      long maxPlayoutsPerWorker, Function<RandomGenerator, LudoMoveStrategy> playoutPolicy,
+      RandomProvider randomProvider) {
+    this(ForkJoinPool.commonPool(), workerCount, timeBudgetMillis, maxPlayoutsPerWorker,
+        playoutPolicy, randomProvider);
+  }
+
+  /**
+   * Constructs a strategy that searches on the given fork-join pool.
+   *
+   * @param pool                 The {@link ForkJoinPool} to run the workers on.
+   * @param workerCount          The number of workers searching in parallel.
+   * @param timeBudgetMillis     The wall-clock budget of a move, in milliseconds.
+   * @param maxPlayoutsPerWorker The largest number of playouts of a worker in a move.
+   * @param playoutPolicy        Creates the playout policy of a worker from its random
+   *                             generator.
+   * @param randomProvider       The {@link RandomProvider} the workers derive their randomness
+   *                             from.
+   * @throws IllegalArgumentException if the worker count, time budget or playout limit is less
+   *                                  than 1.
+   */
+  public MonteCarloTreeSearchStrategy(ForkJoinPool pool, int workerCount, long timeBudgetMillis,
+      long maxPlayoutsPerWorker, Function<RandomGenerator, LudoMoveStrategy> playoutPolicy,
+      RandomProvider randomProvider) {
+    monteCarloTreeSearchStrategyValidator(workerCount, timeBudgetMillis, maxPlayoutsPerWorker);
+
+    this.pool = pool;
+    this.timeBudgetNanos = timeBudgetMillis * 1_000_000;
+    this.maxPlayoutsPerWorker = maxPlayoutsPerWorker;
+    this.workers = new Worker[workerCount];
+    for (int i = 0; i < workerCount; i++) {
+      RandomGenerator random = randomProvider.derive(i).getGenerator();
+      workers[i] = new Worker(random, playoutPolicy.apply(random));
+    }
+  }
+
+  /**
+   * Returns the number of playouts of all workers in the last move.
+   *
+   * @return The playout count.
+   */
+  public long getLastPlayoutCount() {
+    return lastPlayoutCount;
+  }
+
+  /**
+   * Returns the number of playouts below the root of the last move that were reused from the
+   * trees of the previous move.
+   *
+   * @return The reused playout count.
+   */
+  public long getLastReusedPlayoutCount() {
+    return lastReusedPlayoutCount;
+  }
+
+  /**
+   * Returns the number of playouts per second of a single worker in the last move.
+   *
+   * @return The playout throughput per worker, or 0 if no move has been chosen yet.
+   */
+  public double getLastPlayoutsPerSecondPerWorker() {
+    return lastElapsedNanos == 0 ? 0
+        : lastPlayoutCount * 1e9 / lastElapsedNanos / workers.length;
+  }
+
+  @Override
+  public int chooseMove(LudoTransition transition, int[] state, int diceRoll, int[] legalMoves,
+      int legalMoveCount) {
+    if (transition != this.transition) {
+      this.transition = transition;
+      for (Worker worker : workers) {
+        worker.root = null;
+      }
+    }
+    final long startTime = System.nanoTime();
+    final long deadline = startTime + timeBudgetNanos;
+    if (workers.length == 1) {
+      workers[0].search(state, diceRoll, deadline);
+    } else {
+      pool.invoke(new RecursiveAction() {
+        @Override
+        protected void compute() {
+          RecursiveAction[] searches = new RecursiveAction[workers.length];
+          for (int i = 0; i < workers.length; i++) {
+            final Worker worker = workers[i];
+            searches[i] = new RecursiveAction() {
+              @Override
+              protected void compute() {
+                worker.search(state, diceRoll, deadline);
+              }
+            };
+          }
+          invokeAll(searches);
+        }
+      });
+    }
+    lastElapsedNanos = System.nanoTime() - startTime;
+
+    final long[] visits = new long[legalMoveCount];
+    lastPlayoutCount = 0;
+    lastReusedPlayoutCount = 0;
+    for (Worker worker : workers) {
+      Decision decision = worker.root.decisions[diceRoll - 1];
+      for (int i = 0; i < legalMoveCount; i++) {
+        visits[i] += decision.childVisits[i];
+      }
+      lastPlayoutCount += worker.playoutCount;
+      lastReusedPlayoutCount += worker.reusedPlayoutCount;
+    }
+    int bestIndex = 0;
+    for (int i = 1; i < legalMoveCount; i++) {
+      if (visits[i] > visits[bestIndex]) {
+        bestIndex = i;
+      }
+    }
+    for (Worker worker : workers) {
+      worker.advance(diceRoll, bestIndex);
+    }
+    return legalMoves[bestIndex];
+  }
+
+  /**
+   * A node of a search tree: a state at the start of a turn, before the die is rolled.
+   */
+  private static final class Node {
+    private final int[] state;
+    private final Decision[] decisions = new Decision[6];
+    private long visits;
+
+    private Node(int[] state) {
+      this.state = state;
+    }
+
+    /**
+     * Returns the decision of the current seat for a dice roll, creating it on first use.
+     */
+    private Decision getDecision(LudoTransition transition, int diceRoll) {
+      Decision decision = decisions[diceRoll - 1];
+      if (decision == null) {
+        decision = new Decision(transition, state, diceRoll);
+        decisions[diceRoll - 1] = decision;
+      }
+      return decision;
+    }
+  }
+
+  /**
+   * The decision of the current seat of a node for a dice roll, with the statistics of its moves.
+   * A turn without legal moves has a single move, -1, which passes the turn.
+   */
+  private static final class Decision {
+    private final int seat;
+    private final int diceRoll;
+    private final int[] moves;
+    private final Node[] children;
+    private final long[] childVisits;
+    private final long[] childWins;
+    private long visits;
+
+    private Decision(LudoTransition transition, int[] state, int diceRoll) {
+      final int[] legalMoves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      final int legalMoveCount = transition.getLegalMoves(state, diceRoll, legalMoves);
+      this.seat = LudoGameState.getCurrentSeat(state);
+      this.diceRoll = diceRoll;
+      this.moves = legalMoveCount == 0 ? new int[]{-1} : Arrays.copyOf(legalMoves, legalMoveCount);
+      this.children = new Node[moves.length];
+      this.childVisits = new long[moves.length];
+      this.childWins = new long[moves.length];
+    }
+
+    /**
+     * Returns the first unvisited move, or the move with the highest upper confidence bound.
+     */
+    private int select() {
+      int bestIndex = 0;
+      double bestBound = Double.NEGATIVE_INFINITY;
+      final double logVisits = Math.log(visits);
+      for (int i = 0; i < moves.length; i++) {
+        if (childVisits[i] == 0) {
+          return i;
+        }
+        double bound = (double) childWins[i] / childVisits[i]
+            + EXPLORATION * Math.sqrt(logVisits / childVisits[i]);
+        if (bound > bestBound) {
+          bestBound = bound;
+          bestIndex = i;
+        }
+      }
+      return bestIndex;
+    }
+  }
+
+  /**
+   * A search worker, with its own tree, random generator, playout policy and scratch arrays.
+   */
+  private final class Worker {
+    private final DiceRoller diceRoller;
+    private final LudoMoveStrategy playoutPolicy;
+    private final int[] rolls = new int[ROLL_BUFFER_SIZE];
+    private final int[] playoutState = LudoGameState.create();
+    private final int[] playoutMoves = new int[LudoGameState.TOKENS_PER_PLAYER];
+    private Decision[] pathDecisions = new Decision[64];
+    private int[] pathIndexes = new int[64];
+    private int nextRoll = ROLL_BUFFER_SIZE;
+    private Node root;
+    private long playoutCount;
+    private long reusedPlayoutCount;
+
+    private Worker(RandomGenerator random, LudoMoveStrategy playoutPolicy) {
+      this.diceRoller = new DiceRoller(random);
+      this.playoutPolicy = playoutPolicy;
+    }
+
+    /**
+     * Grows the tree below the decision of a state for a dice roll until the deadline or the
+     * playout limit, with at least one playout.
+     */
+    private void search(int[] state, int diceRoll, long deadline) {
+      root = findRoot(state);
+      reusedPlayoutCount = root.visits;
+      final Decision rootDecision = root.getDecision(transition, diceRoll);
+      playoutCount = 0;
+      do {
+        iterate(rootDecision);
+        playoutCount++;
+      } while (playoutCount < maxPlayoutsPerWorker && System.nanoTime() < deadline);
+    }
+
+    /**
+     * Returns the node of a state in the kept subtree, looking as many turns deep as there are
+     * players, or a new node if the tree did not reach the state.
+     */
+    private Node findRoot(int[] state) {
+      if (root != null) {
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        ArrayDeque<Node> nextQueue = new ArrayDeque<>();
+        queue.add(root);
+        for (int turn = 0; turn <= transition.getPlayerCount() && !queue.isEmpty(); turn++) {
+          for (Node node : queue) {
+            if (Arrays.equals(node.state, state)) {
+              return node;
+            }
+            for (Decision decision : node.decisions) {
+              if (decision != null) {
+                for (Node child : decision.children) {
+                  if (child != null) {
+                    nextQueue.add(child);
+                  }
+                }
+              }
+            }
+          }
+          ArrayDeque<Node> swap = queue;
+          queue = nextQueue;
+          nextQueue = swap;
+          nextQueue.clear();
+        }
+      }
+      return new Node(LudoGameState.copy(state));
+    }
+
+    /**
+     * Keeps only the subtree below the chosen move of the root.
+     */
+    private void advance(int diceRoll, int moveIndex) {
+      root = root.decisions[diceRoll - 1].children[moveIndex];
+    }
+
+    /**
+     * Runs one iteration: selects moves and samples die faces down the tree until a new node is
+     * expanded or the game ends, plays out from the new node, and backs the winner up the path.
+     */
+    private void iterate(Decision rootDecision) {
+      Decision decision = rootDecision;
+      Node node = root;
+      int depth = 0;
+      int winner;
+      while (true) {
+        node.visits++;
+        int index = decision.select();
+        if (depth == pathDecisions.length) {
+          pathDecisions = Arrays.copyOf(pathDecisions, depth * 2);
+          pathIndexes = Arrays.copyOf(pathIndexes, depth * 2);
+        }
+        pathDecisions[depth] = decision;
+        pathIndexes[depth++] = index;
+
+        Node child = decision.children[index];
+        if (child == null) {
+          int[] childState = LudoGameState.copy(node.state);
+          transition.apply(childState, decision.diceRoll, decision.moves[index]);
+          child = new Node(childState);
+          decision.children[index] = child;
+          child.visits++;
+          winner = playout(childState);
+          break;
+        }
+        winner = transition.getWinner(child.state);
+        if (winner >= 0) {
+          child.visits++;
+          break;
+        }
+        node = child;
+        decision = node.getDecision(transition, nextRoll());
+      }
+
+      for (int i = 0; i < depth; i++) {
+        Decision pathDecision = pathDecisions[i];
+        pathDecision.visits++;
+        pathDecision.childVisits[pathIndexes[i]]++;
+        if (pathDecision.seat == winner) {
+          pathDecision.childWins[pathIndexes[i]]++;
+        }
+      }
+    }
+
+    /**
+     * Plays a game out from a state with the playout policy, and returns the seat of the winner.
+     * A playout stopped at the turn limit is won by the seat with the best score.
+     */
+    private int playout(int[] state) {
+      LudoGameState.copy(state, playoutState);
+      int winner = transition.getWinner(playoutState);
+      for (int turn = 0; winner < 0 && turn < MAX_PLAYOUT_TURNS; turn++) {
+        int diceRoll = nextRoll();
+        int moveCount = transition.getLegalMoves(playoutState, diceRoll, playoutMoves);
+        int move = switch (moveCount) {
+          case 0 -> -1;
+          case 1 -> playoutMoves[0];
+          default -> playoutPolicy.chooseMove(transition, playoutState, diceRoll, playoutMoves,
+              moveCount);
+        };
+        transition.apply(playoutState, diceRoll, move);
+        winner = transition.getWinner(playoutState);
+      }
+      if (winner < 0) {
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int seat = 0; seat < transition.getPlayerCount(); seat++) {
+          double score = LudoHeuristic.score(transition, playoutState, seat);
+          if (score > bestScore) {
+            bestScore = score;
+            winner = seat;
+          }
+        }
+      }
+      return winner;
+    }
+
+    /**
+     * Returns the next die face from the buffer, refilling it from the bulk roller when empty.
+     */
+    private int nextRoll() {
+      if (nextRoll == rolls.length) {
+        diceRoller.rollFaces(rolls);
+        nextRoll = 0;
+      }
+      return rolls[nextRoll++];
+    }
+  }
+}
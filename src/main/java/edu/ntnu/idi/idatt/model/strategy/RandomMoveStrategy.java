@@ -0,0 +1,31 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+import java.util.random.RandomGenerator;
+
+/**
+ * RandomMoveStrategy.
+ *
+ * <p>Chooses uniformly among the legal moves. Mostly useful as a baseline when rating other
+ * strategies.</p>
+ *
+ * @see LudoMoveStrategy
+ */
+public final class RandomMoveStrategy implements LudoMoveStrategy {
+  private final RandomGenerator random;
+
+  /**
+   * Constructs a strategy drawing its choices from the given generator.
+   *
+   * @param random The {@link RandomGenerator} to draw the choices from.
+   */
+  public RandomMoveStrategy(RandomGenerator random) {
+    this.random = random;
+  }
+
+  @Override
+  public int chooseMove(LudoTransition transition, int[] state, int diceRoll, int[] legalMoves,
+      int legalMoveCount) {
+    return legalMoves[random.nextInt(legalMoveCount)];
+  }
+}
@@ -99,6 +99,16 @@ public class LadderAction implements TileAction {
     this.description = description;
   }
 
+  /**
+   * Returns a new LadderAction with the same identifier, destination tile ID and description.
+   *
+   * @return The copy of the action.
+   */
+  @Override
+  public LadderAction copy() {
+    return new LadderAction(identifier, destinationTileId, description);
+  }
+
   /**
    * Performs the action on the given player and board.
    *
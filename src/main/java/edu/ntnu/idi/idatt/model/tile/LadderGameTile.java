@@ -52,6 +52,20 @@ public class LadderGameTile extends Tile {
     return landAction;
   }
 
+  /**
+   * Returns a new {@code LadderGameTile} with the same ID, a copy of the coordinates, the same
+   * next tile ID and a copy of the land action, if the tile has one.
+   *
+   * @return The copy of the tile.
+   */
+  @Override
+  public LadderGameTile copy() {
+    return landAction == null
+        ? new LadderGameTile(getTileId(), getCoordinates().clone(), getNextTileId())
+        : new LadderGameTile(getTileId(), getCoordinates().clone(), getNextTileId(),
+            landAction.copy());
+  }
+
   /**
    * Sets the {@link TileAction} to be performed when a player lands on this tile.
    * The provided action is validated using {@code tileSetLandActionValidator}.
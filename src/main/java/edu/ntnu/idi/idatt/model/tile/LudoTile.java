@@ -36,6 +36,17 @@ public class LudoTile extends Tile {
     return type;
   }
 
+  /**
+   * Returns a new {@code LudoTile} with the same ID, a copy of the coordinates, the same next tile
+   * ID and the same type.
+   *
+   * @return The copy of the tile.
+   */
+  @Override
+  public LudoTile copy() {
+    return new LudoTile(getTileId(), getCoordinates().clone(), getNextTileId(), type);
+  }
+
   /**
    * Sets the type of this Ludo tile.
    *
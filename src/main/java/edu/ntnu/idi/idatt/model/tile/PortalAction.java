@@ -100,6 +100,16 @@ public class PortalAction implements TileAction {
     this.description = description;
   }
 
+  /**
+   * Returns a new PortalAction with the same identifier, destination tile ID and description.
+   *
+   * @return The copy of the action.
+   */
+  @Override
+  public PortalAction copy() {
+    return new PortalAction(identifier, destinationTileId, description);
+  }
+
   /**
    * Performs the action on the given player and board.
    *
@@ -100,6 +100,16 @@ public class SlideAction implements TileAction {
     this.description = description;
   }
 
+  /**
+   * Returns a new SlideAction with the same identifier, destination tile ID and description.
+   *
+   * @return The copy of the action.
+   */
+  @Override
+  public SlideAction copy() {
+    return new SlideAction(identifier, destinationTileId, description);
+  }
+
   /**
    * Performs the action on the given player and board.
    *
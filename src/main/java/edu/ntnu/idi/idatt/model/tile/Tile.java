@@ -69,6 +69,14 @@ public abstract class Tile {
     return nextTileId;
   }
 
+  /**
+   * Returns a new tile of the same type with the same properties, which can be changed without
+   * changing this tile.
+   *
+   * @return The copy of the tile.
+   */
+  public abstract Tile copy();
+
   /**
    * Sets the ID of the tile.
    *
@@ -46,6 +46,14 @@ public interface TileAction {
    */
   void setDescription(String description);
 
+  /**
+   * Returns a new tile action of the same type with the same properties, which can be changed
+   * without changing this action.
+   *
+   * @return The copy of the action.
+   */
+  TileAction copy();
+
   /**
    * Performs the action on the given player and board.
    *
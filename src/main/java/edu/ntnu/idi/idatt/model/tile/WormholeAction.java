@@ -100,6 +100,16 @@ public class WormholeAction implements TileAction {
     this.description = description;
   }
 
+  /**
+   * Returns a new WormholeAction with the same identifier, destination tile ID and description.
+   *
+   * @return The copy of the action.
+   */
+  @Override
+  public WormholeAction copy() {
+    return new WormholeAction(identifier, destinationTileId, description);
+  }
+
   /**
    * Performs the action on the given player and board.
    *
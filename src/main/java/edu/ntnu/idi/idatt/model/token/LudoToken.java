@@ -1,6 +1,7 @@
 package edu.ntnu.idi.idatt.model.token;
 
 import edu.ntnu.idi.idatt.model.tile.Tile;
+import edu.ntnu.idi.idatt.observer.LudoTokenObserver;
 
 /**
  * LudoToken.
@@ -10,6 +11,9 @@ import edu.ntnu.idi.idatt.model.tile.Tile;
  * the start area, on the track, or finished), and a reference to the {@link Tile} it currently
  * occupies (if any).</p>
  *
+ * <p>A token can have a single {@link LudoTokenObserver}, which is notified after every change of
+ * its tile or status.</p>
+ *
  * @see Tile
  * @see TokenStatus
  */
@@ -18,6 +22,7 @@ public class LudoToken {
   private final int tokenId;
   private TokenStatus status;
   private Tile currentTile;
+  private LudoTokenObserver observer;
 
   /**
    * Constructs a {@code LudoToken} with the given ID. Initially, the token's status is set to
@@ -65,7 +70,11 @@ public class LudoToken {
    * @param status The new {@link TokenStatus} for the token.
    */
   public void setStatus(TokenStatus status) {
+    TokenStatus previousStatus = this.status;
     this.status = status;
+    if (observer != null) {
+      observer.onTokenChanged(this, currentTile, previousStatus);
+    }
   }
 
   /**
@@ -74,7 +83,21 @@ public class LudoToken {
    * @param currentTile The new {@link Tile} the token occupies.
    */
   public void setCurrentTile(Tile currentTile) {
+    Tile previousTile = this.currentTile;
     this.currentTile = currentTile;
+    if (observer != null) {
+      observer.onTokenChanged(this, previousTile, status);
+    }
+  }
+
+  /**
+   * Sets the observer that is notified after every change of this token's tile or status,
+   * replacing any previous observer.
+   *
+   * @param observer The {@link LudoTokenObserver} to notify, or {@code null} to remove it.
+   */
+  public void setObserver(LudoTokenObserver observer) {
+    this.observer = observer;
   }
 
   /**
@@ -3,17 +3,29 @@ package edu.ntnu.idi.idatt.model.validator;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.player.Player;
 import edu.ntnu.idi.idatt.model.player.PlayerTokenType;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
 import edu.ntnu.idi.idatt.model.tile.Tile;
 import edu.ntnu.idi.idatt.model.tile.TileAction;
 import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
 import java.util.List;
-import javafx.scene.paint.Color;
+import java.util.regex.Pattern;
 
 /**
  *  Validator class for arguments passed to model constructors and methods.
  */
 public class ArgumentValidator {
 
+  /** Color hex strings: 3, 6 or 8 hex digits, optionally prefixed by {@code #} or {@code 0x}. */
+  private static final Pattern COLOR_HEX_PATTERN = Pattern.compile(
+      "(#|0[xX])?([0-9a-fA-F]{3}|[0-9a-fA-F]{6}|[0-9a-fA-F]{8})");
+
+  /**
+   * The most tiles of a ladder board. The tile store and compiled board keep arrays with an entry
+   * per tile, which take a few megabytes for a million tiles, such as a 1000x1000 board. Larger
+   * boards are rejected here instead of failing with an {@link OutOfMemoryError}.
+   */
+  private static final int LADDER_BOARD_MAX_TILE_COUNT = 1_000_000;
+
   /** Private constructor to prevent instantiation. */
   private ArgumentValidator() {
   }
@@ -68,6 +80,28 @@ public class ArgumentValidator {
     }
   }
 
+  /**
+   * Validates the arguments for the rollTotals and rollFaces methods in DiceRoller class.
+   *
+   * @param diceCount the number of dice rolled for each value
+   * @param values the array to fill
+   * @param offset the index of the first value to fill
+   * @param length the number of values to fill
+   * @throws IllegalArgumentException if diceCount is less than 1, values is null, or the range is
+   *         not within the array
+   */
+  public static void diceRollerFillValidator(int diceCount, int[] values, int offset, int length) {
+    if (diceCount < 1) {
+      throw new IllegalArgumentException("Number of dice must be greater than 0.");
+    }
+    if (values == null) {
+      throw new IllegalArgumentException("Array to fill cannot be null.");
+    }
+    if (offset < 0 || length < 0 || offset > values.length - length) {
+      throw new IllegalArgumentException("Range to fill must be within the array.");
+    }
+  }
+
   /**
    * Validates the argument for the getTile method in Board class.
    *
@@ -85,6 +119,24 @@ public class ArgumentValidator {
     }
   }
 
+  /**
+   * Validates the argument for the getLandingTileId and getDestinationTileId methods in
+   * CompiledLadderBoard class.
+   *
+   * @param sum the sum of a tile id and a dice roll
+   * @param tileCount the number of tiles on the board, not counting the start tile
+   * @throws IllegalArgumentException if sum is less than 0 or greater than twice the tile count
+   */
+  public static void compiledLadderBoardSumValidator(int sum, int tileCount) {
+    if (sum < 0) {
+      throw new IllegalArgumentException("Sum must not be negative");
+    }
+    if (sum > 2 * tileCount) {
+      throw new IllegalArgumentException("Sum must be at most twice the number of tiles on the "
+          + "board");
+    }
+  }
+
   /**
    * Validates the arguments for the setName method in Board class.
    *
@@ -171,8 +223,9 @@ public class ArgumentValidator {
     if (rowsAndColumns[0] < 5 || rowsAndColumns[1] < 5) {
       throw new IllegalArgumentException("Rows and columns must be at least 5x5");
     }
-    if (rowsAndColumns[0] > 12 || rowsAndColumns[1] > 12) {
-      throw new IllegalArgumentException("Rows and columns must be at most 12x12");
+    if ((long) rowsAndColumns[0] * rowsAndColumns[1] > LADDER_BOARD_MAX_TILE_COUNT) {
+      throw new IllegalArgumentException("Rows and columns must give at most "
+          + LADDER_BOARD_MAX_TILE_COUNT + " tiles");
     }
   }
 
@@ -181,14 +234,34 @@ public class ArgumentValidator {
    *
    * @param rows the number of rows
    * @param columns the number of columns
-   * @throws IllegalArgumentException if rows or columns is less than 1
+   * @throws IllegalArgumentException if rows or columns is less than 5, or the board has too many
+   *     tiles
    */
   public static void ladderGameBoardCreateTilesValidator(int rows, int columns) {
     if (rows < 5 || columns < 5) {
       throw new IllegalArgumentException("Board must be at least 5x5");
     }
-    if (rows > 12 || columns > 12) {
-      throw new IllegalArgumentException("Board must be at most 12x12");
+    if ((long) rows * columns > LADDER_BOARD_MAX_TILE_COUNT) {
+      throw new IllegalArgumentException("Board must have at most " + LADDER_BOARD_MAX_TILE_COUNT
+          + " tiles");
+    }
+  }
+
+  /**
+   * Validates the arguments for the addTile method in LadderGameBoard class.
+   *
+   * @param tile the tile to add
+   * @param tileCount the number of tiles on the board
+   * @throws IllegalArgumentException if the tile is not a LadderGameTile, or its id is greater
+   *     than the tile count
+   */
+  public static void ladderGameBoardAddTileValidator(Tile tile, int tileCount) {
+    if (!(tile instanceof LadderGameTile)) {
+      throw new IllegalArgumentException("Tile must be a ladder game tile");
+    }
+    if (tile.getTileId() > tileCount) {
+      throw new IllegalArgumentException("Tile id must not be greater than the number of tiles on "
+          + "the board");
     }
   }
 
@@ -224,20 +297,24 @@ public class ArgumentValidator {
   /**
    * Validates the arguments for the setColors method in LudoGameBoard class.
    *
-   * @param colors the colors to set
-   * @throws IllegalArgumentException if colors is null
+   * @param colors the color hex strings to set
+   * @throws IllegalArgumentException if colors is null, does not contain 4 colors, or a color is
+   *         not a valid color hex string
    */
-  public static void ludoGameBoardSetColorsValidator(Color[] colors) {
+  public static void ludoGameBoardSetColorsValidator(String[] colors) {
     if (colors == null) {
       throw new IllegalArgumentException("Colors cannot be null");
     }
     if (colors.length != 4) {
       throw new IllegalArgumentException("Colors must contain 4 colors");
     }
-    for (Color color : colors) {
+    for (String color : colors) {
       if (color == null) {
         throw new IllegalArgumentException("Color cannot be null");
       }
+      if (!COLOR_HEX_PATTERN.matcher(color).matches()) {
+        throw new IllegalArgumentException("Color is not valid");
+      }
     }
   }
 
@@ -273,6 +350,18 @@ public class ArgumentValidator {
     }
   }
 
+  /**
+   * Validates the arguments for the fastForward method in BoardGame class.
+   *
+   * @param rounds the number of rounds to play
+   * @throws IllegalArgumentException if rounds is less than 1
+   */
+  public static void boardGameFastForwardValidator(int rounds) {
+    if (rounds < 1) {
+      throw new IllegalArgumentException("Number of rounds must be greater than 0");
+    }
+  }
+
   /**
    * Validates the arguments for the setCurrentPlayer method in BoardGame class.
    *
@@ -309,6 +398,222 @@ public class ArgumentValidator {
     }
   }
 
+  /**
+   * Validates the arguments for the constructor of the LadderGameSimulator class.
+   *
+   * @param tileCount the number of tiles on the simulated board, excluding the starting tile
+   * @param playerCount the number of players in each simulated game
+   * @param diceCount the number of dice rolled each turn
+   * @throws IllegalArgumentException if the player or dice count is less than 1, or if the
+   *         highest possible roll could bounce a player past the starting tile
+   */
+  public static void ladderGameSimulatorValidator(int tileCount, int playerCount, int diceCount) {
+    if (playerCount < 1) {
+      throw new IllegalArgumentException("Player count must be greater than 0");
+    }
+    if (diceCount < 1) {
+      throw new IllegalArgumentException("Dice count must be greater than 0");
+    }
+    if (diceCount * 6 > tileCount + 1) {
+      throw new IllegalArgumentException("The board has too few tiles for " + diceCount
+          + " dice");
+    }
+  }
+
+  /**
+   * Validates the arguments for the simulate method in LadderGameSimulator class.
+   *
+   * @param games the number of games to simulate
+   * @param maxRounds the number of rounds after which a game is counted as unfinished
+   * @throws IllegalArgumentException if games or maxRounds is less than 1
+   */
+  public static void ladderGameSimulatorSimulateValidator(long games, int maxRounds) {
+    if (games < 1) {
+      throw new IllegalArgumentException("Number of games must be greater than 0");
+    }
+    if (maxRounds < 1) {
+      throw new IllegalArgumentException("Max rounds must be greater than 0");
+    }
+  }
+
+  /**
+   * Validates the move chosen by a move strategy in LudoBoardGame class.
+   *
+   * @param move the token index of the chosen move
+   * @param legalMoves the token indexes of the legal moves
+   * @param legalMoveCount the number of legal moves
+   * @throws IllegalArgumentException if the move is not one of the legal moves
+   */
+  public static void ludoBoardGameChosenMoveValidator(int move, int[] legalMoves,
+      int legalMoveCount) {
+    for (int i = 0; i < legalMoveCount; i++) {
+      if (legalMoves[i] == move) {
+        return;
+      }
+    }
+    throw new IllegalArgumentException("Token " + move + " is not a legal move");
+  }
+
+  /**
+   * Validates the arguments for the constructor of ExpectiminimaxStrategy class.
+   *
+   * @param maxDepth the maximum search depth in turns
+   * @param timeBudgetMillis the time budget of a move in milliseconds
+   * @throws IllegalArgumentException if maxDepth or timeBudgetMillis is less than 1
+   */
+  public static void expectiminimaxStrategyValidator(int maxDepth, long timeBudgetMillis) {
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Max depth must be greater than 0");
+    }
+    if (timeBudgetMillis < 1) {
+      throw new IllegalArgumentException("Time budget must be greater than 0");
+    }
+  }
+
+  /**
+   * Validates the arguments for the constructor of MonteCarloTreeSearchStrategy class.
+   *
+   * @param workerCount the number of workers searching in parallel
+   * @param timeBudgetMillis the time budget of a move in milliseconds
+   * @param maxPlayoutsPerWorker the largest number of playouts of a worker in a move
+   * @throws IllegalArgumentException if any of the arguments is less than 1
+   */
+  public static void monteCarloTreeSearchStrategyValidator(int workerCount, long timeBudgetMillis,
+      long maxPlayoutsPerWorker) {
+    if (workerCount < 1) {
+      throw new IllegalArgumentException("Worker count must be greater than 0");
+    }
+    if (timeBudgetMillis < 1) {
+      throw new IllegalArgumentException("Time budget must be greater than 0");
+    }
+    if (maxPlayoutsPerWorker < 1) {
+      throw new IllegalArgumentException("Max playouts per worker must be greater than 0");
+    }
+  }
+
+  /**
+   * Validates the arguments for the constructor of LudoTournament class.
+   *
+   * @param entrantCount the number of strategies in the tournament
+   * @param playersPerMatch the number of players in each match
+   * @throws IllegalArgumentException if playersPerMatch is not between 2 and 4, or there are fewer
+   *                                  entrants than players per match
+   */
+  public static void ludoTournamentValidator(int entrantCount, int playersPerMatch) {
+    if (playersPerMatch < 2 || playersPerMatch > 4) {
+      throw new IllegalArgumentException("Players per match must be between 2 and 4");
+    }
+    if (entrantCount < playersPerMatch) {
+      throw new IllegalArgumentException("There must be at least " + playersPerMatch
+          + " entrants");
+    }
+  }
+
+  /**
+   * Validates the arguments for the play method in LudoTournament class.
+   *
+   * @param games the number of matches to play
+   * @param maxRounds the number of rounds after which a match is counted as unfinished
+   * @throws IllegalArgumentException if games or maxRounds is less than 1
+   */
+  public static void ludoTournamentPlayValidator(long games, int maxRounds) {
+    if (games < 1) {
+      throw new IllegalArgumentException("Number of games must be greater than 0");
+    }
+    if (maxRounds < 1) {
+      throw new IllegalArgumentException("Max rounds must be greater than 0");
+    }
+  }
+
+  /**
+   * Validates the arguments for the constructor of LadderMarkovSolver class.
+   *
+   * @param tileCount the number of tiles on the board, not counting the start tile
+   * @param diceCount the number of dice rolled each turn
+   * @throws IllegalArgumentException if the board has too few tiles for the number of dice
+   */
+  public static void ladderMarkovSolverValidator(int tileCount, int diceCount) {
+    if (diceCount * 6 > tileCount + 1) {
+      throw new IllegalArgumentException("The board has too few tiles for " + diceCount
+          + " dice");
+    }
+  }
+
+  /**
+   * Validates the arguments for the getFinishingTimeCdf method in LadderMarkovSolver class.
+   *
+   * @param maxTurns the number of turns to compute the distribution for
+   * @throws IllegalArgumentException if maxTurns is less than 1
+   */
+  public static void ladderMarkovSolverGetFinishingTimeCdfValidator(int maxTurns) {
+    if (maxTurns < 1) {
+      throw new IllegalArgumentException("Max turns must be greater than 0");
+    }
+  }
+
+  /**
+   * Validates the arguments for the constructor of LudoTransition class.
+   *
+   * @param playerCount the number of players in the game
+   * @throws IllegalArgumentException if playerCount is less than 2 or greater than 4
+   */
+  public static void ludoTransitionValidator(int playerCount) {
+    if (playerCount < 2 || playerCount > 4) {
+      throw new IllegalArgumentException("The number of players must be between 2 and 4");
+    }
+  }
+
+  /**
+   * Validates the arguments for the restorePackedState method in BoardGame class.
+   *
+   * @param state          the packed state to restore
+   * @param expectedLength the length of the packed states of the game
+   * @throws IllegalArgumentException if state is null or does not have the expected length
+   */
+  public static void boardGameRestorePackedStateValidator(int[] state, int expectedLength) {
+    if (state == null || state.length != expectedLength) {
+      throw new IllegalArgumentException("Packed state must have length " + expectedLength);
+    }
+  }
+
+  /**
+   * Validates the arguments for the constructor of GameJournalWriter class.
+   *
+   * @param checkpointInterval the number of turns between state checkpoints
+   * @throws IllegalArgumentException if checkpointInterval is less than 1
+   */
+  public static void gameJournalWriterValidator(int checkpointInterval) {
+    if (checkpointInterval < 1) {
+      throw new IllegalArgumentException("Checkpoint interval must be greater than 0");
+    }
+  }
+
+  /**
+   * Validates the arguments for the restore method in GameJournalReader class.
+   *
+   * @param turn      the number of turns to restore the game to
+   * @param turnCount the number of turns in the journal
+   * @throws IllegalArgumentException if turn is negative or greater than turnCount
+   */
+  public static void gameJournalReaderRestoreValidator(int turn, int turnCount) {
+    if (turn < 0 || turn > turnCount) {
+      throw new IllegalArgumentException("Turn must be between 0 and " + turnCount);
+    }
+  }
+
+  /**
+   * Validates the arguments for the goToTurn and getSnapshot methods in GameHistory class.
+   *
+   * @param turn      the number of turns to go to
+   * @param turnCount the number of recorded turns
+   * @throws IllegalArgumentException if turn is negative or greater than turnCount
+   */
+  public static void gameHistoryGoToTurnValidator(int turn, int turnCount) {
+    if (turn < 0 || turn > turnCount) {
+      throw new IllegalArgumentException("Turn must be between 0 and " + turnCount);
+    }
+  }
+
   /**
    * Validates the arguments for the setDestinationTileId method in TileAction class.
    *
@@ -384,7 +689,7 @@ public class ArgumentValidator {
     if (colorHex == null || colorHex.isBlank()) {
       throw new IllegalArgumentException("Color hex cannot be null or blank");
     }
-    if (Color.valueOf(colorHex) == null) {
+    if (!COLOR_HEX_PATTERN.matcher(colorHex).matches()) {
       throw new IllegalArgumentException("Color is not valid");
     }
   }
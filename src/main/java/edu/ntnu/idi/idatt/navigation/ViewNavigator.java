@@ -11,6 +11,8 @@ import edu.ntnu.idi.idatt.controller.laddergame.LadderGameMenuController;
 import edu.ntnu.idi.idatt.controller.ludo.LudoBoardCreatorController;
 import edu.ntnu.idi.idatt.controller.ludo.LudoGameController;
 import edu.ntnu.idi.idatt.controller.ludo.LudoMenuController;
+import edu.ntnu.idi.idatt.journal.GameJournalReader;
+import edu.ntnu.idi.idatt.journal.SavedGameStore;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.player.Player;
 import edu.ntnu.idi.idatt.observer.ButtonClickObserver;
@@ -25,6 +27,7 @@ import edu.ntnu.idi.idatt.view.laddergame.LadderGameView;
 import edu.ntnu.idi.idatt.view.ludo.LudoBoardCreatorView;
 import edu.ntnu.idi.idatt.view.ludo.LudoGameMenuView;
 import edu.ntnu.idi.idatt.view.ludo.LudoGameView;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -43,6 +46,9 @@ import org.slf4j.LoggerFactory;
  * creates the necessary views and their controllers, setting up dependencies and event handlers
  * (like {@code onStartGame}, {@code onQuitGame}) to link them together.</p>
  *
+ * <p>Unfinished games saved by the {@link SavedGameStore} can be resumed with
+ * {@link #offerSavedGames()}.</p>
+ *
  * @see AppView
  * @see ViewType
  * @see ButtonClickObserver
@@ -51,6 +57,7 @@ public class ViewNavigator implements ButtonClickObserver {
 
   private static final Logger logger = LoggerFactory.getLogger(ViewNavigator.class);
   private final AppView appView;
+  private final SavedGameStore savedGameStore;
 
   /**
    * Constructs a ViewNavigator.
@@ -59,6 +66,45 @@ public class ViewNavigator implements ButtonClickObserver {
    */
   public ViewNavigator(AppView appView) {
     this.appView = appView;
+    this.savedGameStore = new SavedGameStore();
+  }
+
+  /**
+   * Offers to resume each unfinished game saved by the {@link SavedGameStore}. If the user
+   * accepts, the game is shown, restored from the last complete turn of its journal. A saved game
+   * that is declined or cannot be read is deleted.
+   */
+  public void offerSavedGames() {
+    for (SavedGameStore.GameType gameType : SavedGameStore.GameType.values()) {
+      try {
+        SavedGameStore.SavedGame savedGame = savedGameStore.load(gameType);
+        if (savedGame == null) {
+          continue;
+        }
+        String gameName = gameType == SavedGameStore.GameType.LUDO ? "Ludo" : "Chutes and Ladders";
+        if (appView.showResumeGameAlert(gameName, savedGame.board().getName(),
+            savedGame.journal().getTurnCount())) {
+          Map<String, Object> params = new HashMap<>();
+          params.put("board", savedGame.board());
+          params.put("players", savedGame.players());
+          params.put("journal", savedGame.journal());
+          navigateTo(gameType == SavedGameStore.GameType.LUDO ? ViewType.LUDO_GAME
+              : ViewType.LADDER_GAME, params);
+          return;
+        }
+      } catch (IOException | IllegalArgumentException e) {
+        logger.error("Could not load saved {} game", gameType, e);
+      }
+      deleteSavedGame(gameType);
+    }
+  }
+
+  private void deleteSavedGame(SavedGameStore.GameType gameType) {
+    try {
+      savedGameStore.delete(gameType);
+    } catch (IOException e) {
+      logger.error("Could not delete saved {} game", gameType, e);
+    }
   }
 
   /**
@@ -168,15 +214,16 @@ public class ViewNavigator implements ButtonClickObserver {
    * the game.
    *
    * @param params A map containing "board" ({@link Board}) and "players" (List of {@link Player})
-   *               data.
+   *               data, and "journal" ({@link GameJournalReader}) when resuming a saved game.
    * @return The configured {@link LadderGameView} node.
    */
   private Node createLadderGameView(Map<String, Object> params) {
     Board board = (Board) params.get("board");
     List<Player> players = (List<Player>) params.get("players");
+    GameJournalReader savedJournal = (GameJournalReader) params.get("journal");
     GameView view = new LadderGameView();
     GameController controller = new LadderGameController(
-        (LadderGameView) view, board, players);
+        (LadderGameView) view, board, players, savedJournal);
     controller.setOnQuitGame(() -> navigateTo(ViewType.LADDER_GAME_MENU, Collections.emptyMap()));
     controller.setOnNavigateToGameFinished(
         (rankingParams) -> navigateTo(ViewType.GAME_FINISHED, rankingParams));
@@ -224,15 +271,16 @@ public class ViewNavigator implements ButtonClickObserver {
    * board and player data from the provided parameters. Sets up the action for quitting the game.
    *
    * @param params A map containing "board" ({@link Board}) and "players" (List of {@link Player})
-   *               data.
+   *               data, and "journal" ({@link GameJournalReader}) when resuming a saved game.
    * @return The configured {@link LudoGameView} node.
    */
   private Node createLudoGameView(Map<String, Object> params) {
     Board board = (Board) params.get("board");
     List<Player> players = (List<Player>) params.get("players");
+    GameJournalReader savedJournal = (GameJournalReader) params.get("journal");
     GameView view = new LudoGameView();
     GameController controller = new LudoGameController(
-        (LudoGameView) view, board, players);
+        (LudoGameView) view, board, players, savedJournal);
     controller.setOnQuitGame(() -> navigateTo(ViewType.LUDO_GAME_MENU, Collections.emptyMap()));
     controller.setOnNavigateToGameFinished(
         (rankingParams) -> navigateTo(ViewType.GAME_FINISHED, rankingParams));
@@ -0,0 +1,210 @@
+package edu.ntnu.idi.idatt.observer;
+
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.tile.TileAction;
+import edu.ntnu.idi.idatt.model.token.LudoToken;
+
+/**
+ * GameEvent interface
+ *
+ * <p>This interface is the common type of the events published by the board games on a
+ * {@link GameEventBus}. Every event is an immutable record, and every record has its own
+ * {@link Type}, which the bus uses to keep a separate array of subscribers per event type.</p>
+ *
+ * @see GameEventBus
+ */
+public sealed interface GameEvent {
+
+  /**
+   * Returns the type of the event.
+   *
+   * @return the event type
+   */
+  Type type();
+
+  /**
+   * The types of game events, one per event record.
+   */
+  enum Type {
+    ROUND_NUMBER_INCREMENTED(RoundNumberIncremented.class),
+    CURRENT_PLAYER_CHANGED(CurrentPlayerChanged.class),
+    GAME_FINISHED(GameFinished.class),
+    PLAYER_MOVED(PlayerMoved.class),
+    TILE_ACTION_PERFORMED(TileActionPerformed.class),
+    TOKEN_RELEASED(TokenReleased.class),
+    TOKEN_MOVED(TokenMoved.class),
+    TOKEN_CAPTURED(TokenCaptured.class),
+    TOKEN_FINISHED(TokenFinished.class),
+    TURN_SKIPPED(TurnSkipped.class),
+    TURN_COMPLETED(TurnCompleted.class);
+
+    private final Class<? extends GameEvent> eventClass;
+
+    Type(Class<? extends GameEvent> eventClass) {
+      this.eventClass = eventClass;
+    }
+
+    /**
+     * Returns the type of the given event class.
+     *
+     * @param eventClass the event record class
+     * @return the event type
+     * @throws IllegalArgumentException if the class is not an event record class
+     */
+    public static Type of(Class<? extends GameEvent> eventClass) {
+      for (Type type : values()) {
+        if (type.eventClass == eventClass) {
+          return type;
+        }
+      }
+      throw new IllegalArgumentException("Unknown event class: " + eventClass);
+    }
+  }
+
+  /**
+   * The round number has been incremented.
+   *
+   * @param roundNumber the new round number
+   */
+  record RoundNumberIncremented(int roundNumber) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.ROUND_NUMBER_INCREMENTED;
+    }
+  }
+
+  /**
+   * The current player has changed.
+   *
+   * @param player the new current player
+   */
+  record CurrentPlayerChanged(Player player) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.CURRENT_PLAYER_CHANGED;
+    }
+  }
+
+  /**
+   * The game has finished.
+   *
+   * @param winner the player who won the game
+   */
+  record GameFinished(Player winner) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.GAME_FINISHED;
+    }
+  }
+
+  /**
+   * A player has moved in a ladder game.
+   *
+   * @param player    the player who moved
+   * @param diceRoll  the dice roll that caused the move
+   * @param newTileId the id of the tile the player moved to
+   */
+  record PlayerMoved(Player player, int diceRoll, int newTileId) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.PLAYER_MOVED;
+    }
+  }
+
+  /**
+   * A tile action has been performed in a ladder game.
+   *
+   * @param player     the player who triggered the action
+   * @param tileAction the action that was performed
+   */
+  record TileActionPerformed(Player player, TileAction tileAction) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.TILE_ACTION_PERFORMED;
+    }
+  }
+
+  /**
+   * A Ludo token has been released from its start area.
+   *
+   * @param player  the player whose token was released
+   * @param tileId  the id of the tile the token was released onto
+   * @param tokenId the id of the released token
+   */
+  record TokenReleased(Player player, int tileId, int tokenId) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.TOKEN_RELEASED;
+    }
+  }
+
+  /**
+   * A Ludo token has moved.
+   *
+   * @param player    the player whose token moved
+   * @param token     the token that moved
+   * @param diceRoll  the dice roll that caused the move
+   * @param oldTileId the id of the tile the token moved from
+   * @param newTileId the id of the tile the token moved to
+   */
+  record TokenMoved(Player player, LudoToken token, int diceRoll, int oldTileId, int newTileId)
+      implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.TOKEN_MOVED;
+    }
+  }
+
+  /**
+   * A Ludo token has been captured and sent back to its start area.
+   *
+   * @param player    the player whose token was captured
+   * @param token     the token that was captured
+   * @param oldTileId the id of the tile the token was captured on
+   */
+  record TokenCaptured(Player player, LudoToken token, int oldTileId) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.TOKEN_CAPTURED;
+    }
+  }
+
+  /**
+   * A Ludo token has reached the finish.
+   *
+   * @param player the player whose token finished
+   * @param token  the token that finished
+   */
+  record TokenFinished(Player player, LudoToken token) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.TOKEN_FINISHED;
+    }
+  }
+
+  /**
+   * A Ludo turn has been skipped because no token could move.
+   *
+   * @param player   the player whose turn was skipped
+   * @param diceRoll the dice roll of the skipped turn
+   */
+  record TurnSkipped(Player player, int diceRoll) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.TURN_SKIPPED;
+    }
+  }
+
+  /**
+   * A turn has been completed, after the current player and round number have been updated.
+   *
+   * @param player   the player whose turn was completed
+   * @param diceRoll the dice roll of the turn
+   */
+  record TurnCompleted(Player player, int diceRoll) implements GameEvent {
+    @Override
+    public Type type() {
+      return Type.TURN_COMPLETED;
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package edu.ntnu.idi.idatt.observer;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * GameEventBus class
+ *
+ * <p>Typed publish/subscribe bus for {@link GameEvent}s. The subscribers of every
+ * {@link GameEvent.Type} are kept in their own array, which is replaced on every subscription
+ * change, so publishing reads a single array without locking, iterators or allocation.
+ * Publishers can check {@link #hasSubscribers(GameEvent.Type)} before creating an event, so an
+ * event type without subscribers costs nothing.</p>
+ *
+ * <p>Subscribers are either synchronous, and called on the publishing thread in subscription
+ * order, or asynchronous, and handed to an {@link Executor}. This lets the user interface, metrics
+ * and journals subscribe independently of each other and of the games.</p>
+ *
+ * <p>A subscription can be suspended and resumed. A suspended subscriber keeps its place in the
+ * subscription order, but is skipped when events are published.</p>
+ *
+ * @see GameEvent
+ */
+public final class GameEventBus {
+  private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+
+  private final AtomicReferenceArray<Subscriber[]> subscribers;
+
+  /**
+   * Constructs an event bus without subscribers.
+   */
+  public GameEventBus() {
+    this.subscribers = new AtomicReferenceArray<>(GameEvent.Type.values().length);
+    for (int i = 0; i < subscribers.length(); i++) {
+      subscribers.set(i, NO_SUBSCRIBERS);
+    }
+  }
+
+  /**
+   * A handle to a subscription, used to suspend, resume or cancel it.
+   */
+  public interface Subscription {
+
+    /**
+     * Removes the subscriber from the bus. Cancelling more than once has no effect.
+     */
+    void cancel();
+
+    /**
+     * Stops delivering events to the subscriber until the subscription is resumed. Events
+     * published while the subscription is suspended are not delivered later.
+     */
+    void suspend();
+
+    /**
+     * Delivers events to the subscriber again after the subscription has been suspended.
+     */
+    void resume();
+  }
+
+  /**
+   * Subscribes a listener that is called on the publishing thread.
+   *
+   * @param eventClass the class of the events to receive
+   * @param listener   the listener
+   * @param <E>        the event type
+   * @return the subscription
+   */
+  public <E extends GameEvent> Subscription subscribe(Class<E> eventClass,
+      Consumer<? super E> listener) {
+    return addSubscriber(eventClass, listener, null);
+  }
+
+  /**
+   * Subscribes a listener that is called through the given executor.
+   *
+   * @param eventClass the class of the events to receive
+   * @param listener   the listener
+   * @param executor   the executor to call the listener with
+   * @param <E>        the event type
+   * @return the subscription
+   */
+  public <E extends GameEvent> Subscription subscribeAsync(Class<E> eventClass,
+      Consumer<? super E> listener, Executor executor) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
+    }
+    return addSubscriber(eventClass, listener, executor);
+  }
+
+  /**
+   * Returns whether any listener is subscribed to the given event type.
+   *
+   * @param type the event type
+   * @return {@code true} if the event type has subscribers
+   */
+  public boolean hasSubscribers(GameEvent.Type type) {
+    return subscribers.get(type.ordinal()).length > 0;
+  }
+
+  /**
+   * Publishes an event to every subscriber of its type.
+   *
+   * @param event the event
+   */
+  @SuppressWarnings("unchecked")
+  public void publish(GameEvent event) {
+    for (Subscriber subscriber : subscribers.get(event.type().ordinal())) {
+      if (subscriber.suspended) {
+        continue;
+      }
+      Consumer<GameEvent> listener = (Consumer<GameEvent>) subscriber.listener;
+      if (subscriber.executor == null) {
+        listener.accept(event);
+      } else {
+        subscriber.executor.execute(() -> listener.accept(event));
+      }
+    }
+  }
+
+  private synchronized Subscription addSubscriber(Class<? extends GameEvent> eventClass,
+      Consumer<?> listener, Executor executor) {
+    if (eventClass == null || listener == null) {
+      throw new IllegalArgumentException("Event class and listener cannot be null");
+    }
+    final int index = GameEvent.Type.of(eventClass).ordinal();
+    final Subscriber subscriber = new Subscriber(listener, executor);
+    Subscriber[] current = subscribers.get(index);
+    Subscriber[] updated = Arrays.copyOf(current, current.length + 1);
+    updated[current.length] = subscriber;
+    subscribers.set(index, updated);
+    return new Subscription() {
+      @Override
+      public void cancel() {
+        removeSubscriber(index, subscriber);
+      }
+
+      @Override
+      public void suspend() {
+        subscriber.suspended = true;
+      }
+
+      @Override
+      public void resume() {
+        subscriber.suspended = false;
+      }
+    };
+  }
+
+  private synchronized void removeSubscriber(int index, Subscriber subscriber) {
+    Subscriber[] current = subscribers.get(index);
+    for (int i = 0; i < current.length; i++) {
+      if (current[i] == subscriber) {
+        Subscriber[] updated = new Subscriber[current.length - 1];
+        System.arraycopy(current, 0, updated, 0, i);
+        System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+        subscribers.set(index, updated.length == 0 ? NO_SUBSCRIBERS : updated);
+        return;
+      }
+    }
+  }
+
+  private static final class Subscriber {
+    private final Consumer<?> listener;
+    private final Executor executor;
+    private volatile boolean suspended;
+
+    private Subscriber(Consumer<?> listener, Executor executor) {
+      this.listener = listener;
+      this.executor = executor;
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package edu.ntnu.idi.idatt.observer;
+
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.tile.TileAction;
+
+/**
+ * An interface for observers that wish to be notified about ladder game events, in addition to
+ * the events of {@link BoardGameObserver}.
+ */
+public interface LadderGameObserver extends BoardGameObserver {
+  /**
+   * Called when a player has moved.
+   *
+   * @param player    The player who moved.
+   * @param diceRoll  The dice roll that caused the move.
+   * @param newTileId The id of the tile the player moved to.
+   */
+  void onPlayerMoved(Player player, int diceRoll, int newTileId);
+
+  /**
+   * Called when a tile action has been performed.
+   *
+   * @param player     The player who triggered the action.
+   * @param tileAction The action that was performed.
+   */
+  void onTileActionPerformed(Player player, TileAction tileAction);
+}
@@ -0,0 +1,55 @@
+package edu.ntnu.idi.idatt.observer;
+
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.token.LudoToken;
+
+/**
+ * An interface for observers that wish to be notified about Ludo game events, in addition to the
+ * events of {@link BoardGameObserver}.
+ */
+public interface LudoGameObserver extends BoardGameObserver {
+  /**
+   * Called when a token has been released from its start area.
+   *
+   * @param player  The player whose token was released.
+   * @param tileId  The id of the tile the token was released onto.
+   * @param tokenId The id of the released token.
+   */
+  void onTokenReleased(Player player, int tileId, int tokenId);
+
+  /**
+   * Called when a token has moved.
+   *
+   * @param player    The player whose token moved.
+   * @param token     The token that moved.
+   * @param diceRoll  The dice roll that caused the move.
+   * @param oldTileId The id of the tile the token moved from.
+   * @param newTileId The id of the tile the token moved to.
+   */
+  void onTokenMoved(Player player, LudoToken token, int diceRoll, int oldTileId, int newTileId);
+
+  /**
+   * Called when a token has been captured and sent back to its start area.
+   *
+   * @param player    The player whose token was captured.
+   * @param token     The token that was captured.
+   * @param oldTileId The id of the tile the token was captured on.
+   */
+  void onTokenCaptured(Player player, LudoToken token, int oldTileId);
+
+  /**
+   * Called when a token has reached the finish.
+   *
+   * @param player The player whose token finished.
+   * @param token  The token that finished.
+   */
+  void onTokenFinished(Player player, LudoToken token);
+
+  /**
+   * Called when a turn has been skipped because no token could move.
+   *
+   * @param player   The player whose turn was skipped.
+   * @param diceRoll The dice roll of the skipped turn.
+   */
+  void onTurnSkipped(Player player, int diceRoll);
+}
@@ -0,0 +1,24 @@
+package edu.ntnu.idi.idatt.observer;
+
+import edu.ntnu.idi.idatt.model.tile.Tile;
+import edu.ntnu.idi.idatt.model.token.LudoToken;
+import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
+
+/**
+ * LudoTokenObserver interface
+ *
+ * <p>This interface defines a method for observing changes to a single {@link LudoToken}, so that
+ * indexes over the tokens can be kept up to date however the token is changed.
+ */
+@FunctionalInterface
+public interface LudoTokenObserver {
+
+  /**
+   * Handles a change of the tile or status of a token. Called after the change.
+   *
+   * @param token          the token that changed
+   * @param previousTile   the tile the token was on before the change, or null
+   * @param previousStatus the status the token had before the change
+   */
+  void onTokenChanged(LudoToken token, Tile previousTile, TokenStatus previousStatus);
+}
@@ -0,0 +1,234 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ladderGameSimulatorSimulateValidator;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ladderGameSimulatorValidator;
+
+import edu.ntnu.idi.idatt.model.board.CompiledLadderBoard;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
+import edu.ntnu.idi.idatt.model.game.LadderBoardGame;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LadderGameSimulator.
+ *
+ * <p>Headless Monte Carlo simulator for Chutes and Ladders boards. It plays a large number of
+ * games on a {@link LadderGameBoard} with a given number of players and dice, and aggregates the
+ * outcome into a {@link LadderSimulationResult}.</p>
+ *
+ * <p>The simulator follows the same rules as {@link LadderBoardGame}: players move the sum of
+ * their dice, bounce back from the last tile if they overshoot it, perform the tile action of the
+ * tile they land on, and the first player to end a turn on the last tile wins. Unlike the game,
+ * it does not use player or tile objects and has no observers. The board is compiled into a
+ * {@link CompiledLadderBoard} once, and the games are split across all cores with a
+ * {@link ForkJoinPool}, where every worker accumulates into its own result.</p>
+ *
+ * <p>The games are simulated in blocks of {@value #GAMES_PER_BLOCK} games, and every block draws
+ * its dice rolls from a {@link RandomProvider} derived from the seed of the simulator and the index
+ * of the block. A simulation is therefore reproducible from the seed, whatever the parallelism of
+ * the pool.</p>
+ *
+ * @see LadderSimulationResult
+ * @see LadderBoardGame
+ */
+public class LadderGameSimulator {
+  private static final Logger logger = LoggerFactory.getLogger(LadderGameSimulator.class);
+
+  /** The default number of rounds after which a game is counted as unfinished. */
+  public static final int DEFAULT_MAX_ROUNDS = 10_000;
+
+  /** The number of games simulated with the same derived random provider. */
+  private static final int GAMES_PER_BLOCK = 1_024;
+
+  /** The number of dice rolls drawn at a time by the bulk {@link DiceRoller}. */
+  private static final int ROLL_BUFFER_SIZE = 4_096;
+
+  private final CompiledLadderBoard compiledBoard;
+  private final int tileCount;
+  private final int playerCount;
+  private final int diceCount;
+  private final ForkJoinPool pool;
+  private final RandomProvider randomProvider;
+
+  /**
+   * Constructs a simulator that runs on the common fork-join pool.
+   *
+   * @param board       The {@link LadderGameBoard} to simulate games on.
+   * @param playerCount The number of players in each game.
+   * @param diceCount   The number of dice rolled each turn.
+   * @throws IllegalArgumentException if the counts are invalid for the board.
+   */
+  public LadderGameSimulator(LadderGameBoard board, int playerCount, int diceCount) {
+    this(board, playerCount, diceCount, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Constructs a simulator that runs on the given fork-join pool.
+   *
+   * @param board       The {@link LadderGameBoard} to simulate games on.
+   * @param playerCount The number of players in each game.
+   * @param diceCount   The number of dice rolled each turn.
+   * @param pool        The {@link ForkJoinPool} to run the simulation on.
+   * @throws IllegalArgumentException if the counts are invalid for the board.
+   */
+  public LadderGameSimulator(LadderGameBoard board, int playerCount, int diceCount,
+      ForkJoinPool pool) {
+    this(board, playerCount, diceCount, pool, new RandomProvider().getSeed());
+  }
+
+  /**
+   * Constructs a simulator that runs on the given fork-join pool, with dice rolls that are
+   * reproducible from the given seed.
+   *
+   * @param board       The {@link LadderGameBoard} to simulate games on.
+   * @param playerCount The number of players in each game.
+   * @param diceCount   The number of dice rolled each turn.
+   * @param pool        The {@link ForkJoinPool} to run the simulation on.
+   * @param seed        The seed of the dice rolls.
+   * @throws IllegalArgumentException if the counts are invalid for the board.
+   */
+  public LadderGameSimulator(LadderGameBoard board, int playerCount, int diceCount,
+      ForkJoinPool pool, long seed) {
+    ladderGameSimulatorValidator(board.getTileCount(), playerCount, diceCount);
+
+    this.tileCount = board.getTileCount();
+    this.playerCount = playerCount;
+    this.diceCount = diceCount;
+    this.pool = pool;
+    this.randomProvider = new RandomProvider(seed);
+    this.compiledBoard = board.compile();
+  }
+
+  /**
+   * Returns the seed of the dice rolls of the simulator.
+   *
+   * @return The seed.
+   */
+  public long getSeed() {
+    return randomProvider.getSeed();
+  }
+
+  /**
+   * Simulates the given number of games with the default round limit.
+   *
+   * @param games The number of games to simulate.
+   * @return The aggregated {@link LadderSimulationResult}.
+   */
+  public LadderSimulationResult simulate(long games) {
+    return simulate(games, DEFAULT_MAX_ROUNDS);
+  }
+
+  /**
+   * Simulates the given number of games. Games without a winner after {@code maxRounds} rounds
+   * are stopped and counted as unfinished.
+   *
+   * @param games     The number of games to simulate.
+   * @param maxRounds The number of rounds after which a game is counted as unfinished.
+   * @return The aggregated {@link LadderSimulationResult}.
+   */
+  public LadderSimulationResult simulate(long games, int maxRounds) {
+    ladderGameSimulatorSimulateValidator(games, maxRounds);
+
+    long blocks = (games + GAMES_PER_BLOCK - 1) / GAMES_PER_BLOCK;
+    long blocksPerTask = Math.max(1, blocks / (pool.getParallelism() * 8L));
+    logger.debug("Simulating {} games with {} players and {} dice", games, playerCount, diceCount);
+    long startTime = System.nanoTime();
+    LadderSimulationResult result = pool.invoke(
+        new SimulationTask(games, 0, blocks, blocksPerTask, maxRounds));
+    logger.debug("Simulated {} games in {} ms", games,
+        (System.nanoTime() - startTime) / 1_000_000);
+    return result;
+  }
+
+  /**
+   * Simulates games sequentially on the calling thread, and adds their outcome to the result.
+   *
+   * @param games     The number of games to simulate.
+   * @param random    The {@link RandomGenerator} to draw the dice rolls from.
+   * @param maxRounds The number of rounds after which a game is counted as unfinished.
+   * @param result    The {@link LadderSimulationResult} to record the games in.
+   */
+  private void simulateGames(long games, RandomGenerator random, int maxRounds,
+      LadderSimulationResult result) {
+    final int[] positions = new int[playerCount];
+    final DiceRoller diceRoller = new DiceRoller(random);
+    final int[] rolls = new int[ROLL_BUFFER_SIZE];
+    int nextRoll = rolls.length;
+
+    for (long game = 0; game < games; game++) {
+      Arrays.fill(positions, 0);
+      int winnerSeat = -1;
+      int round = 1;
+      while (winnerSeat < 0 && round <= maxRounds) {
+        for (int seat = 0; seat < playerCount; seat++) {
+          if (nextRoll == rolls.length) {
+            diceRoller.rollTotals(diceCount, rolls);
+            nextRoll = 0;
+          }
+          int tileId = compiledBoard.getDestinationTileId(positions[seat] + rolls[nextRoll++]);
+          positions[seat] = tileId;
+          result.recordVisit(tileId);
+          if (tileId == tileCount) {
+            winnerSeat = seat;
+            break;
+          }
+        }
+        if (winnerSeat < 0) {
+          round++;
+        }
+      }
+      if (winnerSeat < 0) {
+        result.recordUnfinished();
+      } else {
+        result.recordWin(winnerSeat, round);
+      }
+    }
+  }
+
+  /**
+   * Fork-join task that splits a range of blocks of games into halves until they are small enough
+   * to be simulated sequentially, and merges the results of the halves.
+   */
+  private final class SimulationTask extends RecursiveTask<LadderSimulationResult> {
+    private final long games;
+    private final long fromBlock;
+    private final long toBlock;
+    private final long blocksPerTask;
+    private final int maxRounds;
+
+    private SimulationTask(long games, long fromBlock, long toBlock, long blocksPerTask,
+        int maxRounds) {
+      this.games = games;
+      this.fromBlock = fromBlock;
+      this.toBlock = toBlock;
+      this.blocksPerTask = blocksPerTask;
+      this.maxRounds = maxRounds;
+    }
+
+    @Override
+    protected LadderSimulationResult compute() {
+      if (toBlock - fromBlock <= blocksPerTask) {
+        LadderSimulationResult result = new LadderSimulationResult(playerCount, tileCount);
+        for (long block = fromBlock; block < toBlock; block++) {
+          long blockGames = Math.min(GAMES_PER_BLOCK, games - block * GAMES_PER_BLOCK);
+          simulateGames(blockGames, randomProvider.derive(block).getGenerator(), maxRounds,
+              result);
+        }
+        return result;
+      }
+      long middleBlock = fromBlock + (toBlock - fromBlock) / 2;
+      SimulationTask firstHalf = new SimulationTask(games, fromBlock, middleBlock, blocksPerTask,
+          maxRounds);
+      SimulationTask secondHalf = new SimulationTask(games, middleBlock, toBlock, blocksPerTask,
+          maxRounds);
+      firstHalf.fork();
+      return secondHalf.compute().merge(firstHalf.join());
+    }
+  }
+}
@@ -0,0 +1,235 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ladderMarkovSolverGetFinishingTimeCdfValidator;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ladderMarkovSolverValidator;
+
+import edu.ntnu.idi.idatt.model.board.CompiledLadderBoard;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.dice.Dice;
+import edu.ntnu.idi.idatt.model.game.LadderBoardGame;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LadderMarkovSolver.
+ *
+ * <p>Exact solver for the statistics of a single player on a Chutes and Ladders board. The board
+ * is turned into an absorbing Markov chain, where the state is the id of the tile the player
+ * starts a turn on, and the last tile is the only absorbing state. A turn moves the player by the
+ * sum of the dice, with the probabilities given by {@link Dice#getTotalValueDistribution()},
+ * bounces back from the last tile like {@link LadderBoardGame} does, and follows the destination
+ * of the tile action of the tile the player lands on.</p>
+ *
+ * <p>Each state only has as many transitions as there are dice sums, so the chain is stored in a
+ * {@link SparseTransitionMatrix}, and the linear systems are solved with Gauss-Seidel sweeps over
+ * it. On boards without many backward tile actions the sweeps converge after a handful of
+ * iterations, which keeps boards with thousands of tiles well within milliseconds.</p>
+ *
+ * @see LadderGameSimulator
+ * @see SparseTransitionMatrix
+ */
+public class LadderMarkovSolver {
+  private static final Logger logger = LoggerFactory.getLogger(LadderMarkovSolver.class);
+
+  /** The largest change in a sweep for the Gauss-Seidel iteration to be considered converged. */
+  private static final double TOLERANCE = 1e-12;
+
+  /** The number of Gauss-Seidel sweeps after which the iteration is given up. */
+  private static final int MAX_ITERATIONS = 100_000;
+
+  private final int tileCount;
+  private final SparseTransitionMatrix transitions;
+  private final double[] absorption;
+  private final double[] initialTransition;
+
+  /**
+   * Constructs a solver for the given board and dice.
+   *
+   * @param board The {@link LadderGameBoard} to solve.
+   * @param dice  The {@link Dice} rolled each turn.
+   * @throws IllegalArgumentException if the board has too few tiles for the dice.
+   */
+  public LadderMarkovSolver(LadderGameBoard board, Dice dice) {
+    ladderMarkovSolverValidator(board.getTileCount(), dice.getNumberOfDice());
+
+    this.tileCount = board.getTileCount();
+    this.absorption = new double[tileCount];
+    this.transitions = createTransitions(board.compile(), dice.getTotalValueDistribution());
+    this.initialTransition = new double[tileCount];
+    transitions.step(startDistribution(), initialTransition);
+    logger.debug("Created Markov chain with {} states and {} transitions", tileCount,
+        transitions.nonZeroCount());
+  }
+
+  /**
+   * Returns the expected number of turns a player needs to reach the last tile from the start.
+   *
+   * @return The expected number of turns to finish.
+   * @throws IllegalStateException if the last tile can not be reached with certainty.
+   */
+  public double getExpectedTurns() {
+    return getExpectedTurnsFromTiles()[0];
+  }
+
+  /**
+   * Returns the expected number of turns a player needs to reach the last tile, for every tile
+   * the player could start a turn on. The value at index {@code n} is the expected number of
+   * turns from the tile with id {@code n}, and the value for the last tile is 0.
+   *
+   * @return The expected number of turns to finish from each tile.
+   * @throws IllegalStateException if the last tile can not be reached with certainty.
+   */
+  public double[] getExpectedTurnsFromTiles() {
+    final double[] expectedTurns = new double[tileCount + 1];
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double largestChange = 0;
+      for (int state = tileCount - 1; state >= 0; state--) {
+        double value = (1 + transitions.outgoingSum(state, expectedTurns))
+            / remainingProbability(state);
+        largestChange = Math.max(largestChange,
+            Math.abs(value - expectedTurns[state]) / Math.max(1, value));
+        expectedTurns[state] = value;
+      }
+      if (largestChange < TOLERANCE) {
+        logger.debug("Solved expected turns in {} iterations", iteration + 1);
+        return expectedTurns;
+      }
+    }
+    throw new IllegalStateException("Expected turns did not converge, the last tile might not be "
+        + "reachable from every tile");
+  }
+
+  /**
+   * Returns the cumulative distribution of the number of turns a player needs to reach the last
+   * tile from the start. The value at index {@code k} is the probability of finishing within
+   * {@code k} turns.
+   *
+   * @param maxTurns The largest number of turns to compute the probability for.
+   * @return The probabilities of finishing within 0 to {@code maxTurns} turns.
+   * @throws IllegalArgumentException if maxTurns is less than 1.
+   */
+  public double[] getFinishingTimeCdf(int maxTurns) {
+    ladderMarkovSolverGetFinishingTimeCdfValidator(maxTurns);
+
+    final double[] cdf = new double[maxTurns + 1];
+    double[] distribution = startDistribution();
+    double[] nextDistribution = new double[tileCount];
+    for (int turn = 1; turn <= maxTurns; turn++) {
+      double finished = 0;
+      for (int state = 0; state < tileCount; state++) {
+        finished += distribution[state] * absorption[state];
+      }
+      cdf[turn] = Math.min(1, cdf[turn - 1] + finished);
+      transitions.step(distribution, nextDistribution);
+      double[] swap = distribution;
+      distribution = nextDistribution;
+      nextDistribution = swap;
+    }
+    return cdf;
+  }
+
+  /**
+   * Returns the expected number of turns a player ends on each tile during a game from the start
+   * to the last tile. Tiles with a tile action are only passed through, so their occupancy is 0,
+   * and the occupancy of the last tile is 1. The occupancies add up to the expected number of
+   * turns.
+   *
+   * @return The expected number of turns ending on each tile, indexed by tile id.
+   * @throws IllegalStateException if the last tile can not be reached with certainty.
+   */
+  public double[] getOccupancy() {
+    final double[] occupancy = new double[tileCount + 1];
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double largestChange = 0;
+      for (int state = 0; state < tileCount; state++) {
+        double value = (initialTransition[state] + transitions.incomingSum(state, occupancy))
+            / remainingProbability(state);
+        largestChange = Math.max(largestChange,
+            Math.abs(value - occupancy[state]) / Math.max(1, value));
+        occupancy[state] = value;
+      }
+      if (largestChange < TOLERANCE) {
+        logger.debug("Solved occupancy in {} iterations", iteration + 1);
+        occupancy[tileCount] = 1;
+        return occupancy;
+      }
+    }
+    throw new IllegalStateException("Occupancy did not converge, the last tile might not be "
+        + "reachable from every tile");
+  }
+
+  /**
+   * Returns the probability of leaving a state in one turn.
+   *
+   * @param state The state.
+   * @return One minus the probability of staying in the state.
+   * @throws IllegalStateException if the state can never be left.
+   */
+  private double remainingProbability(int state) {
+    double remaining = 1 - transitions.selfTransition(state);
+    if (remaining <= 0) {
+      throw new IllegalStateException("A player on tile " + state + " can never leave it");
+    }
+    return remaining;
+  }
+
+  /**
+   * Returns a distribution with the whole probability on the start tile.
+   *
+   * @return The distribution of a player that has not moved yet.
+   */
+  private double[] startDistribution() {
+    final double[] distribution = new double[tileCount];
+    distribution[0] = 1;
+    return distribution;
+  }
+
+  /**
+   * Creates the transition matrix between the tiles before the last tile, and records the
+   * probability of reaching the last tile from each of them.
+   *
+   * @param compiledBoard    The compiled board.
+   * @param diceDistribution The probability of each sum of the dice.
+   * @return The {@link SparseTransitionMatrix} of the board.
+   */
+  private SparseTransitionMatrix createTransitions(CompiledLadderBoard compiledBoard,
+      double[] diceDistribution) {
+    final int maxEntries = tileCount * (diceDistribution.length - 1);
+    final int[] rowStart = new int[tileCount + 1];
+    int[] columns = new int[maxEntries];
+    double[] values = new double[maxEntries];
+    final double[] rowValues = new double[tileCount];
+    final int[] rowColumns = new int[diceDistribution.length];
+
+    int entries = 0;
+    for (int state = 0; state < tileCount; state++) {
+      int rowColumnCount = 0;
+      for (int diceSum = 1; diceSum < diceDistribution.length; diceSum++) {
+        double probability = diceDistribution[diceSum];
+        if (probability == 0) {
+          continue;
+        }
+        int destination = compiledBoard.getDestinationTileId(state + diceSum);
+        if (destination == tileCount) {
+          absorption[state] += probability;
+        } else {
+          if (rowValues[destination] == 0) {
+            rowColumns[rowColumnCount++] = destination;
+          }
+          rowValues[destination] += probability;
+        }
+      }
+      Arrays.sort(rowColumns, 0, rowColumnCount);
+      for (int i = 0; i < rowColumnCount; i++) {
+        columns[entries] = rowColumns[i];
+        values[entries] = rowValues[rowColumns[i]];
+        rowValues[rowColumns[i]] = 0;
+        entries++;
+      }
+      rowStart[state + 1] = entries;
+    }
+    return new SparseTransitionMatrix(tileCount, rowStart, Arrays.copyOf(columns, entries),
+        Arrays.copyOf(values, entries));
+  }
+}
@@ -0,0 +1,198 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import java.util.Arrays;
+
+/**
+ * LadderSimulationResult.
+ *
+ * <p>Aggregated statistics from a batch of simulated Chutes and Ladders games, as produced by
+ * {@link LadderGameSimulator}. The result holds the number of wins for each seat (turn order
+ * position), the distribution of game lengths measured in rounds, and how many times each tile
+ * was the final position of a player at the end of a turn.</p>
+ *
+ * <p>Instances are filled by the simulation workers and merged together, so the mutating methods
+ * are package-private. Once returned from the simulator the result is effectively read-only.</p>
+ *
+ * @see LadderGameSimulator
+ */
+public class LadderSimulationResult {
+  private final long[] wins;
+  private final long[] tileVisits;
+  private long[] gameLengthCounts;
+  private long gamesPlayed;
+  private long unfinishedGames;
+
+  /**
+   * Constructs an empty {@code LadderSimulationResult}.
+   *
+   * @param playerCount The number of seats in the simulated games.
+   * @param tileCount   The number of tiles on the board, excluding the starting tile.
+   */
+  LadderSimulationResult(int playerCount, int tileCount) {
+    this.wins = new long[playerCount];
+    this.tileVisits = new long[tileCount + 1];
+    this.gameLengthCounts = new long[64];
+  }
+
+  /**
+   * Returns the total number of simulated games, including unfinished ones.
+   *
+   * @return The number of games played.
+   */
+  public long getGamesPlayed() {
+    return gamesPlayed;
+  }
+
+  /**
+   * Returns the number of games that had no winner within the round limit of the simulation.
+   *
+   * @return The number of unfinished games.
+   */
+  public long getUnfinishedGames() {
+    return unfinishedGames;
+  }
+
+  /**
+   * Returns the number of seats in the simulated games.
+   *
+   * @return The number of players per game.
+   */
+  public int getPlayerCount() {
+    return wins.length;
+  }
+
+  /**
+   * Returns the number of games won by the player in the given seat.
+   *
+   * @param seat The zero-based seat (turn order position) of the player.
+   * @return The number of wins for the seat.
+   */
+  public long getWins(int seat) {
+    return wins[seat];
+  }
+
+  /**
+   * Returns the fraction of all simulated games won by the player in the given seat.
+   *
+   * @param seat The zero-based seat (turn order position) of the player.
+   * @return The win rate for the seat, between 0 and 1.
+   */
+  public double getWinRate(int seat) {
+    return gamesPlayed == 0 ? 0 : (double) wins[seat] / gamesPlayed;
+  }
+
+  /**
+   * Returns the game length distribution. The value at index {@code n} is the number of games
+   * that were won in round {@code n}. Unfinished games are not included.
+   *
+   * @return A copy of the game length counts, indexed by round number.
+   */
+  public long[] getGameLengthCounts() {
+    int length = gameLengthCounts.length;
+    while (length > 0 && gameLengthCounts[length - 1] == 0) {
+      length--;
+    }
+    return Arrays.copyOf(gameLengthCounts, length);
+  }
+
+  /**
+   * Returns the mean number of rounds of the finished games.
+   *
+   * @return The mean game length in rounds, or 0 if no game was finished.
+   */
+  public double getMeanGameLength() {
+    long finishedGames = 0;
+    double totalRounds = 0;
+    for (int round = 0; round < gameLengthCounts.length; round++) {
+      finishedGames += gameLengthCounts[round];
+      totalRounds += (double) round * gameLengthCounts[round];
+    }
+    return finishedGames == 0 ? 0 : totalRounds / finishedGames;
+  }
+
+  /**
+   * Returns the smallest number of rounds within which at least the given fraction of the
+   * finished games were won.
+   *
+   * @param fraction The fraction of finished games, between 0 and 1.
+   * @return The game length percentile in rounds, or 0 if no game was finished.
+   */
+  public int getGameLengthPercentile(double fraction) {
+    long finishedGames = gamesPlayed - unfinishedGames;
+    long cumulative = 0;
+    for (int round = 0; round < gameLengthCounts.length; round++) {
+      cumulative += gameLengthCounts[round];
+      if (cumulative > 0 && cumulative >= fraction * finishedGames) {
+        return round;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Returns how many times each tile was the position of a player at the end of a turn, after
+   * any tile action was performed.
+   *
+   * @return A copy of the tile visit counts, indexed by tile id.
+   */
+  public long[] getTileVisits() {
+    return tileVisits.clone();
+  }
+
+  /**
+   * Records a finished game.
+   *
+   * @param winnerSeat The seat of the winning player.
+   * @param rounds     The round in which the game was won.
+   */
+  void recordWin(int winnerSeat, int rounds) {
+    gamesPlayed++;
+    wins[winnerSeat]++;
+    if (rounds >= gameLengthCounts.length) {
+      gameLengthCounts = Arrays.copyOf(gameLengthCounts,
+          Math.max(rounds + 1, gameLengthCounts.length * 2));
+    }
+    gameLengthCounts[rounds]++;
+  }
+
+  /**
+   * Records a game that reached the round limit without a winner.
+   */
+  void recordUnfinished() {
+    gamesPlayed++;
+    unfinishedGames++;
+  }
+
+  /**
+   * Records that a player ended a turn on the given tile.
+   *
+   * @param tileId The id of the tile.
+   */
+  void recordVisit(int tileId) {
+    tileVisits[tileId]++;
+  }
+
+  /**
+   * Adds all statistics from another result into this one.
+   *
+   * @param other The result to merge into this result.
+   * @return This result, for chaining.
+   */
+  LadderSimulationResult merge(LadderSimulationResult other) {
+    gamesPlayed += other.gamesPlayed;
+    unfinishedGames += other.unfinishedGames;
+    for (int i = 0; i < wins.length; i++) {
+      wins[i] += other.wins[i];
+    }
+    for (int i = 0; i < tileVisits.length; i++) {
+      tileVisits[i] += other.tileVisits[i];
+    }
+    if (other.gameLengthCounts.length > gameLengthCounts.length) {
+      gameLengthCounts = Arrays.copyOf(gameLengthCounts, other.gameLengthCounts.length);
+    }
+    for (int i = 0; i < other.gameLengthCounts.length; i++) {
+      gameLengthCounts[i] += other.gameLengthCounts[i];
+    }
+    return this;
+  }
+}
@@ -0,0 +1,274 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ludoTournamentPlayValidator;
+import static edu.ntnu.idi.idatt.model.validator.ArgumentValidator.ludoTournamentValidator;
+
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.dice.DiceRoller;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
+import edu.ntnu.idi.idatt.model.game.LudoBoardGame;
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+import edu.ntnu.idi.idatt.model.strategy.LudoMoveStrategy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * LudoTournament.
+ *
+ * <p>Headless round-robin tournament between Ludo move strategies. Every combination of
+ * {@code playersPerMatch} entrants plays in every seat rotation, so no entrant gains from the
+ * first seat, and the schedule is repeated until the requested number of matches has been
+ * played. The matches follow the rules of {@link LudoBoardGame}, but are played on packed states
+ * with a {@link LudoTransition}, so a match creates no game, player or token objects and notifies
+ * no observers.</p>
+ *
+ * <p>The matches are split across a {@link ForkJoinPool}, and every worker records its results
+ * directly in the lock-free counters of a shared {@link LudoTournamentResult}. Every match draws
+ * its dice rolls and the randomness of its strategies from a {@link RandomProvider} derived from
+ * the seed of the tournament and the index of the match, so a tournament is reproducible from the
+ * seed, whatever the parallelism of the pool.</p>
+ *
+ * @see LudoTournamentResult
+ * @see LudoMoveStrategy
+ */
+public class LudoTournament {
+  private static final Logger logger = LoggerFactory.getLogger(LudoTournament.class);
+
+  /** The default number of rounds after which a match is counted as unfinished. */
+  public static final int DEFAULT_MAX_ROUNDS = 1_000;
+
+  /** The number of die faces drawn at a time by the bulk {@link DiceRoller} of a match. */
+  private static final int ROLL_BUFFER_SIZE = 256;
+
+  private final LudoTransition transition;
+  private final int[] initialState;
+  private final List<Entrant> entrants;
+  private final int playersPerMatch;
+  private final int[][] schedule;
+  private final ForkJoinPool pool;
+  private final RandomProvider randomProvider;
+
+  /**
+   * An entrant of a tournament: a named strategy, created anew for every match it plays in.
+   *
+   * @param name            The name of the entrant.
+   * @param strategyFactory Creates the strategy of the entrant for a match, drawing any randomness
+   *                        from the given {@link RandomProvider}.
+   */
+  public record Entrant(String name,
+      Function<RandomProvider, LudoMoveStrategy> strategyFactory) {
+  }
+
+  /**
+   * Constructs a tournament that runs on the common fork-join pool.
+   *
+   * @param board           The {@link LudoGameBoard} to play the matches on.
+   * @param entrants        The entrants of the tournament.
+   * @param playersPerMatch The number of players in every match.
+   * @param seed            The seed of the dice rolls and strategies.
+   * @throws IllegalArgumentException if the number of players per match is not between 2 and 4,
+   *                                  or there are fewer entrants than players per match.
+   */
+  public LudoTournament(LudoGameBoard board, List<Entrant> entrants, int playersPerMatch,
+      long seed) {
+    this(board, entrants, playersPerMatch, ForkJoinPool.commonPool(), seed);
+  }
+
+  /**
+   * Constructs a tournament that runs on the given fork-join pool.
+   *
+   * @param board           The {@link LudoGameBoard} to play the matches on.
+   * @param entrants        The entrants of the tournament.
+   * @param playersPerMatch The number of players in every match.
+   * @param pool            The {@link ForkJoinPool} to run the matches on.
+   * @param seed            The seed of the dice rolls and strategies.
+   * @throws IllegalArgumentException if the number of players per match is not between 2 and 4,
+   *                                  or there are fewer entrants than players per match.
+   */
+  public LudoTournament(LudoGameBoard board, List<Entrant> entrants, int playersPerMatch,
+      ForkJoinPool pool, long seed) {
+    ludoTournamentValidator(entrants.size(), playersPerMatch);
+
+    this.transition = new LudoTransition(board, playersPerMatch);
+    this.initialState = transition.createInitialState();
+    this.entrants = List.copyOf(entrants);
+    this.playersPerMatch = playersPerMatch;
+    this.pool = pool;
+    this.randomProvider = new RandomProvider(seed);
+    this.schedule = createSchedule(entrants.size(), playersPerMatch);
+  }
+
+  /**
+   * Returns the seed of the tournament.
+   *
+   * @return The seed.
+   */
+  public long getSeed() {
+    return randomProvider.getSeed();
+  }
+
+  /**
+   * Returns the number of matches in one cycle of the schedule, where every combination of
+   * entrants plays once in every seat rotation.
+   *
+   * @return The number of matches in a cycle.
+   */
+  public int getScheduleLength() {
+    return schedule.length;
+  }
+
+  /**
+   * Plays the given number of matches with the default round limit.
+   *
+   * @param games The number of matches to play.
+   * @return The {@link LudoTournamentResult} of the matches.
+   */
+  public LudoTournamentResult play(long games) {
+    return play(games, DEFAULT_MAX_ROUNDS);
+  }
+
+  /**
+   * Plays the given number of matches. Matches without a winner after {@code maxRounds} rounds
+   * are stopped and counted as unfinished.
+   *
+   * @param games     The number of matches to play.
+   * @param maxRounds The number of rounds after which a match is counted as unfinished.
+   * @return The {@link LudoTournamentResult} of the matches.
+   */
+  public LudoTournamentResult play(long games, int maxRounds) {
+    ludoTournamentPlayValidator(games, maxRounds);
+
+    List<String> names = new ArrayList<>();
+    entrants.forEach(entrant -> names.add(entrant.name()));
+    LudoTournamentResult result = new LudoTournamentResult(names, playersPerMatch);
+    long gamesPerTask = Math.max(1, games / (pool.getParallelism() * 8L));
+    logger.debug("Playing {} matches between {} entrants", games, entrants.size());
+    long startTime = System.nanoTime();
+    pool.invoke(new MatchTask(0, games, gamesPerTask, maxRounds, result));
+    result.computeRatings();
+    logger.debug("Played {} matches in {} ms", games,
+        (System.nanoTime() - startTime) / 1_000_000);
+    return result;
+  }
+
+  /**
+   * Plays a single match on the calling thread, and records it in the result.
+   *
+   * @param match     The index of the match, which selects its seating and random provider.
+   * @param maxRounds The number of rounds after which the match is counted as unfinished.
+   * @param state     The packed state to play the match on.
+   * @param moves     The array to write the legal moves to.
+   * @param rolls     The buffer of die faces.
+   * @param result    The {@link LudoTournamentResult} to record the match in.
+   */
+  private void playMatch(long match, int maxRounds, int[] state, int[] moves, int[] rolls,
+      LudoTournamentResult result) {
+    final int[] seating = schedule[(int) (match % schedule.length)];
+    final RandomProvider matchProvider = randomProvider.derive(match);
+    final LudoMoveStrategy[] strategies = new LudoMoveStrategy[playersPerMatch];
+    for (int seat = 0; seat < playersPerMatch; seat++) {
+      strategies[seat] = entrants.get(seating[seat]).strategyFactory()
+          .apply(matchProvider.derive(seat));
+    }
+    final DiceRoller diceRoller = new DiceRoller(matchProvider.getGenerator());
+    int nextRoll = rolls.length;
+
+    LudoGameState.copy(initialState, state);
+    int winnerSeat = -1;
+    while (winnerSeat < 0 && LudoGameState.getRoundNumber(state) <= maxRounds) {
+      if (nextRoll == rolls.length) {
+        diceRoller.rollFaces(rolls);
+        nextRoll = 0;
+      }
+      int diceRoll = rolls[nextRoll++];
+      int seat = LudoGameState.getCurrentSeat(state);
+      int moveCount = transition.getLegalMoves(state, diceRoll, moves);
+      int move = switch (moveCount) {
+        case 0 -> -1;
+        case 1 -> moves[0];
+        default -> strategies[seat].chooseMove(transition, state, diceRoll, moves, moveCount);
+      };
+      transition.apply(state, diceRoll, move);
+      winnerSeat = transition.getWinner(state);
+    }
+    result.recordMatch(seating, winnerSeat, LudoGameState.getRoundNumber(state));
+  }
+
+  /**
+   * Creates the schedule of a tournament: every combination of entrants, in every seat rotation.
+   *
+   * @param entrantCount    The number of entrants.
+   * @param playersPerMatch The number of players in every match.
+   * @return The entrant in every seat of every match of a cycle.
+   */
+  private static int[][] createSchedule(int entrantCount, int playersPerMatch) {
+    List<int[]> matches = new ArrayList<>();
+    int[] combination = new int[playersPerMatch];
+    for (int i = 0; i < playersPerMatch; i++) {
+      combination[i] = i;
+    }
+    while (true) {
+      for (int rotation = 0; rotation < playersPerMatch; rotation++) {
+        int[] seating = new int[playersPerMatch];
+        for (int seat = 0; seat < playersPerMatch; seat++) {
+          seating[seat] = combination[(seat + rotation) % playersPerMatch];
+        }
+        matches.add(seating);
+      }
+      int i = playersPerMatch - 1;
+      while (i >= 0 && combination[i] == entrantCount - playersPerMatch + i) {
+        i--;
+      }
+      if (i < 0) {
+        return matches.toArray(new int[0][]);
+      }
+      combination[i]++;
+      for (int j = i + 1; j < playersPerMatch; j++) {
+        combination[j] = combination[j - 1] + 1;
+      }
+    }
+  }
+
+  /**
+   * Fork-join task that splits a range of matches into halves until they are small enough to be
+   * played sequentially.
+   */
+  private final class MatchTask extends RecursiveAction {
+    private final long fromGame;
+    private final long toGame;
+    private final long gamesPerTask;
+    private final int maxRounds;
+    private final LudoTournamentResult result;
+
+    private MatchTask(long fromGame, long toGame, long gamesPerTask, int maxRounds,
+        LudoTournamentResult result) {
+      this.fromGame = fromGame;
+      this.toGame = toGame;
+      this.gamesPerTask = gamesPerTask;
+      this.maxRounds = maxRounds;
+      this.result = result;
+    }
+
+    @Override
+    protected void compute() {
+      if (toGame - fromGame <= gamesPerTask) {
+        final int[] state = LudoGameState.create();
+        final int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+        final int[] rolls = new int[ROLL_BUFFER_SIZE];
+        for (long game = fromGame; game < toGame; game++) {
+          playMatch(game, maxRounds, state, moves, rolls, result);
+        }
+        return;
+      }
+      long middleGame = fromGame + (toGame - fromGame) / 2;
+      invokeAll(new MatchTask(fromGame, middleGame, gamesPerTask, maxRounds, result),
+          new MatchTask(middleGame, toGame, gamesPerTask, maxRounds, result));
+    }
+  }
+}
@@ -0,0 +1,305 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * LudoTournamentResult.
+ *
+ * <p>Results of the matches of a {@link LudoTournament}: the matches played and won by every
+ * entrant, the pairwise results between entrants, the wins of every seat, and ratings of the
+ * entrants. The counters are {@link AtomicLongArray}s, so the tournament workers record their
+ * matches concurrently without locks.</p>
+ *
+ * <p>The ratings are on the Elo scale, centered on {@value #BASE_RATING}, and are the maximum
+ * likelihood Bradley-Terry strengths of the pairwise results, where the winner of a match has
+ * beaten every other player in it. Unlike incremental Elo updates they do not depend on the order
+ * the matches were played in. Every rating has an approximate 95% confidence margin from the
+ * Fisher information of the pairwise results.</p>
+ *
+ * <p>The mutating methods are package-private. Once returned from the tournament the result is
+ * effectively read-only.</p>
+ *
+ * @see LudoTournament
+ */
+public class LudoTournamentResult {
+
+  /** The average rating of the entrants. */
+  public static final double BASE_RATING = 1_500.0;
+
+  /** The number of rating points per factor of ten in the odds of winning. */
+  private static final double ELO_SCALE = 400.0;
+
+  /** The z-score of a two-sided 95% confidence interval. */
+  private static final double CONFIDENCE_Z = 1.96;
+
+  /** The virtual wins given to both sides of every pair that has met, so ratings stay finite. */
+  private static final double PRIOR_WINS = 0.5;
+
+  private static final int MAX_ITERATIONS = 10_000;
+  private static final double CONVERGENCE_TOLERANCE = 1e-10;
+
+  /** The indexes of the totals in {@link #totals}. */
+  private static final int GAMES_PLAYED = 0;
+  private static final int UNFINISHED_GAMES = 1;
+  private static final int FINISHED_ROUNDS = 2;
+
+  private final List<String> entrantNames;
+  private final int entrantCount;
+  private final AtomicLongArray games;
+  private final AtomicLongArray wins;
+  private final AtomicLongArray pairwiseWins;
+  private final AtomicLongArray pairwiseGames;
+  private final AtomicLongArray seatWins;
+  private final AtomicLongArray totals;
+  private double[] ratings;
+  private double[] ratingMargins;
+
+  /**
+   * Constructs an empty {@code LudoTournamentResult}.
+   *
+   * @param entrantNames    The names of the entrants.
+   * @param playersPerMatch The number of players in every match.
+   */
+  LudoTournamentResult(List<String> entrantNames, int playersPerMatch) {
+    this.entrantNames = List.copyOf(entrantNames);
+    this.entrantCount = entrantNames.size();
+    this.games = new AtomicLongArray(entrantCount);
+    this.wins = new AtomicLongArray(entrantCount);
+    this.pairwiseWins = new AtomicLongArray(entrantCount * entrantCount);
+    this.pairwiseGames = new AtomicLongArray(entrantCount * entrantCount);
+    this.seatWins = new AtomicLongArray(playersPerMatch);
+    this.totals = new AtomicLongArray(3);
+  }
+
+  /**
+   * Returns the number of entrants.
+   *
+   * @return The entrant count.
+   */
+  public int getEntrantCount() {
+    return entrantCount;
+  }
+
+  /**
+   * Returns the name of an entrant.
+   *
+   * @param entrant The index of the entrant.
+   * @return The name of the entrant.
+   */
+  public String getEntrantName(int entrant) {
+    return entrantNames.get(entrant);
+  }
+
+  /**
+   * Returns the total number of matches played, including unfinished ones.
+   *
+   * @return The number of matches played.
+   */
+  public long getGamesPlayed() {
+    return totals.get(GAMES_PLAYED);
+  }
+
+  /**
+   * Returns the number of matches that had no winner within the round limit of the tournament.
+   *
+   * @return The number of unfinished matches.
+   */
+  public long getUnfinishedGames() {
+    return totals.get(UNFINISHED_GAMES);
+  }
+
+  /**
+   * Returns the average number of rounds of the finished matches.
+   *
+   * @return The average match length in rounds, or 0 if no match was finished.
+   */
+  public double getAverageRounds() {
+    long finishedGames = getGamesPlayed() - getUnfinishedGames();
+    return finishedGames == 0 ? 0 : (double) totals.get(FINISHED_ROUNDS) / finishedGames;
+  }
+
+  /**
+   * Returns the number of matches an entrant played in.
+   *
+   * @param entrant The index of the entrant.
+   * @return The number of matches played by the entrant.
+   */
+  public long getGames(int entrant) {
+    return games.get(entrant);
+  }
+
+  /**
+   * Returns the number of matches an entrant won.
+   *
+   * @param entrant The index of the entrant.
+   * @return The number of wins of the entrant.
+   */
+  public long getWins(int entrant) {
+    return wins.get(entrant);
+  }
+
+  /**
+   * Returns the fraction of its matches an entrant won.
+   *
+   * @param entrant The index of the entrant.
+   * @return The win rate of the entrant, between 0 and 1.
+   */
+  public double getWinRate(int entrant) {
+    long entrantGames = getGames(entrant);
+    return entrantGames == 0 ? 0 : (double) getWins(entrant) / entrantGames;
+  }
+
+  /**
+   * Returns the number of matches where one entrant won and the other entrant played.
+   *
+   * @param winner The index of the winning entrant.
+   * @param loser  The index of the losing entrant.
+   * @return The number of wins of {@code winner} over {@code loser}.
+   */
+  public long getPairwiseWins(int winner, int loser) {
+    return pairwiseWins.get(winner * entrantCount + loser);
+  }
+
+  /**
+   * Returns the number of matches won by the player in a seat, whatever the entrant.
+   *
+   * @param seat The zero-based seat (turn order position).
+   * @return The number of wins of the seat.
+   */
+  public long getSeatWins(int seat) {
+    return seatWins.get(seat);
+  }
+
+  /**
+   * Returns the rating of an entrant on the Elo scale.
+   *
+   * @param entrant The index of the entrant.
+   * @return The rating of the entrant.
+   */
+  public double getRating(int entrant) {
+    return ratings[entrant];
+  }
+
+  /**
+   * Returns the margin of the approximate 95% confidence interval of an entrant's rating, which
+   * is the rating plus or minus the margin.
+   *
+   * @param entrant The index of the entrant.
+   * @return The margin of the rating, or infinity if the entrant has no decided matches.
+   */
+  public double getRatingMargin(int entrant) {
+    return ratingMargins[entrant];
+  }
+
+  /**
+   * Returns the entrants ordered by rating, best first.
+   *
+   * @return The indexes of the entrants from the highest to the lowest rating.
+   */
+  public int[] getRanking() {
+    return IntStream.range(0, entrantCount).boxed()
+        .sorted(Comparator.comparingDouble((Integer entrant) -> ratings[entrant]).reversed())
+        .mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Records the outcome of a match. May be called concurrently by the tournament workers.
+   *
+   * @param seating    The entrant in every seat of the match.
+   * @param winnerSeat The seat of the winner, or -1 if the match was unfinished.
+   * @param rounds     The number of rounds played.
+   */
+  void recordMatch(int[] seating, int winnerSeat, int rounds) {
+    totals.incrementAndGet(GAMES_PLAYED);
+    for (int entrant : seating) {
+      games.incrementAndGet(entrant);
+    }
+    if (winnerSeat < 0) {
+      totals.incrementAndGet(UNFINISHED_GAMES);
+      return;
+    }
+    totals.addAndGet(FINISHED_ROUNDS, rounds);
+    seatWins.incrementAndGet(winnerSeat);
+    final int winner = seating[winnerSeat];
+    wins.incrementAndGet(winner);
+    for (int seat = 0; seat < seating.length; seat++) {
+      if (seat != winnerSeat) {
+        pairwiseWins.incrementAndGet(winner * entrantCount + seating[seat]);
+        pairwiseGames.incrementAndGet(winner * entrantCount + seating[seat]);
+        pairwiseGames.incrementAndGet(seating[seat] * entrantCount + winner);
+      }
+    }
+  }
+
+  /**
+   * Computes the ratings and their margins from the pairwise results, with the minorization-
+   * maximization iteration for Bradley-Terry strengths. Called by the tournament once every match
+   * has been recorded.
+   */
+  void computeRatings() {
+    final double[] strengths = new double[entrantCount];
+    final double[] nextStrengths = new double[entrantCount];
+    Arrays.fill(strengths, 1.0);
+    for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+      double maxChange = 0;
+      for (int i = 0; i < entrantCount; i++) {
+        double winsOfI = 0;
+        double denominator = 0;
+        for (int j = 0; j < entrantCount; j++) {
+          long decided = pairwiseGames.get(i * entrantCount + j);
+          if (i != j && decided > 0) {
+            winsOfI += getPairwiseWins(i, j) + PRIOR_WINS;
+            denominator += (decided + 2 * PRIOR_WINS) / (strengths[i] + strengths[j]);
+          }
+        }
+        nextStrengths[i] = denominator == 0 ? strengths[i] : winsOfI / denominator;
+      }
+      normalize(nextStrengths);
+      for (int i = 0; i < entrantCount; i++) {
+        maxChange = Math.max(maxChange, Math.abs(Math.log(nextStrengths[i] / strengths[i])));
+        strengths[i] = nextStrengths[i];
+      }
+      if (maxChange < CONVERGENCE_TOLERANCE) {
+        break;
+      }
+    }
+
+    final double ratingPerLog = ELO_SCALE / Math.log(10);
+    ratings = new double[entrantCount];
+    ratingMargins = new double[entrantCount];
+    for (int i = 0; i < entrantCount; i++) {
+      double information = 0;
+      for (int j = 0; j < entrantCount; j++) {
+        long decided = pairwiseGames.get(i * entrantCount + j);
+        if (i != j && decided > 0) {
+          double probability = strengths[i] / (strengths[i] + strengths[j]);
+          information += decided * probability * (1 - probability);
+        }
+      }
+      ratings[i] = BASE_RATING + ratingPerLog * Math.log(strengths[i]);
+      ratingMargins[i] = information == 0 ? Double.POSITIVE_INFINITY
+          : CONFIDENCE_Z * ratingPerLog / Math.sqrt(information);
+    }
+  }
+
+  /**
+   * Scales strengths so their geometric mean is 1, which centers the ratings on
+   * {@link #BASE_RATING}.
+   *
+   * @param strengths The strengths to scale.
+   */
+  private static void normalize(double[] strengths) {
+    double logSum = 0;
+    for (double strength : strengths) {
+      logSum += Math.log(strength);
+    }
+    double scale = Math.exp(-logSum / strengths.length);
+    for (int i = 0; i < strengths.length; i++) {
+      strengths[i] *= scale;
+    }
+  }
+}
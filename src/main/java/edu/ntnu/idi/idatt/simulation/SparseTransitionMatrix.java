@@ -0,0 +1,149 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import java.util.Arrays;
+
+/**
+ * SparseTransitionMatrix.
+ *
+ * <p>Transition probabilities between the transient states of an absorbing Markov chain, stored
+ * in compressed sparse row (CSR) form. Each row holds the probabilities of moving from one state
+ * to the other transient states in one step. The probability of being absorbed is whatever is
+ * missing from the row sum, so absorbing states are not stored.</p>
+ *
+ * <p>The matrix also keeps a transposed (compressed sparse column) copy, so that both the
+ * outgoing and the incoming transitions of a state can be visited in time proportional to their
+ * number.</p>
+ *
+ * @see LadderMarkovSolver
+ */
+final class SparseTransitionMatrix {
+  private final int size;
+  private final int[] rowStart;
+  private final int[] columns;
+  private final double[] values;
+  private final int[] columnStart;
+  private final int[] rows;
+  private final double[] transposedValues;
+
+  /**
+   * Constructs a matrix from rows given in CSR form.
+   *
+   * @param size     The number of transient states.
+   * @param rowStart The index of the first entry of each row, with one extra trailing entry.
+   * @param columns  The column of each entry.
+   * @param values   The probability of each entry.
+   */
+  SparseTransitionMatrix(int size, int[] rowStart, int[] columns, double[] values) {
+    this.size = size;
+    this.rowStart = rowStart;
+    this.columns = columns;
+    this.values = values;
+
+    this.columnStart = new int[size + 1];
+    this.rows = new int[columns.length];
+    this.transposedValues = new double[columns.length];
+    for (int column : columns) {
+      columnStart[column + 1]++;
+    }
+    for (int column = 0; column < size; column++) {
+      columnStart[column + 1] += columnStart[column];
+    }
+    int[] nextIndex = Arrays.copyOf(columnStart, size);
+    for (int row = 0; row < size; row++) {
+      for (int entry = rowStart[row]; entry < rowStart[row + 1]; entry++) {
+        int index = nextIndex[columns[entry]]++;
+        rows[index] = row;
+        transposedValues[index] = values[entry];
+      }
+    }
+  }
+
+  /**
+   * Returns the number of transient states.
+   *
+   * @return The number of rows and columns of the matrix.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the number of stored (non-zero) entries.
+   *
+   * @return The number of non-zero entries.
+   */
+  int nonZeroCount() {
+    return columns.length;
+  }
+
+  /**
+   * Returns the probability of staying in the same state for one step.
+   *
+   * @param state The state.
+   * @return The diagonal entry of the matrix for the state.
+   */
+  double selfTransition(int state) {
+    for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+      if (columns[entry] == state) {
+        return values[entry];
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * Returns the sum of the probabilities of moving from a state to the other states, weighted by
+   * the given vector. Self transitions are left out.
+   *
+   * @param state  The state to move from.
+   * @param vector The weight of each state.
+   * @return The weighted sum over the outgoing transitions of the state.
+   */
+  double outgoingSum(int state, double[] vector) {
+    double sum = 0;
+    for (int entry = rowStart[state]; entry < rowStart[state + 1]; entry++) {
+      if (columns[entry] != state) {
+        sum += values[entry] * vector[columns[entry]];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Returns the sum of the probabilities of moving from the other states to a state, weighted by
+   * the given vector. Self transitions are left out.
+   *
+   * @param state  The state to move to.
+   * @param vector The weight of each state.
+   * @return The weighted sum over the incoming transitions of the state.
+   */
+  double incomingSum(int state, double[] vector) {
+    double sum = 0;
+    for (int entry = columnStart[state]; entry < columnStart[state + 1]; entry++) {
+      if (rows[entry] != state) {
+        sum += transposedValues[entry] * vector[rows[entry]];
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * Advances a probability distribution over the transient states by one step. Probability that
+   * is absorbed disappears from the result.
+   *
+   * @param distribution The current distribution.
+   * @param result       The array to write the distribution after one step to.
+   */
+  void step(double[] distribution, double[] result) {
+    Arrays.fill(result, 0);
+    for (int row = 0; row < size; row++) {
+      double probability = distribution[row];
+      if (probability == 0) {
+        continue;
+      }
+      for (int entry = rowStart[row]; entry < rowStart[row + 1]; entry++) {
+        result[columns[entry]] += probability * values[entry];
+      }
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package edu.ntnu.idi.idatt.view.app;
 
 import javafx.scene.Node;
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
 import javafx.scene.layout.StackPane;
 
 /**
@@ -32,4 +34,21 @@ public class AppView extends StackPane {
   public void showView(Node view) {
     this.getChildren().setAll(view);
   }
+
+  /**
+   * Displays a confirmation alert dialog asking whether to resume an unfinished game.
+   *
+   * @param gameName  The name of the game.
+   * @param boardName The name of the board of the game.
+   * @param turnCount The number of turns played in the game.
+   * @return True if the user chose to resume the game.
+   */
+  public boolean showResumeGameAlert(String gameName, String boardName, int turnCount) {
+    Alert alert = new Alert(Alert.AlertType.CONFIRMATION,
+        "Resume the " + gameName + " game on " + boardName + " after " + turnCount + " turns?",
+        ButtonType.YES, ButtonType.NO);
+    alert.setTitle("Resume game");
+    alert.setHeaderText("An unfinished " + gameName + " game was found");
+    return alert.showAndWait().filter(ButtonType.YES::equals).isPresent();
+  }
 }
@@ -0,0 +1,34 @@
+package edu.ntnu.idi.idatt.view.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.scene.image.Image;
+
+/**
+ * BackgroundImageCache.
+ *
+ * <p>Keeps the decoded background images of boards by their path, so a background is only loaded
+ * and decoded once. The images are loaded when they are first requested, on the thread that
+ * requests them, which lets a background thread load the image of a board before it is shown.
+ * There are few board backgrounds, so the images are kept for the lifetime of the
+ * application.</p>
+ *
+ * @see BoardStackPane
+ */
+public final class BackgroundImageCache {
+
+  private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+  private BackgroundImageCache() {
+  }
+
+  /**
+   * Gets the background image with the given path, loading it if it has not been loaded before.
+   *
+   * @param backgroundImagePath The path to the background image.
+   * @return The background image.
+   */
+  public static Image getImage(String backgroundImagePath) {
+    return images.computeIfAbsent(backgroundImagePath, Image::new);
+  }
+}
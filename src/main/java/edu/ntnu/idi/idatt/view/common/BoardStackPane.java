@@ -8,7 +8,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Consumer;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
@@ -216,14 +215,15 @@ public abstract class BoardStackPane extends StackPane {
 
   /**
    * Sets the background image for the board.
-   * Updates both the model's background property and the {@link #backgroundImageView}.
+   * Updates both the model's background property and the {@link #backgroundImageView}, with the
+   * image from the {@link BackgroundImageCache}.
    *
    * @param backgroundImagePath The file path to the background image.
    */
   public void setBackground(String backgroundImagePath) {
     logger.debug("Setting background to: {}", backgroundImagePath);
     this.board.setBackground(backgroundImagePath);
-    backgroundImageView.setImage(new Image(backgroundImagePath));
+    backgroundImageView.setImage(BackgroundImageCache.getImage(backgroundImagePath));
     backgroundImageView.setPreserveRatio(true);
   }
 
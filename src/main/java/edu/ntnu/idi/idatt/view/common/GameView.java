@@ -127,7 +127,7 @@ public abstract class GameView extends HBox implements ButtonClickSubject {
 
   /**
    * Creates and configures the {@link GameMenuBox} with standard game actions
-   * (restart, quit, roll dice) and links them to notify observers.
+   * (restart, quit, undo and redo turns, roll dice) and links them to notify observers.
    *
    * @return The configured {@link GameMenuBox}.
    */
@@ -136,6 +136,8 @@ public abstract class GameView extends HBox implements ButtonClickSubject {
     box.setOnRestartGame(() -> notifyObservers("restart_game"));
     box.setOnQuitGame(() -> notifyObservers("quit_game"));
     box.setOnRollDice(() -> notifyObservers("roll_dice"));
+    box.setOnUndoTurn(() -> notifyObservers("undo_turn"));
+    box.setOnRedoTurn(() -> notifyObservers("redo_turn"));
     return box;
   }
   
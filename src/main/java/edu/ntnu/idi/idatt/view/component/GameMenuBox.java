@@ -1,9 +1,11 @@
 package edu.ntnu.idi.idatt.view.component;
 
+import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
+import javafx.scene.control.Spinner;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
@@ -14,27 +16,36 @@ import javafx.scene.text.Text;
  * GameMenuBox.
  *
  * <p>A JavaFX {@link VBox} component that serves as the in-game menu.
- * It provides controls for game actions such as restarting, quitting, and rolling dice. It also
- * includes a game log display and options like toggling dice animation or rolling for all
- * players.</p>
+ * It provides controls for game actions such as restarting, quitting, undoing and redoing turns,
+ * and rolling dice. It also includes a game log display and options like toggling dice animation
+ * or rolling for all players. When rolling for all players, the fast-forward option plays a chosen number of rounds
+ * at once.</p>
  *
  * @see VBox
  * @see AnimatedDie
  * @see HorizontalDivider
  */
 public class GameMenuBox extends VBox {
+  private static final int MAX_FAST_FORWARD_ROUNDS = 1_000;
+  private static final int DEFAULT_FAST_FORWARD_ROUNDS = 10;
 
   private final ScrollPane gameLogScrollPane;
   private final VBox gameLogRoundBoxesVbox;
   private final CheckBox rollForAllPlayersCheckBox;
   private final CheckBox animatedDiceCheckBox;
+  private final CheckBox fastForwardCheckBox;
+  private final Spinner<Integer> fastForwardRoundsSpinner;
   private final AnimatedDie[] dice;
   private final HBox diceContainer;
   private Button rollDiceButton;
+  private Button undoTurnButton;
+  private Button redoTurnButton;
 
   private Runnable onRestartGame = null;
   private Runnable onQuitGame = null;
   private Runnable onRollDice = null;
+  private Runnable onUndoTurn = null;
+  private Runnable onRedoTurn = null;
 
   /**
    * Constructs a GameMenuBox.
@@ -47,6 +58,11 @@ public class GameMenuBox extends VBox {
     rollForAllPlayersCheckBox = new CheckBox();
     animatedDiceCheckBox = new CheckBox();
     animatedDiceCheckBox.setSelected(true); // Default to animated
+    fastForwardCheckBox = new CheckBox();
+    fastForwardRoundsSpinner = new Spinner<>(1, MAX_FAST_FORWARD_ROUNDS,
+        DEFAULT_FAST_FORWARD_ROUNDS);
+    fastForwardRoundsSpinner.setEditable(true);
+    fastForwardRoundsSpinner.setPrefWidth(90);
 
     // Create dice array with specified count (max 2)
     diceCount = Math.min(diceCount, 2);
@@ -58,7 +74,7 @@ public class GameMenuBox extends VBox {
     // Create container for dice
     diceContainer = new HBox(10); // 10 pixels spacing between dice
     diceContainer.getStyleClass().add("game-menu-dice-container");
-    diceContainer.setAlignment(javafx.geometry.Pos.CENTER);
+    diceContainer.setAlignment(Pos.CENTER);
     for (AnimatedDie die : dice) {
       diceContainer.getChildren().add(die);
     }
@@ -95,9 +111,30 @@ public class GameMenuBox extends VBox {
     HBox buttonsHbox = new HBox(restartGameButton, quitGameButton);
     buttonsHbox.getStyleClass().add("game-menu-buttons-h-box");
 
+    undoTurnButton = new Button("Undo turn");
+    undoTurnButton.getStyleClass().add("game-menu-history-button");
+    undoTurnButton.setDisable(true);
+    undoTurnButton.setOnAction(event -> {
+      if (onUndoTurn != null) {
+        onUndoTurn.run();
+      }
+    });
+
+    redoTurnButton = new Button("Redo turn");
+    redoTurnButton.getStyleClass().add("game-menu-history-button");
+    redoTurnButton.setDisable(true);
+    redoTurnButton.setOnAction(event -> {
+      if (onRedoTurn != null) {
+        onRedoTurn.run();
+      }
+    });
+
+    HBox historyButtonsHbox = new HBox(undoTurnButton, redoTurnButton);
+    historyButtonsHbox.getStyleClass().add("game-menu-buttons-h-box");
+
     HorizontalDivider horizontalDividerTop = new HorizontalDivider();
 
-    VBox menuTopBox = new VBox(buttonsHbox, horizontalDividerTop);
+    VBox menuTopBox = new VBox(buttonsHbox, historyButtonsHbox, horizontalDividerTop);
     menuTopBox.getStyleClass().add("game-menu-top-box");
 
     // Middle part of the menu, containing the game log
@@ -137,6 +174,13 @@ public class GameMenuBox extends VBox {
     optionsGrid.add(animatedDiceText, 0, 2);
     optionsGrid.add(animatedDiceCheckBox, 1, 2);
 
+    Text fastForwardText = new Text("Fast-forward rounds");
+    fastForwardText.getStyleClass().add("game-menu-fast-forward-text");
+    HBox fastForwardHbox = new HBox(8, fastForwardCheckBox, fastForwardRoundsSpinner);
+    fastForwardHbox.setAlignment(Pos.CENTER_LEFT);
+    optionsGrid.add(fastForwardText, 0, 3);
+    optionsGrid.add(fastForwardHbox, 1, 3);
+
     // Lower part of the menu, containing the controls for rolling the dice
     HorizontalDivider horizontalDividerBottom = new HorizontalDivider();
 
@@ -156,6 +200,10 @@ public class GameMenuBox extends VBox {
       animatedDiceCheckBox.setSelected(!isSelected);
       animatedDiceText.setVisible(!isSelected);
       animatedDiceText.setManaged(!isSelected);
+      fastForwardText.setVisible(isSelected);
+      fastForwardText.setManaged(isSelected);
+      fastForwardHbox.setVisible(isSelected);
+      fastForwardHbox.setManaged(isSelected);
     });
     // Set initial state for the options
     boolean isSelected = rollForAllPlayersCheckBox.isSelected();
@@ -165,6 +213,10 @@ public class GameMenuBox extends VBox {
     animatedDiceCheckBox.setManaged(!isSelected);
     animatedDiceText.setVisible(!isSelected);
     animatedDiceText.setManaged(!isSelected);
+    fastForwardText.setVisible(isSelected);
+    fastForwardText.setManaged(isSelected);
+    fastForwardHbox.setVisible(isSelected);
+    fastForwardHbox.setManaged(isSelected);
   }
 
   /**
@@ -224,6 +276,24 @@ public class GameMenuBox extends VBox {
     this.onRollDice = onRollDice;
   }
 
+  /**
+   * Sets the {@link Runnable} action to be executed when the "Undo turn" button is clicked.
+   *
+   * @param onUndoTurn The action to perform on undo.
+   */
+  public void setOnUndoTurn(Runnable onUndoTurn) {
+    this.onUndoTurn = onUndoTurn;
+  }
+
+  /**
+   * Sets the {@link Runnable} action to be executed when the "Redo turn" button is clicked.
+   *
+   * @param onRedoTurn The action to perform on redo.
+   */
+  public void setOnRedoTurn(Runnable onRedoTurn) {
+    this.onRedoTurn = onRedoTurn;
+  }
+
   /**
    * Checks if the "Roll for all players" checkbox is currently selected.
    *
@@ -233,6 +303,26 @@ public class GameMenuBox extends VBox {
     return rollForAllPlayersCheckBox.isSelected();
   }
 
+  /**
+   * Checks if the "Fast-forward rounds" checkbox is currently selected. Fast-forwarding only
+   * applies when rolling for all players.
+   *
+   * @return True if selected, false otherwise.
+   */
+  public boolean isFastForwardSelected() {
+    return fastForwardCheckBox.isSelected();
+  }
+
+  /**
+   * Gets the number of rounds to fast-forward, as chosen in the spinner next to the
+   * "Fast-forward rounds" checkbox.
+   *
+   * @return The number of rounds to fast-forward.
+   */
+  public int getFastForwardRounds() {
+    return fastForwardRoundsSpinner.getValue();
+  }
+
   /**
    * Checks if the "Animated dice" checkbox is currently selected.
    *
@@ -243,10 +333,13 @@ public class GameMenuBox extends VBox {
   }
 
   /**
-   * Disables the "Roll Dice" button.
+   * Disables the "Roll Dice" button, and the "Undo turn" and "Redo turn" buttons, while a turn is
+   * played.
    */
   public void disableRollDiceButton() {
     rollDiceButton.setDisable(true);
+    undoTurnButton.setDisable(true);
+    redoTurnButton.setDisable(true);
   }
 
   /**
@@ -256,6 +349,17 @@ public class GameMenuBox extends VBox {
     rollDiceButton.setDisable(false);
   }
 
+  /**
+   * Enables or disables the "Undo turn" and "Redo turn" buttons.
+   *
+   * @param canUndo True if there is a turn to undo, false otherwise.
+   * @param canRedo True if there is an undone turn to redo, false otherwise.
+   */
+  public void setHistoryButtonsEnabled(boolean canUndo, boolean canRedo) {
+    undoTurnButton.setDisable(!canUndo);
+    redoTurnButton.setDisable(!canRedo);
+  }
+
   /**
    * Triggers the dice roll animation (if enabled) or directly sets the dice values. Executes the
    * {@code onFinished} callback once all dice have completed their roll (or immediately if
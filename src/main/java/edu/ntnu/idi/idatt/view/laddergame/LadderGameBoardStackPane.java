@@ -104,7 +104,7 @@ public class LadderGameBoardStackPane extends BoardStackPane {
    */
   @Override
   protected void loadComponents() {
-    board.getTiles().forEach(tile -> {
+    board.getTileView().forEach(tile -> {
       LadderGameTile ladderGameTile = (LadderGameTile) tile;
       if (ladderGameTile.getLandAction() != null) {
         String identifier = ladderGameTile.getLandAction().getIdentifier();
@@ -212,7 +212,8 @@ public class LadderGameBoardStackPane extends BoardStackPane {
         }
       }
       case PORTAL ->
-          destinationTileId = ViewUtils.randomPortalDestination(tileId, board.getTiles().size(),
+          destinationTileId = ViewUtils.randomPortalDestination(tileId,
+              board.getTileCount() + 1,
               occupiedTiles.stream().map(
                   coords -> ViewUtils.calculateTileId(coords.row(), coords.col(),
                       ((LadderGameBoard) board).getRowsAndColumns()[1])).toList());
@@ -230,7 +231,7 @@ public class LadderGameBoardStackPane extends BoardStackPane {
           "Tile is already occupied"); // TODO: Replace with a more specific exception
     }
 
-    if (destinationTileId != -1 && destinationTileId <= board.getTiles().size()) {
+    if (destinationTileId != -1 && destinationTileId <= board.getTileCount() + 1) {
       TileActionComponent component = new TileActionComponent(spec.type().toString(), imagePath,
           board.getTile(tileId), destinationTileId);
 
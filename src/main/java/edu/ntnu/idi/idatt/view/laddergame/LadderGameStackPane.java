@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javafx.animation.ParallelTransition;
 import javafx.animation.PathTransition;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.LineTo;
@@ -152,6 +153,48 @@ public class LadderGameStackPane extends GameStackPane {
     playerTileMap.put(player, newTile);
   }
 
+  /**
+   * Moves all players from their displayed tiles to their current tiles, in straight lines and
+   * with a single animation. Used to show the result of several turns at once.
+   *
+   * @param onFinished the action to run when the animation has finished, or null
+   */
+  public void movePlayersToCurrentTiles(Runnable onFinished) {
+    ParallelTransition parallelTransition = new ParallelTransition();
+    players.forEach(player -> {
+      Tile oldTile = playerTileMap.get(player);
+      Tile newTile = ((LadderGamePlayer) player).getCurrentTile();
+      if (oldTile.getTileId() == newTile.getTileId()) {
+        return;
+      }
+      double posX = tilePositionX[players.indexOf(player)];
+      double posY = tilePositionY[players.indexOf(player)];
+      double[] currentPaneCoordinates = convertCoordinates(oldTile.getCoordinates());
+      double[] newPaneCoordinates = convertCoordinates(newTile.getCoordinates());
+
+      Path path = new Path();
+      path.getElements().add(new MoveTo(posX + currentPaneCoordinates[0],
+          currentPaneCoordinates[1] - posY));
+      path.getElements().add(new LineTo(posX + newPaneCoordinates[0],
+          newPaneCoordinates[1] - posY));
+      PathTransition pathTransition = new PathTransition(TRANSITION_DURATION, path,
+          playerTokenMap.get(player));
+      parallelTransition.getChildren().add(pathTransition);
+      playerTileMap.put(player, newTile);
+    });
+
+    if (parallelTransition.getChildren().isEmpty()) {
+      if (onFinished != null) {
+        onFinished.run();
+      }
+      return;
+    }
+    if (onFinished != null) {
+      parallelTransition.setOnFinished(event -> onFinished.run());
+    }
+    parallelTransition.play();
+  }
+
   /**
    * Converts the coordinates from the board's coordinate system to the pane's coordinate system.
    *
@@ -73,8 +73,8 @@ public class LadderGameView extends GameView {
 
   /**
    * Creates and returns a {@link GameMenuBox} configured for a Ladder Game. This menu typically
-   * includes a dice display/roll button (configured for 2 dice), a restart game button, and a quit
-   * game button. Event handlers for these buttons are set up to notify observers (e.g., the game
+   * includes a dice display/roll button (configured for 2 dice), a restart game button, a quit
+   * game button, and buttons to undo and redo turns. Event handlers for these buttons are set up to notify observers (e.g., the game
    * controller) of user actions.
    *
    * @return A new, configured {@link GameMenuBox} instance.
@@ -85,6 +85,8 @@ public class LadderGameView extends GameView {
     box.setOnRestartGame(() -> notifyObservers("restart_game"));
     box.setOnQuitGame(() -> notifyObservers("quit_game"));
     box.setOnRollDice(() -> notifyObservers("roll_dice"));
+    box.setOnUndoTurn(() -> notifyObservers("undo_turn"));
+    box.setOnRedoTurn(() -> notifyObservers("redo_turn"));
     return box;
   }
 }
@@ -5,6 +5,7 @@ import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
 import edu.ntnu.idi.idatt.model.tile.LudoTile;
 import edu.ntnu.idi.idatt.view.common.BoardStackPane;
+import java.util.Arrays;
 import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
@@ -135,13 +136,11 @@ public class LudoGameBoardStackPane extends BoardStackPane {
     cellToCoordinatesMap.put(cellRect, new TileCoordinates(row, col));
 
     // Find the tile with matching coordinates
-    LudoTile tile = (LudoTile) board.getTiles().stream()
-        .filter(t -> t.getCoordinates()[0] == row && t.getCoordinates()[1] == col)
-        .findFirst()
-        .orElse(null);
+    LudoTile tile = (LudoTile) board.getTileAt(row, col);
 
     String type = tile.getType();
-    Color[] colors = ((LudoGameBoard) board).getColors();
+    Color[] colors = Arrays.stream(((LudoGameBoard) board).getColors()).map(Color::web)
+        .toArray(Color[]::new);
 
     if ((type.startsWith("track") || type.startsWith("finish")) && type.contains("1")) {
       cellRect.setFill(colors[0]);
@@ -197,7 +196,7 @@ public class LudoGameBoardStackPane extends BoardStackPane {
       startAreaPane.setMaxSize(startAreaDim, startAreaDim);
 
       Rectangle coloredRect = new Rectangle(startAreaDim, startAreaDim);
-      coloredRect.setFill(((LudoGameBoard) board).getColors()[i]);
+      coloredRect.setFill(Color.web(((LudoGameBoard) board).getColors()[i]));
       coloredRect.setStroke(Color.BLACK);
       coloredRect.setStrokeWidth(2);
       startAreaPane.getChildren().add(coloredRect);
@@ -214,7 +213,7 @@ public class LudoGameBoardStackPane extends BoardStackPane {
         Circle coloredCircle = new Circle(circleRadius + 6);
         coloredCircle.setTranslateX(circlePositions[j][0] - 1);
         coloredCircle.setTranslateY(circlePositions[j][1] - 1);
-        coloredCircle.setFill(((LudoGameBoard) board).getColors()[i]);
+        coloredCircle.setFill(Color.web(((LudoGameBoard) board).getColors()[i]));
         coloredCircle.setStroke(Color.BLACK);
         coloredCircle.setStrokeWidth(1);
         startAreaPane.getChildren().add(coloredCircle);
@@ -249,7 +248,7 @@ public class LudoGameBoardStackPane extends BoardStackPane {
       );
       final Group polygonGroup = new Group(polygon);
       polygon.setRotate(rotation[i]);
-      polygon.setFill(((LudoGameBoard) board).getColors()[i]);
+      polygon.setFill(Color.web(((LudoGameBoard) board).getColors()[i]));
       polygon.setStroke(Color.BLACK);
       polygon.setStrokeWidth(1);
       StackPane.setAlignment(polygonGroup, middleAreaPositions[i]);
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javafx.animation.ParallelTransition;
 import javafx.animation.PathTransition;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.LineTo;
@@ -225,6 +226,49 @@ public class LudoGameStackPane extends GameStackPane {
     }
   }
 
+  /**
+   * Moves all tokens from their displayed positions to the positions of their current tiles, or to
+   * their start areas if they are not released, in straight lines and with a single animation.
+   * Used to show the result of several turns at once.
+   *
+   * @param onFinished The action to run when the animation has finished, or null.
+   */
+  public void moveTokensToCurrentTiles(Runnable onFinished) {
+    ParallelTransition parallelTransition = new ParallelTransition();
+    players.forEach(player -> ((LudoPlayer) player).getTokens().forEach(token -> {
+      Shape playerToken = tokenShapeMap.get(token);
+      double[] newTokenPos;
+      if (token.getStatus() == LudoToken.TokenStatus.NOT_RELEASED) {
+        newTokenPos = getTokenStartPosition(player, token);
+      } else {
+        double[] tilePos = convertCoordinates(token.getCurrentTile().getCoordinates());
+        newTokenPos = new double[]{tilePos[0] + tileOffset, tilePos[1] + tileOffset};
+      }
+      if (playerToken.getTranslateX() == newTokenPos[0]
+          && playerToken.getTranslateY() == newTokenPos[1]) {
+        return;
+      }
+
+      Path path = new Path();
+      path.getElements().add(new MoveTo(playerToken.getTranslateX(),
+          playerToken.getTranslateY()));
+      path.getElements().add(new LineTo(newTokenPos[0], newTokenPos[1]));
+      parallelTransition.getChildren().add(
+          new PathTransition(TRANSITION_DURATION, path, playerToken));
+    }));
+
+    if (parallelTransition.getChildren().isEmpty()) {
+      if (onFinished != null) {
+        onFinished.run();
+      }
+      return;
+    }
+    if (onFinished != null) {
+      parallelTransition.setOnFinished(event -> onFinished.run());
+    }
+    parallelTransition.play();
+  }
+
   /**
    * Converts logical board coordinates (row, column) to screen coordinates (x, y)
    * for the Ludo game board.
@@ -271,6 +315,8 @@ public class LudoGameStackPane extends GameStackPane {
   /**
    * Determines the sequence of tiles a Ludo token must traverse to move from a start tile
    * to an end tile, accounting for wrapping around the board and moving onto finish tracks.
+   * When both tiles are on the player's route ({@link LudoGameBoard#getPlayerRoute(int)}), the
+   * path is taken from the same route as the game uses to move the token.
    *
    * @param playerIndex The index of the player who owns the token.
    * @param startTile   The {@link Tile} where the movement begins.
@@ -284,6 +330,17 @@ public class LudoGameStackPane extends GameStackPane {
     int fromId = startTile.getTileId();
     int toId = endTile.getTileId();
 
+    LudoGameBoard ludoBoard = (LudoGameBoard) board;
+    int fromPosition = ludoBoard.getPlayerRoutePosition(playerIndex, fromId);
+    int toPosition = ludoBoard.getPlayerRoutePosition(playerIndex, toId);
+    if (fromPosition >= 0 && fromPosition < toPosition) {
+      int[] route = ludoBoard.getPlayerRoute(playerIndex);
+      for (int position = fromPosition + 1; position <= toPosition; position++) {
+        pathTiles.add(board.getTile(route[position]));
+      }
+      return pathTiles;
+    }
+
     int totalTrackTileCount = ((LudoGameBoard) board).getTotalTrackTileCount();
     int firstTrackTileId = ((LudoGameBoard) board).getPlayerTrackStartIndexes()[0];
 
@@ -0,0 +1,94 @@
+package edu.ntnu.idi.idatt.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessLauncherTest {
+  private ByteArrayOutputStream out;
+  private ByteArrayOutputStream err;
+  private HeadlessLauncher launcher;
+
+  @TempDir
+  Path tempDir;
+
+  @BeforeEach
+  void setUp() {
+    out = new ByteArrayOutputStream();
+    err = new ByteArrayOutputStream();
+    launcher = new HeadlessLauncher(new PrintStream(out, true, StandardCharsets.UTF_8),
+        new PrintStream(err, true, StandardCharsets.UTF_8));
+  }
+
+  private String output() {
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @Nested
+  @DisplayName("Positive Tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("Test simulating games on a built-in ladder board")
+    void testSimulate() {
+      assertEquals(0, launcher.run("simulate", "classic", "2000", "3", "2", "7"));
+      assertTrue(output().contains("Games: 2000 (0 unfinished)"));
+      assertTrue(output().contains("Seat 3:"));
+    }
+
+    @Test
+    @DisplayName("Test analyzing a ladder board from a file")
+    void testAnalyze() {
+      assertEquals(0, launcher.run("analyze",
+          "src/main/resources/boards/ClassicLadderGameBoard.json"));
+      assertTrue(output().contains("Expected turns to finish:"));
+      assertTrue(output().contains("90% of players finish within"));
+    }
+
+    @Test
+    @DisplayName("Test playing a tournament on a built-in Ludo board")
+    void testTournament() {
+      assertEquals(0, launcher.run("tournament", "Small", "40", "2", "3"));
+      assertTrue(output().contains("Games: 40"));
+      assertTrue(output().contains("Greedy"));
+    }
+
+    @Test
+    @DisplayName("Test converting a board file to binary and simulating on it")
+    void testConvert() {
+      String binaryFile = tempDir.resolve("classic.board").toString();
+      assertEquals(0, launcher.run("convert",
+          "src/main/resources/boards/ClassicLadderGameBoard.json", binaryFile));
+      assertTrue(output().contains("Converted board Classic (default) (90 tiles)"));
+      assertEquals(0, launcher.run("simulate", binaryFile, "100", "2", "2", "7"));
+      assertTrue(output().contains("Games: 100 (0 unfinished)"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test invalid commands and arguments print usage")
+    void testInvalidArguments() {
+      assertEquals(2, launcher.run());
+      assertEquals(2, launcher.run("bogus"));
+      assertEquals(2, launcher.run("simulate"));
+      assertEquals(2, launcher.run("simulate", "classic", "many"));
+      assertEquals(2, launcher.run("analyze", "missing.json"));
+      assertEquals(2, launcher.run("tournament", "Classic", "10", "5"));
+      assertEquals(2, launcher.run("convert", "board.json", "board.txt"));
+      assertTrue(err.toString(StandardCharsets.UTF_8).contains("Usage:"));
+      assertEquals("", output());
+    }
+  }
+}
@@ -0,0 +1,111 @@
+package edu.ntnu.idi.idatt.controller.common;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import edu.ntnu.idi.idatt.model.board.Board;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BoardPrefetcherTest {
+
+  private Map<String, Board> boards;
+  private List<String> loadedFiles;
+  private List<Board> preparedBoards;
+  private CountDownLatch loadStarted;
+  private CountDownLatch releaseLoad;
+  private BoardPrefetcher prefetcher;
+
+  @BeforeEach
+  void setUp() {
+    boards = new ConcurrentHashMap<>(Map.of("first.json", mock(Board.class),
+        "second.json", mock(Board.class), "third.json", mock(Board.class)));
+    loadedFiles = new CopyOnWriteArrayList<>();
+    preparedBoards = new CopyOnWriteArrayList<>();
+    loadStarted = new CountDownLatch(1);
+    releaseLoad = new CountDownLatch(0);
+    prefetcher = new BoardPrefetcher(this::loadBoard, preparedBoards::add);
+  }
+
+  private Board loadBoard(String filePath) {
+    loadedFiles.add(filePath);
+    loadStarted.countDown();
+    try {
+      releaseLoad.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (filePath.equals("invalid.json")) {
+      throw new IllegalArgumentException("Invalid board file");
+    }
+    return boards.get(filePath);
+  }
+
+  @Test
+  @DisplayName("Test a prefetched board is created and prepared once, and taken once")
+  void testPrefetchAndTake() {
+    prefetcher.prefetch(1, "first.json");
+    prefetcher.prefetch(1, "first.json");
+
+    assertSame(boards.get("first.json"), prefetcher.take(1).join());
+    assertEquals(List.of("first.json"), loadedFiles);
+    assertEquals(List.of(boards.get("first.json")), preparedBoards);
+    assertNull(prefetcher.take(1));
+    assertNull(prefetcher.take(2));
+  }
+
+  @Test
+  @DisplayName("Test prefetches of boards that are no longer retained are cancelled")
+  void testRetainCancelsPrefetches() throws Exception {
+    releaseLoad = new CountDownLatch(1);
+    prefetcher.prefetch(1, "first.json");
+    assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+    prefetcher.prefetch(2, "second.json");
+    prefetcher.prefetch(3, "third.json");
+
+    prefetcher.retain(Set.of(1, 3));
+    releaseLoad.countDown();
+    assertSame(boards.get("first.json"), prefetcher.take(1).join());
+    assertSame(boards.get("third.json"), prefetcher.take(3).join());
+    assertNull(prefetcher.take(2));
+    assertEquals(List.of("first.json", "third.json"), loadedFiles);
+  }
+
+  @Test
+  @DisplayName("Test taking a prefetch does not wait for it, and a taken prefetch is not cancelled")
+  void testTakeDoesNotWait() throws Exception {
+    releaseLoad = new CountDownLatch(1);
+    prefetcher.prefetch(1, "first.json");
+    assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+    prefetcher.prefetch(2, "second.json");
+
+    CompletableFuture<Board> prefetch = prefetcher.take(2);
+    assertFalse(prefetch.isDone());
+    prefetcher.retain(Set.of());
+    releaseLoad.countDown();
+    assertSame(boards.get("second.json"), prefetch.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  @DisplayName("Test finished prefetches are kept, and failed prefetches give no board")
+  void testFinishedAndFailedPrefetches() {
+    prefetcher.prefetch(1, "first.json");
+    prefetcher.prefetch(2, "invalid.json");
+    prefetcher.prefetch(3, "missing.json");
+    assertNull(prefetcher.take(2).join());
+    assertNull(prefetcher.take(3).join());
+
+    prefetcher.retain(Set.of());
+    assertSame(boards.get("first.json"), prefetcher.take(1).join());
+    assertEquals(List.of(boards.get("first.json")), preparedBoards);
+  }
+}
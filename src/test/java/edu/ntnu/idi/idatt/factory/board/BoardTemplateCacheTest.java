@@ -0,0 +1,135 @@
+package edu.ntnu.idi.idatt.factory.board;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.idatt.filehandler.LadderGameBoardFileHandlerGson;
+import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoardTemplateCacheTest {
+
+  private static final String CLASSIC_BOARD_PATH =
+      "src/main/resources/boards/ClassicLadderGameBoard.json";
+
+  @TempDir
+  Path tempDir;
+
+  private BoardTemplateCache templateCache;
+  private AtomicInteger readCount;
+
+  @BeforeEach
+  void setUp() {
+    templateCache = new BoardTemplateCache();
+    readCount = new AtomicInteger();
+  }
+
+  private Board readBoard(String filePath) throws IOException {
+    readCount.incrementAndGet();
+    return (Board) new LadderGameBoardFileHandlerGson().readFile(filePath);
+  }
+
+  @Test
+  @DisplayName("Test a board file is read once and every request returns an independent copy")
+  void testGetBoardReadsFileOnce() throws Exception {
+    Board board = templateCache.getBoard(CLASSIC_BOARD_PATH, this::readBoard);
+    Board otherBoard = templateCache.getBoard("./" + CLASSIC_BOARD_PATH, this::readBoard);
+    assertEquals(1, readCount.get());
+    assertNotSame(board, otherBoard);
+    assertNotSame(board.getTile(4), otherBoard.getTile(4));
+    assertEquals(board.getName(), otherBoard.getName());
+
+    board.setName("Changed board");
+    assertNotEquals("Changed board",
+        templateCache.getBoard(CLASSIC_BOARD_PATH, this::readBoard).getName());
+    assertEquals(1, readCount.get());
+  }
+
+  @Test
+  @DisplayName("Test a changed board file is read again")
+  void testGetBoardReadsChangedFile() throws Exception {
+    Path file = tempDir.resolve("board.json");
+    Files.copy(Path.of(CLASSIC_BOARD_PATH), file);
+    FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+    assertEquals(90, templateCache.getBoard(file.toString(), this::readBoard).getTileCount());
+
+    Files.writeString(file, Files.readString(file).replace("\"rows\": 9", "\"rows\": 10"));
+    Files.setLastModifiedTime(file, FileTime.fromMillis(lastModifiedTime.toMillis() + 2000));
+    assertEquals(100, templateCache.getBoard(file.toString(), this::readBoard).getTileCount());
+    assertEquals(100, templateCache.getBoard(file.toString(), this::readBoard).getTileCount());
+    assertEquals(2, readCount.get());
+
+    templateCache.clear();
+    assertInstanceOf(LadderGameBoard.class, templateCache.getBoard(file.toString(),
+        this::readBoard));
+    assertEquals(3, readCount.get());
+  }
+
+  @Test
+  @DisplayName("Test a board file replaced by a file with the same time and size is read again")
+  void testGetBoardReadsReplacedFile() throws Exception {
+    Path file = tempDir.resolve("board.json");
+    Files.copy(Path.of(CLASSIC_BOARD_PATH), file);
+    FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+    templateCache.getBoard(file.toString(), this::readBoard);
+
+    Path replacement = tempDir.resolve("replacement.json");
+    Files.writeString(replacement, Files.readString(file).replace("Classic", "Replace"));
+    Files.setLastModifiedTime(replacement, lastModifiedTime);
+    Files.move(replacement, file, StandardCopyOption.REPLACE_EXISTING);
+    Board board = templateCache.getBoard(file.toString(), this::readBoard);
+    if (Files.readAttributes(file, BasicFileAttributes.class).fileKey() != null) {
+      assertEquals("Replace (default)", board.getName());
+      assertEquals(2, readCount.get());
+    }
+  }
+
+  @Test
+  @DisplayName("Test only the most recently requested templates are kept")
+  void testGetBoardEvictsLeastRecentlyUsed() throws Exception {
+    Path[] files = new Path[BoardTemplateCache.MAX_TEMPLATES + 1];
+    for (int i = 0; i < files.length; i++) {
+      files[i] = tempDir.resolve("board" + i + ".json");
+      Files.copy(Path.of(CLASSIC_BOARD_PATH), files[i]);
+    }
+    for (int i = 0; i < files.length - 1; i++) {
+      templateCache.getBoard(files[i].toString(), this::readBoard);
+    }
+    templateCache.getBoard(files[0].toString(), this::readBoard);
+    templateCache.getBoard(files[files.length - 1].toString(), this::readBoard);
+    assertEquals(BoardTemplateCache.MAX_TEMPLATES, templateCache.size());
+    assertEquals(files.length, readCount.get());
+
+    templateCache.getBoard(files[0].toString(), this::readBoard);
+    assertEquals(files.length, readCount.get());
+    templateCache.getBoard(files[1].toString(), this::readBoard);
+    assertEquals(files.length + 1, readCount.get());
+  }
+
+  @Test
+  @DisplayName("Test empty and missing board files are not cached")
+  void testGetBoardEmptyAndMissingFiles() throws Exception {
+    Path file = tempDir.resolve("empty.json");
+    Files.createFile(file);
+    assertNull(templateCache.getBoard(file.toString(), this::readBoard));
+    assertNull(templateCache.getBoard(file.toString(), this::readBoard));
+    assertEquals(2, readCount.get());
+
+    String missingFile = tempDir.resolve("missing.json").toString();
+    assertThrows(NoSuchFileException.class, () -> templateCache.getBoard(missingFile,
+        filePath -> {
+          throw new NoSuchFileException(filePath);
+        }));
+  }
+}
@@ -14,6 +14,7 @@ import edu.ntnu.idi.idatt.filehandler.LadderGameBoardFileHandlerGson;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
 import java.io.IOException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,12 @@ class LadderBoardFactoryTest {
   @BeforeEach
   void setUp() {
     ladderBoardFactory = new LadderBoardFactory();
+    LadderBoardFactory.clearTemplateCache();
+  }
+
+  @AfterEach
+  void tearDown() {
+    LadderBoardFactory.clearTemplateCache();
   }
   
   @Test
@@ -51,6 +58,7 @@ class LadderBoardFactoryTest {
   void testCreateBoard_classicVariant() {
     Board mockBoard = mock(LadderGameBoard.class);
     when(mockBoard.getName()).thenReturn("Classic Board Loaded");
+    when(mockBoard.copy()).thenReturn(mockBoard);
     
     try (var gsonHandlerMockedConstruction = Mockito.mockConstruction(LadderGameBoardFileHandlerGson.class,
     (mock, context) -> {
@@ -69,6 +77,7 @@ class LadderBoardFactoryTest {
   void testCreateBoard_teleportingVariant() {
     Board mockBoard = mock(LadderGameBoard.class);
     when(mockBoard.getName()).thenReturn("Teleporting Board Loaded");
+    when(mockBoard.copy()).thenReturn(mockBoard);
     
     try (var gsonHandlerMockedConstruction = Mockito.mockConstruction(LadderGameBoardFileHandlerGson.class,
     (mock, context) -> {
@@ -94,6 +103,7 @@ class LadderBoardFactoryTest {
   void testCreateBoardFromFile_validPath() {
     Board mockBoard = mock(LadderGameBoard.class);
     when(mockBoard.getName()).thenReturn("File Board");
+    when(mockBoard.copy()).thenReturn(mockBoard);
     
     try (var gsonHandlerMockedConstruction = Mockito.mockConstruction(LadderGameBoardFileHandlerGson.class,
     (mock, context) -> {
@@ -118,4 +128,12 @@ class LadderBoardFactoryTest {
       assertEquals(1, gsonHandlerMockedConstruction.constructed().size());
     }
   }
-} 
\ No newline at end of file
+
+  @Test
+  @DisplayName("Test getVariantFilePath gives the board file of a variant")
+  void testGetVariantFilePath() {
+    assertEquals("src/main/resources/boards/PortalLadderGameBoard.json", ladderBoardFactory.getVariantFilePath("teleporting"));
+    assertThrows(IllegalArgumentException.class,
+        () -> ladderBoardFactory.getVariantFilePath("unknownVariant"));
+  }
+}
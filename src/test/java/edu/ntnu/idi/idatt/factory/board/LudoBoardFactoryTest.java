@@ -9,7 +9,7 @@ import edu.ntnu.idi.idatt.filehandler.LudoBoardFileHandlerGson;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
 import java.io.IOException;
-import javafx.scene.paint.Color;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,11 +18,17 @@ import org.mockito.Mockito;
 class LudoBoardFactoryTest {
 
   private LudoBoardFactory ludoBoardFactory;
-  private static final Color[] DEFAULT_COLORS = {Color.RED, Color.BLUE, Color.GREEN, Color.YELLOW};
+  private static final String[] DEFAULT_COLORS = {"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"};
 
   @BeforeEach
   void setUp() {
     ludoBoardFactory = new LudoBoardFactory();
+    LudoBoardFactory.clearTemplateCache();
+  }
+
+  @AfterEach
+  void tearDown() {
+    LudoBoardFactory.clearTemplateCache();
   }
 
   @Test
@@ -47,6 +53,7 @@ class LudoBoardFactoryTest {
   void testCreateBoard_classicVariant() {
     Board mockBoard = mock(LudoGameBoard.class);
     when(mockBoard.getName()).thenReturn("Classic Ludo Loaded");
+    when(mockBoard.copy()).thenReturn(mockBoard);
 
     try (var gsonHandlerMockedConstruction = Mockito.mockConstruction(LudoBoardFileHandlerGson.class,
         (mock, context) -> when(mock.readFile("src/main/resources/boards/ClassicLudoBoard.json")).thenReturn(mockBoard)
@@ -64,6 +71,7 @@ class LudoBoardFactoryTest {
   void testCreateBoard_smallVariant() {
     Board mockBoard = mock(LudoGameBoard.class);
     when(mockBoard.getName()).thenReturn("Small Ludo Loaded");
+    when(mockBoard.copy()).thenReturn(mockBoard);
 
     try (var gsonHandlerMockedConstruction = Mockito.mockConstruction(LudoBoardFileHandlerGson.class,
         (mock, context) -> when(mock.readFile("src/main/resources/boards/SmallLudoBoard.json")).thenReturn(mockBoard)
@@ -81,6 +89,7 @@ class LudoBoardFactoryTest {
   void testCreateBoard_largeVariant() {
     Board mockBoard = mock(LudoGameBoard.class);
     when(mockBoard.getName()).thenReturn("Large Ludo Loaded");
+    when(mockBoard.copy()).thenReturn(mockBoard);
 
     try (var gsonHandlerMockedConstruction = Mockito.mockConstruction(LudoBoardFileHandlerGson.class,
         (mock, context) -> when(mock.readFile("src/main/resources/boards/XlLudoBoard.json")).thenReturn(mockBoard)
@@ -105,6 +114,7 @@ class LudoBoardFactoryTest {
   void testCreateBoardFromFile_validPath() {
     Board mockBoard = mock(LudoGameBoard.class);
     when(mockBoard.getName()).thenReturn("File Ludo Board");
+    when(mockBoard.copy()).thenReturn(mockBoard);
 
     try (var gsonHandlerMockedConstruction = Mockito.mockConstruction(LudoBoardFileHandlerGson.class,
         (mock, context) -> when(mock.readFile("some/valid/ludo_path.json")).thenReturn(mockBoard)
@@ -129,4 +139,12 @@ class LudoBoardFactoryTest {
       assertEquals(1, gsonHandlerMockedConstruction.constructed().size());
     }
   }
-} 
\ No newline at end of file
+
+  @Test
+  @DisplayName("Test getVariantFilePath gives the board file of a variant")
+  void testGetVariantFilePath() {
+    assertEquals("src/main/resources/boards/XlLudoBoard.json", ludoBoardFactory.getVariantFilePath("Large"));
+    assertThrows(IllegalArgumentException.class,
+        () -> ludoBoardFactory.getVariantFilePath("unknownVariant"));
+  }
+}
@@ -0,0 +1,156 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.idatt.filehandler.BoardCatalogEntry.BoardType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoardCatalogTest {
+
+  private static final Path BOARDS_DIRECTORY = Path.of("src/main/resources/boards");
+
+  @TempDir
+  Path tempDir;
+
+  @TempDir
+  Path indexDir;
+
+  private BoardCatalog catalog;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    catalog = new BoardCatalog(indexDir);
+    for (String boardName : new String[]{"ClassicLadderGameBoard", "12x12Chaos",
+        "ClassicLudoBoard"}) {
+      Files.copy(BOARDS_DIRECTORY.resolve(boardName + ".json"),
+          tempDir.resolve(boardName + ".json"));
+    }
+  }
+
+  private BoardCatalogEntry findEntry(List<BoardCatalogEntry> entries, String fileName) {
+    return entries.stream()
+        .filter(entry -> Path.of(entry.path()).getFileName().toString().equals(fileName))
+        .findFirst().orElse(null);
+  }
+
+  @Test
+  @DisplayName("Test reading the catalog of a directory of JSON board files")
+  void testReadCatalog() throws Exception {
+    List<BoardCatalogEntry> entries = catalog.readCatalog(tempDir);
+    assertEquals(3, entries.size());
+    assertTrue(Files.exists(catalog.getIndexFile(tempDir)));
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertEquals(3, files.count());
+    }
+
+    BoardCatalogEntry ladderEntry = findEntry(entries, "12x12Chaos.json");
+    assertEquals(BoardType.LADDER, ladderEntry.type());
+    assertEquals("12x12Chaos", ladderEntry.name());
+    assertEquals("media/boards/darkBlueBoard.png", ladderEntry.background());
+    assertEquals(12, ladderEntry.rows());
+    assertEquals(12, ladderEntry.columns());
+    assertNull(ladderEntry.contentHash());
+    assertEquals(64, catalog.withContentHash(ladderEntry).contentHash().length());
+
+    BoardCatalogEntry ludoEntry = findEntry(entries, "ClassicLudoBoard.json");
+    assertEquals(BoardType.LUDO, ludoEntry.type());
+    assertEquals("Classic Ludo", ludoEntry.name());
+    assertEquals(15, ludoEntry.rows());
+    assertEquals(15, ludoEntry.columns());
+  }
+
+  @Test
+  @DisplayName("Test unchanged board files are read from the index, and changed files again")
+  void testReadCatalogUsesIndex() throws Exception {
+    catalog.readCatalog(tempDir);
+    Path indexFile = catalog.getIndexFile(tempDir);
+    Files.writeString(indexFile, Files.readString(indexFile)
+        .replace("\"Classic Ludo\"", "\"Indexed Ludo\""));
+    assertEquals("Indexed Ludo",
+        findEntry(catalog.readCatalog(tempDir), "ClassicLudoBoard.json").name());
+
+    Path ludoFile = tempDir.resolve("ClassicLudoBoard.json");
+    FileTime lastModifiedTime = Files.getLastModifiedTime(ludoFile);
+    Files.setLastModifiedTime(ludoFile, FileTime.fromMillis(lastModifiedTime.toMillis() + 2000));
+    Files.delete(tempDir.resolve("12x12Chaos.json"));
+    List<BoardCatalogEntry> entries = catalog.readCatalog(tempDir);
+    assertEquals(2, entries.size());
+    assertEquals("Classic Ludo", findEntry(entries, "ClassicLudoBoard.json").name());
+    assertFalse(Files.readString(indexFile).contains("12x12Chaos"));
+  }
+
+  @Test
+  @DisplayName("Test reading binary board files and leaving out files that are not boards")
+  void testReadCatalogBinaryAndInvalidFiles() throws Exception {
+    new BoardFileConverter().convert(tempDir.resolve("ClassicLudoBoard.json").toString(),
+        tempDir.resolve("ClassicLudoBoard" + BoardFileHandlerBinary.FILE_EXTENSION).toString());
+    new BoardFileConverter().convert(tempDir.resolve("12x12Chaos.json").toString(),
+        tempDir.resolve("12x12Chaos" + BoardFileHandlerBinary.FILE_EXTENSION).toString());
+    Files.writeString(tempDir.resolve("notes.json"), "{\"text\": \"Not a board\"}");
+    Files.writeString(tempDir.resolve("readme.txt"), "Not a board file");
+
+    List<BoardCatalogEntry> entries = catalog.readCatalog(tempDir);
+    assertEquals(5, entries.size());
+    assertNull(findEntry(entries, "notes.json"));
+    BoardCatalogEntry binaryLudoEntry = findEntry(entries,
+        "ClassicLudoBoard" + BoardFileHandlerBinary.FILE_EXTENSION);
+    assertEquals(BoardType.LUDO, binaryLudoEntry.type());
+    assertEquals("Classic Ludo", binaryLudoEntry.name());
+    assertEquals(15, binaryLudoEntry.rows());
+    BoardCatalogEntry binaryLadderEntry = findEntry(entries,
+        "12x12Chaos" + BoardFileHandlerBinary.FILE_EXTENSION);
+    assertEquals(BoardType.LADDER, binaryLadderEntry.type());
+    assertEquals(12, binaryLadderEntry.columns());
+  }
+
+  @Test
+  @DisplayName("Test files that are not boards are not read again until they change")
+  void testReadCatalogSkipsRejectedFiles() throws Exception {
+    Path notesFile = tempDir.resolve("notes.json");
+    Files.writeString(notesFile, "{\"text\": \"Not a board\"}");
+    assertEquals(3, catalog.readCatalog(tempDir).size());
+    Path indexFile = catalog.getIndexFile(tempDir);
+    assertTrue(Files.readString(indexFile).contains("notes.json"));
+
+    FileTime indexTime = FileTime.fromMillis(1_000_000_000_000L);
+    Files.setLastModifiedTime(indexFile, indexTime);
+    assertEquals(3, catalog.readCatalog(tempDir).size());
+    assertEquals(indexTime, Files.getLastModifiedTime(indexFile));
+
+    Files.copy(tempDir.resolve("12x12Chaos.json"), notesFile,
+        StandardCopyOption.REPLACE_EXISTING);
+    Files.setLastModifiedTime(notesFile, FileTime.fromMillis(
+        Files.getLastModifiedTime(notesFile).toMillis() + 2000));
+    assertEquals("12x12Chaos", findEntry(catalog.readCatalog(tempDir), "notes.json").name());
+
+    Files.delete(notesFile);
+    assertEquals(3, catalog.readCatalog(tempDir).size());
+    assertFalse(Files.readString(indexFile).contains("notes.json"));
+  }
+
+  @Test
+  @DisplayName("Test a corrupt index is replaced, and the content hash follows the contents")
+  void testCorruptIndexAndContentHash() throws Exception {
+    Files.writeString(catalog.getIndexFile(tempDir), "{\"boards\": [");
+    assertEquals(3, catalog.readCatalog(tempDir).size());
+
+    Path copy = tempDir.resolve("Copy.json");
+    Files.copy(tempDir.resolve("12x12Chaos.json"), copy);
+    BoardCatalogEntry copyEntry = catalog.withContentHash(catalog.readEntry(copy));
+    assertSame(copyEntry, catalog.withContentHash(copyEntry));
+    assertEquals(catalog.withContentHash(catalog.readEntry(tempDir.resolve("12x12Chaos.json")))
+        .contentHash(), copyEntry.contentHash());
+    assertNotEquals(catalog.withContentHash(catalog.readEntry(
+        tempDir.resolve("ClassicLadderGameBoard.json"))).contentHash(), copyEntry.contentHash());
+    assertFalse(Files.readString(catalog.getIndexFile(tempDir)).contains("contentHash"));
+  }
+}
@@ -0,0 +1,61 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoardFileConverterTest {
+
+  @TempDir
+  Path tempDir;
+
+  private BoardFileConverter converter;
+
+  @BeforeEach
+  void setUp() {
+    converter = new BoardFileConverter();
+  }
+
+  @Test
+  @DisplayName("Test converting the bundled boards to binary and back gives the same JSON files")
+  void testRoundTrip() throws Exception {
+    for (String boardName : new String[]{"ClassicLadderGameBoard", "PortalLadderGameBoard",
+        "12x12Chaos", "ClassicLudoBoard", "SmallLudoBoard", "XlLudoBoard"}) {
+      assertRoundTrip(boardName);
+    }
+  }
+
+  private void assertRoundTrip(String boardName) throws IOException {
+    Path jsonFile = Path.of("src/main/resources/boards", boardName + ".json");
+    String binaryFile = tempDir.resolve(boardName + BoardFileHandlerBinary.FILE_EXTENSION)
+        .toString();
+    String convertedJsonFile = tempDir.resolve(boardName + ".json").toString();
+
+    Board board = converter.convert(jsonFile.toString(), binaryFile);
+    assertEquals(boardName.contains("Ludo"), board instanceof LudoGameBoard, boardName);
+    converter.convert(binaryFile, convertedJsonFile);
+    assertEquals(Files.readString(jsonFile), Files.readString(Path.of(convertedJsonFile)),
+        boardName);
+  }
+
+  @Test
+  @DisplayName("Test converting files with unknown extensions or contents")
+  void testConvertInvalidFiles() throws Exception {
+    String jsonFile = "src/main/resources/boards/ClassicLadderGameBoard.json";
+    assertThrows(IllegalArgumentException.class,
+        () -> converter.convert(jsonFile, tempDir.resolve("board.txt").toString()));
+
+    Path unknownBoard = tempDir.resolve("unknown.json");
+    Files.writeString(unknownBoard, "{\"name\": \"Board\"}");
+    assertThrows(IOException.class, () -> converter.convert(unknownBoard.toString(),
+        tempDir.resolve("unknown" + BoardFileHandlerBinary.FILE_EXTENSION).toString()));
+  }
+}
@@ -0,0 +1,195 @@
+package edu.ntnu.idi.idatt.filehandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import edu.ntnu.idi.idatt.model.board.Board;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.tile.LadderAction;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import edu.ntnu.idi.idatt.model.tile.LudoTile;
+import edu.ntnu.idi.idatt.model.tile.PortalAction;
+import edu.ntnu.idi.idatt.model.tile.SlideAction;
+import edu.ntnu.idi.idatt.model.tile.Tile;
+import edu.ntnu.idi.idatt.model.tile.TileAction;
+import edu.ntnu.idi.idatt.model.tile.WormholeAction;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoardFileHandlerBinaryTest {
+
+  private static final String[] TEST_COLORS = {
+      "0xff0000ff",
+      "0x0000ffff",
+      "0x008000ff",
+      "0xffff00ff"
+  };
+
+  @TempDir
+  Path tempDir;
+
+  private BoardFileHandlerBinary fileHandler;
+  private String path;
+
+  @BeforeEach
+  void setUp() {
+    fileHandler = new BoardFileHandlerBinary();
+    path = tempDir.resolve("board" + BoardFileHandlerBinary.FILE_EXTENSION).toString();
+  }
+
+  private Board writeAndRead(Board board) throws IOException {
+    fileHandler.writeFile(path, List.of(board));
+    return fileHandler.readFile(path);
+  }
+
+  private static void assertSameTiles(Board expected, Board actual) {
+    assertEquals(expected.getTileView().size(), actual.getTileView().size());
+    for (Tile tile : expected.getTileView()) {
+      Tile actualTile = actual.getTile(tile.getTileId());
+      assertArrayEquals(tile.getCoordinates(), actualTile.getCoordinates());
+      assertEquals(tile.getNextTileId(), actualTile.getNextTileId());
+    }
+  }
+
+  @Test
+  @DisplayName("Test writing and reading a ladder board with every type of tile action")
+  void testWriteAndReadLadderBoard() throws Exception {
+    LadderGameBoard board = new LadderGameBoard("Ladder board", "Description æøå",
+        new int[]{6, 7}, "background.png", "Blue checker");
+    board.addTile(new LadderGameTile(3, new int[]{0, 2}, 4,
+        new LadderAction("1R_1U_ladder", 20, "Climb up!")));
+    board.addTile(new LadderGameTile(30, new int[]{4, 5}, 31,
+        new SlideAction("1R_1D_slide", 2, "Slide down!")));
+    board.addTile(new LadderGameTile(12, new int[]{1, 1}, 13,
+        new PortalAction("1R_1U_portal", 40, "Teleport!")));
+    board.addTile(new LadderGameTile(8, new int[]{1, 6}, 9,
+        new WormholeAction("1R_1U_wormhole", 1, "Wormhole!")));
+    board.addTile(new LadderGameTile(5, new int[]{5, 5}, 7));
+
+    LadderGameBoard readBoard = (LadderGameBoard) writeAndRead(board);
+    assertEquals("Ladder board", readBoard.getName());
+    assertEquals("Description æøå", readBoard.getDescription());
+    assertEquals("background.png", readBoard.getBackground());
+    assertEquals("Blue checker", readBoard.getPattern());
+    assertArrayEquals(new int[]{6, 7}, readBoard.getRowsAndColumns());
+    assertSameTiles(board, readBoard);
+    for (int tileId : new int[]{3, 30, 12, 8}) {
+      TileAction action = ((LadderGameTile) board.getTile(tileId)).getLandAction();
+      TileAction readAction = ((LadderGameTile) readBoard.getTile(tileId)).getLandAction();
+      assertEquals(action.getClass(), readAction.getClass());
+      assertEquals(action.getIdentifier(), readAction.getIdentifier());
+      assertEquals(action.getDestinationTileId(), readAction.getDestinationTileId());
+      assertEquals(action.getDescription(), readAction.getDescription());
+    }
+    assertNull(((LadderGameTile) readBoard.getTile(4)).getLandAction());
+  }
+
+  @Test
+  @DisplayName("Test writing and reading a Ludo board with player indexes")
+  void testWriteAndReadLudoBoard() throws Exception {
+    LudoGameBoard board = new LudoGameBoard("Ludo board", "Description", "background.png", 15,
+        TEST_COLORS);
+    board.addTile(new LudoTile(4, new int[]{3, 0}, 5, "FINISH"));
+    board.setStartAreaSize(5);
+
+    LudoGameBoard readBoard = (LudoGameBoard) writeAndRead(board);
+    assertEquals("Ludo board", readBoard.getName());
+    assertEquals(15, readBoard.getBoardSize());
+    assertArrayEquals(TEST_COLORS, readBoard.getColors());
+    assertArrayEquals(board.getPlayerStartIndexes(), readBoard.getPlayerStartIndexes());
+    assertArrayEquals(board.getPlayerTrackStartIndexes(), readBoard.getPlayerTrackStartIndexes());
+    assertArrayEquals(board.getPlayerFinishStartIndexes(),
+        readBoard.getPlayerFinishStartIndexes());
+    assertArrayEquals(board.getPlayerFinishIndexes(), readBoard.getPlayerFinishIndexes());
+    assertEquals(5, readBoard.getStartAreaSize());
+    assertEquals(board.getTotalTrackTileCount(), readBoard.getTotalTrackTileCount());
+    assertSameTiles(board, readBoard);
+    for (Tile tile : board.getTileView()) {
+      assertEquals(((LudoTile) tile).getType(),
+          ((LudoTile) readBoard.getTile(tile.getTileId())).getType());
+    }
+    assertEquals("FINISH", ((LudoTile) readBoard.getTile(4)).getType());
+  }
+
+  @Test
+  @DisplayName("Test writing and reading a ladder board with a million tiles")
+  void testWriteAndReadMillionTileBoard() throws Exception {
+    LadderGameBoard board = new LadderGameBoard("Large board", "Description",
+        new int[]{1000, 1000}, "background.png", "None");
+    board.addTile(new LadderGameTile(500, new int[]{0, 499}, 501,
+        new LadderAction("1R_1U_ladder", 999_999, "Climb up!")));
+    fileHandler.writeFile(path, List.of(board));
+
+    LadderGameBoard readBoard = (LadderGameBoard) fileHandler.readFile(path);
+    assertEquals(1_000_000, readBoard.getTileCount());
+    assertEquals(999_999, readBoard.compile().getDestinationTileId(500));
+    assertArrayEquals(new int[]{999, 0}, readBoard.getTile(1_000_000).getCoordinates());
+  }
+
+  @Test
+  @DisplayName("Test reading a file that is not a binary board file")
+  void testReadInvalidFile() throws Exception {
+    Path file = Path.of(path);
+    Files.write(file, new byte[]{1, 2, 3});
+    assertThrows(IOException.class, () -> fileHandler.readFile(path));
+
+    Files.delete(file);
+    Files.copy(Path.of("src/main/resources/boards/ClassicLadderGameBoard.json"), file);
+    assertThrows(IOException.class, () -> fileHandler.readFile(path));
+    assertThrows(IOException.class, () -> fileHandler.readFile(tempDir.resolve("missing")
+        .toString()));
+  }
+
+  @Test
+  @DisplayName("Test reading a truncated binary board file")
+  void testReadTruncatedFile() throws Exception {
+    writeAndRead(new LadderGameBoard("Ladder board", "Description", new int[]{5, 5},
+        "background.png", "None"));
+    byte[] bytes = Files.readAllBytes(Path.of(path));
+    Files.write(Path.of(path), Arrays.copyOf(bytes, bytes.length - 10));
+    assertThrows(IOException.class, () -> fileHandler.readFile(path));
+  }
+
+  @Test
+  @DisplayName("Test reading a binary board file of another version")
+  void testReadUnsupportedVersion() throws Exception {
+    writeAndRead(new LadderGameBoard("Ladder board", "Description", new int[]{5, 5},
+        "background.png", "None"));
+    byte[] bytes = Files.readAllBytes(Path.of(path));
+    bytes[BoardFileFormat.HEADER_VERSION + 3] = 2;
+    Files.write(Path.of(path), bytes);
+    assertThrows(IOException.class, () -> fileHandler.readFile(path));
+  }
+
+  @Test
+  @DisplayName("Test reading a binary board file with more tiles than a board can have")
+  void testReadTooManyTiles() throws Exception {
+    writeAndRead(new LadderGameBoard("Ladder board", "Description", new int[]{5, 5},
+        "background.png", "None"));
+    byte[] bytes = Files.readAllBytes(Path.of(path));
+    int rowsOffset = BoardFileFormat.HEADER_SIZE + 4 * Integer.BYTES
+        + "Ladder boardDescriptionbackground.pngNone".length();
+    ByteBuffer.wrap(bytes).putInt(rowsOffset, 2000).putInt(rowsOffset + Integer.BYTES, 1000);
+    Files.write(Path.of(path), bytes);
+    IOException exception = assertThrows(IOException.class, () -> fileHandler.readFile(path));
+    assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+  }
+
+  @Test
+  @DisplayName("Test writing to an existing file or an empty board list")
+  void testWriteInvalid() throws Exception {
+    Board board = new LadderGameBoard("Ladder board", "Description", new int[]{5, 5},
+        "background.png", "None");
+    fileHandler.writeFile(path, List.of(board));
+    assertThrows(IOException.class, () -> fileHandler.writeFile(path, List.of(board)));
+    assertThrows(IllegalArgumentException.class, () -> fileHandler.writeFile(path, List.of()));
+  }
+}
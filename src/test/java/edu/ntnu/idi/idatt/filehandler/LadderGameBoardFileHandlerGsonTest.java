@@ -2,17 +2,22 @@ package edu.ntnu.idi.idatt.filehandler;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import com.google.gson.JsonObject;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
 import edu.ntnu.idi.idatt.model.tile.LadderAction;
 import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
 import edu.ntnu.idi.idatt.model.tile.PortalAction;
 import edu.ntnu.idi.idatt.model.tile.SlideAction;
-import java.lang.reflect.Method;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class LadderGameBoardFileHandlerGsonTest {
   
@@ -23,10 +28,25 @@ class LadderGameBoardFileHandlerGsonTest {
   private static final String TEST_BOARD_BACKGROUND = "test_background.png";
   private static final String TEST_BOARD_PATTERN = "test_pattern.png";
   
+  @TempDir
+  Path tempDir;
+
   @BeforeEach
   void setUp() {
     fileHandler = new LadderGameBoardFileHandlerGson();
   }
+
+  private Board writeAndRead(LadderGameBoard board) throws IOException {
+    String path = tempDir.resolve("board.json").toString();
+    fileHandler.writeFile(path, List.of(board));
+    return fileHandler.readFile(path);
+  }
+
+  private Board readJson(String json) throws IOException {
+    Path path = tempDir.resolve("input.json");
+    Files.writeString(path, json, StandardCharsets.UTF_8);
+    return fileHandler.readFile(path.toString());
+  }
   
   @Test
   @DisplayName("Test serializing and deserializing a board with no special tiles")
@@ -39,15 +59,7 @@ class LadderGameBoardFileHandlerGsonTest {
     TEST_BOARD_PATTERN
     );
     
-    // Get private methods using reflection
-    Method serializeMethod = LadderGameBoardFileHandlerGson.class.getDeclaredMethod("serializeBoard", LadderGameBoard.class);
-    Method deserializeMethod = LadderGameBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    serializeMethod.setAccessible(true);
-    deserializeMethod.setAccessible(true);
-    
-    JsonObject boardJson = (JsonObject) serializeMethod.invoke(fileHandler, board);
-    String jsonString = boardJson.toString();
-    Board deserializedBoard = (Board) deserializeMethod.invoke(fileHandler, jsonString);
+    Board deserializedBoard = writeAndRead(board);
     
     assertNotNull(deserializedBoard);
     assertTrue(deserializedBoard instanceof LadderGameBoard);
@@ -79,14 +91,7 @@ class LadderGameBoardFileHandlerGsonTest {
     board.addTile(new LadderGameTile(3, new int[]{3, 0}, 4,
     new PortalAction("1R_1U_portal", 5, "Teleport!")));
     
-    Method serializeMethod = LadderGameBoardFileHandlerGson.class.getDeclaredMethod("serializeBoard", LadderGameBoard.class);
-    Method deserializeMethod = LadderGameBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    serializeMethod.setAccessible(true);
-    deserializeMethod.setAccessible(true);
-    
-    JsonObject boardJson = (JsonObject) serializeMethod.invoke(fileHandler, board);
-    String jsonString = boardJson.toString();
-    Board deserializedBoard = (Board) deserializeMethod.invoke(fileHandler, jsonString);
+    Board deserializedBoard = writeAndRead(board);
     
     assertNotNull(deserializedBoard);
     assertInstanceOf(LadderGameBoard.class, deserializedBoard);
@@ -107,42 +112,118 @@ class LadderGameBoardFileHandlerGsonTest {
   }
   
   @Test
-  @DisplayName("Test deserializing null JSON string")
-  void testDeserializeNullJsonString() throws Exception {
-    // Get private method using reflection
-    Method deserializeMethod = LadderGameBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    deserializeMethod.setAccessible(true);
-    
-    Board deserializedBoard = (Board) deserializeMethod.invoke(fileHandler, (String) null);
-    assertNull(deserializedBoard);
+  @DisplayName("Test reading an empty file")
+  void testReadEmptyFile() throws Exception {
+    assertNull(readJson(""));
   }
   
   @Test
-  @DisplayName("Test deserializing empty JSON string")
-  void testDeserializeEmptyJsonString() throws Exception {
-    Method deserializeMethod = LadderGameBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    deserializeMethod.setAccessible(true);
-    
-    Board deserializedBoard = (Board) deserializeMethod.invoke(fileHandler, "");
-    assertNull(deserializedBoard);
+  @DisplayName("Test reading invalid JSON")
+  void testReadInvalidJson() {
+    assertThrows(IOException.class, () -> readJson("invalid json content"));
+    assertThrows(IOException.class, () -> readJson("{\"name\": \"Board\", \"tiles\": ["));
   }
   
   @Test
-  @DisplayName("Test deserializing invalid JSON string")
-  void testDeserializeInvalidJsonString() throws Exception {
-    Method deserializeMethod = LadderGameBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    deserializeMethod.setAccessible(true);
-    
-    assertThrows(Exception.class, () -> deserializeMethod.invoke(fileHandler, "invalid json content"));
+  @DisplayName("Test reading a board with a missing property")
+  void testReadMissingProperty() {
+    assertThrows(IOException.class, () -> readJson(
+        "{\"name\": \"Board\", \"description\": \"Description\", \"rows\": 5,"
+        + " \"background\": \"background.png\", \"pattern\": \"None\", \"tiles\": []}"));
+    assertThrows(IOException.class, () -> readJson(
+        "{\"name\": \"Board\", \"description\": \"Description\", \"rows\": 5,"
+        + " \"columns\": 5, \"background\": \"background.png\", \"pattern\": \"None\","
+        + " \"tiles\": [{\"id\": 1, \"nextTileId\": 2}]}"));
   }
   
   @Test
-  @DisplayName("Test serializing null board")
-  void testSerializeNullBoard() throws Exception {
-    Method serializeMethod = LadderGameBoardFileHandlerGson.class.getDeclaredMethod("serializeBoard", LadderGameBoard.class);
-    serializeMethod.setAccessible(true);
+  @DisplayName("Test reading a board with a malformed action identifier or invalid dimensions")
+  void testReadInvalidBoard() {
+    IOException exception = assertThrows(IOException.class, () -> readJson(
+        "{\"name\": \"Board\", \"description\": \"Description\", \"rows\": 5,"
+        + " \"columns\": 5, \"background\": \"background.png\", \"pattern\": \"None\","
+        + " \"tiles\": [{\"id\": 4, \"coordinates\": [0, 3], \"nextTileId\": 5,"
+        + " \"action\": {\"identifier\": \"ladder\", \"destinationTileId\": 9,"
+        + " \"description\": \"Climb up!\"}}]}"));
+    assertTrue(exception.getMessage().contains("input.json"));
+    exception = assertThrows(IOException.class, () -> readJson(
+        "{\"name\": \"Board\", \"description\": \"Description\", \"rows\": 4,"
+        + " \"columns\": 5, \"background\": \"background.png\", \"pattern\": \"None\","
+        + " \"tiles\": []}"));
+    assertInstanceOf(IllegalArgumentException.class, exception.getCause());
+  }
+
+  @Test
+  @DisplayName("Test reading a board with the tiles before the board properties")
+  void testReadTilesBeforeProperties() throws Exception {
+    Board board = readJson("{\"tiles\": [{\"id\": 4, \"coordinates\": [0, 3],"
+        + " \"nextTileId\": 5, \"unknown\": [1, {}],"
+        + " \"action\": {\"identifier\": \"1R_1U_ladder\", \"destinationTileId\": 9,"
+        + " \"description\": \"Climb up!\"}}],"
+        + " \"name\": \"Board\", \"description\": \"Description\", \"rows\": 5,"
+        + " \"columns\": 5, \"background\": \"background.png\", \"pattern\": \"None\"}");
+    assertEquals(25, board.getTileCount());
+    LadderGameTile tile = (LadderGameTile) board.getTile(4);
+    assertInstanceOf(LadderAction.class, tile.getLandAction());
+    assertEquals(9, tile.getLandAction().getDestinationTileId());
+  }
+  
+  @Test
+  @DisplayName("Test writing and reading a board with a quarter of a million tiles")
+  void testWriteAndReadLargeBoard() throws Exception {
+    LadderGameBoard board = new LadderGameBoard(TEST_BOARD_NAME, TEST_BOARD_DESCRIPTION,
+        new int[]{500, 500}, TEST_BOARD_BACKGROUND, TEST_BOARD_PATTERN);
+    ((LadderGameTile) board.getTile(250_000)).setLandAction(
+        new SlideAction("1R_1D_slide", 3, "Slide down!"));
     
-    JsonObject boardJson = (JsonObject) serializeMethod.invoke(fileHandler, (LadderGameBoard) null);
-    assertNull(boardJson);
+    LadderGameBoard readBoard = (LadderGameBoard) writeAndRead(board);
+    assertEquals(250_000, readBoard.getTileCount());
+    assertArrayEquals(board.getTile(123_456).getCoordinates(),
+        readBoard.getTile(123_456).getCoordinates());
+    assertEquals(3, ((LadderGameTile) readBoard.getTile(250_000)).getLandAction()
+        .getDestinationTileId());
+  }
+
+  @Test
+  @DisplayName("Test reading a large board only stores the tiles with tile actions")
+  void testReadLargeBoardSkipsPlainTiles() throws Exception {
+    LadderGameBoard board = new LadderGameBoard(TEST_BOARD_NAME, TEST_BOARD_DESCRIPTION,
+        new int[]{500, 500}, TEST_BOARD_BACKGROUND, TEST_BOARD_PATTERN);
+    ((LadderGameTile) board.getTile(42)).setLandAction(
+        new LadderAction("1R_1U_ladder", 60, "Climb up!"));
+
+    LadderGameBoard readBoard = (LadderGameBoard) writeAndRead(board);
+    assertSame(readBoard.getTile(42), readBoard.getTile(42));
+    for (int tileId : new int[]{0, 1, 41, 43, 123_456, 250_000}) {
+      assertNotSame(readBoard.getTile(tileId), readBoard.getTile(tileId),
+          "Tile " + tileId + " should not be stored");
+    }
+
+    LadderGameBoard pendingBoard = (LadderGameBoard) readJson("{\"tiles\": [{\"id\": 3,"
+        + " \"coordinates\": [0, 2], \"nextTileId\": 4}, {\"id\": 4, \"coordinates\": [0, 3],"
+        + " \"nextTileId\": 5, \"action\": {\"identifier\": \"1R_1U_ladder\","
+        + " \"destinationTileId\": 9, \"description\": \"Climb up!\"}}],"
+        + " \"name\": \"Board\", \"description\": \"Description\", \"rows\": 5,"
+        + " \"columns\": 5, \"background\": \"background.png\", \"pattern\": \"None\"}");
+    assertNotSame(pendingBoard.getTile(3), pendingBoard.getTile(3));
+    assertSame(pendingBoard.getTile(4), pendingBoard.getTile(4));
+  }
+  
+  @Test
+  @DisplayName("Test writing a null board")
+  void testWriteNullBoard() throws Exception {
+    Path path = tempDir.resolve("board.json");
+    fileHandler.writeFile(path.toString(), Arrays.asList((Board) null));
+    assertFalse(Files.exists(path));
+  }
+  
+  @Test
+  @DisplayName("Test writing to an existing file")
+  void testWriteExistingFile() throws Exception {
+    String path = tempDir.resolve("board.json").toString();
+    LadderGameBoard board = new LadderGameBoard(TEST_BOARD_NAME, TEST_BOARD_DESCRIPTION,
+        TEST_BOARD_DIMENSIONS, TEST_BOARD_BACKGROUND, TEST_BOARD_PATTERN);
+    fileHandler.writeFile(path, List.of(board));
+    assertThrows(IOException.class, () -> fileHandler.writeFile(path, List.of(board)));
   }
-} 
\ No newline at end of file
+}
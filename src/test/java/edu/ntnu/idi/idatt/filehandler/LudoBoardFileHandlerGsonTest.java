@@ -2,15 +2,19 @@ package edu.ntnu.idi.idatt.filehandler;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import com.google.gson.JsonObject;
 import edu.ntnu.idi.idatt.model.board.Board;
 import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
 import edu.ntnu.idi.idatt.model.tile.LudoTile;
-import java.lang.reflect.Method;
-import javafx.scene.paint.Color;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class LudoBoardFileHandlerGsonTest {
 
@@ -19,18 +23,33 @@ class LudoBoardFileHandlerGsonTest {
   private static final String TEST_BOARD_DESCRIPTION = "Test Ludo Description";
   private static final int TEST_BOARD_SIZE = 15;
   private static final String TEST_BOARD_BACKGROUND = "test_ludo_background.png";
-  private static final Color[] TEST_COLORS = {
-      Color.RED,
-      Color.BLUE,
-      Color.GREEN,
-      Color.YELLOW
+  private static final String[] TEST_COLORS = {
+      "0xff0000ff",
+      "0x0000ffff",
+      "0x008000ff",
+      "0xffff00ff"
   };
 
+  @TempDir
+  Path tempDir;
+
   @BeforeEach
   void setUp() {
     fileHandler = new LudoBoardFileHandlerGson();
   }
 
+  private Board writeAndRead(LudoGameBoard board) throws IOException {
+    String path = tempDir.resolve("board.json").toString();
+    fileHandler.writeFile(path, List.of(board));
+    return fileHandler.readFile(path);
+  }
+
+  private Board readJson(String json) throws IOException {
+    Path path = tempDir.resolve("input.json");
+    Files.writeString(path, json, StandardCharsets.UTF_8);
+    return fileHandler.readFile(path.toString());
+  }
+
   @Test
   @DisplayName("Test serializing and deserializing a basic ludo board")
   void testSerializeAndDeserializeBasicBoard() throws Exception {
@@ -47,14 +66,7 @@ class LudoBoardFileHandlerGsonTest {
     board.addTile(new LudoTile(3, new int[]{2, 0}, 4, "TRACK"));
     board.addTile(new LudoTile(4, new int[]{3, 0}, 5, "FINISH"));
 
-    Method serializeMethod = LudoBoardFileHandlerGson.class.getDeclaredMethod("serializeBoard", LudoGameBoard.class);
-    Method deserializeMethod = LudoBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    serializeMethod.setAccessible(true);
-    deserializeMethod.setAccessible(true);
-
-    JsonObject boardJson = (JsonObject) serializeMethod.invoke(fileHandler, board);
-    String jsonString = boardJson.toString();
-    Board deserializedBoard = (Board) deserializeMethod.invoke(fileHandler, jsonString);
+    Board deserializedBoard = writeAndRead(board);
 
     assertNotNull(deserializedBoard);
     assertInstanceOf(LudoGameBoard.class, deserializedBoard);
@@ -93,14 +105,7 @@ class LudoBoardFileHandlerGsonTest {
     setIntField(board, "startAreaSize", 5);
     setIntField(board, "totalTrackTileCount", 60);
 
-    Method serializeMethod = LudoBoardFileHandlerGson.class.getDeclaredMethod("serializeBoard", LudoGameBoard.class);
-    Method deserializeMethod = LudoBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    serializeMethod.setAccessible(true);
-    deserializeMethod.setAccessible(true);
-
-    JsonObject boardJson = (JsonObject) serializeMethod.invoke(fileHandler, board);
-    String jsonString = boardJson.toString();
-    Board deserializedBoard = (Board) deserializeMethod.invoke(fileHandler, jsonString);
+    Board deserializedBoard = writeAndRead(board);
 
     assertNotNull(deserializedBoard);
     assertInstanceOf(LudoGameBoard.class, deserializedBoard);
@@ -115,44 +120,66 @@ class LudoBoardFileHandlerGsonTest {
   }
 
   @Test
-  @DisplayName("Test deserializing null JSON string")
-  void testDeserializeNullJsonString() throws Exception {
-    Method deserializeMethod = LudoBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    deserializeMethod.setAccessible(true);
-
-    Board deserializedBoard = (Board) deserializeMethod.invoke(fileHandler, (String) null);
-    assertNull(deserializedBoard);
+  @DisplayName("Test reading an empty file")
+  void testReadEmptyFile() throws Exception {
+    assertNull(readJson(""));
   }
 
   @Test
-  @DisplayName("Test deserializing empty JSON string")
-  void testDeserializeEmptyJsonString() throws Exception {
-    Method deserializeMethod = LudoBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    deserializeMethod.setAccessible(true);
-
-    Board deserializedBoard = (Board) deserializeMethod.invoke(fileHandler, "");
-    assertNull(deserializedBoard);
+  @DisplayName("Test reading invalid JSON")
+  void testReadInvalidJson() {
+    assertThrows(IOException.class, () -> readJson("invalid json content"));
+    assertThrows(IOException.class, () -> readJson("{\"name\": \"Board\", \"boardSize\": \"x\"}"));
   }
 
   @Test
-  @DisplayName("Test deserializing invalid JSON string")
-  void testDeserializeInvalidJsonString() throws Exception {
-    Method deserializeMethod = LudoBoardFileHandlerGson.class.getDeclaredMethod("deserializeBoard", String.class);
-    deserializeMethod.setAccessible(true);
+  @DisplayName("Test reading a board with a missing property")
+  void testReadMissingProperty() {
+    assertThrows(IOException.class, () -> readJson(
+        "{\"name\": \"Board\", \"description\": \"Description\","
+        + " \"background\": \"background.png\", \"tiles\": []}"));
+  }
 
-    assertThrows(Exception.class, () -> deserializeMethod.invoke(fileHandler, "invalid json content"));
+  @Test
+  @DisplayName("Test reading a board the model rejects")
+  void testReadInvalidBoard() throws Exception {
+    Path path = tempDir.resolve("board.json");
+    fileHandler.writeFile(path.toString(), List.of(new LudoGameBoard(TEST_BOARD_NAME,
+        TEST_BOARD_DESCRIPTION, TEST_BOARD_BACKGROUND, 11, TEST_COLORS)));
+    Files.writeString(path, Files.readString(path).replace(
+        "\"" + TEST_BOARD_NAME + "\"", "\"\""));
+
+    IOException exception = assertThrows(IOException.class,
+        () -> fileHandler.readFile(path.toString()));
+    assertTrue(exception.getMessage().contains("board.json"));
+    assertInstanceOf(IllegalArgumentException.class, exception.getCause());
   }
 
   @Test
-  @DisplayName("Test serializing null board")
-  void testSerializeNullBoard() throws Exception {
-    Method serializeMethod = LudoBoardFileHandlerGson.class.getDeclaredMethod("serializeBoard", LudoGameBoard.class);
-    serializeMethod.setAccessible(true);
+  @DisplayName("Test writing and reading a large board")
+  void testWriteAndReadLargeBoard() throws Exception {
+    LudoGameBoard board = new LudoGameBoard(TEST_BOARD_NAME, TEST_BOARD_DESCRIPTION,
+        TEST_BOARD_BACKGROUND, 201, TEST_COLORS);
+
+    LudoGameBoard readBoard = (LudoGameBoard) writeAndRead(board);
+    assertEquals(201 * 201, readBoard.getTileCount());
+    for (int seat = 0; seat < 4; seat++) {
+      assertArrayEquals(board.getPlayerRoute(seat), readBoard.getPlayerRoute(seat));
+    }
+    LudoTile tile = (LudoTile) board.getTile(1000);
+    LudoTile readTile = (LudoTile) readBoard.getTile(1000);
+    assertEquals(tile.getType(), readTile.getType());
+    assertArrayEquals(tile.getCoordinates(), readTile.getCoordinates());
+  }
 
-    JsonObject boardJson = (JsonObject) serializeMethod.invoke(fileHandler, (LudoGameBoard) null);
-    assertNull(boardJson);
+  @Test
+  @DisplayName("Test writing a null board")
+  void testWriteNullBoard() throws Exception {
+    Path path = tempDir.resolve("board.json");
+    fileHandler.writeFile(path.toString(), Arrays.asList((Board) null));
+    assertFalse(Files.exists(path));
   }
-  
+
   // Helper method for reflection
   private void setIntArrayField(LudoGameBoard board, String fieldName, int[] value) throws Exception {
     java.lang.reflect.Field field = LudoGameBoard.class.getDeclaredField(fieldName);
@@ -0,0 +1,275 @@
+package edu.ntnu.idi.idatt.journal;
+
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.dice.Dice;
+import edu.ntnu.idi.idatt.model.game.BoardGame;
+import edu.ntnu.idi.idatt.model.game.LadderBoardGame;
+import edu.ntnu.idi.idatt.model.game.LudoBoardGame;
+import edu.ntnu.idi.idatt.model.player.LadderGamePlayer;
+import edu.ntnu.idi.idatt.model.player.LudoPlayer;
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.player.PlayerTokenType;
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+import edu.ntnu.idi.idatt.model.strategy.LudoMoveStrategy;
+import edu.ntnu.idi.idatt.model.tile.LadderAction;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import edu.ntnu.idi.idatt.model.tile.SlideAction;
+import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+  @TempDir
+  Path tempDir;
+
+  /**
+   * Dice that roll from a seeded generator, so the recorded games are the same on every run.
+   */
+  private static final class StubbedDice extends Dice {
+
+    private final Random random = new Random(42);
+    private final int[] values;
+
+    StubbedDice(int numberOfDice) {
+      super(numberOfDice);
+      values = new int[numberOfDice];
+    }
+
+    @Override
+    public void rollDice() {
+      for (int i = 0; i < values.length; i++) {
+        values[i] = random.nextInt(6) + 1;
+      }
+    }
+
+    @Override
+    public int getDieValue(int dieNumber) {
+      return values[dieNumber - 1];
+    }
+
+    @Override
+    public int getTotalValue() {
+      return Arrays.stream(values).sum();
+    }
+
+    @Override
+    public int[] getDieValues() {
+      return values.clone();
+    }
+  }
+
+  private static LudoBoardGame createLudoGame(LudoGameBoard board) {
+    List<Player> players = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      players.add(new LudoPlayer("Player " + i, "#FF0000", PlayerTokenType.CIRCLE, true));
+    }
+    return new LudoBoardGame(board, players, 1) {
+      @Override
+      protected void createDice(int diceCount) {
+        dice = new StubbedDice(diceCount);
+      }
+    };
+  }
+
+  private static LadderBoardGame createLadderGame(LadderGameBoard board) {
+    List<Player> players = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      players.add(new LadderGamePlayer("Player " + i, "#FF0000", PlayerTokenType.CIRCLE, true));
+    }
+    return new LadderBoardGame(board, players, 2) {
+      @Override
+      protected void createDice(int diceCount) {
+        dice = new StubbedDice(diceCount);
+      }
+    };
+  }
+
+  /**
+   * Plays a recorded game with seeded rolls and returns the packed state after every turn.
+   */
+  private static List<int[]> playRecordedGame(BoardGame game, Path path, int checkpointInterval,
+      int maxTurns) throws IOException {
+    List<int[]> states = new ArrayList<>();
+    states.add(game.getPackedState());
+    try (GameJournalRecorder recorder = new GameJournalRecorder(game,
+        new GameJournalWriter(path, checkpointInterval))) {
+      while (game.getWinner() == null && states.size() <= maxTurns) {
+        game.getDice().rollDice();
+        game.performPlayerTurn(game.getDice().getTotalValue());
+        states.add(game.getPackedState());
+      }
+    }
+    return states;
+  }
+
+  private static void assertRestoresEveryTurn(Supplier<BoardGame> newGame, Path path,
+      List<int[]> states) throws IOException {
+    GameJournalReader reader = new GameJournalReader(path);
+    assertEquals(states.size() - 1, reader.getTurnCount());
+    for (int turn = 0; turn < states.size(); turn++) {
+      BoardGame game = newGame.get();
+      reader.restore(game, turn);
+      assertArrayEquals(states.get(turn), game.getPackedState(), "State differs at turn " + turn);
+    }
+  }
+
+  @Nested
+  @DisplayName("Positive Tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("Test restoring a Ludo game at every turn")
+    void testRestoreLudoGame() throws IOException {
+      LudoGameBoard board = new LudoGameBoard("Ludo", "Board for journal tests", "background.png",
+          11, new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+      Path path = tempDir.resolve("ludo.journal");
+
+      List<int[]> states = playRecordedGame(createLudoGame(board), path, 16, 2_000);
+
+      assertRestoresEveryTurn(() -> createLudoGame(board), path, states);
+    }
+
+    @Test
+    @DisplayName("Test restoring replays the recorded moves instead of asking the strategies")
+    void testRestoreReplaysRecordedMoves() throws IOException {
+      LudoGameBoard board = new LudoGameBoard("Ludo", "Board for journal tests", "background.png",
+          11, new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+      Path path = tempDir.resolve("strategies.journal");
+      Supplier<BoardGame> newGame = () -> {
+        LudoBoardGame game = createLudoGame(board);
+        game.getPlayers().forEach(player -> ((LudoPlayer) player).setMoveStrategy(
+            new LudoMoveStrategy() {
+              private int calls;
+
+              @Override
+              public int chooseMove(LudoTransition transition, int[] state, int diceRoll,
+                  int[] legalMoves, int legalMoveCount) {
+                return legalMoves[calls++ % legalMoveCount];
+              }
+            }));
+        return game;
+      };
+
+      List<int[]> states = playRecordedGame(newGame.get(), path, 16, 2_000);
+
+      assertRestoresEveryTurn(newGame, path, states);
+    }
+
+    @Test
+    @DisplayName("Test restoring a ladder game with tile actions at every turn")
+    void testRestoreLadderGame() throws IOException {
+      LadderGameBoard board = new LadderGameBoard("Ladder", "Board for journal tests",
+          new int[]{10, 10}, "background.png", "None");
+      ((LadderGameTile) board.getTile(4)).setLandAction(
+          new LadderAction("1R_3U_ladder", 38, "Ladder to tile 38"));
+      ((LadderGameTile) board.getTile(62)).setLandAction(
+          new SlideAction("1L_4D_slide", 19, "Slide to tile 19"));
+      Path path = tempDir.resolve("ladder.journal");
+
+      List<int[]> states = playRecordedGame(createLadderGame(board), path, 5, 2_000);
+
+      assertRestoresEveryTurn(() -> createLadderGame(board), path, states);
+    }
+
+    @Test
+    @DisplayName("Test turn records hold the dice values, moves and captures")
+    void testTurnRecords() throws IOException {
+      LudoGameBoard board = new LudoGameBoard("Ludo", "Board for journal tests", "background.png",
+          11, new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+      Path path = tempDir.resolve("records.journal");
+      List<int[]> states = playRecordedGame(createLudoGame(board), path, 8, 2_000);
+
+      List<TurnRecord> turns = new GameJournalReader(path).getTurns();
+      for (int i = 0; i < turns.size(); i++) {
+        TurnRecord turn = turns.get(i);
+        assertEquals(i % 3, turn.seat());
+        assertArrayEquals(new int[]{turn.diceRoll()}, turn.diceValues());
+        if (turn.turnSkipped()) {
+          assertEquals(-1, turn.tokenIndex());
+        }
+        if (turn.tokenReleased()) {
+          assertEquals(board.getPlayerTrackStartIndexes()[turn.seat()], turn.landingTileId());
+          assertEquals(TokenStatus.NOT_RELEASED,
+              LudoGameState.getStatus(states.get(i), turn.seat(), turn.tokenIndex()));
+          assertEquals(TokenStatus.RELEASED,
+              LudoGameState.getStatus(states.get(i + 1), turn.seat(), turn.tokenIndex()));
+        }
+      }
+      assertTrue(turns.stream().anyMatch(turn -> turn.captureMask() != 0));
+    }
+
+    @Test
+    @DisplayName("Test a journal left unclosed is read up to its last complete record")
+    void testUnclosedJournal() throws IOException {
+      LudoGameBoard board = new LudoGameBoard("Ludo", "Board for journal tests", "background.png",
+          11, new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+      LudoBoardGame game = createLudoGame(board);
+      Path path = tempDir.resolve("crashed.journal");
+      GameJournalWriter writer = new GameJournalWriter(path, 4);
+      new GameJournalRecorder(game, writer);
+      for (int i = 0; i < 10; i++) {
+        game.performPlayerTurn(6);
+      }
+
+      GameJournalReader reader = new GameJournalReader(path);
+      assertEquals(10, reader.getTurnCount());
+      LudoBoardGame restored = createLudoGame(board);
+      reader.restoreLatest(restored);
+      assertArrayEquals(game.getPackedState(), restored.getPackedState());
+      writer.close();
+    }
+
+    @Test
+    @DisplayName("Test a journal written over a longer journal ignores the old records")
+    void testRewrittenJournal() throws IOException {
+      LudoGameBoard board = new LudoGameBoard("Ludo", "Board for journal tests", "background.png",
+          11, new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+      Path path = tempDir.resolve("rewritten.journal");
+      playRecordedGame(createLudoGame(board), path, 4, 200);
+
+      List<int[]> states = playRecordedGame(createLudoGame(board), path, 4, 5);
+
+      assertRestoresEveryTurn(() -> createLudoGame(board), path, states);
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test invalid checkpoint interval and restore turn")
+    void testInvalidArguments() throws IOException {
+      Path path = tempDir.resolve("empty.journal");
+      assertThrows(IllegalArgumentException.class, () -> new GameJournalWriter(path, 0));
+
+      new GameJournalWriter(path, 1).close();
+      GameJournalReader reader = new GameJournalReader(path);
+      assertEquals(0, reader.getTurnCount());
+      assertThrows(IllegalArgumentException.class, () -> reader.restore(null, 1));
+    }
+
+    @Test
+    @DisplayName("Test reading a file that is not a journal")
+    void testNotAJournal() throws IOException {
+      Path path = tempDir.resolve("other.journal");
+      Files.write(path, new byte[64]);
+      assertThrows(IOException.class, () -> new GameJournalReader(path));
+    }
+  }
+}
@@ -0,0 +1,131 @@
+package edu.ntnu.idi.idatt.journal;
+
+import edu.ntnu.idi.idatt.journal.SavedGameStore.GameType;
+import edu.ntnu.idi.idatt.journal.SavedGameStore.SavedGame;
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.game.LadderBoardGame;
+import edu.ntnu.idi.idatt.model.game.LudoBoardGame;
+import edu.ntnu.idi.idatt.model.player.LadderGamePlayer;
+import edu.ntnu.idi.idatt.model.player.LudoPlayer;
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.player.PlayerTokenType;
+import edu.ntnu.idi.idatt.model.tile.LadderAction;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SavedGameStoreTest {
+
+  @TempDir
+  Path tempDir;
+
+  private SavedGameStore store;
+
+  @BeforeEach
+  void setUp() {
+    store = new SavedGameStore(tempDir);
+  }
+
+  private static List<Player> createLudoPlayers() {
+    List<Player> players = new ArrayList<>();
+    players.add(new LudoPlayer("Alice", "#FF0000", PlayerTokenType.CIRCLE, false));
+    players.add(new LudoPlayer("Bob", "#0000FF", PlayerTokenType.CIRCLE, true));
+    return players;
+  }
+
+  private static LudoGameBoard createLudoBoard() {
+    return new LudoGameBoard("Ludo", "Board for saved game tests", "background.png", 11,
+        new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+  }
+
+  @Nested
+  @DisplayName("Positive Tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("Test a recorded Ludo game is loaded and restored to its last turn")
+    void testLoadLudoGame() throws IOException {
+      LudoBoardGame game = new LudoBoardGame(createLudoBoard(), createLudoPlayers(), 1, 7L);
+      GameJournalRecorder recorder = store.startRecording(GameType.LUDO, game);
+      for (int i = 0; i < 40; i++) {
+        game.performPlayerTurn(game.rollDice());
+      }
+
+      SavedGame savedGame = store.load(GameType.LUDO);
+      assertEquals(GameType.LUDO, savedGame.type());
+      assertEquals("Ludo", savedGame.board().getName());
+      assertEquals(List.of("Alice", "Bob"),
+          savedGame.players().stream().map(Player::getName).toList());
+      assertTrue(savedGame.players().get(1).isBot());
+      assertEquals(40, savedGame.journal().getTurnCount());
+
+      LudoBoardGame restored = new LudoBoardGame(savedGame.board(), savedGame.players(), 1);
+      savedGame.journal().restoreLatest(restored);
+      assertArrayEquals(game.getPackedState(), restored.getPackedState());
+      recorder.close();
+    }
+
+    @Test
+    @DisplayName("Test a ladder game is saved, replaced by a new game and deleted")
+    void testReplaceAndDeleteLadderGame() throws IOException {
+      LadderGameBoard board = new LadderGameBoard("Ladder", "Board for saved game tests",
+          new int[]{10, 10}, "background.png", "None");
+      ((LadderGameTile) board.getTile(4)).setLandAction(
+          new LadderAction("1R_3U_ladder", 38, "Ladder to tile 38"));
+      List<Player> players = List.of(
+          new LadderGamePlayer("Alice", "#FF0000", PlayerTokenType.CIRCLE, false),
+          new LadderGamePlayer("Bob", "#0000FF", PlayerTokenType.SQUARE, false));
+      LadderBoardGame game = new LadderBoardGame(board, players, 2, 7L);
+      GameJournalRecorder recorder = store.startRecording(GameType.LADDER, game);
+      game.performPlayerTurn(4);
+      game.performPlayerTurn(3);
+      recorder.close();
+
+      SavedGame savedGame = store.load(GameType.LADDER);
+      assertEquals(2, savedGame.journal().getTurnCount());
+      assertEquals(LadderAction.class,
+          ((LadderGameTile) savedGame.board().getTile(4)).getLandAction().getClass());
+      assertEquals(PlayerTokenType.SQUARE, savedGame.players().get(1).getPlayerTokenType());
+      assertNull(store.load(GameType.LUDO));
+
+      store.startRecording(GameType.LADDER, new LadderBoardGame(board, players, 2)).close();
+      assertNull(store.load(GameType.LADDER));
+
+      store.delete(GameType.LADDER);
+      assertFalse(Files.exists(tempDir.resolve("ladder")));
+      assertNull(store.load(GameType.LADDER));
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test loading a saved game with a damaged journal or missing players")
+    void testLoadDamagedGame() throws IOException {
+      LudoBoardGame game = new LudoBoardGame(createLudoBoard(), createLudoPlayers(), 1, 7L);
+      GameJournalRecorder recorder = store.startRecording(GameType.LUDO, game);
+      game.performPlayerTurn(6);
+      recorder.close();
+
+      Files.delete(tempDir.resolve("ludo").resolve(SavedGameStore.PLAYERS_FILE_NAME));
+      assertThrows(IOException.class, () -> store.load(GameType.LUDO));
+
+      Files.write(tempDir.resolve("ludo").resolve(SavedGameStore.JOURNAL_FILE_NAME),
+          new byte[64]);
+      assertThrows(IOException.class, () -> store.load(GameType.LUDO));
+    }
+  }
+}
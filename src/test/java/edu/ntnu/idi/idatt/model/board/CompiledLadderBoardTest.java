@@ -0,0 +1,96 @@
+package edu.ntnu.idi.idatt.model.board;
+
+import edu.ntnu.idi.idatt.model.tile.LadderAction;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import edu.ntnu.idi.idatt.model.tile.SlideAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledLadderBoardTest {
+
+  private LadderGameBoard board;
+
+  @BeforeEach
+  void setUp() {
+    board = new LadderGameBoard("Compiled Board", "Board for compile tests", new int[]{10, 10},
+        "background.png", "None");
+    ((LadderGameTile) board.getTile(4)).setLandAction(
+        new LadderAction("1R_3U_ladder", 38, "Ladder to tile 38"));
+    ((LadderGameTile) board.getTile(97)).setLandAction(
+        new SlideAction("1L_4D_slide", 19, "Slide to tile 19"));
+  }
+
+  @Nested
+  @DisplayName("Jump Table")
+  class JumpTableTests {
+
+    @Test
+    @DisplayName("Test tiles are looked up in the tiles of the board")
+    void testTilesAreShared() {
+      CompiledLadderBoard compiledBoard = board.compile();
+
+      assertEquals(100, compiledBoard.getTileCount());
+      for (int tileId = 0; tileId <= 100; tileId++) {
+        assertEquals(tileId, compiledBoard.getTile(tileId).getTileId());
+        assertArrayEquals(board.getTile(tileId).getCoordinates(),
+            compiledBoard.getTile(tileId).getCoordinates());
+      }
+      assertSame(board.getTile(4), compiledBoard.getTile(4));
+      assertSame(board.getTile(97), compiledBoard.getTile(97));
+    }
+
+    @Test
+    @DisplayName("Test destinations follow tile actions")
+    void testDestinationsFollowTileActions() {
+      CompiledLadderBoard compiledBoard = board.compile();
+
+      assertEquals(3, compiledBoard.getDestinationTileId(3));
+      assertEquals(38, compiledBoard.getDestinationTileId(4));
+      assertEquals(19, compiledBoard.getDestinationTileId(97));
+      assertEquals(100, compiledBoard.getDestinationTileId(100));
+    }
+
+    @Test
+    @DisplayName("Test sums above the tile count bounce back from the last tile")
+    void testBounce() {
+      CompiledLadderBoard compiledBoard = board.compile();
+
+      assertEquals(99, compiledBoard.getLandingTileId(101));
+      assertEquals(96, compiledBoard.getDestinationTileId(104));
+      assertEquals(97, compiledBoard.getLandingTileId(103));
+      assertEquals(19, compiledBoard.getDestinationTileId(103));
+      assertEquals(0, compiledBoard.getDestinationTileId(200));
+    }
+
+    @Test
+    @DisplayName("Test the compiled board is a snapshot of the board")
+    void testSnapshot() {
+      CompiledLadderBoard compiledBoard = board.compile();
+      ((LadderGameTile) board.getTile(4)).setLandAction(
+          new LadderAction("1R_4U_ladder", 50, "Ladder to tile 50"));
+
+      assertEquals(38, compiledBoard.getDestinationTileId(4));
+      assertEquals(50, board.compile().getDestinationTileId(4));
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test tile ids and sums outside the board")
+    void testOutsideBoard() {
+      CompiledLadderBoard compiledBoard = board.compile();
+
+      assertThrows(IllegalArgumentException.class, () -> compiledBoard.getTile(-1));
+      assertThrows(IllegalArgumentException.class, () -> compiledBoard.getTile(101));
+      assertThrows(IllegalArgumentException.class, () -> compiledBoard.getLandingTileId(-1));
+      assertThrows(IllegalArgumentException.class, () -> compiledBoard.getDestinationTileId(201));
+    }
+  }
+}
@@ -173,6 +173,107 @@ class LadderGameBoardTest {
       assertNotNull(newTile15.getLandAction(), "Land action should not be null after resize larger");
       assertEquals(1, newTile15.getLandAction().getDestinationTileId(), "Land action should be preserved on resize larger");
     }
+
+    @Test
+    @DisplayName("Test a 1000x1000 board computes its tiles and keeps tile actions")
+    void testVeryLargeBoard() {
+      ladderGameBoard.createTiles(1000, 1000);
+      assertEquals(1_000_000, ladderGameBoard.getTileCount());
+      assertArrayEquals(new int[]{999, 0}, ladderGameBoard.getTile(1_000_000).getCoordinates());
+      assertArrayEquals(new int[]{1, 999}, ladderGameBoard.getTile(1001).getCoordinates());
+      ladderGameBoard.getTileView().forEach(tile -> assertEquals(tile.getTileId() + 1,
+          tile.getNextTileId()));
+      assertEquals(0, ladderGameBoard.getTileStore().getStoredTileCount());
+
+      LadderGameTile tile = (LadderGameTile) ladderGameBoard.getTile(500);
+      tile.setLandAction(new LadderAction("TestLadderTo900000", 900_000, "Ladder to tile 900000"));
+      assertSame(tile, ladderGameBoard.getTile(500));
+      assertEquals(1, ladderGameBoard.getTileStore().getStoredTileCount());
+      assertEquals(900_000, ladderGameBoard.compile().getDestinationTileId(500));
+    }
+
+    @Test
+    @DisplayName("Test addTile replaces the tile with the same id")
+    void testAddTileReplacesTile() {
+      LadderGameTile tile = new LadderGameTile(7, new int[]{0, 6}, 8,
+          new LadderAction("TestLadderTo40", 40, "Ladder to tile 40"));
+      ladderGameBoard.addTile(tile);
+      assertSame(tile, ladderGameBoard.getTile(7));
+      assertEquals(100, ladderGameBoard.getTileCount());
+    }
+
+    @Test
+    @DisplayName("Test getTileAt finds every tile by its coordinates")
+    void testGetTileAt() {
+      for (Tile tile : ladderGameBoard.getTileView()) {
+        assertEquals(tile.getTileId(), ladderGameBoard.getTileAt(tile.getCoordinates()[0],
+            tile.getCoordinates()[1]).getTileId());
+      }
+      assertNull(ladderGameBoard.getTileAt(10, 0));
+      assertNull(ladderGameBoard.getTileAt(0, -1));
+
+      LadderGameTile movedTile = new LadderGameTile(7, new int[]{9, 9}, 8);
+      ladderGameBoard.addTile(movedTile);
+      assertSame(movedTile, ladderGameBoard.getTileAt(9, 9));
+      assertNull(ladderGameBoard.getTileAt(0, 6));
+    }
+
+    @Test
+    @DisplayName("Test isComputedTile only accepts the tiles the board computes")
+    void testIsComputedTile() {
+      assertTrue(ladderGameBoard.isComputedTile(0, 0, -2, 1));
+      assertTrue(ladderGameBoard.isComputedTile(11, 1, 9, 12));
+      assertFalse(ladderGameBoard.isComputedTile(11, 1, 0, 12));
+      assertFalse(ladderGameBoard.isComputedTile(11, 1, 9, 13));
+      assertFalse(ladderGameBoard.isComputedTile(101, 10, 0, 102));
+
+      ((LadderGameTile) ladderGameBoard.getTile(11)).setLandAction(
+          new LadderAction("TestLadderTo40", 40, "Ladder to tile 40"));
+      assertFalse(ladderGameBoard.isComputedTile(11, 1, 9, 12));
+    }
+
+    @Test
+    @DisplayName("Test getTileView is a read-only view of the tiles in id order")
+    void testGetTileView() {
+      assertEquals(ladderGameBoard.getTiles().stream().map(Tile::getTileId).toList(),
+          ladderGameBoard.getTileView().stream().map(Tile::getTileId).toList());
+      LadderGameTile tile = new LadderGameTile(3, new int[]{0, 2}, 4);
+      ladderGameBoard.addTile(tile);
+      assertTrue(ladderGameBoard.getTileView().contains(tile));
+      assertThrows(UnsupportedOperationException.class,
+          () -> ladderGameBoard.getTileView().clear());
+    }
+
+    @Test
+    @DisplayName("Test copy creates an independent board with the same tiles and tile actions")
+    void testCopy() {
+      ladderGameBoard.addTile(new LadderGameTile(7, new int[]{0, 6}, 8,
+          new LadderAction("TestLadderTo40", 40, "Ladder to tile 40")));
+      LadderGameTile movedTile = new LadderGameTile(12, new int[]{9, 9}, 13);
+      ladderGameBoard.addTile(movedTile);
+
+      LadderGameBoard copy = ladderGameBoard.copy();
+      assertEquals(boardName, copy.getName());
+      assertEquals(defaultBackground, copy.getBackground());
+      assertEquals(defaultPattern, copy.getPattern());
+      assertArrayEquals(defaultRowsAndColumns, copy.getRowsAndColumns());
+      for (Tile tile : ladderGameBoard.getTileView()) {
+        Tile copiedTile = copy.getTile(tile.getTileId());
+        assertNotSame(tile, copiedTile);
+        assertArrayEquals(tile.getCoordinates(), copiedTile.getCoordinates());
+        assertEquals(tile.getNextTileId(), copiedTile.getNextTileId());
+      }
+      assertEquals(12, copy.getTileAt(9, 9).getTileId());
+      assertNotSame(movedTile, copy.getTileAt(9, 9));
+
+      LadderGameTile copiedTile = (LadderGameTile) copy.getTile(7);
+      assertEquals(40, copiedTile.getLandAction().getDestinationTileId());
+      copiedTile.getLandAction().setDestinationTileId(50);
+      copy.setName("Copied board");
+      assertEquals(40, ((LadderGameTile) ladderGameBoard.getTile(7)).getLandAction()
+          .getDestinationTileId());
+      assertEquals(boardName, ladderGameBoard.getName());
+    }
   }
   
   @Nested
@@ -357,9 +458,19 @@ class LadderGameBoardTest {
     }
     
     @Test
-    @DisplayName("Test createTiles with rows and columns greater than 12")
-    void testCreateTilesRowsAndColumnsGreaterThan12() {
-      assertThrows(IllegalArgumentException.class, () -> ladderGameBoard.createTiles(13, 13));
+    @DisplayName("Test createTiles with too many tiles")
+    void testCreateTilesTooManyTiles() {
+      assertThrows(IllegalArgumentException.class, () -> ladderGameBoard.createTiles(50_000, 50_000));
+      assertThrows(IllegalArgumentException.class, () -> ladderGameBoard.createTiles(1001, 1000));
+      assertThrows(IllegalArgumentException.class,
+          () -> ladderGameBoard.setRowsAndColumns(new int[]{1000, 1001}));
+    }
+
+    @Test
+    @DisplayName("Test addTile with a tile id outside the board")
+    void testAddTileOutsideBoard() {
+      assertThrows(IllegalArgumentException.class,
+          () -> ladderGameBoard.addTile(new LadderGameTile(101, new int[]{10, 0}, 102)));
     }
     
   }
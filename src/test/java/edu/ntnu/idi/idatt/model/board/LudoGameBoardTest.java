@@ -2,7 +2,6 @@ package edu.ntnu.idi.idatt.model.board;
 
 import edu.ntnu.idi.idatt.model.tile.LudoTile;
 import edu.ntnu.idi.idatt.model.tile.Tile;
-import javafx.scene.paint.Color;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,7 +19,7 @@ class LudoGameBoardTest {
   private final String boardDescription = "A board for testing LudoGameBoard";
   private final String defaultBackground = "ludo_background.png";
   private final int defaultBoardSize = 15; // Standard Ludo board size
-  private final Color[] defaultColors = {Color.RED, Color.GREEN, Color.YELLOW, Color.BLUE};
+  private final String[] defaultColors = {"0xff0000ff", "0x008000ff", "0xffff00ff", "0x0000ffff"};
 
   @BeforeEach
   void setUp() {
@@ -117,7 +116,7 @@ class LudoGameBoardTest {
     @Test
     @DisplayName("Test setColors with valid input")
     void testSetColorsValid() {
-      Color[] newColors = {Color.ORANGE, Color.PURPLE, Color.PINK, Color.CYAN};
+      String[] newColors = {"0xffa500ff", "0x800080ff", "0xffc0cbff", "0x00ffffff"};
       ludoGameBoard.setColors(newColors);
       assertArrayEquals(newColors, ludoGameBoard.getColors());
     }
@@ -195,6 +194,138 @@ class LudoGameBoardTest {
         }
       }
     }
+
+    @Test
+    @DisplayName("Test a very large board has one tile in every cell and complete routes")
+    void testVeryLargeBoard() {
+      int size = 101;
+      ludoGameBoard.setBoardSize(size);
+      assertEquals(size * size, ludoGameBoard.getTileCount());
+
+      boolean[][] covered = new boolean[size][size];
+      for (Tile tile : ludoGameBoard.getTiles()) {
+        int[] coordinates = tile.getCoordinates();
+        assertFalse(covered[coordinates[0]][coordinates[1]],
+            "Two tiles at " + coordinates[0] + ", " + coordinates[1]);
+        covered[coordinates[0]][coordinates[1]] = true;
+      }
+      for (int seat = 0; seat < 4; seat++) {
+        int[] route = ludoGameBoard.getPlayerRoute(seat);
+        assertEquals(ludoGameBoard.getPlayerFinishIndexes()[seat], route[route.length - 1]);
+        assertEquals(ludoGameBoard.getTotalTrackTileCount() + ludoGameBoard.getStartAreaSize() - 1,
+            route.length);
+      }
+    }
+
+    @Test
+    @DisplayName("Test getTileAt finds every tile by its coordinates")
+    void testGetTileAt() {
+      for (Tile tile : ludoGameBoard.getTileView()) {
+        assertSame(tile, ludoGameBoard.getTileAt(tile.getCoordinates()[0],
+            tile.getCoordinates()[1]));
+      }
+      int size = ludoGameBoard.getBoardSize();
+      assertNull(ludoGameBoard.getTileAt(size, 0));
+      assertNull(ludoGameBoard.getTileAt(-1, 0));
+
+      LudoTile tile = (LudoTile) ludoGameBoard.getTile(1);
+      LudoTile movedTile = new LudoTile(1, new int[]{size + 1, size + 1}, tile.getNextTileId(),
+          tile.getType());
+      ludoGameBoard.addTile(movedTile);
+      assertSame(movedTile, ludoGameBoard.getTileAt(size + 1, size + 1));
+      assertNull(ludoGameBoard.getTileAt(tile.getCoordinates()[0], tile.getCoordinates()[1]));
+    }
+
+    @Test
+    @DisplayName("Test getTileView is a read-only view of all tiles")
+    void testGetTileView() {
+      assertEquals(ludoGameBoard.getTileCount(), ludoGameBoard.getTileView().size());
+      assertTrue(ludoGameBoard.getTileView().containsAll(ludoGameBoard.getTiles()));
+      assertThrows(UnsupportedOperationException.class,
+          () -> ludoGameBoard.getTileView().clear());
+    }
+
+    @Test
+    @DisplayName("Test copy creates an independent board with the same tiles and indexes")
+    void testCopy() {
+      LudoGameBoard copy = ludoGameBoard.copy();
+      assertEquals(boardName, copy.getName());
+      assertEquals(defaultBackground, copy.getBackground());
+      assertArrayEquals(defaultColors, copy.getColors());
+      assertEquals(defaultBoardSize, copy.getBoardSize());
+      assertArrayEquals(ludoGameBoard.getPlayerStartIndexes(), copy.getPlayerStartIndexes());
+      assertArrayEquals(ludoGameBoard.getPlayerFinishIndexes(), copy.getPlayerFinishIndexes());
+      assertEquals(ludoGameBoard.getStartAreaSize(), copy.getStartAreaSize());
+      assertArrayEquals(ludoGameBoard.getPlayerRoute(2), copy.getPlayerRoute(2));
+      for (Tile tile : ludoGameBoard.getTileView()) {
+        LudoTile copiedTile = (LudoTile) copy.getTileAt(tile.getCoordinates()[0],
+            tile.getCoordinates()[1]);
+        assertNotSame(tile, copiedTile);
+        assertEquals(tile.getTileId(), copiedTile.getTileId());
+        assertEquals(tile.getNextTileId(), copiedTile.getNextTileId());
+        assertEquals(((LudoTile) tile).getType(), copiedTile.getType());
+      }
+
+      ((LudoTile) copy.getTile(1)).setType("finish");
+      copy.getPlayerStartIndexes()[0] = 0;
+      assertNotEquals("finish", ((LudoTile) ludoGameBoard.getTile(1)).getType());
+      assertNotEquals(0, ludoGameBoard.getPlayerStartIndexes()[0]);
+    }
+  }
+
+  @Nested
+  @DisplayName("Player Routes")
+  class PlayerRouteTests {
+
+    @Test
+    @DisplayName("Test routes go from the track start to the finish tile")
+    void testRouteEnds() {
+      for (int seat = 0; seat < 4; seat++) {
+        int[] route = ludoGameBoard.getPlayerRoute(seat);
+        assertEquals(ludoGameBoard.getPlayerTrackStartIndexes()[seat], route[0]);
+        assertEquals(ludoGameBoard.getPlayerFinishIndexes()[seat], route[route.length - 1]);
+        assertEquals(ludoGameBoard.getTotalTrackTileCount() + ludoGameBoard.getStartAreaSize() - 1,
+            route.length, "A route is one lap except the tile before the track start, the "
+                + "finish track and the finish tile");
+      }
+    }
+
+    @Test
+    @DisplayName("Test each step of a route follows the tile connections")
+    void testRouteFollowsTileConnections() {
+      for (int seat = 0; seat < 4; seat++) {
+        int[] route = ludoGameBoard.getPlayerRoute(seat);
+        for (int position = 0; position < route.length - 1; position++) {
+          int nextTileId = ludoGameBoard.getTile(route[position]).getNextTileId();
+          if (ludoGameBoard.getTile(nextTileId).getNextTileId()
+              == ludoGameBoard.getPlayerTrackStartIndexes()[seat]) {
+            nextTileId = ludoGameBoard.getPlayerFinishStartIndexes()[seat];
+          }
+          assertEquals(nextTileId, route[position + 1]);
+          assertEquals(position, ludoGameBoard.getPlayerRoutePosition(seat, route[position]));
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("Test tiles outside a route have no route position")
+    void testTilesOutsideRoute() {
+      int startTileId = ludoGameBoard.getPlayerStartIndexes()[0];
+      assertEquals(-1, ludoGameBoard.getPlayerRoutePosition(0, startTileId));
+      assertEquals(-1, ludoGameBoard.getPlayerRoutePosition(0,
+          ludoGameBoard.getPlayerFinishStartIndexes()[1]));
+      assertEquals(-1, ludoGameBoard.getPlayerRoutePosition(0, -5));
+    }
+
+    @Test
+    @DisplayName("Test routes are recreated when the board size changes")
+    void testRoutesRecreated() {
+      int routeLength = ludoGameBoard.getPlayerRoute(0).length;
+      ludoGameBoard.setBoardSize(21);
+      assertTrue(ludoGameBoard.getPlayerRoute(0).length > routeLength);
+      assertEquals(ludoGameBoard.getPlayerFinishIndexes()[0],
+          ludoGameBoard.getPlayerRoute(0)[ludoGameBoard.getPlayerRoute(0).length - 1]);
+    }
   }
 
   @Nested
@@ -273,7 +404,7 @@ class LudoGameBoardTest {
     @Test
     @DisplayName("Test constructor with too few colors")
     void testConstructorTooFewColors() {
-      Color[] fewColors = {Color.RED, Color.GREEN};
+      String[] fewColors = {"0xff0000ff", "0x008000ff"};
       assertThrows(IllegalArgumentException.class, () ->
           new LudoGameBoard(boardName, boardDescription, defaultBackground, defaultBoardSize, fewColors)
       );
@@ -282,7 +413,7 @@ class LudoGameBoardTest {
     @Test
     @DisplayName("Test constructor with too many colors")
     void testConstructorTooManyColors() {
-      Color[] manyColors = {Color.RED, Color.GREEN, Color.YELLOW, Color.BLUE, Color.ORANGE};
+      String[] manyColors = {"0xff0000ff", "0x008000ff", "0xffff00ff", "0x0000ffff", "0xffa500ff"};
       assertThrows(IllegalArgumentException.class, () ->
           new LudoGameBoard(boardName, boardDescription, defaultBackground, defaultBoardSize, manyColors)
       );
@@ -291,7 +422,7 @@ class LudoGameBoardTest {
     @Test
     @DisplayName("Test constructor with null color in colors array")
     void testConstructorNullInColors() {
-      Color[] colorsWithNull = {Color.RED, null, Color.YELLOW, Color.BLUE};
+      String[] colorsWithNull = {"0xff0000ff", null, "0xffff00ff", "0x0000ffff"};
       assertThrows(IllegalArgumentException.class, () ->
           new LudoGameBoard(boardName, boardDescription, defaultBackground, defaultBoardSize, colorsWithNull)
       );
@@ -306,24 +437,33 @@ class LudoGameBoardTest {
     @Test
     @DisplayName("Test setColors with too few colors")
     void testSetColorsTooFew() {
-      Color[] fewColors = {Color.RED};
+      String[] fewColors = {"0xff0000ff"};
       assertThrows(IllegalArgumentException.class, () -> ludoGameBoard.setColors(fewColors));
     }
 
     @Test
     @DisplayName("Test setColors with too many colors")
     void testSetColorsTooMany() {
-      Color[] manyColors = {Color.RED, Color.GREEN, Color.BLUE, Color.YELLOW, Color.PURPLE};
+      String[] manyColors = {"0xff0000ff", "0x008000ff", "0x0000ffff", "0xffff00ff", "0x800080ff"};
       assertThrows(IllegalArgumentException.class, () -> ludoGameBoard.setColors(manyColors));
     }
 
     @Test
     @DisplayName("Test setColors with null element in array")
     void testSetColorsNullElement() {
-      Color[] colorsWithNull = {Color.RED, Color.GREEN, null, Color.BLUE};
+      String[] colorsWithNull = {"0xff0000ff", "0x008000ff", null, "0x0000ffff"};
       assertThrows(IllegalArgumentException.class, () -> ludoGameBoard.setColors(colorsWithNull));
     }
 
+    @Test
+    @DisplayName("Test setColors with invalid color hex strings")
+    void testSetColorsInvalidHex() {
+      String[] namedColors = {"red", "0x008000ff", "0x0000ffff", "0xffff00ff"};
+      assertThrows(IllegalArgumentException.class, () -> ludoGameBoard.setColors(namedColors));
+      String[] shortColors = {"#12345", "0x008000ff", "0x0000ffff", "0xffff00ff"};
+      assertThrows(IllegalArgumentException.class, () -> ludoGameBoard.setColors(shortColors));
+    }
+
     @Test
     @DisplayName("Test setBoardSize with invalid size (too small)")
     void testSetBoardSizeInvalidSmall() {
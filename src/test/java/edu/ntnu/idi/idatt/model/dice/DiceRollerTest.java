@@ -0,0 +1,94 @@
+package edu.ntnu.idi.idatt.model.dice;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiceRollerTest {
+
+  @Nested
+  @DisplayName("Positive Tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("Test faces are uniform between 1 and 6")
+    void testFacesAreUniform() {
+      DiceRoller roller = new DiceRoller(new RandomProvider(11).getGenerator());
+      int[] faces = new int[600_000];
+      roller.rollFaces(faces);
+
+      int[] counts = new int[7];
+      for (int face : faces) {
+        assertTrue(face >= 1 && face <= 6);
+        counts[face]++;
+      }
+      for (int face = 1; face <= 6; face++) {
+        assertEquals(100_000, counts[face], 1_500, "Count of face " + face);
+      }
+    }
+
+    @Test
+    @DisplayName("Test totals follow the distribution of the dice")
+    void testTotalsFollowDistribution() {
+      DiceRoller roller = new DiceRoller(new RandomProvider(12).getGenerator());
+      int[] totals = new int[360_000];
+      roller.rollTotals(2, totals);
+
+      double[] distribution = new Dice(2).getTotalValueDistribution();
+      int[] counts = new int[distribution.length];
+      for (int total : totals) {
+        counts[total]++;
+      }
+      assertEquals(0, counts[0] + counts[1]);
+      for (int total = 2; total <= 12; total++) {
+        assertEquals(distribution[total] * totals.length, counts[total], 1_200,
+            "Count of total " + total);
+      }
+    }
+
+    @Test
+    @DisplayName("Test filling a range leaves the rest of the array unchanged")
+    void testFillRange() {
+      Dice dice = new Dice(3, new RandomProvider(13));
+      int[] totals = new int[10];
+      dice.rollTotals(totals, 2, 5);
+
+      assertEquals(0, totals[0] + totals[1] + totals[7] + totals[8] + totals[9]);
+      for (int i = 2; i < 7; i++) {
+        assertTrue(totals[i] >= 3 && totals[i] <= 18);
+      }
+    }
+
+    @Test
+    @DisplayName("Test rolls are reproducible from the seed, across calls")
+    void testReproducible() {
+      DiceRoller first = new DiceRoller(new RandomProvider(14).getGenerator());
+      DiceRoller second = new DiceRoller(new RandomProvider(14).getGenerator());
+      int[] once = new int[100];
+      int[] inParts = new int[100];
+
+      first.rollTotals(2, once);
+      second.rollTotals(2, inParts, 0, 37);
+      second.rollTotals(2, inParts, 37, 63);
+
+      assertArrayEquals(once, inParts);
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test invalid dice count and ranges")
+    void testInvalidArguments() {
+      DiceRoller roller = new DiceRoller(new RandomProvider(15).getGenerator());
+      assertThrows(IllegalArgumentException.class, () -> roller.rollTotals(0, new int[4]));
+      assertThrows(IllegalArgumentException.class, () -> roller.rollTotals(1, null));
+      assertThrows(IllegalArgumentException.class, () -> roller.rollFaces(new int[4], 2, 3));
+      assertThrows(IllegalArgumentException.class, () -> roller.rollFaces(new int[4], -1, 1));
+    }
+  }
+}
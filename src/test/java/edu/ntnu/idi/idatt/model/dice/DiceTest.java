@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.IntStream;
 
@@ -115,6 +116,17 @@ class DiceTest {
       assertEquals(val2, dice2.getDieValue(2));
     }
     
+    @Test
+    @DisplayName("Test getDieValues returns the value of every die")
+    void testGetDieValues() {
+      dice5.rollDice();
+      int[] values = dice5.getDieValues();
+      assertEquals(5, values.length);
+      for (int i = 0; i < values.length; i++) {
+        assertEquals(dice5.getDieValue(i + 1), values[i]);
+      }
+    }
+    
     @Test
     @DisplayName("Test getTotalValue is sum of individual dice after roll")
     void testGetTotalValue() {
@@ -135,8 +147,20 @@ class DiceTest {
       assertEquals(2, dice2.getNumberOfDice());
       assertEquals(5, dice5.getNumberOfDice());
     }
+
+    @Test
+    @DisplayName("Test getTotalValueDistribution for a pair of dice")
+    void testGetTotalValueDistribution() {
+      double[] distribution = dice2.getTotalValueDistribution();
+      assertEquals(13, distribution.length);
+      assertEquals(0.0, distribution[1]);
+      assertEquals(1.0 / 36, distribution[2], 1e-12);
+      assertEquals(6.0 / 36, distribution[7], 1e-12);
+      assertEquals(1.0 / 36, distribution[12], 1e-12);
+      assertEquals(1.0, Arrays.stream(dice5.getTotalValueDistribution()).sum(), 1e-12);
+    }
   }
-  
+
   @Nested
   @DisplayName("Negative Tests")
   class NegativeTests {
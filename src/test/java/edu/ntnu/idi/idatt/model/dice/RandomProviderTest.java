@@ -0,0 +1,69 @@
+package edu.ntnu.idi.idatt.model.dice;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomProviderTest {
+
+  private static int[] roll(Dice dice, int rolls) {
+    int[] values = new int[rolls];
+    for (int i = 0; i < rolls; i++) {
+      dice.rollDice();
+      values[i] = dice.getTotalValue();
+    }
+    return values;
+  }
+
+  @Nested
+  @DisplayName("Seeding")
+  class SeedingTests {
+
+    @Test
+    @DisplayName("Test dice with the same seed roll the same values")
+    void testSameSeedSameRolls() {
+      Dice first = new Dice(3, new RandomProvider(1234));
+      Dice second = new Dice(3, new RandomProvider(1234));
+
+      assertArrayEquals(roll(first, 200), roll(second, 200));
+      assertEquals(1234, first.getRandomProvider().getSeed());
+    }
+
+    @Test
+    @DisplayName("Test dice with different seeds roll different values")
+    void testDifferentSeedsDifferentRolls() {
+      assertFalse(Arrays.equals(roll(new Dice(2, new RandomProvider(1)), 200),
+          roll(new Dice(2, new RandomProvider(2)), 200)));
+    }
+  }
+
+  @Nested
+  @DisplayName("Deriving")
+  class DerivingTests {
+
+    @Test
+    @DisplayName("Test derived providers depend only on the seed and index")
+    void testDeriveIsDeterministic() {
+      RandomProvider provider = new RandomProvider(99);
+      long firstSeed = provider.derive(7).getSeed();
+      provider.getGenerator().nextLong();
+
+      assertEquals(firstSeed, provider.derive(7).getSeed());
+      assertEquals(firstSeed, new RandomProvider(99).derive(7).getSeed());
+      assertNotEquals(firstSeed, provider.derive(8).getSeed());
+      assertNotEquals(provider.getSeed(), provider.derive(0).getSeed());
+    }
+
+    @Test
+    @DisplayName("Test dice values stay between 1 and 6")
+    void testDieValuesInRange() {
+      Dice dice = new Dice(1, new RandomProvider(5).derive(3));
+      for (int value : roll(dice, 1_000)) {
+        assertTrue(value >= 1 && value <= 6);
+      }
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package edu.ntnu.idi.idatt.model.game;
+
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.player.LadderGamePlayer;
+import edu.ntnu.idi.idatt.model.player.LudoPlayer;
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.player.PlayerTokenType;
+import edu.ntnu.idi.idatt.model.tile.LadderAction;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHistoryTest {
+
+  private static LudoBoardGame createLudoGame() {
+    LudoGameBoard board = new LudoGameBoard("Ludo", "Board for history tests", "background.png",
+        11, new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+    List<Player> players = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      players.add(new LudoPlayer("Player " + i, "#FF0000", PlayerTokenType.CIRCLE, true));
+    }
+    return new LudoBoardGame(board, players, 1, 42L);
+  }
+
+  private static LadderBoardGame createLadderGame() {
+    LadderGameBoard board = new LadderGameBoard("Ladder", "Board for history tests",
+        new int[]{10, 10}, "background.png", "None");
+    ((LadderGameTile) board.getTile(4)).setLandAction(
+        new LadderAction("1R_3U_ladder", 38, "Ladder to tile 38"));
+    List<Player> players = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      players.add(new LadderGamePlayer("Player " + i, "#FF0000", PlayerTokenType.CIRCLE, true));
+    }
+    return new LadderBoardGame(board, players, 2, 42L);
+  }
+
+  /**
+   * Plays turns with random rolls and returns the packed state before the first and after every
+   * turn.
+   */
+  private static List<int[]> playTurns(BoardGame game, int maxTurns) {
+    List<int[]> states = new ArrayList<>();
+    states.add(game.getPackedState());
+    while (game.getWinner() == null && states.size() <= maxTurns) {
+      game.getDice().rollDice();
+      game.performPlayerTurn(game.getDice().getTotalValue());
+      states.add(game.getPackedState());
+    }
+    return states;
+  }
+
+  @Nested
+  @DisplayName("Positive Tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("Test undoing every turn of a Ludo game and redoing them")
+    void testUndoRedoLudoGame() {
+      LudoBoardGame game = createLudoGame();
+      GameHistory history = new GameHistory(game);
+      List<int[]> states = playTurns(game, 300);
+      assertEquals(states.size() - 1, history.getTurnCount());
+
+      for (int turn = states.size() - 2; turn >= 0; turn--) {
+        assertTrue(history.undo());
+        assertEquals(turn, history.getCurrentTurn());
+        assertArrayEquals(states.get(turn), game.getPackedState(), "State differs at turn " + turn);
+      }
+      assertFalse(history.undo());
+
+      for (int turn = 1; turn < states.size(); turn++) {
+        assertTrue(history.redo());
+        assertArrayEquals(states.get(turn), game.getPackedState(), "State differs at turn " + turn);
+      }
+      assertFalse(history.redo());
+    }
+
+    @Test
+    @DisplayName("Test snapshots and going to turns of a ladder game")
+    void testSnapshotsLadderGame() {
+      LadderBoardGame game = createLadderGame();
+      GameHistory history = new GameHistory(game);
+      List<int[]> states = playTurns(game, 100);
+
+      for (int turn = 0; turn < states.size(); turn++) {
+        GameSnapshot snapshot = history.getSnapshot(turn);
+        assertEquals(turn, snapshot.turn());
+        assertArrayEquals(states.get(turn), snapshot.state(), "State differs at turn " + turn);
+      }
+
+      int middle = states.size() / 2;
+      history.goToTurn(middle);
+      assertArrayEquals(states.get(middle), game.getPackedState());
+      assertArrayEquals(states.get(middle), history.getCurrentSnapshot().state());
+      assertTrue(history.canUndo());
+      assertTrue(history.canRedo());
+      history.goToTurn(states.size() - 1);
+      assertArrayEquals(states.getLast(), game.getPackedState());
+    }
+
+    @Test
+    @DisplayName("Test a new turn after an undo discards the undone turns")
+    void testNewTurnAfterUndo() {
+      LudoBoardGame game = createLudoGame();
+      GameHistory history = new GameHistory(game);
+      List<int[]> states = playTurns(game, 80);
+      history.goToTurn(40);
+
+      List<int[]> branch = playTurns(game, 10);
+      assertEquals(50, history.getTurnCount());
+      assertFalse(history.canRedo());
+      for (int turn = 0; turn <= 40; turn++) {
+        assertArrayEquals(states.get(turn), history.getSnapshot(turn).state());
+      }
+      for (int turn = 0; turn < branch.size(); turn++) {
+        assertArrayEquals(branch.get(turn), history.getSnapshot(40 + turn).state());
+      }
+    }
+
+    @Test
+    @DisplayName("Test snapshots are not changed by later turns or by their callers")
+    void testSnapshotsAreImmutable() {
+      LudoBoardGame game = createLudoGame();
+      GameHistory history = new GameHistory(game);
+      GameSnapshot snapshot = history.getCurrentSnapshot();
+      int[] initialState = game.getPackedState();
+
+      snapshot.state()[0] = -1;
+      playTurns(game, 20);
+      assertArrayEquals(initialState, snapshot.state());
+    }
+
+    @Test
+    @DisplayName("Test snapshots with the same turn and state contents are equal")
+    void testSnapshotEquality() {
+      LudoBoardGame game = createLudoGame();
+      GameHistory history = new GameHistory(game);
+      playTurns(game, 10);
+      GameSnapshot snapshot = history.getSnapshot(5);
+      GameSnapshot sameSnapshot = new GameSnapshot(5, snapshot.state());
+
+      assertEquals(snapshot, sameSnapshot);
+      assertEquals(snapshot.hashCode(), sameSnapshot.hashCode());
+      assertEquals(snapshot.toString(), sameSnapshot.toString());
+      assertTrue(snapshot.toString().contains(Arrays.toString(snapshot.state())));
+      assertNotEquals(snapshot, new GameSnapshot(6, snapshot.state()));
+      assertNotEquals(snapshot, history.getSnapshot(6));
+    }
+
+    @Test
+    @DisplayName("Test a closed history records no more turns")
+    void testClose() {
+      LadderBoardGame game = createLadderGame();
+      GameHistory history = new GameHistory(game);
+      playTurns(game, 5);
+      history.close();
+      playTurns(game, 5);
+      assertEquals(5, history.getTurnCount());
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test going to a turn outside the history")
+    void testInvalidTurn() {
+      GameHistory history = new GameHistory(createLadderGame());
+      assertFalse(history.undo());
+      assertFalse(history.redo());
+      assertThrows(IllegalArgumentException.class, () -> history.goToTurn(-1));
+      assertThrows(IllegalArgumentException.class, () -> history.goToTurn(1));
+      assertThrows(IllegalArgumentException.class, () -> history.getSnapshot(1));
+    }
+  }
+}
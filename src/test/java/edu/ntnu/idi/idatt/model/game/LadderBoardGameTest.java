@@ -8,11 +8,13 @@ import edu.ntnu.idi.idatt.model.player.PlayerTokenType;
 import edu.ntnu.idi.idatt.model.tile.LadderAction;
 import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
 import edu.ntnu.idi.idatt.observer.BoardGameObserver;
+import edu.ntnu.idi.idatt.observer.GameEvent;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.util.ArrayList;
@@ -250,8 +252,111 @@ class LadderBoardGameTest {
       
       verify(mockObserver).onGameFinished(player1);
     }
+
+    @Test
+    @DisplayName("Test headless event bus subscribers and removed observers")
+    void testEventBusSubscribersAndRemovedObservers() {
+      LadderGameController mockObserver = Mockito.mock(LadderGameController.class);
+      game.addObserver(mockObserver);
+      game.removeObserver(mockObserver);
+      List<Integer> movedTo = new ArrayList<>();
+      game.getEventBus().subscribe(GameEvent.PlayerMoved.class,
+          event -> movedTo.add(event.newTileId()));
+
+      player1.placeOnTile(tile0);
+      game.setCurrentPlayer(player1);
+      LadderGameTile tile5 = Mockito.mock(LadderGameTile.class);
+      when(tile5.getTileId()).thenReturn(5);
+      when(mockBoard.getTile(5)).thenReturn(tile5);
+
+      game.movePlayer(5);
+
+      assertEquals(List.of(5), movedTo);
+      verifyNoInteractions(mockObserver);
+    }
   }
   
+  @Nested
+  @DisplayName("Compiled Board")
+  class CompiledBoardTests {
+    private LadderGameBoard board;
+    private LadderBoardGame compiledGame;
+
+    @BeforeEach
+    void setUpCompiledGame() {
+      board = new LadderGameBoard("Board", "Real board", new int[]{10, 10}, "background.png",
+          "None");
+      ((LadderGameTile) board.getTile(8)).setLandAction(
+          new LadderAction("1R_3U_ladder", 40, "Ladder to tile 40"));
+      compiledGame = new LadderBoardGame(board, players, defaultDiceCount);
+    }
+
+    @Test
+    @DisplayName("Test performPlayerTurn follows the tile action and notifies in order")
+    void testPerformPlayerTurnWithTileAction() {
+      LadderGameController mockController = Mockito.mock(LadderGameController.class);
+      compiledGame.addObserver(mockController);
+
+      compiledGame.performPlayerTurn(8);
+
+      assertEquals(40, player1.getCurrentTile().getTileId());
+      InOrder inOrder = inOrder(mockController);
+      inOrder.verify(mockController).onPlayerMoved(player1, 8, 8);
+      inOrder.verify(mockController).onTileActionPerformed(eq(player1), any(LadderAction.class));
+      assertEquals(player2, compiledGame.getCurrentPlayer());
+    }
+
+    @Test
+    @DisplayName("Test performPlayerTurn bounces back from the last tile")
+    void testPerformPlayerTurnBounce() {
+      player1.placeOnTile(board.getTile(98));
+
+      compiledGame.performPlayerTurn(5);
+
+      assertEquals(97, player1.getCurrentTile().getTileId());
+    }
+
+    @Test
+    @DisplayName("Test performPlayerTurn on the last tile finishes the game")
+    void testPerformPlayerTurnWins() {
+      LadderGameController mockController = Mockito.mock(LadderGameController.class);
+      compiledGame.addObserver(mockController);
+      player1.placeOnTile(board.getTile(97));
+
+      compiledGame.performPlayerTurn(3);
+
+      verify(mockController).onGameFinished(player1);
+    }
+
+    @Test
+    @DisplayName("Test fastForward plays rounds without notifying observers")
+    void testFastForward() {
+      LadderGameController mockController = Mockito.mock(LadderGameController.class);
+      compiledGame.addObserver(mockController);
+      List<Integer> turnRolls = new ArrayList<>();
+      compiledGame.getEventBus().subscribe(GameEvent.TurnCompleted.class,
+          event -> turnRolls.add(event.diceRoll()));
+
+      assertEquals(6, compiledGame.fastForward(3));
+
+      assertEquals(4, compiledGame.getRoundNumber());
+      assertEquals(6, turnRolls.size());
+      verifyNoInteractions(mockController);
+      compiledGame.performPlayerTurn(1);
+      verify(mockController).onCurrentPlayerChanged(player2);
+    }
+
+    @Test
+    @DisplayName("Test fastForward stops when a player wins")
+    void testFastForwardUntilWinner() {
+      int turns = compiledGame.fastForward(1_000);
+
+      assertNotNull(compiledGame.getWinner());
+      assertTrue(turns < 2_000);
+      assertThrows(IllegalArgumentException.class, () -> compiledGame.fastForward(0));
+    }
+  }
+
   @Nested
   @DisplayName("Round Handling")
   class RoundHandlingTests {
@@ -0,0 +1,119 @@
+package edu.ntnu.idi.idatt.model.state;
+
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.game.LudoBoardGame;
+import edu.ntnu.idi.idatt.model.player.LudoPlayer;
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.player.PlayerTokenType;
+import edu.ntnu.idi.idatt.model.token.LudoToken;
+import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LudoOccupancyIndexTest {
+
+  private LudoOccupancyIndex index;
+
+  @BeforeEach
+  void setUp() {
+    index = new LudoOccupancyIndex(2);
+  }
+
+  @Nested
+  @DisplayName("Positive Tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("Test token bits and player masks")
+    void testTokenBitsAndPlayerMasks() {
+      assertEquals(1, LudoOccupancyIndex.tokenBit(0, 0));
+      assertEquals(1 << 6, LudoOccupancyIndex.tokenBit(1, 2));
+      assertEquals(0x0F, LudoOccupancyIndex.playerMask(0));
+      assertEquals(0xF0, LudoOccupancyIndex.playerMask(1));
+    }
+
+    @Test
+    @DisplayName("Test moving tokens between tiles")
+    void testMoveToken() {
+      int first = LudoOccupancyIndex.tokenBit(0, 0);
+      int second = LudoOccupancyIndex.tokenBit(1, 3);
+      index.moveToken(first, -1, 5);
+      index.moveToken(second, -1, 5);
+      assertEquals(first | second, index.getTokenMask(5));
+
+      index.moveToken(first, 5, 200);
+      assertEquals(second, index.getTokenMask(5));
+      assertEquals(first, index.getTokenMask(200));
+
+      index.moveToken(second, 5, -1);
+      assertEquals(0, index.getTokenMask(5));
+      assertEquals(0, index.getTokenMask(-1));
+      assertEquals(0, index.getTokenMask(1000));
+    }
+
+    @Test
+    @DisplayName("Test finished counters and clear")
+    void testFinishedCountersAndClear() {
+      index.updateFinishedCount(1, true);
+      index.updateFinishedCount(1, true);
+      index.updateFinishedCount(1, false);
+      index.moveToken(LudoOccupancyIndex.tokenBit(0, 1), -1, 3);
+      assertEquals(0, index.getFinishedCount(0));
+      assertEquals(1, index.getFinishedCount(1));
+
+      index.clear();
+      assertEquals(0, index.getFinishedCount(1));
+      assertEquals(0, index.getTokenMask(3));
+    }
+  }
+
+  @Nested
+  @DisplayName("Game Integration")
+  class GameIntegrationTests {
+
+    private LudoBoardGame game;
+    private LudoGameBoard board;
+
+    @BeforeEach
+    void setUp() {
+      board = new LudoGameBoard("Ludo", "Board for occupancy tests", "background.png", 11,
+          new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+      List<Player> players = new ArrayList<>();
+      players.add(new LudoPlayer("Player 1", "#FF0000", PlayerTokenType.CIRCLE, true));
+      players.add(new LudoPlayer("Player 2", "#0000FF", PlayerTokenType.CIRCLE, true));
+      game = new LudoBoardGame(board, players, 1);
+    }
+
+    @Test
+    @DisplayName("Test the index follows direct token changes")
+    void testIndexFollowsTokenChanges() {
+      LudoPlayer opponent = (LudoPlayer) game.getPlayers().get(1);
+      LudoToken token = opponent.getTokens().get(2);
+      int trackStart = board.getPlayerTrackStartIndexes()[0];
+      token.setCurrentTile(board.getTile(trackStart));
+      token.setStatus(TokenStatus.RELEASED);
+
+      game.performPlayerTurn(6);
+
+      assertEquals(TokenStatus.NOT_RELEASED, token.getStatus());
+      assertEquals(board.getPlayerStartIndexes()[1], token.getCurrentTile().getTileId());
+    }
+
+    @Test
+    @DisplayName("Test the winner follows finished counters")
+    void testWinnerFollowsFinishedCounters() {
+      LudoPlayer opponent = (LudoPlayer) game.getPlayers().get(1);
+      opponent.getTokens().forEach(token -> token.setStatus(TokenStatus.FINISHED));
+      assertSame(opponent, game.getWinner());
+
+      opponent.getTokens().getFirst().setStatus(TokenStatus.RELEASED);
+      assertNull(game.getWinner());
+    }
+  }
+}
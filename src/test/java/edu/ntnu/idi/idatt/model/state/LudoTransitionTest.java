@@ -0,0 +1,292 @@
+package edu.ntnu.idi.idatt.model.state;
+
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.game.LudoBoardGame;
+import edu.ntnu.idi.idatt.model.player.LudoPlayer;
+import edu.ntnu.idi.idatt.model.player.Player;
+import edu.ntnu.idi.idatt.model.player.PlayerTokenType;
+import edu.ntnu.idi.idatt.model.strategy.GreedyMoveStrategy;
+import edu.ntnu.idi.idatt.model.strategy.LudoMoveStrategy;
+import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LudoTransitionTest {
+
+  private LudoGameBoard board;
+
+  @BeforeEach
+  void setUp() {
+    board = new LudoGameBoard("Ludo", "Board for transition tests", "background.png", 11,
+        new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+  }
+
+  private LudoBoardGame createGame(int playerCount) {
+    List<Player> players = new ArrayList<>();
+    for (int i = 0; i < playerCount; i++) {
+      players.add(new LudoPlayer("Player " + i, "#FF0000", PlayerTokenType.CIRCLE, true));
+    }
+    return new LudoBoardGame(board, players, 1);
+  }
+
+  @Nested
+  @DisplayName("Transition")
+  class TransitionTests {
+
+    @Test
+    @DisplayName("Test initial state matches a new game")
+    void testInitialState() {
+      LudoBoardGame game = createGame(4);
+      LudoTransition transition = new LudoTransition(board, 4);
+
+      assertArrayEquals(game.getPackedState(), transition.createInitialState());
+    }
+
+    @Test
+    @DisplayName("Test transition matches performPlayerTurn for whole games")
+    void testTransitionMatchesGame() {
+      for (int playerCount = 2; playerCount <= 4; playerCount++) {
+        playGameWithTransition(playerCount);
+      }
+    }
+
+    private void playGameWithTransition(int playerCount) {
+      Random random = new Random(playerCount);
+      LudoBoardGame game = createGame(playerCount);
+      LudoTransition transition = new LudoTransition(board, playerCount);
+      int[] state = transition.createInitialState();
+      int[] nextState = LudoGameState.create();
+
+      int turns = 0;
+      while (game.getWinner() == null && turns < 20_000) {
+        int diceRoll = random.nextInt(1, 7);
+        game.performPlayerTurn(diceRoll);
+        transition.apply(state, nextState, diceRoll);
+        int[] swap = state;
+        state = nextState;
+        nextState = swap;
+        assertArrayEquals(game.getPackedState(), state, "State differs after turn " + turns);
+        turns++;
+      }
+      assertNotNull(game.getWinner(), "The game should finish");
+      assertEquals(game.getPlayers().indexOf(game.getWinner()), transition.getWinner(state));
+    }
+
+    @Test
+    @DisplayName("Test transition matches a game where players choose moves with a strategy")
+    void testTransitionMatchesGameWithStrategies() {
+      Random random = new Random(5);
+      LudoBoardGame game = createGame(3);
+      game.getPlayers().forEach(player ->
+          ((LudoPlayer) player).setMoveStrategy(new GreedyMoveStrategy()));
+      LudoTransition transition = new LudoTransition(board, 3);
+      LudoMoveStrategy strategy = new GreedyMoveStrategy();
+      int[] state = transition.createInitialState();
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+
+      int turns = 0;
+      while (game.getWinner() == null && turns < 20_000) {
+        int diceRoll = random.nextInt(1, 7);
+        game.performPlayerTurn(diceRoll);
+        int moveCount = transition.getLegalMoves(state, diceRoll, moves);
+        int move = moveCount < 2 ? (moveCount == 0 ? -1 : moves[0])
+            : strategy.chooseMove(transition, state, diceRoll, moves, moveCount);
+        transition.apply(state, diceRoll, move);
+        assertArrayEquals(game.getPackedState(), state, "State differs after turn " + turns);
+        turns++;
+      }
+      assertNotNull(game.getWinner(), "The game should finish");
+    }
+
+    @Test
+    @DisplayName("Test fast-forwarded turns are chosen greedily instead of by the strategies")
+    void testFastForwardUsesGreedyStrategy() {
+      List<Player> players = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        LudoPlayer player = new LudoPlayer("Player " + i, "#FF0000", PlayerTokenType.CIRCLE, true);
+        player.setMoveStrategy((transition, state, diceRoll, legalMoves, legalMoveCount) -> {
+          throw new AssertionError("The strategy of the player should not be consulted");
+        });
+        players.add(player);
+      }
+      LudoBoardGame game = new LudoBoardGame(board, players, 1, 5L);
+
+      game.fastForward(1_000);
+
+      assertNotNull(game.getWinner(), "The game should finish");
+    }
+
+    @Test
+    @DisplayName("Test players choosing the first legal move play like players without a strategy")
+    void testFirstLegalMoveMatchesDefault() {
+      Random random = new Random(7);
+      LudoBoardGame game = createGame(3);
+      LudoBoardGame strategyGame = createGame(3);
+      strategyGame.getPlayers().forEach(player -> ((LudoPlayer) player).setMoveStrategy(
+          (transition, state, diceRoll, legalMoves, legalMoveCount) -> legalMoves[0]));
+
+      int turns = 0;
+      while (game.getWinner() == null && turns < 20_000) {
+        int diceRoll = random.nextInt(1, 7);
+        game.performPlayerTurn(diceRoll);
+        strategyGame.performPlayerTurn(diceRoll);
+        assertArrayEquals(game.getPackedState(), strategyGame.getPackedState(),
+            "State differs after turn " + turns);
+        turns++;
+      }
+      assertNotNull(game.getWinner(), "The game should finish");
+    }
+
+    @Test
+    @DisplayName("Test a new transition is given to strategies after the board changes")
+    void testSetBoardResetsTransition() {
+      LudoBoardGame game = createGame(2);
+      List<LudoTransition> transitions = new ArrayList<>();
+      game.getPlayers().forEach(player -> ((LudoPlayer) player).setMoveStrategy(
+          (transition, state, diceRoll, legalMoves, legalMoveCount) -> {
+            transitions.add(transition);
+            return legalMoves[0];
+          }));
+      LudoPlayer player = (LudoPlayer) game.getCurrentPlayer();
+      player.getTokens().getFirst().setCurrentTile(board.getTile(board.getPlayerRoute(0)[3]));
+      player.getTokens().getFirst().setStatus(TokenStatus.RELEASED);
+
+      game.performPlayerTurn(6);
+      game.setBoard(board);
+      game.setCurrentPlayer(player);
+      game.performPlayerTurn(6);
+
+      assertEquals(2, transitions.size());
+      assertNotSame(transitions.get(0), transitions.get(1));
+    }
+
+    @Test
+    @DisplayName("Test a roll of 6 releases a token and captures an opponent")
+    void testReleaseCapturesOpponent() {
+      LudoTransition transition = new LudoTransition(board, 2);
+      int[] state = transition.createInitialState();
+      int trackStart = board.getPlayerTrackStartIndexes()[0];
+      LudoGameState.setToken(state, 1, 2, trackStart, TokenStatus.RELEASED);
+
+      transition.apply(state, 6);
+
+      assertEquals(TokenStatus.RELEASED, LudoGameState.getStatus(state, 0, 0));
+      assertEquals(trackStart, LudoGameState.getTileId(state, 0, 0));
+      assertEquals(TokenStatus.NOT_RELEASED, LudoGameState.getStatus(state, 1, 2));
+      assertEquals(board.getPlayerStartIndexes()[1], LudoGameState.getTileId(state, 1, 2));
+      assertEquals(1, LudoGameState.getCurrentSeat(state));
+      assertEquals(1, LudoGameState.getRoundNumber(state));
+    }
+
+    @Test
+    @DisplayName("Test the source state is left unchanged")
+    void testSourceIsUnchanged() {
+      LudoTransition transition = new LudoTransition(board, 2);
+      int[] state = transition.createInitialState();
+      int[] copy = LudoGameState.copy(state);
+      int[] nextState = LudoGameState.create();
+
+      transition.apply(state, nextState, 6);
+
+      assertArrayEquals(copy, state);
+      assertEquals(TokenStatus.RELEASED, LudoGameState.getStatus(nextState, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Test legal moves list released tokens before a release on a 6")
+    void testLegalMoves() {
+      LudoTransition transition = new LudoTransition(board, 2);
+      int[] state = transition.createInitialState();
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      assertEquals(0, transition.getLegalMoves(state, 5, moves));
+      assertEquals(1, transition.getLegalMoves(state, 6, moves));
+      assertEquals(0, moves[0]);
+
+      int[] route = board.getPlayerRoute(0);
+      LudoGameState.setToken(state, 0, 1, route[3], TokenStatus.RELEASED);
+      LudoGameState.setToken(state, 0, 3, route[8], TokenStatus.RELEASED);
+
+      assertEquals(2, transition.getLegalMoves(state, 4, moves));
+      assertArrayEquals(new int[]{1, 3}, Arrays.copyOf(moves, 2));
+      assertEquals(3, transition.getLegalMoves(state, 6, moves));
+      assertArrayEquals(new int[]{1, 3, 0}, Arrays.copyOf(moves, 3));
+    }
+
+    @Test
+    @DisplayName("Test applying the first legal move matches the default move")
+    void testFirstLegalMoveIsDefault() {
+      LudoTransition transition = new LudoTransition(board, 3);
+      Random random = new Random(11);
+      int[] state = transition.createInitialState();
+      int[] defaultState = transition.createInitialState();
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      for (int turn = 0; turn < 2_000 && transition.getWinner(state) < 0; turn++) {
+        int diceRoll = random.nextInt(1, 7);
+        int moveCount = transition.getLegalMoves(state, diceRoll, moves);
+        transition.apply(state, diceRoll, moveCount == 0 ? -1 : moves[0]);
+        transition.apply(defaultState, diceRoll);
+        assertArrayEquals(defaultState, state, "State differs after turn " + turn);
+      }
+    }
+
+    @Test
+    @DisplayName("Test a chosen token is moved and progress follows the route")
+    void testChosenTokenIsMoved() {
+      LudoTransition transition = new LudoTransition(board, 2);
+      int[] state = transition.createInitialState();
+      int[] route = board.getPlayerRoute(0);
+      LudoGameState.setToken(state, 0, 0, route[2], TokenStatus.RELEASED);
+      LudoGameState.setToken(state, 0, 1, route[5], TokenStatus.RELEASED);
+
+      transition.apply(state, 3, 1);
+
+      assertEquals(route[2], LudoGameState.getTileId(state, 0, 0));
+      assertEquals(route[8], LudoGameState.getTileId(state, 0, 1));
+      assertEquals(3, transition.getTokenProgress(state, 0, 0));
+      assertEquals(9, transition.getTokenProgress(state, 0, 1));
+      assertEquals(0, transition.getTokenProgress(state, 0, 2));
+      assertEquals(route.length, transition.getRouteLength(0));
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test constructor with invalid player count")
+    void testInvalidPlayerCount() {
+      assertThrows(IllegalArgumentException.class, () -> new LudoTransition(board, 1));
+      assertThrows(IllegalArgumentException.class, () -> new LudoTransition(board, 5));
+    }
+
+    @Test
+    @DisplayName("Test a strategy choosing an illegal move throws")
+    void testStrategyIllegalMove() {
+      LudoBoardGame game = createGame(2);
+      LudoPlayer player = (LudoPlayer) game.getCurrentPlayer();
+      player.getTokens().getFirst().setCurrentTile(board.getTile(board.getPlayerRoute(0)[3]));
+      player.getTokens().getFirst().setStatus(TokenStatus.RELEASED);
+      player.setMoveStrategy((transition, state, diceRoll, legalMoves, legalMoveCount) -> 3);
+
+      assertThrows(IllegalArgumentException.class, () -> game.performPlayerTurn(6));
+    }
+
+    @Test
+    @DisplayName("Test releasing a token without a 6 throws")
+    void testIllegalMove() {
+      LudoTransition transition = new LudoTransition(board, 2);
+      int[] state = transition.createInitialState();
+
+      assertThrows(IllegalArgumentException.class, () -> transition.apply(state, 5, 0));
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package edu.ntnu.idi.idatt.model.state;
+
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LudoZobristHashTest {
+
+  private LudoGameBoard board;
+  private LudoTransition transition;
+  private LudoZobristHash zobristHash;
+
+  @BeforeEach
+  void setUp() {
+    board = new LudoGameBoard("Ludo", "Board for hash tests", "background.png", 11,
+        new String[]{"0xff0000ff", "0x0000ffff", "0x008000ff", "0xffff00ff"});
+    transition = new LudoTransition(board, 4);
+    zobristHash = new LudoZobristHash(transition, 1L);
+  }
+
+  @Test
+  @DisplayName("Test equal positions hash equally whatever the round number")
+  void testEqualPositions() {
+    int[] state = transition.createInitialState();
+    int[] copy = LudoGameState.copy(state);
+    LudoGameState.setRoundNumber(copy, 7);
+
+    assertEquals(zobristHash.hash(state), zobristHash.hash(copy));
+  }
+
+  @Test
+  @DisplayName("Test moving a token or changing the current seat changes the hash")
+  void testDifferentPositions() {
+    int[] state = transition.createInitialState();
+    long initialHash = zobristHash.hash(state);
+    int[] moved = LudoGameState.copy(state);
+    LudoGameState.setToken(moved, 2, 1, board.getPlayerTrackStartIndexes()[2],
+        TokenStatus.RELEASED);
+    int[] nextSeat = LudoGameState.copy(state);
+    LudoGameState.setCurrentSeat(nextSeat, 1);
+
+    assertNotEquals(initialHash, zobristHash.hash(moved));
+    assertNotEquals(initialHash, zobristHash.hash(nextSeat));
+  }
+}
@@ -0,0 +1,141 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import edu.ntnu.idi.idatt.factory.board.LudoBoardFactory;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectiminimaxStrategyTest {
+
+  private LudoGameBoard board;
+  private LudoTransition transition;
+
+  @BeforeEach
+  void setUp() {
+    board = (LudoGameBoard) new LudoBoardFactory().createBoard("Classic");
+    transition = new LudoTransition(board, 2);
+  }
+
+  private int[] createMidGameState() {
+    int[] state = transition.createInitialState();
+    int[] route0 = board.getPlayerRoute(0);
+    int[] route1 = board.getPlayerRoute(1);
+    LudoGameState.setToken(state, 0, 0, route0[4], TokenStatus.RELEASED);
+    LudoGameState.setToken(state, 0, 1, route0[17], TokenStatus.RELEASED);
+    LudoGameState.setToken(state, 0, 2, route0[30], TokenStatus.RELEASED);
+    LudoGameState.setToken(state, 1, 0, route1[9], TokenStatus.RELEASED);
+    LudoGameState.setToken(state, 1, 1, route1[22], TokenStatus.RELEASED);
+    return state;
+  }
+
+  @Nested
+  @DisplayName("Search")
+  class SearchTests {
+
+    @Test
+    @DisplayName("Test the strategy captures an opponent token within reach")
+    void testCapturesOpponent() {
+      int[] state = transition.createInitialState();
+      int[] route0 = board.getPlayerRoute(0);
+      int target = 12;
+      while (board.getPlayerRoutePosition(1, route0[target]) < 0) {
+        target++;
+      }
+      LudoGameState.setToken(state, 0, 0, route0[2], TokenStatus.RELEASED);
+      LudoGameState.setToken(state, 0, 1, route0[target - 3], TokenStatus.RELEASED);
+      LudoGameState.setToken(state, 1, 0, route0[target], TokenStatus.RELEASED);
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      int moveCount = transition.getLegalMoves(state, 3, moves);
+
+      int move = new ExpectiminimaxStrategy(3, 1_000).chooseMove(transition, state, 3, moves,
+          moveCount);
+
+      assertEquals(1, move);
+    }
+
+    @Test
+    @DisplayName("Test the search reaches the maximum depth within its budget")
+    void testReachesMaxDepth() {
+      int[] state = createMidGameState();
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      int moveCount = transition.getLegalMoves(state, 6, moves);
+      ExpectiminimaxStrategy strategy = new ExpectiminimaxStrategy(4, 10_000);
+
+      strategy.chooseMove(transition, state, 6, moves, moveCount);
+
+      assertEquals(4, strategy.getLastSearchDepth());
+    }
+
+    @Test
+    @DisplayName("Test the search stops at its time budget after completing the first turn")
+    void testTimeBudget() {
+      int[] state = createMidGameState();
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      int moveCount = transition.getLegalMoves(state, 6, moves);
+      ExpectiminimaxStrategy strategy = new ExpectiminimaxStrategy(40, 5);
+
+      long startTime = System.nanoTime();
+      int move = strategy.chooseMove(transition, state, 6, moves, moveCount);
+      long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+      assertTrue(strategy.getLastSearchDepth() >= 1);
+      assertTrue(strategy.getLastSearchDepth() < 40);
+      assertTrue(elapsedMillis < 1_000, "The search should stop soon after its budget");
+      assertTrue(move == moves[0] || move == moves[1] || move == moves[2] || move == moves[3]);
+    }
+
+    @Test
+    @DisplayName("Test the strategy returns the same move with and without a warm table")
+    void testTranspositionTableIsConsistent() {
+      int[] state = createMidGameState();
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      int moveCount = transition.getLegalMoves(state, 6, moves);
+      ExpectiminimaxStrategy warm = new ExpectiminimaxStrategy(3, 10_000);
+
+      int first = warm.chooseMove(transition, state, 6, moves, moveCount);
+      int second = warm.chooseMove(transition, state, 6, moves, moveCount);
+      int cold = new ExpectiminimaxStrategy(3, 10_000).chooseMove(transition, state, 6, moves,
+          moveCount);
+
+      assertEquals(first, second);
+      assertEquals(first, cold);
+    }
+
+    @Test
+    @DisplayName("Test every chosen move is legal during whole games")
+    void testChosenMovesAreLegal() {
+      Random random = new Random(3);
+      ExpectiminimaxStrategy strategy = new ExpectiminimaxStrategy(2, 1_000);
+      int[] state = transition.createInitialState();
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      for (int turn = 0; turn < 5_000 && transition.getWinner(state) < 0; turn++) {
+        int diceRoll = random.nextInt(1, 7);
+        int moveCount = transition.getLegalMoves(state, diceRoll, moves);
+        int move = moveCount == 0 ? -1
+            : strategy.chooseMove(transition, state, diceRoll, moves, moveCount);
+        transition.apply(state, diceRoll, move);
+      }
+      assertTrue(transition.getWinner(state) >= 0, "The game should finish");
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test constructor with invalid depth or time budget")
+    void testInvalidArguments() {
+      assertThrows(IllegalArgumentException.class, () -> new ExpectiminimaxStrategy(0, 10));
+      assertThrows(IllegalArgumentException.class, () -> new ExpectiminimaxStrategy(4, 0));
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package edu.ntnu.idi.idatt.model.strategy;
+
+import edu.ntnu.idi.idatt.factory.board.LudoBoardFactory;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.dice.RandomProvider;
+import edu.ntnu.idi.idatt.model.state.LudoGameState;
+import edu.ntnu.idi.idatt.model.state.LudoTransition;
+import edu.ntnu.idi.idatt.model.token.LudoToken.TokenStatus;
+import edu.ntnu.idi.idatt.simulation.LudoTournament;
+import edu.ntnu.idi.idatt.simulation.LudoTournament.Entrant;
+import edu.ntnu.idi.idatt.simulation.LudoTournamentResult;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloTreeSearchStrategyTest {
+
+  private LudoGameBoard board;
+  private LudoTransition transition;
+
+  @BeforeEach
+  void setUp() {
+    board = (LudoGameBoard) new LudoBoardFactory().createBoard("Classic");
+    transition = new LudoTransition(board, 2);
+  }
+
+  private static MonteCarloTreeSearchStrategy createStrategy(int workers, long timeBudgetMillis,
+      long maxPlayouts) {
+    return new MonteCarloTreeSearchStrategy(workers, timeBudgetMillis, maxPlayouts,
+        RandomMoveStrategy::new, new RandomProvider(1L));
+  }
+
+  /**
+   * Plays a game where the first seat uses the strategy and the second seat makes the first
+   * legal move, and returns the largest reused playout count of the strategy.
+   */
+  private long playGame(MonteCarloTreeSearchStrategy strategy) {
+    Random random = new Random(4);
+    int[] state = transition.createInitialState();
+    int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+    long maxReused = 0;
+    for (int turn = 0; turn < 5_000 && transition.getWinner(state) < 0; turn++) {
+      int diceRoll = random.nextInt(1, 7);
+      int moveCount = transition.getLegalMoves(state, diceRoll, moves);
+      int move = moveCount == 0 ? -1 : moves[0];
+      if (moveCount > 1 && LudoGameState.getCurrentSeat(state) == 0) {
+        move = strategy.chooseMove(transition, state, diceRoll, moves, moveCount);
+        maxReused = Math.max(maxReused, strategy.getLastReusedPlayoutCount());
+      }
+      transition.apply(state, diceRoll, move);
+    }
+    assertTrue(transition.getWinner(state) >= 0, "The game should finish");
+    return maxReused;
+  }
+
+  @Nested
+  @DisplayName("Search")
+  class SearchTests {
+
+    @Test
+    @DisplayName("Test every worker runs the playout limit when time allows")
+    void testPlayoutLimit() {
+      MonteCarloTreeSearchStrategy strategy = createStrategy(3, 60_000, 500);
+      int[] state = transition.createInitialState();
+      int[] route = board.getPlayerRoute(0);
+      LudoGameState.setToken(state, 0, 0, route[5], TokenStatus.RELEASED);
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      int moveCount = transition.getLegalMoves(state, 6, moves);
+
+      int move = strategy.chooseMove(transition, state, 6, moves, moveCount);
+
+      assertTrue(move == moves[0] || move == moves[1]);
+      assertEquals(1_500, strategy.getLastPlayoutCount());
+      assertTrue(strategy.getLastPlayoutsPerSecondPerWorker() > 0);
+    }
+
+    @Test
+    @DisplayName("Test the search stops at its wall-clock budget")
+    void testTimeBudget() {
+      MonteCarloTreeSearchStrategy strategy = createStrategy(2, 20, Long.MAX_VALUE);
+      int[] state = transition.createInitialState();
+      int[] moves = new int[LudoGameState.TOKENS_PER_PLAYER];
+      int moveCount = transition.getLegalMoves(state, 6, moves);
+
+      long startTime = System.nanoTime();
+      strategy.chooseMove(transition, state, 6, moves, moveCount);
+      long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+      assertTrue(strategy.getLastPlayoutCount() >= 2);
+      assertTrue(elapsedMillis < 1_000, "The search should stop soon after its budget");
+    }
+
+    @Test
+    @DisplayName("Test the subtree of the chosen move is reused at the next move")
+    void testSubtreeReuse() {
+      assertTrue(playGame(createStrategy(2, 60_000, 300)) > 0);
+    }
+
+    @Test
+    @DisplayName("Test the strategy beats random moves")
+    void testBeatsRandomMoves() {
+      List<Entrant> entrants = List.of(
+          new Entrant("MCTS", provider -> new MonteCarloTreeSearchStrategy(1, 60_000, 100,
+              RandomMoveStrategy::new, provider)),
+          new Entrant("Random", provider -> new RandomMoveStrategy(provider.getGenerator())));
+
+      LudoTournamentResult result = new LudoTournament(board, entrants, 2, 6L).play(200);
+
+      assertTrue(result.getWinRate(0) > 0.55, "Win rate was " + result.getWinRate(0));
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test constructor with invalid arguments")
+    void testInvalidArguments() {
+      assertThrows(IllegalArgumentException.class, () -> createStrategy(0, 10, 10));
+      assertThrows(IllegalArgumentException.class, () -> createStrategy(1, 0, 10));
+      assertThrows(IllegalArgumentException.class, () -> createStrategy(1, 10, 0));
+    }
+  }
+}
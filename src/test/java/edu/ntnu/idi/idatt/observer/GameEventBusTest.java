@@ -0,0 +1,114 @@
+package edu.ntnu.idi.idatt.observer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventBusTest {
+
+  private GameEventBus bus;
+
+  @BeforeEach
+  void setUp() {
+    bus = new GameEventBus();
+  }
+
+  @Nested
+  @DisplayName("Positive Tests")
+  class PositiveTests {
+
+    @Test
+    @DisplayName("Test events are delivered only to subscribers of their type, in order")
+    void testTypedDelivery() {
+      List<String> received = new ArrayList<>();
+      bus.subscribe(GameEvent.TurnSkipped.class, event -> received.add("first " + event.diceRoll()));
+      bus.subscribe(GameEvent.TurnSkipped.class, event -> received.add("second " + event.diceRoll()));
+      bus.subscribe(GameEvent.RoundNumberIncremented.class,
+          event -> received.add("round " + event.roundNumber()));
+
+      bus.publish(new GameEvent.TurnSkipped(null, 3));
+
+      assertEquals(List.of("first 3", "second 3"), received);
+      assertTrue(bus.hasSubscribers(GameEvent.Type.TURN_SKIPPED));
+      assertFalse(bus.hasSubscribers(GameEvent.Type.TOKEN_MOVED));
+    }
+
+    @Test
+    @DisplayName("Test cancelling a subscription stops delivery")
+    void testCancel() {
+      List<Integer> received = new ArrayList<>();
+      GameEventBus.Subscription subscription = bus.subscribe(
+          GameEvent.RoundNumberIncremented.class, event -> received.add(event.roundNumber()));
+
+      bus.publish(new GameEvent.RoundNumberIncremented(2));
+      subscription.cancel();
+      subscription.cancel();
+      bus.publish(new GameEvent.RoundNumberIncremented(3));
+
+      assertEquals(List.of(2), received);
+      assertFalse(bus.hasSubscribers(GameEvent.Type.ROUND_NUMBER_INCREMENTED));
+    }
+
+    @Test
+    @DisplayName("Test a suspended subscription is skipped and keeps its order when resumed")
+    void testSuspendAndResume() {
+      List<String> received = new ArrayList<>();
+      GameEventBus.Subscription first = bus.subscribe(GameEvent.TurnSkipped.class,
+          event -> received.add("first " + event.diceRoll()));
+      bus.subscribe(GameEvent.TurnSkipped.class,
+          event -> received.add("second " + event.diceRoll()));
+
+      first.suspend();
+      bus.publish(new GameEvent.TurnSkipped(null, 2));
+      first.resume();
+      bus.publish(new GameEvent.TurnSkipped(null, 5));
+
+      assertEquals(List.of("second 2", "first 5", "second 5"), received);
+    }
+
+    @Test
+    @DisplayName("Test asynchronous subscribers are called through their executor")
+    void testAsyncSubscriber() {
+      List<Runnable> tasks = new ArrayList<>();
+      Executor executor = tasks::add;
+      List<Integer> received = new ArrayList<>();
+      bus.subscribeAsync(GameEvent.RoundNumberIncremented.class,
+          event -> received.add(event.roundNumber()), executor);
+
+      bus.publish(new GameEvent.RoundNumberIncremented(4));
+      assertTrue(received.isEmpty());
+      assertEquals(1, tasks.size());
+
+      tasks.getFirst().run();
+      assertEquals(List.of(4), received);
+    }
+
+    @Test
+    @DisplayName("Test every event type maps to its record class")
+    void testEventTypes() {
+      assertEquals(GameEvent.Type.TOKEN_MOVED, GameEvent.Type.of(GameEvent.TokenMoved.class));
+      assertEquals(GameEvent.Type.PLAYER_MOVED,
+          new GameEvent.PlayerMoved(null, 1, 2).type());
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test subscribing with null arguments")
+    void testNullArguments() {
+      assertThrows(IllegalArgumentException.class,
+          () -> bus.subscribe(GameEvent.TurnSkipped.class, null));
+      assertThrows(IllegalArgumentException.class,
+          () -> bus.subscribeAsync(GameEvent.TurnSkipped.class, event -> { }, null));
+    }
+  }
+}
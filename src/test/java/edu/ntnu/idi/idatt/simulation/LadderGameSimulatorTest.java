@@ -0,0 +1,136 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.tile.LadderAction;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import edu.ntnu.idi.idatt.model.tile.SlideAction;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LadderGameSimulatorTest {
+
+  private LadderGameBoard board;
+
+  @BeforeEach
+  void setUp() {
+    board = new LadderGameBoard("Simulation Board", "Board for simulation tests", new int[]{10, 10},
+        "background.png", "None");
+  }
+
+  @Nested
+  @DisplayName("Simulation Results")
+  class SimulationResultTests {
+
+    @Test
+    @DisplayName("Test every simulated game is counted once")
+    void testGamesAreCounted() {
+      LadderSimulationResult result = new LadderGameSimulator(board, 3, 2).simulate(20_000);
+
+      assertEquals(20_000, result.getGamesPlayed());
+      long wins = result.getWins(0) + result.getWins(1) + result.getWins(2);
+      assertEquals(result.getGamesPlayed() - result.getUnfinishedGames(), wins);
+      long lengths = 0;
+      for (long count : result.getGameLengthCounts()) {
+        lengths += count;
+      }
+      assertEquals(wins, lengths, "Every finished game should have a recorded length");
+      assertEquals(wins, result.getTileVisits()[board.getTileCount()],
+          "Every finished game should end with a visit to the last tile");
+    }
+
+    @Test
+    @DisplayName("Test the first seat has an advantage")
+    void testFirstSeatAdvantage() {
+      LadderSimulationResult result = new LadderGameSimulator(board, 2, 1).simulate(200_000);
+
+      assertTrue(result.getWinRate(0) > result.getWinRate(1));
+      assertEquals(1.0, result.getWinRate(0) + result.getWinRate(1), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test ladders to the last tile end every game in the first turn")
+    void testLaddersToLastTile() {
+      for (int tileId = 1; tileId <= 6; tileId++) {
+        ((LadderGameTile) board.getTile(tileId)).setLandAction(
+            new LadderAction("1R_1U_ladder", 100, "Ladder to the last tile"));
+      }
+      LadderSimulationResult result = new LadderGameSimulator(board, 4, 1).simulate(5_000);
+
+      assertEquals(5_000, result.getWins(0));
+      assertEquals(1.0, result.getMeanGameLength());
+      assertEquals(1, result.getGameLengthPercentile(0.99));
+      assertArrayEquals(new long[]{0, 5_000}, result.getGameLengthCounts());
+    }
+
+    @Test
+    @DisplayName("Test tiles with a slide are never the end of a turn")
+    void testSlideTilesAreNotVisited() {
+      ((LadderGameTile) board.getTile(50)).setLandAction(
+          new SlideAction("1L_2D_slide", 10, "Slide to tile 10"));
+      LadderSimulationResult result = new LadderGameSimulator(board, 2, 2).simulate(10_000);
+
+      assertEquals(0, result.getTileVisits()[50]);
+      assertTrue(result.getTileVisits()[10] > 0);
+    }
+
+    @Test
+    @DisplayName("Test games are stopped at the round limit")
+    void testRoundLimit() {
+      LadderSimulationResult result = new LadderGameSimulator(board, 2, 1).simulate(1_000, 1);
+
+      assertEquals(1_000, result.getUnfinishedGames());
+      assertEquals(0, result.getGameLengthCounts().length);
+    }
+
+    @Test
+    @DisplayName("Test a seeded simulation is reproducible for any parallelism")
+    void testSeededSimulationIsReproducible() {
+      ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+      ForkJoinPool multiThreadPool = new ForkJoinPool(4);
+      try {
+        LadderSimulationResult first = new LadderGameSimulator(board, 3, 2, singleThreadPool, 77)
+            .simulate(10_000);
+        LadderSimulationResult second = new LadderGameSimulator(board, 3, 2, multiThreadPool, 77)
+            .simulate(10_000);
+
+        assertArrayEquals(first.getGameLengthCounts(), second.getGameLengthCounts());
+        assertArrayEquals(first.getTileVisits(), second.getTileVisits());
+        assertEquals(first.getWins(0), second.getWins(0));
+      } finally {
+        singleThreadPool.shutdown();
+        multiThreadPool.shutdown();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test constructor with invalid player count")
+    void testInvalidPlayerCount() {
+      assertThrows(IllegalArgumentException.class, () -> new LadderGameSimulator(board, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Test constructor with too many dice for the board")
+    void testTooManyDice() {
+      LadderGameBoard smallBoard = new LadderGameBoard("Small", "Small board", new int[]{5, 5},
+          "background.png", "None");
+      assertThrows(IllegalArgumentException.class, () -> new LadderGameSimulator(smallBoard, 2, 5));
+    }
+
+    @Test
+    @DisplayName("Test simulate with invalid game count")
+    void testInvalidGameCount() {
+      LadderGameSimulator simulator = new LadderGameSimulator(board, 2, 1);
+      assertThrows(IllegalArgumentException.class, () -> simulator.simulate(0));
+    }
+  }
+}
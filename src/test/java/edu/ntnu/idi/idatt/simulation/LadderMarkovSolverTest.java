@@ -0,0 +1,125 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import edu.ntnu.idi.idatt.model.board.LadderGameBoard;
+import edu.ntnu.idi.idatt.model.dice.Dice;
+import edu.ntnu.idi.idatt.model.tile.LadderAction;
+import edu.ntnu.idi.idatt.model.tile.LadderGameTile;
+import edu.ntnu.idi.idatt.model.tile.SlideAction;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LadderMarkovSolverTest {
+
+  private LadderGameBoard board;
+
+  @BeforeEach
+  void setUp() {
+    board = new LadderGameBoard("Solver Board", "Board for solver tests", new int[]{10, 10},
+        "background.png", "None");
+    ((LadderGameTile) board.getTile(4)).setLandAction(
+        new LadderAction("1R_3U_ladder", 38, "Ladder to tile 38"));
+    ((LadderGameTile) board.getTile(62)).setLandAction(
+        new SlideAction("1L_4D_slide", 19, "Slide to tile 19"));
+  }
+
+  @Nested
+  @DisplayName("Solver Results")
+  class SolverResultTests {
+
+    @Test
+    @DisplayName("Test expected turns matches the mean of a simulation")
+    void testExpectedTurnsMatchesSimulation() {
+      double expectedTurns = new LadderMarkovSolver(board, new Dice(1)).getExpectedTurns();
+      LadderSimulationResult result = new LadderGameSimulator(board, 1, 1).simulate(200_000);
+
+      assertEquals(result.getMeanGameLength(), expectedTurns, expectedTurns * 0.01);
+    }
+
+    @Test
+    @DisplayName("Test occupancies add up to the expected turns")
+    void testOccupancyAddsUpToExpectedTurns() {
+      LadderMarkovSolver solver = new LadderMarkovSolver(board, new Dice(2));
+      double[] occupancy = solver.getOccupancy();
+
+      assertEquals(board.getTileCount() + 1, occupancy.length);
+      assertEquals(solver.getExpectedTurns(), Arrays.stream(occupancy).sum(), 1e-9);
+      assertEquals(0.0, occupancy[4]);
+      assertEquals(0.0, occupancy[62]);
+      assertEquals(1.0, occupancy[board.getTileCount()]);
+    }
+
+    @Test
+    @DisplayName("Test the finishing time distribution approaches one")
+    void testFinishingTimeCdf() {
+      double[] cdf = new LadderMarkovSolver(board, new Dice(1)).getFinishingTimeCdf(1_000);
+
+      assertEquals(1_001, cdf.length);
+      assertEquals(0.0, cdf[0]);
+      for (int turn = 1; turn < cdf.length; turn++) {
+        assertTrue(cdf[turn] >= cdf[turn - 1]);
+      }
+      assertEquals(1.0, cdf[1_000], 1e-9);
+    }
+
+    @Test
+    @DisplayName("Test ladders to the last tile finish in the first turn")
+    void testLaddersToLastTile() {
+      for (int tileId = 1; tileId <= 6; tileId++) {
+        ((LadderGameTile) board.getTile(tileId)).setLandAction(
+            new LadderAction("1R_1U_ladder", 100, "Ladder to the last tile"));
+      }
+      LadderMarkovSolver solver = new LadderMarkovSolver(board, new Dice(1));
+
+      assertEquals(1.0, solver.getExpectedTurns(), 1e-12);
+      assertEquals(1.0, solver.getFinishingTimeCdf(1)[1], 1e-12);
+    }
+
+    @Test
+    @DisplayName("Test expected turns from the last tile is zero")
+    void testExpectedTurnsFromTiles() {
+      double[] expectedTurns = new LadderMarkovSolver(board, new Dice(1))
+          .getExpectedTurnsFromTiles();
+
+      assertEquals(0.0, expectedTurns[board.getTileCount()]);
+      for (int tileId = 94; tileId <= 99; tileId++) {
+        assertEquals(6.0, expectedTurns[tileId], 1e-9,
+            "Exactly one roll finishes from each tile after the bounce");
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test constructor with too many dice for the board")
+    void testTooManyDice() {
+      LadderGameBoard smallBoard = new LadderGameBoard("Small", "Small board", new int[]{5, 5},
+          "background.png", "None");
+      assertThrows(IllegalArgumentException.class,
+          () -> new LadderMarkovSolver(smallBoard, new Dice(5)));
+    }
+
+    @Test
+    @DisplayName("Test getFinishingTimeCdf with invalid turn count")
+    void testInvalidMaxTurns() {
+      LadderMarkovSolver solver = new LadderMarkovSolver(board, new Dice(1));
+      assertThrows(IllegalArgumentException.class, () -> solver.getFinishingTimeCdf(0));
+    }
+
+    @Test
+    @DisplayName("Test expected turns on a board where the last tile can not be kept")
+    void testUnreachableLastTile() {
+      ((LadderGameTile) board.getTile(100)).setLandAction(
+          new SlideAction("1L_9D_slide", 1, "Slide to tile 1"));
+      LadderMarkovSolver solver = new LadderMarkovSolver(board, new Dice(1));
+      assertThrows(IllegalStateException.class, solver::getExpectedTurns);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package edu.ntnu.idi.idatt.simulation;
+
+import edu.ntnu.idi.idatt.factory.board.LudoBoardFactory;
+import edu.ntnu.idi.idatt.model.board.LudoGameBoard;
+import edu.ntnu.idi.idatt.model.strategy.FirstTokenStrategy;
+import edu.ntnu.idi.idatt.model.strategy.GreedyMoveStrategy;
+import edu.ntnu.idi.idatt.model.strategy.RandomMoveStrategy;
+import edu.ntnu.idi.idatt.simulation.LudoTournament.Entrant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LudoTournamentTest {
+
+  private LudoGameBoard board;
+  private List<Entrant> entrants;
+
+  @BeforeEach
+  void setUp() {
+    board = (LudoGameBoard) new LudoBoardFactory().createBoard("Classic");
+    entrants = List.of(
+        new Entrant("Greedy", provider -> new GreedyMoveStrategy()),
+        new Entrant("First", provider -> new FirstTokenStrategy()),
+        new Entrant("Random", provider -> new RandomMoveStrategy(provider.getGenerator())));
+  }
+
+  @Nested
+  @DisplayName("Tournament Results")
+  class TournamentResultTests {
+
+    @Test
+    @DisplayName("Test every combination plays in every seat rotation")
+    void testSchedule() {
+      assertEquals(6, new LudoTournament(board, entrants, 2, 1L).getScheduleLength());
+      assertEquals(3, new LudoTournament(board, entrants, 3, 1L).getScheduleLength());
+    }
+
+    @Test
+    @DisplayName("Test every match is counted once for each player")
+    void testMatchesAreCounted() {
+      LudoTournamentResult result = new LudoTournament(board, entrants, 2, 7L).play(6_000);
+
+      assertEquals(6_000, result.getGamesPlayed());
+      assertEquals(0, result.getUnfinishedGames());
+      long wins = 0;
+      for (int entrant = 0; entrant < entrants.size(); entrant++) {
+        assertEquals(4_000, result.getGames(entrant), "Every entrant plays the same matches");
+        wins += result.getWins(entrant);
+      }
+      assertEquals(6_000, wins);
+      assertEquals(6_000, result.getSeatWins(0) + result.getSeatWins(1));
+      assertEquals(result.getWins(0), result.getPairwiseWins(0, 1) + result.getPairwiseWins(0, 2));
+      assertTrue(result.getAverageRounds() > 0);
+    }
+
+    @Test
+    @DisplayName("Test the greedy strategy is rated above the random strategy")
+    void testGreedyIsRatedHighest() {
+      LudoTournamentResult result = new LudoTournament(board, entrants, 3, 3L).play(3_000);
+
+      assertEquals(0, result.getRanking()[0]);
+      assertTrue(result.getRating(0) - result.getRatingMargin(0)
+          > result.getRating(2) + result.getRatingMargin(2));
+      double ratingSum = result.getRating(0) + result.getRating(1) + result.getRating(2);
+      assertEquals(3 * LudoTournamentResult.BASE_RATING, ratingSum, 1e-6);
+    }
+
+    @Test
+    @DisplayName("Test identical strategies get equal ratings within their margins")
+    void testIdenticalStrategies() {
+      List<Entrant> identical = List.of(
+          new Entrant("First A", provider -> new FirstTokenStrategy()),
+          new Entrant("First B", provider -> new FirstTokenStrategy()));
+      LudoTournamentResult result = new LudoTournament(board, identical, 2, 5L).play(4_000);
+
+      assertEquals(LudoTournamentResult.BASE_RATING, result.getRating(0),
+          result.getRatingMargin(0));
+      assertEquals(result.getRating(0) - LudoTournamentResult.BASE_RATING,
+          LudoTournamentResult.BASE_RATING - result.getRating(1), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Test matches are stopped at the round limit")
+    void testRoundLimit() {
+      LudoTournamentResult result = new LudoTournament(board, entrants, 2, 9L).play(300, 1);
+
+      assertEquals(300, result.getUnfinishedGames());
+      assertEquals(0, result.getAverageRounds());
+      assertEquals(Double.POSITIVE_INFINITY, result.getRatingMargin(0));
+    }
+
+    @Test
+    @DisplayName("Test a seeded tournament is reproducible for any parallelism")
+    void testSeededTournamentIsReproducible() {
+      ForkJoinPool singlePool = new ForkJoinPool(1);
+      ForkJoinPool parallelPool = new ForkJoinPool(4);
+      try {
+        LudoTournamentResult first = new LudoTournament(board, entrants, 2, singlePool, 42L)
+            .play(3_000);
+        LudoTournamentResult second = new LudoTournament(board, entrants, 2, parallelPool, 42L)
+            .play(3_000);
+
+        for (int entrant = 0; entrant < entrants.size(); entrant++) {
+          assertEquals(first.getWins(entrant), second.getWins(entrant));
+          assertEquals(first.getRating(entrant), second.getRating(entrant), 1e-9);
+        }
+        assertEquals(first.getAverageRounds(), second.getAverageRounds(), 1e-9);
+      } finally {
+        singlePool.shutdown();
+        parallelPool.shutdown();
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Negative Tests")
+  class NegativeTests {
+
+    @Test
+    @DisplayName("Test constructor with invalid players per match")
+    void testInvalidPlayersPerMatch() {
+      assertThrows(IllegalArgumentException.class,
+          () -> new LudoTournament(board, entrants, 1, 1L));
+      assertThrows(IllegalArgumentException.class,
+          () -> new LudoTournament(board, entrants, 4, 1L));
+    }
+
+    @Test
+    @DisplayName("Test play with invalid arguments")
+    void testInvalidPlayArguments() {
+      LudoTournament tournament = new LudoTournament(board, entrants, 2, 1L);
+
+      assertThrows(IllegalArgumentException.class, () -> tournament.play(0));
+      assertThrows(IllegalArgumentException.class, () -> tournament.play(10, 0));
+    }
+  }
+}